@@ -13,10 +13,17 @@ import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Stream;
 
 /**
  * <code>ReflectionUtils</code> - Reflection utilities holder.
+ * <p>
+ * The resolved {@link Field} and {@link Method} lookups, including the missing ones, are cached
+ * in a {@link ClassValue} of the target {@link Class}. The cached values only reference JDK types
+ * and members of the target {@link Class} hierarchy, so they are discarded together with
+ * the target {@link Class} and don't prevent its {@link ClassLoader} from being collected.
  *
  * @author Vlad Mihalcea
  */
@@ -26,6 +33,16 @@ public final class ReflectionUtils {
 
     private static final String SETTER_PREFIX = "set";
 
+    private static final Object NOT_FOUND = new Object();
+
+    private static final ClassValue<ConcurrentMap<String, Object>> FIELD_CACHE = newMemberCache();
+
+    private static final ClassValue<ConcurrentMap<String, ConcurrentMap<List<Class<?>>, Object>>> METHOD_CACHE = newMemberCache();
+
+    private static final ClassValue<ConcurrentMap<String, Object>> GETTER_CACHE = newMemberCache();
+
+    private static final ClassValue<ConcurrentMap<String, ConcurrentMap<Class<?>, Object>>> SETTER_CACHE = newMemberCache();
+
     /**
      * Prevent any instantiation.
      */
@@ -97,27 +114,10 @@ public final class ReflectionUtils {
      * @return the {@link Field} matching the given name
      */
     public static Field getField(Class targetClass, String fieldName) {
-        Field field = null;
-
-        try {
-            field = targetClass.getDeclaredField(fieldName);
-        } catch (NoSuchFieldException e) {
-            try {
-                field = targetClass.getField(fieldName);
-            } catch (NoSuchFieldException ignore) {
-            }
-
-            if (!targetClass.getSuperclass().equals(Object.class)) {
-                return getField(targetClass.getSuperclass(), fieldName);
-            } else {
-                throw handleException(e);
-            }
-        } finally {
-            if (field != null) {
-                field.setAccessible(true);
-            }
+        Field field = lookupField(targetClass, fieldName);
+        if (field == null) {
+            throw handleException(new NoSuchFieldException(targetClass.getName() + "." + fieldName));
         }
-
         return field;
     }
 
@@ -130,11 +130,7 @@ public final class ReflectionUtils {
      * @return the {@link Field} matching the given name or {@code null}
      */
     public static Field getFieldOrNull(Class targetClass, String fieldName) {
-        try {
-            return getField(targetClass, fieldName);
-        } catch (IllegalArgumentException e) {
-            return null;
-        }
+        return lookupField(targetClass, fieldName);
     }
 
     /**
@@ -233,11 +229,7 @@ public final class ReflectionUtils {
      * @return return {@link Method} matching the provided signature or {@code null}
      */
     public static Method getMethodOrNull(Object target, String methodName, Class... parameterTypes) {
-        try {
-            return getMethod(target.getClass(), methodName, parameterTypes);
-        } catch (RuntimeException e) {
-            return null;
-        }
+        return lookupMethod(target.getClass(), methodName, parameterTypes);
     }
 
     /**
@@ -249,22 +241,12 @@ public final class ReflectionUtils {
      * @param parameterTypes method parameter types
      * @return the {@link Method} matching the provided signature
      */
-    @SuppressWarnings("unchecked")
     public static Method getMethod(Class targetClass, String methodName, Class... parameterTypes) {
-        try {
-            return targetClass.getDeclaredMethod(methodName, parameterTypes);
-        } catch (NoSuchMethodException e) {
-            try {
-                return targetClass.getMethod(methodName, parameterTypes);
-            } catch (NoSuchMethodException ignore) {
-            }
-
-            if (!targetClass.getSuperclass().equals(Object.class)) {
-                return getMethod(targetClass.getSuperclass(), methodName, parameterTypes);
-            } else {
-                throw handleException(e);
-            }
+        Method method = lookupMethod(targetClass, methodName, parameterTypes);
+        if (method == null) {
+            throw handleException(new NoSuchMethodException(targetClass.getName() + "." + methodName));
         }
+        return method;
     }
 
     /**
@@ -277,11 +259,7 @@ public final class ReflectionUtils {
      * @return return {@link Method} matching the provided signature or {@code null}
      */
     public static Method getMethodOrNull(Class targetClass, String methodName, Class... parameterTypes) {
-        try {
-            return getMethod(targetClass, methodName, parameterTypes);
-        } catch (RuntimeException e) {
-            return null;
-        }
+        return lookupMethod(targetClass, methodName, parameterTypes);
     }
 
     /**
@@ -329,10 +307,27 @@ public final class ReflectionUtils {
      * @return the setter {@link Method} matching the provided signature
      */
     public static Method getSetter(Object target, String propertyName, Class<?> parameterType) {
-        String setterMethodName = SETTER_PREFIX + propertyName.substring(0, 1).toUpperCase() + propertyName.substring(1);
-        Method setter = getMethod(target, setterMethodName, parameterType);
-        setter.setAccessible(true);
-        return setter;
+        Class<?> targetClass = target.getClass();
+        ConcurrentMap<Class<?>, Object> setters = SETTER_CACHE.get(targetClass)
+            .computeIfAbsent(propertyName, name -> new ConcurrentHashMap<>());
+        Object setter = setters.get(parameterType);
+        if (setter == null) {
+            String setterMethodName = SETTER_PREFIX + propertyName.substring(0, 1).toUpperCase() + propertyName.substring(1);
+            setter = lookupMethod(targetClass, setterMethodName, parameterType);
+            if (setter != null) {
+                ((Method) setter).setAccessible(true);
+                setters.putIfAbsent(parameterType, setter);
+            } else {
+                if (isCacheable(targetClass, parameterType)) {
+                    setters.putIfAbsent(parameterType, NOT_FOUND);
+                }
+                setter = NOT_FOUND;
+            }
+        }
+        if (setter == NOT_FOUND) {
+            throw handleException(new NoSuchMethodException(targetClass.getName() + "." + SETTER_PREFIX + propertyName));
+        }
+        return (Method) setter;
     }
 
     /**
@@ -362,10 +357,23 @@ public final class ReflectionUtils {
      * @return the getter {@link Method} matching the provided name
      */
     public static Method getGetter(Object target, String propertyName) {
-        String getterMethodName = GETTER_PREFIX + propertyName.substring(0, 1).toUpperCase() + propertyName.substring(1);
-        Method getter = getMethod(target, getterMethodName);
-        getter.setAccessible(true);
-        return getter;
+        Class<?> targetClass = target.getClass();
+        ConcurrentMap<String, Object> getters = GETTER_CACHE.get(targetClass);
+        Object getter = getters.get(propertyName);
+        if (getter == null) {
+            String getterMethodName = GETTER_PREFIX + propertyName.substring(0, 1).toUpperCase() + propertyName.substring(1);
+            getter = lookupMethod(targetClass, getterMethodName);
+            if (getter != null) {
+                ((Method) getter).setAccessible(true);
+            } else {
+                getter = NOT_FOUND;
+            }
+            getters.putIfAbsent(propertyName, getter);
+        }
+        if (getter == NOT_FOUND) {
+            throw handleException(new NoSuchMethodException(targetClass.getName() + "." + GETTER_PREFIX + propertyName));
+        }
+        return (Method) getter;
     }
 
     /**
@@ -701,6 +709,140 @@ public final class ReflectionUtils {
         return classes;
     }
 
+    /**
+     * Resolve the {@link Field} with the given name, using the {@link ClassValue} cache of the target {@link Class}.
+     *
+     * @param targetClass the provided Java {@link Class} the field belongs to
+     * @param fieldName   the {@link Field} name
+     * @return the {@link Field} matching the given name or {@code null}
+     */
+    private static Field lookupField(Class<?> targetClass, String fieldName) {
+        ConcurrentMap<String, Object> fields = FIELD_CACHE.get(targetClass);
+        Object field = fields.get(fieldName);
+        if (field == null) {
+            field = findField(targetClass, fieldName);
+            if (field != null) {
+                ((Field) field).setAccessible(true);
+            } else {
+                field = NOT_FOUND;
+            }
+            fields.putIfAbsent(fieldName, field);
+        }
+        return field != NOT_FOUND ? (Field) field : null;
+    }
+
+    /**
+     * Find the {@link Field} with the given name by walking the target {@link Class} hierarchy.
+     *
+     * @param targetClass the provided Java {@link Class} the field belongs to
+     * @param fieldName   the {@link Field} name
+     * @return the {@link Field} matching the given name or {@code null}
+     */
+    private static Field findField(Class<?> targetClass, String fieldName) {
+        try {
+            return targetClass.getDeclaredField(fieldName);
+        } catch (NoSuchFieldException e) {
+            try {
+                return targetClass.getField(fieldName);
+            } catch (NoSuchFieldException ignore) {
+            }
+            Class<?> superClass = targetClass.getSuperclass();
+            return superClass != null && !superClass.equals(Object.class) ?
+                findField(superClass, fieldName) :
+                null;
+        }
+    }
+
+    /**
+     * Resolve the {@link Method} with the given signature, using the {@link ClassValue} cache of the target {@link Class}.
+     *
+     * @param targetClass    target {@link Class}
+     * @param methodName     method name
+     * @param parameterTypes method parameter types
+     * @return the {@link Method} matching the provided signature or {@code null}
+     */
+    private static Method lookupMethod(Class<?> targetClass, String methodName, Class<?>... parameterTypes) {
+        for (Class<?> parameterType : parameterTypes) {
+            if (parameterType == null) {
+                return findMethod(targetClass, methodName, parameterTypes);
+            }
+        }
+        ConcurrentMap<List<Class<?>>, Object> methods = METHOD_CACHE.get(targetClass)
+            .computeIfAbsent(methodName, name -> new ConcurrentHashMap<>());
+        List<Class<?>> signature = List.of(parameterTypes);
+        Object method = methods.get(signature);
+        if (method == null) {
+            method = findMethod(targetClass, methodName, parameterTypes);
+            if (method != null) {
+                methods.putIfAbsent(signature, method);
+            } else {
+                if (isCacheable(targetClass, parameterTypes)) {
+                    methods.putIfAbsent(signature, NOT_FOUND);
+                }
+                method = NOT_FOUND;
+            }
+        }
+        return method != NOT_FOUND ? (Method) method : null;
+    }
+
+    /**
+     * Find the {@link Method} with the given signature by walking the target {@link Class} hierarchy.
+     *
+     * @param targetClass    target {@link Class}
+     * @param methodName     method name
+     * @param parameterTypes method parameter types
+     * @return the {@link Method} matching the provided signature or {@code null}
+     */
+    private static Method findMethod(Class<?> targetClass, String methodName, Class<?>... parameterTypes) {
+        try {
+            return targetClass.getDeclaredMethod(methodName, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            try {
+                return targetClass.getMethod(methodName, parameterTypes);
+            } catch (NoSuchMethodException ignore) {
+            }
+            Class<?> superClass = targetClass.getSuperclass();
+            return superClass != null && !superClass.equals(Object.class) ?
+                findMethod(superClass, methodName, parameterTypes) :
+                null;
+        }
+    }
+
+    /**
+     * A missing {@link Method} is cached only if its parameter types are loaded by the same {@link ClassLoader}
+     * as the target {@link Class} or by the bootstrap one, so that the cache entry cannot retain
+     * a child {@link ClassLoader}. A resolved {@link Method} already references its parameter types.
+     *
+     * @param targetClass    target {@link Class}
+     * @param parameterTypes method parameter types
+     * @return the missing {@link Method} can be cached
+     */
+    private static boolean isCacheable(Class<?> targetClass, Class<?>... parameterTypes) {
+        ClassLoader classLoader = targetClass.getClassLoader();
+        for (Class<?> parameterType : parameterTypes) {
+            ClassLoader parameterClassLoader = parameterType.getClassLoader();
+            if (parameterClassLoader != null && parameterClassLoader != classLoader) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Create a {@link ClassValue} holding a concurrent member cache for every target {@link Class}.
+     *
+     * @param <V> cached value type
+     * @return the {@link ClassValue} member cache
+     */
+    private static <V> ClassValue<ConcurrentMap<String, V>> newMemberCache() {
+        return new ClassValue<ConcurrentMap<String, V>>() {
+            @Override
+            protected ConcurrentMap<String, V> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+    }
+
     /**
      * Handle the {@link NoSuchFieldException} by rethrowing it as an {@link IllegalArgumentException}.
      *
@@ -0,0 +1,140 @@
+package io.hypersistence.utils.hibernate.type;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.query.sqm.function.SqmFunctionRegistry;
+import org.hibernate.query.sqm.produce.function.FunctionArgumentTypeResolver;
+import org.hibernate.query.sqm.produce.function.FunctionReturnTypeResolver;
+import org.hibernate.query.sqm.produce.function.StandardFunctionArgumentTypeResolvers;
+import org.hibernate.query.sqm.produce.function.StandardFunctionReturnTypeResolvers;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * The {@link HibernateFunctionsContributor} registers the HQL functions for the database-specific
+ * operators of the types provided by this library.
+ * <p>
+ * On PostgreSQL, the following pgvector distance functions are registered:
+ * <ul>
+ *     <li>{@code l2_distance(a, b)} for the {@code <->} operator</li>
+ *     <li>{@code negative_inner_product(a, b)} for the {@code <#>} operator</li>
+ *     <li>{@code cosine_distance(a, b)} for the {@code <=>} operator</li>
+ * </ul>
+ * The {@code float[]} parameters are cast to the {@code vector} type of the other argument.
+ * <p>
+ * On PostgreSQL, the following array functions are registered as well, so that the array columns mapped
+ * with the array types provided by this library can be filtered using the GIN indexes:
+ * <ul>
+ *     <li>{@code array_contains_all(a, b)} for the {@code a @> b} expression</li>
+ *     <li>{@code array_contained_by(a, b)} for the {@code a <@ b} expression</li>
+ *     <li>{@code array_contains_any(a, b)} for the {@code a && b} expression</li>
+ *     <li>{@code array_any(a, value)} for the {@code value = any(a)} expression</li>
+ * </ul>
+ * The array parameters are cast to the array type of the other argument. The Hibernate ORM
+ * {@code array_contains} and {@code array_overlaps} functions cannot be used for these array columns,
+ * since they only accept the Hibernate ORM native array types.
+ * <p>
+ * On PostgreSQL, the following range functions are registered too, so that the range and multirange columns
+ * mapped with the {@code PostgreSQLRangeType} and the {@code PostgreSQLMultiRangeType} can be filtered
+ * using the GiST or SP-GiST indexes:
+ * <ul>
+ *     <li>{@code range_overlaps(a, b)} for the {@code a && b} expression</li>
+ *     <li>{@code range_contains(a, b)} for the {@code a @> b} expression, where {@code b} is a range</li>
+ *     <li>{@code range_contains_element(a, value)} for the {@code a @> value} expression</li>
+ *     <li>{@code range_contained_by(a, b)} for the {@code a <@ b} expression</li>
+ *     <li>{@code range_adjacent(a, b)} for the {@code a -|- b} expression</li>
+ *     <li>{@code range_intersect(a, b)} for the {@code a * b} expression, which returns the range intersection</li>
+ * </ul>
+ * The range parameters are bound using the range type of the other argument, while the element parameters
+ * are cast to the element type.
+ * <p>
+ * The functions that are already registered by other contributors are not overridden.
+ *
+ * @author Vlad Mihalcea
+ */
+public class HibernateFunctionsContributor implements FunctionContributor {
+
+    public static final String ENABLE_FUNCTIONS_CONTRIBUTOR = "hypersistence.utils.enable_functions_contributor";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        ConfigurationService configurationService = functionContributions.getServiceRegistry()
+            .getService(ConfigurationService.class);
+        if (configurationService != null && !configurationService.getSetting(
+                ENABLE_FUNCTIONS_CONTRIBUTOR, StandardConverters.BOOLEAN, Boolean.TRUE)) {
+            return;
+        }
+        if (!(functionContributions.getDialect() instanceof PostgreSQLDialect)) {
+            return;
+        }
+        SqmFunctionRegistry functionRegistry = functionContributions.getFunctionRegistry();
+        BasicType<Double> doubleType = functionContributions.getTypeConfiguration()
+            .getBasicTypeRegistry()
+            .resolve(StandardBasicTypes.DOUBLE);
+
+        /* pgvector */
+        registerBinaryOperator(functionRegistry, "l2_distance", "<->", doubleType);
+        registerBinaryOperator(functionRegistry, "negative_inner_product", "<#>", doubleType);
+        registerBinaryOperator(functionRegistry, "cosine_distance", "<=>", doubleType);
+
+        /* arrays */
+        BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration()
+            .getBasicTypeRegistry()
+            .resolve(StandardBasicTypes.BOOLEAN);
+        registerBinaryOperator(functionRegistry, "array_contains_all", "@>", booleanType);
+        registerBinaryOperator(functionRegistry, "array_contained_by", "<@", booleanType);
+        registerBinaryOperator(functionRegistry, "array_contains_any", "&&", booleanType);
+        registerFunction(functionRegistry, "array_any", "(?2 = any(?1))", booleanType, StandardFunctionArgumentTypeResolvers.NULL);
+
+        /* ranges */
+        FunctionArgumentTypeResolver rangeTypeResolver = StandardFunctionArgumentTypeResolvers.argumentsOrImplied(0, 1);
+        registerFunction(functionRegistry, "range_overlaps", "(?1 && ?2)", booleanType, rangeTypeResolver);
+        registerFunction(functionRegistry, "range_contains", "(?1 @> ?2)", booleanType, rangeTypeResolver);
+        registerElementOperator(functionRegistry, "range_contains_element", "@>", booleanType);
+        registerFunction(functionRegistry, "range_contained_by", "(?1 <@ ?2)", booleanType, rangeTypeResolver);
+        registerFunction(functionRegistry, "range_adjacent", "(?1 -|- ?2)", booleanType, rangeTypeResolver);
+        registerFunction(functionRegistry, "range_intersect", "(?1 * ?2)",
+            StandardFunctionReturnTypeResolvers.useArgType(1), rangeTypeResolver);
+    }
+
+    private void registerBinaryOperator(SqmFunctionRegistry functionRegistry, String name, String operator, BasicType<?> type) {
+        if (functionRegistry.findFunctionDescriptor(name) != null) {
+            return;
+        }
+        functionRegistry.register(
+            name,
+            new PostgreSQLOperatorFunction(name, operator, StandardFunctionReturnTypeResolvers.invariant(type))
+        );
+    }
+
+    private void registerElementOperator(SqmFunctionRegistry functionRegistry, String name, String operator, BasicType<?> type) {
+        if (functionRegistry.findFunctionDescriptor(name) != null) {
+            return;
+        }
+        functionRegistry.register(
+            name,
+            new PostgreSQLOperatorFunction(name, operator, StandardFunctionReturnTypeResolvers.invariant(type), true)
+        );
+    }
+
+    private void registerFunction(SqmFunctionRegistry functionRegistry, String name, String pattern, BasicType<?> type,
+                                  FunctionArgumentTypeResolver argumentTypeResolver) {
+        registerFunction(functionRegistry, name, pattern, StandardFunctionReturnTypeResolvers.invariant(type), argumentTypeResolver);
+    }
+
+    private void registerFunction(SqmFunctionRegistry functionRegistry, String name, String pattern,
+                                  FunctionReturnTypeResolver returnTypeResolver,
+                                  FunctionArgumentTypeResolver argumentTypeResolver) {
+        if (functionRegistry.findFunctionDescriptor(name) != null) {
+            return;
+        }
+        functionRegistry.patternDescriptorBuilder(name, pattern)
+            .setExactArgumentCount(2)
+            .setReturnTypeResolver(returnTypeResolver)
+            .setArgumentTypeResolver(argumentTypeResolver)
+            .register();
+    }
+}
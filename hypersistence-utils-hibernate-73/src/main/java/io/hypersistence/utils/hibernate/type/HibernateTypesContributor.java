@@ -9,6 +9,7 @@ import io.hypersistence.utils.hibernate.type.basic.PostgreSQLMacAddressType;
 import io.hypersistence.utils.hibernate.type.interval.OracleIntervalDayToSecondType;
 import io.hypersistence.utils.hibernate.type.interval.PostgreSQLPeriodType;
 import io.hypersistence.utils.hibernate.type.json.JsonNodeStringType;
+import io.hypersistence.utils.hibernate.type.range.PostgreSQLMultiRangeType;
 import io.hypersistence.utils.hibernate.type.range.PostgreSQLRangeType;
 import io.hypersistence.utils.hibernate.type.range.guava.PostgreSQLGuavaRangeType;
 import org.hibernate.HibernateException;
@@ -98,6 +99,7 @@ public class HibernateTypesContributor implements TypeContributor {
             contributeType(typeContributions, PostgreSQLInetType.INSTANCE, typeFilter);
             contributeType(typeContributions, PostgreSQLMacAddressType.INSTANCE, typeFilter);
             contributeType(typeContributions, PostgreSQLRangeType.INSTANCE, typeFilter);
+            contributeType(typeContributions, PostgreSQLMultiRangeType.INSTANCE, typeFilter);
 
             if(ReflectionUtils.getClassOrNull("com.google.common.collect.Range") != null) {
                 contributeType(typeContributions, PostgreSQLGuavaRangeType.INSTANCE, typeFilter);
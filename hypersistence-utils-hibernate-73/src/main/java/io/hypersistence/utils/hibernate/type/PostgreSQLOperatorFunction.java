@@ -0,0 +1,129 @@
+package io.hypersistence.utils.hibernate.type;
+
+import io.hypersistence.utils.hibernate.type.array.internal.AbstractArrayType;
+import io.hypersistence.utils.hibernate.type.vector.PostgreSQLVectorType;
+import org.hibernate.dialect.function.array.DdlTypeHelper;
+import org.hibernate.metamodel.mapping.JdbcMappingContainer;
+import org.hibernate.metamodel.model.domain.ReturnableType;
+import org.hibernate.query.sqm.function.AbstractSqmSelfRenderingFunctionDescriptor;
+import org.hibernate.query.sqm.produce.function.FunctionReturnTypeResolver;
+import org.hibernate.query.sqm.produce.function.StandardArgumentsValidators;
+import org.hibernate.query.sqm.produce.function.StandardFunctionArgumentTypeResolvers;
+import org.hibernate.sql.ast.SqlAstTranslator;
+import org.hibernate.sql.ast.spi.SqlAppender;
+import org.hibernate.sql.ast.tree.SqlAstNode;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.ast.tree.expression.Expression;
+import org.hibernate.type.CustomType;
+
+import java.util.List;
+
+/**
+ * The {@link PostgreSQLOperatorFunction} renders a PostgreSQL binary operator (e.g., {@code a <-> b} or {@code a @> b}).
+ * <p>
+ * The bind parameters are bound using the Java type of the parameter value (e.g., a {@code float[]} parameter
+ * is bound as a {@code real[]} array, and a {@code String[]} parameter as a {@code varchar[]} array), not the type
+ * of the column it is compared to. Because PostgreSQL
+ * resolves the operator using the operand types, the operand that is not a column reference
+ * is cast to the type of the column it is compared to.
+ * <p>
+ * For the element operators (e.g., {@code range @> element}), the element operand is cast to its own type instead,
+ * since the PostgreSQL JDBC Driver sends the temporal values with an unspecified type, and PostgreSQL
+ * would otherwise resolve the range-to-range operator.
+ *
+ * @author Vlad Mihalcea
+ */
+class PostgreSQLOperatorFunction extends AbstractSqmSelfRenderingFunctionDescriptor {
+
+    private final String operator;
+
+    private final boolean elementOperator;
+
+    PostgreSQLOperatorFunction(String name, String operator, FunctionReturnTypeResolver returnTypeResolver) {
+        this(name, operator, returnTypeResolver, false);
+    }
+
+    PostgreSQLOperatorFunction(String name, String operator, FunctionReturnTypeResolver returnTypeResolver,
+                               boolean elementOperator) {
+        super(
+            name,
+            StandardArgumentsValidators.exactly(2),
+            returnTypeResolver,
+            elementOperator ?
+                StandardFunctionArgumentTypeResolvers.NULL :
+                StandardFunctionArgumentTypeResolvers.argumentsOrImplied(0, 1)
+        );
+        this.operator = operator;
+        this.elementOperator = elementOperator;
+    }
+
+    @Override
+    public void render(
+            SqlAppender sqlAppender,
+            List<? extends SqlAstNode> sqlAstArguments,
+            ReturnableType<?> returnType,
+            SqlAstTranslator<?> walker) {
+        Expression left = (Expression) sqlAstArguments.get(0);
+        Expression right = (Expression) sqlAstArguments.get(1);
+        sqlAppender.append('(');
+        renderOperand(sqlAppender, left, getCastTypeName(right), walker);
+        sqlAppender.append(' ');
+        sqlAppender.append(operator);
+        sqlAppender.append(' ');
+        renderOperand(
+            sqlAppender,
+            right,
+            elementOperator ? getElementCastTypeName(right, walker) : getCastTypeName(left),
+            walker
+        );
+        sqlAppender.append(')');
+    }
+
+    private void renderOperand(SqlAppender sqlAppender, Expression operand, String castTypeName, SqlAstTranslator<?> walker) {
+        if (castTypeName == null || operand instanceof ColumnReference) {
+            operand.accept(walker);
+        } else {
+            sqlAppender.append("cast(");
+            operand.accept(walker);
+            sqlAppender.append(" as ");
+            sqlAppender.append(castTypeName);
+            sqlAppender.append(')');
+        }
+    }
+
+    /**
+     * Get the PostgreSQL type the other operand is cast to, or {@code null} if the operand is not cast.
+     *
+     * @param operand operand whose type the other operand is cast to
+     * @return the PostgreSQL type name
+     */
+    private String getCastTypeName(Expression operand) {
+        JdbcMappingContainer expressionType = operand.getExpressionType();
+        if (expressionType == null || expressionType.getJdbcTypeCount() != 1 ||
+            !(expressionType.getSingleJdbcMapping() instanceof CustomType<?> customType)) {
+            return null;
+        }
+        if (customType.getUserType() instanceof PostgreSQLVectorType vectorType) {
+            return vectorType.getName();
+        }
+        if (customType.getUserType() instanceof AbstractArrayType<?> arrayType && arrayType.getSqlArrayType() != null) {
+            return arrayType.getSqlArrayType() + "[]";
+        }
+        return null;
+    }
+
+    /**
+     * Get the PostgreSQL type the element operand is cast to, or {@code null} if the operand is not cast.
+     *
+     * @param operand element operand
+     * @param walker  SQL AST translator
+     * @return the PostgreSQL type name
+     */
+    private String getElementCastTypeName(Expression operand, SqlAstTranslator<?> walker) {
+        JdbcMappingContainer expressionType = operand.getExpressionType();
+        if (expressionType == null || expressionType.getJdbcTypeCount() != 1) {
+            return null;
+        }
+        return DdlTypeHelper.getCastTypeName(expressionType, walker.getSessionFactory().getTypeConfiguration());
+    }
+}
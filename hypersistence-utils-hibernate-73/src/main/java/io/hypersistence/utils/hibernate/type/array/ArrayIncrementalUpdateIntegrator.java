@@ -0,0 +1,30 @@
+package io.hypersistence.utils.hibernate.type.array;
+
+import io.hypersistence.utils.hibernate.type.array.internal.ArrayIncrementalUpdateHandler;
+import io.hypersistence.utils.hibernate.type.util.PartialUpdateHandler;
+import io.hypersistence.utils.hibernate.type.util.PartialUpdateIntegrator;
+import org.hibernate.boot.Metadata;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * The {@link ArrayIncrementalUpdateIntegrator} enables the incremental updates of the PostgreSQL array attributes
+ * that set the {@code incremental_update} {@link org.hibernate.annotations.Type} parameter.
+ * <p>
+ * At flush time, instead of rewriting the whole array, the appended elements are added using {@code array_cat},
+ * and the removed element values are deleted using {@code array_remove}. Otherwise, Hibernate updates
+ * the whole array, as usual.
+ *
+ * @author Vlad Mihalcea
+ */
+public class ArrayIncrementalUpdateIntegrator extends PartialUpdateIntegrator {
+
+    public static final ArrayIncrementalUpdateIntegrator INSTANCE = new ArrayIncrementalUpdateIntegrator();
+
+    @Override
+    protected PartialUpdateHandler partialUpdateHandler(Metadata metadata, SessionFactoryImplementor sessionFactory) {
+        return sessionFactory.getJdbcServices().getDialect() instanceof PostgreSQLDialect ?
+            new ArrayIncrementalUpdateHandler() :
+            null;
+    }
+}
@@ -0,0 +1,211 @@
+package io.hypersistence.utils.hibernate.type.array;
+
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.util.Arrays;
+
+/**
+ * The {@link DoubleMatrix} is an N-dimensional {@code double} array stored as a flat {@code double[]} array
+ * in row-major order, together with its shape (e.g., {@code [2, 3]} for a matrix with 2 rows and 3 columns).
+ * <p>
+ * Unlike the {@code double[][]} nested Java arrays, the elements are stored in a single array, so a matrix
+ * is loaded using a single allocation and can be iterated sequentially using {@link #getValues()}.
+ *
+ * @author Vlad Mihalcea
+ */
+public final class DoubleMatrix implements Serializable {
+
+    private final double[] values;
+
+    private final int[] shape;
+
+    /**
+     * Create a {@link DoubleMatrix} that uses the given row-major array.
+     *
+     * @param values row-major array, which is not copied
+     * @param shape size of each dimension
+     */
+    public DoubleMatrix(double[] values, int... shape) {
+        if (shape.length == 0) {
+            throw new IllegalArgumentException("The matrix must have at least one dimension!");
+        }
+        long length = 1;
+        for (int size : shape) {
+            if (size < 0) {
+                throw new IllegalArgumentException("The " + Arrays.toString(shape) + " shape is not valid!");
+            }
+            length *= size;
+        }
+        if (length != values.length) {
+            throw new IllegalArgumentException(
+                "The " + Arrays.toString(shape) + " shape does not match the number of values: " + values.length
+            );
+        }
+        this.values = values;
+        this.shape = shape.clone();
+    }
+
+    /**
+     * Create a {@link DoubleMatrix} from the given nested array (e.g., {@code double[][]} or {@code Double[][]}).
+     * The {@code null} elements are mapped to {@code 0}.
+     *
+     * @param array nested array
+     * @return {@link DoubleMatrix}
+     */
+    public static DoubleMatrix of(Object array) {
+        int dimensions = 0;
+        Object current = array;
+        int[] shape = new int[dimensionsOf(array.getClass())];
+        while (current != null && current.getClass().isArray()) {
+            int size = Array.getLength(current);
+            shape[dimensions++] = size;
+            current = size > 0 ? Array.get(current, 0) : null;
+        }
+        int length = 1;
+        for (int size : shape) {
+            length *= size;
+        }
+        double[] values = new double[length];
+        if (length > 0) {
+            copy(array, shape, 0, values, 0);
+        }
+        return new DoubleMatrix(values, shape);
+    }
+
+    private static int dimensionsOf(Class<?> arrayClass) {
+        int dimensions = 0;
+        while (arrayClass.isArray()) {
+            arrayClass = arrayClass.getComponentType();
+            dimensions++;
+        }
+        if (dimensions == 0) {
+            throw new IllegalArgumentException("The " + arrayClass + " is not an array!");
+        }
+        return dimensions;
+    }
+
+    private static int copy(Object array, int[] shape, int dimension, double[] values, int offset) {
+        if (array == null || Array.getLength(array) != shape[dimension]) {
+            throw new IllegalArgumentException("The array is not rectangular!");
+        }
+        if (dimension == shape.length - 1) {
+            if (array instanceof double[]) {
+                double[] leaf = (double[]) array;
+                System.arraycopy(leaf, 0, values, offset, leaf.length);
+                return offset + leaf.length;
+            }
+            for (Object element : (Object[]) array) {
+                values[offset++] = element != null ? ((Number) element).doubleValue() : 0;
+            }
+            return offset;
+        }
+        for (Object element : (Object[]) array) {
+            offset = copy(element, shape, dimension + 1, values, offset);
+        }
+        return offset;
+    }
+
+    /**
+     * Get the row-major array that backs this matrix. Changing this array changes the matrix.
+     *
+     * @return row-major array
+     */
+    public double[] getValues() {
+        return values;
+    }
+
+    /**
+     * Get the size of each dimension.
+     *
+     * @return matrix shape
+     */
+    public int[] getShape() {
+        return shape.clone();
+    }
+
+    public int getDimensions() {
+        return shape.length;
+    }
+
+    public int getSize(int dimension) {
+        return shape[dimension];
+    }
+
+    public double get(int... indices) {
+        return values[offset(indices)];
+    }
+
+    public void set(double value, int... indices) {
+        values[offset(indices)] = value;
+    }
+
+    /**
+     * Get the offset of the given element in the row-major array.
+     *
+     * @param indices element indices, one for each dimension
+     * @return element offset
+     */
+    public int offset(int... indices) {
+        if (indices.length != shape.length) {
+            throw new IllegalArgumentException(
+                "The matrix has " + shape.length + " dimensions, but " + indices.length + " indices were given!"
+            );
+        }
+        int offset = 0;
+        for (int i = 0; i < shape.length; i++) {
+            int index = indices[i];
+            if (index < 0 || index >= shape[i]) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + shape[i]);
+            }
+            offset = offset * shape[i] + index;
+        }
+        return offset;
+    }
+
+    /**
+     * Create the equivalent nested array (e.g., {@code double[][]} for a two-dimensional matrix).
+     *
+     * @return nested array
+     */
+    public Object toArray() {
+        Object array = Array.newInstance(double.class, shape);
+        if (values.length > 0) {
+            fill(array, 0, 0);
+        }
+        return array;
+    }
+
+    private int fill(Object array, int dimension, int offset) {
+        if (dimension == shape.length - 1) {
+            double[] leaf = (double[]) array;
+            System.arraycopy(values, offset, leaf, 0, leaf.length);
+            return offset + leaf.length;
+        }
+        for (Object element : (Object[]) array) {
+            offset = fill(element, dimension + 1, offset);
+        }
+        return offset;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DoubleMatrix)) {
+            return false;
+        }
+        DoubleMatrix that = (DoubleMatrix) o;
+        return Arrays.equals(shape, that.shape) && Arrays.equals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(shape) + Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return "DoubleMatrix{shape=" + Arrays.toString(shape) + ", values=" + Arrays.toString(values) + "}";
+    }
+}
@@ -0,0 +1,44 @@
+package io.hypersistence.utils.hibernate.type.array;
+
+import io.hypersistence.utils.hibernate.type.MutableDynamicParameterizedType;
+import io.hypersistence.utils.hibernate.type.array.internal.DoubleMatrixSqlTypeDescriptor;
+import io.hypersistence.utils.hibernate.type.array.internal.DoubleMatrixTypeDescriptor;
+import io.hypersistence.utils.hibernate.type.util.Configuration;
+
+/**
+ * Maps a {@link DoubleMatrix} on a PostgreSQL multidimensional {@code float8[]} ARRAY type.
+ * <p>
+ * Unlike the {@link MultiDimensionalArrayType}, which creates a nested Java array for every row
+ * of every dimension, the {@link DoubleMatrix} elements are decoded right into a single row-major {@code double[]} array.
+ *
+ * @author Vlad Mihalcea
+ */
+public class DoubleMatrixType extends MutableDynamicParameterizedType<DoubleMatrix, DoubleMatrixSqlTypeDescriptor, DoubleMatrixTypeDescriptor> {
+
+    public static final DoubleMatrixType INSTANCE = new DoubleMatrixType();
+
+    public DoubleMatrixType() {
+        super(
+            DoubleMatrix.class,
+            DoubleMatrixSqlTypeDescriptor.INSTANCE,
+            new DoubleMatrixTypeDescriptor()
+        );
+    }
+
+    public DoubleMatrixType(Configuration configuration) {
+        super(
+            DoubleMatrix.class,
+            DoubleMatrixSqlTypeDescriptor.INSTANCE,
+            new DoubleMatrixTypeDescriptor(),
+            configuration
+        );
+    }
+
+    public DoubleMatrixType(org.hibernate.type.spi.TypeBootstrapContext typeBootstrapContext) {
+        this(new Configuration(typeBootstrapContext.getConfigurationSettings()));
+    }
+
+    public String getName() {
+        return "double-matrix";
+    }
+}
@@ -0,0 +1,209 @@
+package io.hypersistence.utils.hibernate.type.array;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * The {@link PackedUUIDArray} is an immutable array of {@link UUID} values stored as a single {@code long[]} array,
+ * which holds the most significant bits and the least significant bits of every element in consecutive positions.
+ * <p>
+ * Unlike the {@code UUID[]} array, which requires a {@link UUID} object for every element, the {@link PackedUUIDArray}
+ * needs 16 bytes per element, and it can be loaded from the PostgreSQL {@code uuid[]} binary format
+ * without creating any {@link UUID} object. The {@code null} elements are not supported.
+ *
+ * @author Vlad Mihalcea
+ */
+public final class PackedUUIDArray implements Serializable {
+
+    private static final PackedUUIDArray EMPTY = new PackedUUIDArray(new long[0], false);
+
+    private final long[] bits;
+
+    /**
+     * Create a {@link PackedUUIDArray} from a copy of the given array of most and least significant bit pairs.
+     *
+     * @param bits most and least significant bit pairs
+     */
+    public PackedUUIDArray(long[] bits) {
+        this(bits, true);
+    }
+
+    private PackedUUIDArray(long[] bits, boolean copy) {
+        if (bits.length % 2 != 0) {
+            throw new IllegalArgumentException("The bits array must contain pairs of most and least significant bits!");
+        }
+        this.bits = copy ? bits.clone() : bits;
+    }
+
+    /**
+     * Create a {@link PackedUUIDArray} from the given {@link UUID} values.
+     *
+     * @param uuids {@link UUID} values
+     * @return {@link PackedUUIDArray}
+     */
+    public static PackedUUIDArray of(UUID... uuids) {
+        if (uuids.length == 0) {
+            return EMPTY;
+        }
+        long[] bits = new long[uuids.length * 2];
+        for (int i = 0; i < uuids.length; i++) {
+            UUID uuid = uuids[i];
+            if (uuid == null) {
+                throw new NullPointerException("The PackedUUIDArray does not support null elements!");
+            }
+            bits[2 * i] = uuid.getMostSignificantBits();
+            bits[2 * i + 1] = uuid.getLeastSignificantBits();
+        }
+        return new PackedUUIDArray(bits, false);
+    }
+
+    /**
+     * Create a {@link PackedUUIDArray} from the given {@link UUID} values.
+     *
+     * @param uuids {@link UUID} values
+     * @return {@link PackedUUIDArray}
+     */
+    public static PackedUUIDArray of(Collection<UUID> uuids) {
+        return of(uuids.toArray(new UUID[0]));
+    }
+
+    public int size() {
+        return bits.length / 2;
+    }
+
+    public boolean isEmpty() {
+        return bits.length == 0;
+    }
+
+    public UUID get(int index) {
+        return new UUID(getMostSignificantBits(index), getLeastSignificantBits(index));
+    }
+
+    public long getMostSignificantBits(int index) {
+        return bits[checkIndex(index) * 2];
+    }
+
+    public long getLeastSignificantBits(int index) {
+        return bits[checkIndex(index) * 2 + 1];
+    }
+
+    /**
+     * Get the index of the given {@link UUID}, without creating a {@link UUID} object for the elements.
+     *
+     * @param uuid {@link UUID} value
+     * @return element index, or {@code -1} if the {@link UUID} is not found
+     */
+    public int indexOf(UUID uuid) {
+        long mostSignificantBits = uuid.getMostSignificantBits();
+        long leastSignificantBits = uuid.getLeastSignificantBits();
+        for (int i = 0; i < bits.length; i += 2) {
+            if (bits[i] == mostSignificantBits && bits[i + 1] == leastSignificantBits) {
+                return i / 2;
+            }
+        }
+        return -1;
+    }
+
+    public boolean contains(UUID uuid) {
+        return indexOf(uuid) >= 0;
+    }
+
+    /**
+     * Create the equivalent {@code UUID[]} array.
+     *
+     * @return {@code UUID[]} array
+     */
+    public UUID[] toArray() {
+        UUID[] uuids = new UUID[size()];
+        for (int i = 0; i < uuids.length; i++) {
+            uuids[i] = new UUID(bits[2 * i], bits[2 * i + 1]);
+        }
+        return uuids;
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size());
+        }
+        return index;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PackedUUIDArray)) {
+            return false;
+        }
+        return Arrays.equals(bits, ((PackedUUIDArray) o).bits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(bits);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * The {@link Builder} collects the {@link UUID} bits and hands them over to the {@link PackedUUIDArray}
+     * without copying them, so it can build a single {@link PackedUUIDArray}.
+     */
+    public static final class Builder {
+
+        private long[] bits;
+
+        private int size;
+
+        /**
+         * Create a {@link Builder} for the given number of {@link UUID} values.
+         *
+         * @param capacity expected number of {@link UUID} values
+         */
+        public Builder(int capacity) {
+            bits = new long[Math.max(capacity, 0) * 2];
+        }
+
+        /**
+         * Add the {@link UUID} with the given most and least significant bits.
+         *
+         * @param mostSignificantBits most significant bits
+         * @param leastSignificantBits least significant bits
+         * @return {@link Builder}
+         */
+        public Builder add(long mostSignificantBits, long leastSignificantBits) {
+            checkNotBuilt();
+            if (2 * size == bits.length) {
+                bits = Arrays.copyOf(bits, Math.max(bits.length * 2, 16));
+            }
+            bits[2 * size] = mostSignificantBits;
+            bits[2 * size + 1] = leastSignificantBits;
+            size++;
+            return this;
+        }
+
+        /**
+         * Build the {@link PackedUUIDArray} of the added {@link UUID} values.
+         *
+         * @return {@link PackedUUIDArray}
+         */
+        public PackedUUIDArray build() {
+            checkNotBuilt();
+            long[] values = bits.length == 2 * size ? bits : Arrays.copyOf(bits, 2 * size);
+            bits = null;
+            return size == 0 ? EMPTY : new PackedUUIDArray(values, false);
+        }
+
+        private void checkNotBuilt() {
+            if (bits == null) {
+                throw new IllegalStateException("The PackedUUIDArray was already built!");
+            }
+        }
+    }
+}
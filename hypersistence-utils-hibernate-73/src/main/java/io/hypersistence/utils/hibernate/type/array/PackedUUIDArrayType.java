@@ -0,0 +1,45 @@
+package io.hypersistence.utils.hibernate.type.array;
+
+import io.hypersistence.utils.hibernate.type.MutableDynamicParameterizedType;
+import io.hypersistence.utils.hibernate.type.array.internal.PackedUUIDArraySqlTypeDescriptor;
+import io.hypersistence.utils.hibernate.type.array.internal.PackedUUIDArrayTypeDescriptor;
+import io.hypersistence.utils.hibernate.type.util.Configuration;
+
+/**
+ * Maps a {@link PackedUUIDArray} on a PostgreSQL {@code uuid[]} ARRAY type.
+ * <p>
+ * Unlike the {@link UUIDArrayType}, which creates a {@link java.util.UUID} object for every element,
+ * the {@link PackedUUIDArray} elements are decoded right into a single {@code long[]} array,
+ * and the array is always bound using the PostgreSQL binary array format.
+ *
+ * @author Vlad Mihalcea
+ */
+public class PackedUUIDArrayType extends MutableDynamicParameterizedType<PackedUUIDArray, PackedUUIDArraySqlTypeDescriptor, PackedUUIDArrayTypeDescriptor> {
+
+    public static final PackedUUIDArrayType INSTANCE = new PackedUUIDArrayType();
+
+    public PackedUUIDArrayType() {
+        super(
+            PackedUUIDArray.class,
+            PackedUUIDArraySqlTypeDescriptor.INSTANCE,
+            new PackedUUIDArrayTypeDescriptor()
+        );
+    }
+
+    public PackedUUIDArrayType(Configuration configuration) {
+        super(
+            PackedUUIDArray.class,
+            PackedUUIDArraySqlTypeDescriptor.INSTANCE,
+            new PackedUUIDArrayTypeDescriptor(),
+            configuration
+        );
+    }
+
+    public PackedUUIDArrayType(org.hibernate.type.spi.TypeBootstrapContext typeBootstrapContext) {
+        this(new Configuration(typeBootstrapContext.getConfigurationSettings()));
+    }
+
+    public String getName() {
+        return "packed-uuid-array";
+    }
+}
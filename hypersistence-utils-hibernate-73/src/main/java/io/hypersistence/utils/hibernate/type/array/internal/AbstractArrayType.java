@@ -13,6 +13,13 @@ public abstract class AbstractArrayType<T>
 
     public static final String SQL_ARRAY_TYPE = "sql_array_type";
 
+    /**
+     * When enabled, the appends and removals are applied using {@code array_cat} and {@code array_remove}
+     * instead of rewriting the whole array, provided that the
+     * {@link io.hypersistence.utils.hibernate.type.array.ArrayIncrementalUpdateIntegrator} is registered.
+     */
+    public static final String INCREMENTAL_UPDATE = "incremental_update";
+
     public AbstractArrayType(AbstractArrayTypeDescriptor<T> arrayTypeDescriptor) {
         super(
             arrayTypeDescriptor.getJavaTypeClass(),
@@ -29,4 +36,13 @@ public abstract class AbstractArrayType<T>
             configuration
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * Get the database array element type (e.g., {@code text} for a {@code text[]} column).
+     *
+     * @return the array element type, or {@code null} if not configured
+     */
+    public String getSqlArrayType() {
+        return getJavaTypeDescriptor().getSqlArrayType();
+    }
+}
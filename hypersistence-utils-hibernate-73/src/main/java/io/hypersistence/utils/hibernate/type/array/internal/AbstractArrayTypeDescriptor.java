@@ -12,9 +12,11 @@ import org.hibernate.usertype.DynamicParameterizedType;
 
 import java.sql.Array;
 import java.sql.SQLException;
+import java.time.DateTimeException;
 import java.util.Arrays;
 import java.util.Properties;
 
+import static io.hypersistence.utils.hibernate.type.array.internal.AbstractArrayType.INCREMENTAL_UPDATE;
 import static io.hypersistence.utils.hibernate.type.array.internal.AbstractArrayType.SQL_ARRAY_TYPE;
 
 /**
@@ -27,6 +29,8 @@ public abstract class AbstractArrayTypeDescriptor<T>
 
     private String sqlArrayType;
 
+    private boolean incrementalUpdate;
+
     public AbstractArrayTypeDescriptor(Class<T> arrayObjectClass) {
         this(arrayObjectClass, (MutabilityPlan<T>) new MutableMutabilityPlan<Object>() {
             @Override
@@ -55,6 +59,7 @@ public abstract class AbstractArrayTypeDescriptor<T>
             arrayObjectClass = (Class<T>) ((ParameterType) parameters.get(PARAMETER_TYPE)).getReturnedJavaType();
         }
         sqlArrayType = parameters.getProperty(SQL_ARRAY_TYPE);
+        incrementalUpdate = Boolean.parseBoolean(parameters.getProperty(INCREMENTAL_UPDATE));
     }
 
     @Override
@@ -73,6 +78,31 @@ public abstract class AbstractArrayTypeDescriptor<T>
         return Arrays.deepToString(ArrayUtil.wrapArray(value));
     }
 
+    @Override
+    public T fromString(CharSequence string) {
+        return fromString(string, arrayObjectClass);
+    }
+
+    /**
+     * Parse the given array literal into the given array type.
+     *
+     * @param string     array literal
+     * @param arrayClass array class
+     * @param <A>        array type
+     * @return array
+     * @throws HibernateException if the array literal cannot be parsed into the given array type
+     */
+    protected <A> A fromString(CharSequence string, Class<A> arrayClass) {
+        try {
+            return ArrayUtil.fromString(string.toString(), arrayClass);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new HibernateException(
+                String.format("Could not parse the [%s] array literal into a %s", string, arrayClass.getTypeName()),
+                e
+            );
+        }
+    }
+
     @Override
     public String extractLoggableRepresentation(T value) {
         return (value == null) ? "null" : toString(value);
@@ -88,6 +118,10 @@ public abstract class AbstractArrayTypeDescriptor<T>
     public <X> T wrap(X value, WrapperOptions options) {
         if (value instanceof Array) {
             Array array = (Array) value;
+            Object postgreSQLArray = toPostgreSQLArray(array);
+            if (postgreSQLArray != null) {
+                return (T) postgreSQLArray;
+            }
             try {
                 return ArrayUtil.unwrapArray((Object[]) array.getArray(), arrayObjectClass);
             } catch (SQLException e) {
@@ -99,6 +133,16 @@ public abstract class AbstractArrayTypeDescriptor<T>
         return (T) value;
     }
 
+    /**
+     * Extract the Java array from the given {@link Array} without the default JDBC conversion.
+     *
+     * @param array JDBC array
+     * @return Java array, or {@code null} if the default JDBC conversion is needed
+     */
+    protected Object toPostgreSQLArray(Array array) {
+        return PostgreSQLArraySupport.toArray(array, arrayObjectClass);
+    }
+
     @Override
     public JavaType getElementJavaType() {
         return this;
@@ -116,4 +160,12 @@ public abstract class AbstractArrayTypeDescriptor<T>
     protected void setSqlArrayType(String sqlArrayType) {
         this.sqlArrayType = sqlArrayType;
     }
+
+    public boolean isIncrementalUpdate() {
+        return incrementalUpdate;
+    }
+
+    protected void setIncrementalUpdate(boolean incrementalUpdate) {
+        this.incrementalUpdate = incrementalUpdate;
+    }
 }
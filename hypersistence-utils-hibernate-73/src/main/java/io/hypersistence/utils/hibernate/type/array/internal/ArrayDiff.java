@@ -0,0 +1,90 @@
+package io.hypersistence.utils.hibernate.type.array.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The {@link ArrayDiff} describes how a one-dimensional array changed since it was loaded,
+ * either by appending elements at its end or by removing all occurrences of some element values.
+ * Any other change cannot be described by an {@link ArrayDiff}, so the whole array has to be rewritten.
+ *
+ * @author Vlad Mihalcea
+ */
+public class ArrayDiff {
+
+    private final Object[] appendedElements;
+
+    private final List<Object> removedValues;
+
+    private ArrayDiff(Object[] appendedElements, List<Object> removedValues) {
+        this.appendedElements = appendedElements;
+        this.removedValues = removedValues;
+    }
+
+    public Object[] getAppendedElements() {
+        return appendedElements;
+    }
+
+    public List<Object> getRemovedValues() {
+        return removedValues;
+    }
+
+    public boolean isAppend() {
+        return appendedElements.length > 0;
+    }
+
+    /**
+     * Compute the difference between the loaded array and the current array.
+     *
+     * @param loaded loaded array
+     * @param current current array
+     * @param maxRemovedValues the maximum number of distinct removed element values
+     * @return array difference, or {@code null} if the change is neither an append nor a removal
+     */
+    public static ArrayDiff diff(Object[] loaded, Object[] current, int maxRemovedValues) {
+        if (current.length > loaded.length) {
+            for (int i = 0; i < loaded.length; i++) {
+                if (!Objects.deepEquals(loaded[i], current[i])) {
+                    return null;
+                }
+            }
+            return new ArrayDiff(Arrays.copyOfRange(current, loaded.length, current.length), Collections.emptyList());
+        }
+        if (current.length == loaded.length) {
+            return null;
+        }
+        List<Object> removedValues = new ArrayList<>();
+        int currentIndex = 0;
+        for (Object loadedElement : loaded) {
+            if (currentIndex < current.length && Objects.deepEquals(loadedElement, current[currentIndex])) {
+                currentIndex++;
+            } else if (!contains(removedValues, loadedElement)) {
+                if (removedValues.size() == maxRemovedValues) {
+                    return null;
+                }
+                removedValues.add(loadedElement);
+            }
+        }
+        if (currentIndex < current.length) {
+            return null;
+        }
+        for (Object currentElement : current) {
+            if (contains(removedValues, currentElement)) {
+                return null;
+            }
+        }
+        return new ArrayDiff(new Object[0], removedValues);
+    }
+
+    private static boolean contains(List<Object> values, Object value) {
+        for (Object element : values) {
+            if (Objects.deepEquals(element, value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,136 @@
+package io.hypersistence.utils.hibernate.type.array.internal;
+
+import io.hypersistence.utils.hibernate.type.MutableType;
+import io.hypersistence.utils.hibernate.type.util.PartialUpdateHandler;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CustomType;
+import org.hibernate.type.Type;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+
+/**
+ * The {@link ArrayIncrementalUpdateHandler} updates in place the one-dimensional PostgreSQL array attributes
+ * that have the {@code incremental_update} parameter enabled.
+ * <p>
+ * It computes the {@link ArrayDiff} between the loaded state and the current attribute value.
+ * Appended elements are applied using {@code array_cat} and removed element values using {@code array_remove}.
+ * Any other change is applied by rewriting the whole array.
+ *
+ * @author Vlad Mihalcea
+ */
+public class ArrayIncrementalUpdateHandler implements PartialUpdateHandler {
+
+    public static final int MAX_REMOVED_VALUES = 8;
+
+    @Override
+    public boolean supports(EntityPersister persister, int property) {
+        AbstractArrayTypeDescriptor<Object> javaTypeDescriptor = arrayTypeDescriptor(persister.getPropertyTypes()[property]);
+        return javaTypeDescriptor != null && javaTypeDescriptor.isIncrementalUpdate() &&
+            javaTypeDescriptor.getSqlArrayType() != null;
+    }
+
+    @Override
+    public Assignment assignment(EntityPersister persister, int property, String columnName, Object loadedValue, Object value) {
+        AbstractArrayTypeDescriptor<Object> arrayTypeDescriptor = arrayTypeDescriptor(persister.getPropertyTypes()[property]);
+        String sqlArrayType = arrayTypeDescriptor.getSqlArrayType();
+        Object[] loadedArray = ArrayUtil.wrapArray(loadedValue);
+        Object[] array = ArrayUtil.wrapArray(value);
+        if (isMultidimensional(loadedArray) || isMultidimensional(array)) {
+            return null;
+        }
+        ArrayDiff diff = ArrayDiff.diff(loadedArray, array, MAX_REMOVED_VALUES);
+        if (diff == null) {
+            return null;
+        }
+        String expression = updateExpression(columnName, sqlArrayType, diff);
+        return new Assignment() {
+            @Override
+            public String getExpression() {
+                return expression;
+            }
+
+            @Override
+            public int bind(PreparedStatement statement, int index) throws SQLException {
+                if (diff.isAppend()) {
+                    statement.setArray(index++, ArraySqlTypeDescriptor.createArrayOf(
+                        statement.getConnection(),
+                        arrayTypeDescriptor,
+                        appendedValue(arrayTypeDescriptor, diff.getAppendedElements()),
+                        null
+                    ));
+                } else {
+                    for (Object removedValue : diff.getRemovedValues()) {
+                        bindElement(statement, index++, removedValue);
+                    }
+                }
+                return index;
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private AbstractArrayTypeDescriptor<Object> arrayTypeDescriptor(Type type) {
+        if (type instanceof CustomType) {
+            Object userType = ((CustomType<?>) type).getUserType();
+            if (userType instanceof MutableType) {
+                Object javaTypeDescriptor = ((MutableType<?, ?, ?>) userType).getJavaTypeDescriptor();
+                if (javaTypeDescriptor instanceof AbstractArrayTypeDescriptor) {
+                    return (AbstractArrayTypeDescriptor<Object>) javaTypeDescriptor;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Convert the appended elements to the attribute array type, so that they are bound
+     * with the same encoding as the whole attribute value.
+     */
+    private Object appendedValue(AbstractArrayTypeDescriptor<Object> arrayTypeDescriptor, Object[] appendedElements) {
+        if (Collection.class.isAssignableFrom(arrayTypeDescriptor.getJavaTypeClass())) {
+            return Arrays.asList(appendedElements);
+        }
+        return ArrayUtil.unwrapArray(appendedElements, arrayTypeDescriptor.getArrayObjectClass());
+    }
+
+    private boolean isMultidimensional(Object[] array) {
+        return array.getClass().getComponentType().isArray();
+    }
+
+    private void bindElement(PreparedStatement statement, int index, Object value) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, Types.OTHER);
+        } else if (value instanceof Enum) {
+            statement.setString(index, ((Enum<?>) value).name());
+        } else if (value instanceof Date && !(value instanceof java.sql.Date) && !(value instanceof Timestamp)) {
+            statement.setTimestamp(index, new Timestamp(((Date) value).getTime()));
+        } else {
+            statement.setObject(index, value);
+        }
+    }
+
+    /**
+     * Build the SQL expression that applies the given array difference to the array column.
+     *
+     * @param columnName array column name
+     * @param sqlArrayType SQL array element type
+     * @param diff array difference
+     * @return SQL expression
+     */
+    static String updateExpression(String columnName, String sqlArrayType, ArrayDiff diff) {
+        if (diff.isAppend()) {
+            return "array_cat(" + columnName + ", ?)";
+        }
+        String expression = columnName;
+        for (int i = 0; i < diff.getRemovedValues().size(); i++) {
+            expression = "array_remove(" + expression + ", cast(? as " + sqlArrayType + "))";
+        }
+        return expression;
+    }
+}
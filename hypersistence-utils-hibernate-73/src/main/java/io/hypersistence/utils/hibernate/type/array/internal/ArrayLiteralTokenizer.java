@@ -0,0 +1,635 @@
+package io.hypersistence.utils.hibernate.type.array.internal;
+
+import io.hypersistence.utils.hibernate.type.util.EnumCodec;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * The {@link ArrayLiteralTokenizer} splits an array literal into its elements in a single pass.
+ * Both the {@link Arrays#toString} format (e.g., {@code [a, b]}) and the PostgreSQL array literal format
+ * (e.g., {@code {a,"b,c",NULL}}) are supported, including the double-quoted elements and the backslash escapes.
+ * The nested arrays of a multidimensional literal (e.g., {@code {{1,2},{3,4}}}) are returned as single elements,
+ * which are parsed by a tokenizer of their own.
+ * <p>
+ * The numeric elements are parsed right from the literal into the primitive arrays,
+ * without creating a {@link String} or a wrapper object for each element.
+ *
+ * @author Vlad Mihalcea
+ */
+public final class ArrayLiteralTokenizer {
+
+    private static final String NULL = "NULL";
+
+    private static final DateTimeFormatter LOCAL_DATE_TIME = new DateTimeFormatterBuilder()
+        .append(DateTimeFormatter.ISO_LOCAL_DATE)
+        .optionalStart().appendLiteral('T').optionalEnd()
+        .optionalStart().appendLiteral(' ').optionalEnd()
+        .append(DateTimeFormatter.ISO_LOCAL_TIME)
+        .toFormatter();
+
+    private static final DateTimeFormatter DATE_TO_STRING = DateTimeFormatter.ofPattern(
+        "EEE MMM dd HH:mm:ss zzz yyyy", Locale.US
+    );
+
+    private final CharSequence literal;
+
+    private final char closingBracket;
+
+    private int position;
+
+    private int end;
+
+    private int tokenStart;
+
+    private int tokenEnd;
+
+    private String quotedToken;
+
+    private boolean nullToken;
+
+    private boolean nestedToken;
+
+    /**
+     * Create a tokenizer for the given array literal.
+     *
+     * @param literal array literal
+     */
+    public ArrayLiteralTokenizer(CharSequence literal) {
+        this.literal = literal;
+        this.end = literal.length();
+        skipWhitespace();
+        trimTrailingWhitespace();
+        if (position < end && literal.charAt(position) == '[') {
+            int equals = dimensionsDecorationEnd();
+            if (equals > 0) {
+                position = equals + 1;
+            }
+        }
+        char openingBracket = position < end ? literal.charAt(position) : 0;
+        if (openingBracket == '{' || openingBracket == '[') {
+            closingBracket = openingBracket == '{' ? '}' : ']';
+            if (literal.charAt(end - 1) != closingBracket || end - position < 2) {
+                throw new IllegalArgumentException("The [" + literal + "] array literal is not closed!");
+            }
+            position++;
+            end--;
+        } else {
+            closingBracket = 0;
+        }
+        skipWhitespace();
+    }
+
+    /**
+     * Move to the next element.
+     *
+     * @return {@code true} if there is a next element
+     */
+    public boolean next() {
+        if (position >= end) {
+            return false;
+        }
+        quotedToken = null;
+        nullToken = false;
+        nestedToken = false;
+        char c = literal.charAt(position);
+        if (c == '"') {
+            StringBuilder builder = new StringBuilder();
+            position++;
+            while (true) {
+                if (position >= end) {
+                    throw new IllegalArgumentException("The [" + literal + "] array literal has an unterminated quoted element!");
+                }
+                c = literal.charAt(position++);
+                if (c == '"') {
+                    break;
+                }
+                if (c == '\\') {
+                    if (position >= end) {
+                        throw new IllegalArgumentException("The [" + literal + "] array literal has an unterminated escape sequence!");
+                    }
+                    c = literal.charAt(position++);
+                }
+                builder.append(c);
+            }
+            quotedToken = builder.toString();
+            skipWhitespace();
+        } else if (c == '{' || (c == '[' && closingBracket == ']')) {
+            tokenStart = position;
+            position = nestedLiteralEnd(c, c == '{' ? '}' : ']');
+            tokenEnd = position;
+            nestedToken = true;
+            skipWhitespace();
+        } else {
+            tokenStart = position;
+            boolean escaped = false;
+            int escapedEnd = tokenStart;
+            while (position < end && literal.charAt(position) != ',') {
+                if (literal.charAt(position) == '\\' && closingBracket == '}' && position + 1 < end) {
+                    escaped = true;
+                    position++;
+                    escapedEnd = position + 1;
+                }
+                position++;
+            }
+            tokenEnd = position;
+            while (tokenEnd > escapedEnd && Character.isWhitespace(literal.charAt(tokenEnd - 1))) {
+                tokenEnd--;
+            }
+            if (escaped) {
+                StringBuilder builder = new StringBuilder(tokenEnd - tokenStart);
+                for (int i = tokenStart; i < tokenEnd; i++) {
+                    c = literal.charAt(i);
+                    if (c == '\\') {
+                        c = literal.charAt(++i);
+                    }
+                    builder.append(c);
+                }
+                quotedToken = builder.toString();
+            } else {
+                nullToken = closingBracket == '}' && tokenEnd - tokenStart == NULL.length() && regionMatches(NULL);
+            }
+        }
+        if (position < end) {
+            if (literal.charAt(position) != ',') {
+                throw new IllegalArgumentException(
+                    "The [" + literal + "] array literal has an unexpected character at position " + position + "!"
+                );
+            }
+            position++;
+            skipWhitespace();
+            if (position >= end) {
+                throw new IllegalArgumentException("The [" + literal + "] array literal has a trailing comma!");
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Is the current element the unquoted {@code NULL} element of a PostgreSQL array literal?
+     *
+     * @return {@code true} if the current element is {@code NULL}
+     */
+    public boolean isNull() {
+        return nullToken;
+    }
+
+    /**
+     * Is the current element a nested array of a multidimensional literal?
+     *
+     * @return {@code true} if the current element is a nested array
+     */
+    public boolean isNested() {
+        return nestedToken;
+    }
+
+    /**
+     * Get the current element.
+     *
+     * @return current element, or {@code null} for the {@code NULL} element
+     */
+    public String getString() {
+        if (nullToken) {
+            return null;
+        }
+        return quotedToken != null ? quotedToken : literal.subSequence(tokenStart, tokenEnd).toString();
+    }
+
+    public long getLong() {
+        if (quotedToken != null) {
+            return Long.parseLong(quotedToken.trim());
+        }
+        int i = tokenStart;
+        boolean negative = i < tokenEnd && literal.charAt(i) == '-';
+        if (negative || (i < tokenEnd && literal.charAt(i) == '+')) {
+            i++;
+        }
+        if (i == tokenEnd || tokenEnd - i > 19) {
+            return Long.parseLong(getString());
+        }
+        long value = 0;
+        for (; i < tokenEnd; i++) {
+            int digit = literal.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return Long.parseLong(getString());
+            }
+            value = value * 10 - digit;
+            if (value > 0) {
+                return Long.parseLong(getString());
+            }
+        }
+        if (!negative && value == Long.MIN_VALUE) {
+            return Long.parseLong(getString());
+        }
+        return negative ? value : -value;
+    }
+
+    public int getInt() {
+        long value = getLong();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("Value out of range: " + getString());
+        }
+        return (int) value;
+    }
+
+    public double getDouble() {
+        return Double.parseDouble(getString());
+    }
+
+    public boolean getBoolean() {
+        String value = getString();
+        return "t".equalsIgnoreCase(value) || Boolean.parseBoolean(value);
+    }
+
+    /**
+     * Get the current element as a {@link UUID}. The canonical 36-character form is parsed without creating
+     * a {@link String}.
+     *
+     * @return {@link UUID}, or {@code null} for the {@code NULL} element
+     */
+    public UUID getUUID() {
+        if (nullToken) {
+            return null;
+        }
+        if (quotedToken != null || !isCanonicalUUID()) {
+            return UUID.fromString(getString().trim());
+        }
+        return new UUID(hexBits(0, 18), hexBits(19, 36));
+    }
+
+    /**
+     * Write the most and least significant bits of the current {@link UUID} element at the
+     * {@code 2 * index} and {@code 2 * index + 1} positions of the given array.
+     *
+     * @param bits  target array
+     * @param index element index
+     * @return {@code false} if the current element is {@code NULL}
+     */
+    public boolean getUUIDBits(long[] bits, int index) {
+        if (nullToken) {
+            return false;
+        }
+        if (quotedToken != null || !isCanonicalUUID()) {
+            UUID uuid = UUID.fromString(getString().trim());
+            bits[2 * index] = uuid.getMostSignificantBits();
+            bits[2 * index + 1] = uuid.getLeastSignificantBits();
+        } else {
+            bits[2 * index] = hexBits(0, 18);
+            bits[2 * index + 1] = hexBits(19, 36);
+        }
+        return true;
+    }
+
+    /**
+     * Get the current element as an {@link Enum} constant, resolved either by its name or, if the element
+     * is numeric, by its ordinal value. Unquoted names are resolved without creating a {@link String}.
+     *
+     * @param codec {@link Enum} codec
+     * @param <E> {@link Enum} type
+     * @return {@link Enum} constant, or {@code null} for the {@code NULL} element
+     */
+    public <E extends Enum<E>> E getEnum(EnumCodec<E> codec) {
+        if (nullToken) {
+            return null;
+        }
+        if (quotedToken != null) {
+            return codec.fromName(quotedToken);
+        }
+        char first = literal.charAt(tokenStart);
+        if (first >= '0' && first <= '9') {
+            return codec.fromOrdinal(getInt());
+        }
+        return codec.fromName(literal, tokenStart, tokenEnd);
+    }
+
+    /**
+     * Parse the given array literal into the given array type, which can be multidimensional.
+     * The {@code NULL} elements are mapped to {@code 0} or {@code false} for the primitive arrays.
+     *
+     * @param literal array literal
+     * @param arrayClass array class
+     * @param <T> array type
+     * @return array
+     * @throws IllegalArgumentException if the literal is malformed, if its dimensions don't match
+     * the array type, or if the array component type is not supported
+     */
+    public static <T> T parse(CharSequence literal, Class<T> arrayClass) {
+        return parse(literal, arrayClass, true);
+    }
+
+    /**
+     * Parse the given array literal into the given array type, unless it contains
+     * {@code NULL} elements, which cannot be told apart from {@code 0} once stored in a primitive array.
+     *
+     * @param literal array literal
+     * @param arrayClass array class
+     * @param <T> array type
+     * @return array, or {@code null} if the literal contains {@code NULL} elements
+     */
+    public static <T> T parseNonNull(CharSequence literal, Class<T> arrayClass) {
+        return parse(literal, arrayClass, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T parse(CharSequence literal, Class<T> arrayClass, boolean nullable) {
+        ArrayLiteralTokenizer tokenizer = new ArrayLiteralTokenizer(literal);
+        Class<?> componentType = arrayClass.getComponentType();
+        if (componentType == null) {
+            throw new IllegalArgumentException("The " + arrayClass + " is not an array class!");
+        }
+        if (componentType.isArray()) {
+            return (T) parseArrays(tokenizer, componentType, nullable);
+        }
+        if (Enum.class.isAssignableFrom(componentType)) {
+            return (T) parseEnums(tokenizer, EnumCodec.of((Class) componentType));
+        }
+        if (!componentType.isPrimitive() && !isSupportedObjectType(componentType)) {
+            throw new IllegalArgumentException("The " + componentType + " array component type is not supported!");
+        }
+        Object array = Array.newInstance(componentType, 8);
+        int length = 0;
+        while (tokenizer.next()) {
+            tokenizer.checkNotNested();
+            if (!nullable && tokenizer.isNull()) {
+                return null;
+            }
+            if (length == Array.getLength(array)) {
+                array = grow(array, length);
+            }
+            tokenizer.set(array, length++, componentType);
+        }
+        return (T) shrink(array, length);
+    }
+
+    private static Object parseArrays(ArrayLiteralTokenizer tokenizer, Class<?> componentType, boolean nullable) {
+        Object[] array = (Object[]) Array.newInstance(componentType, 8);
+        int length = 0;
+        while (tokenizer.next()) {
+            Object subArray = null;
+            if (tokenizer.nestedToken) {
+                subArray = parse(tokenizer.literal.subSequence(tokenizer.tokenStart, tokenizer.tokenEnd), componentType, nullable);
+                if (subArray == null) {
+                    return null;
+                }
+            } else if (!tokenizer.nullToken) {
+                throw new IllegalArgumentException(
+                    "The [" + tokenizer.literal + "] array literal does not match the " + componentType + " nested arrays!"
+                );
+            } else if (!nullable) {
+                return null;
+            }
+            if (length == array.length) {
+                array = Arrays.copyOf(array, length * 2);
+            }
+            array[length++] = subArray;
+        }
+        return array.length == length ? array : Arrays.copyOf(array, length);
+    }
+
+    private static <E extends Enum<E>> E[] parseEnums(ArrayLiteralTokenizer tokenizer, EnumCodec<E> codec) {
+        E[] array = codec.newArray(8);
+        int length = 0;
+        while (tokenizer.next()) {
+            tokenizer.checkNotNested();
+            if (length == array.length) {
+                array = Arrays.copyOf(array, length * 2);
+            }
+            array[length++] = tokenizer.getEnum(codec);
+        }
+        return array.length == length ? array : Arrays.copyOf(array, length);
+    }
+
+    private void checkNotNested() {
+        if (nestedToken) {
+            throw new IllegalArgumentException("The [" + literal + "] array literal is not one-dimensional!");
+        }
+    }
+
+    private void set(Object array, int index, Class<?> componentType) {
+        if (nullToken || (!componentType.isPrimitive() && componentType != String.class && isUnquotedNull())) {
+            if (componentType == char.class) {
+                ((char[]) array)[index] = Character.MIN_VALUE;
+            }
+            return;
+        }
+        if (componentType == int.class) {
+            ((int[]) array)[index] = getInt();
+        } else if (componentType == long.class) {
+            ((long[]) array)[index] = getLong();
+        } else if (componentType == double.class) {
+            ((double[]) array)[index] = getDouble();
+        } else if (componentType == float.class) {
+            ((float[]) array)[index] = Float.parseFloat(getString());
+        } else if (componentType == short.class) {
+            ((short[]) array)[index] = (short) checkRange(getLong(), Short.MIN_VALUE, Short.MAX_VALUE);
+        } else if (componentType == byte.class) {
+            ((byte[]) array)[index] = (byte) checkRange(getLong(), Byte.MIN_VALUE, Byte.MAX_VALUE);
+        } else if (componentType == boolean.class) {
+            ((boolean[]) array)[index] = getBoolean();
+        } else if (componentType == char.class) {
+            String value = getString();
+            ((char[]) array)[index] = value.length() > 0 ? value.charAt(0) : Character.MIN_VALUE;
+        } else if (componentType == Integer.class) {
+            ((Object[]) array)[index] = getInt();
+        } else if (componentType == Long.class) {
+            ((Object[]) array)[index] = getLong();
+        } else if (componentType == Double.class) {
+            ((Object[]) array)[index] = getDouble();
+        } else if (componentType == Float.class) {
+            ((Object[]) array)[index] = Float.parseFloat(getString());
+        } else if (componentType == Short.class) {
+            ((Object[]) array)[index] = (short) checkRange(getLong(), Short.MIN_VALUE, Short.MAX_VALUE);
+        } else if (componentType == Boolean.class) {
+            ((Object[]) array)[index] = getBoolean();
+        } else if (componentType == Byte.class) {
+            ((Object[]) array)[index] = (byte) checkRange(getLong(), Byte.MIN_VALUE, Byte.MAX_VALUE);
+        } else if (componentType == Character.class) {
+            String value = getString();
+            ((Object[]) array)[index] = value.length() > 0 ? value.charAt(0) : Character.MIN_VALUE;
+        } else if (componentType == UUID.class) {
+            ((Object[]) array)[index] = getUUID();
+        } else if (componentType == BigDecimal.class) {
+            ((Object[]) array)[index] = new BigDecimal(getString().trim());
+        } else if (componentType == LocalDate.class) {
+            ((Object[]) array)[index] = LocalDate.parse(getString().trim());
+        } else if (componentType == LocalDateTime.class) {
+            ((Object[]) array)[index] = LocalDateTime.parse(getString().trim(), LOCAL_DATE_TIME);
+        } else if (componentType == Timestamp.class) {
+            ((Object[]) array)[index] = Timestamp.valueOf(getString().trim());
+        } else if (componentType == java.sql.Date.class) {
+            ((Object[]) array)[index] = java.sql.Date.valueOf(getString().trim());
+        } else if (componentType == Date.class) {
+            ((Object[]) array)[index] = getDate();
+        } else {
+            ((Object[]) array)[index] = getString();
+        }
+    }
+
+    /**
+     * Get the current element as a {@link Date}, which can be either a PostgreSQL {@code date} or
+     * {@code timestamp} value, or the {@link Date#toString()} format.
+     */
+    private Date getDate() {
+        String value = getString().trim();
+        if (value.length() >= 10 && value.charAt(4) == '-') {
+            return value.length() == 10 ? java.sql.Date.valueOf(value) : Timestamp.valueOf(value);
+        }
+        return Date.from(ZonedDateTime.parse(value, DATE_TO_STRING).toInstant());
+    }
+
+    private boolean isUnquotedNull() {
+        return quotedToken == null && tokenEnd - tokenStart == NULL.length() && regionMatches(NULL);
+    }
+
+    private static boolean isSupportedObjectType(Class<?> componentType) {
+        return componentType == String.class ||
+            componentType == Object.class ||
+            componentType == Integer.class ||
+            componentType == Long.class ||
+            componentType == Double.class ||
+            componentType == Float.class ||
+            componentType == Short.class ||
+            componentType == Byte.class ||
+            componentType == Character.class ||
+            componentType == Boolean.class ||
+            componentType == UUID.class ||
+            componentType == BigDecimal.class ||
+            componentType == LocalDate.class ||
+            componentType == LocalDateTime.class ||
+            componentType == Timestamp.class ||
+            componentType == java.sql.Date.class ||
+            componentType == Date.class;
+    }
+
+    private static long checkRange(long value, long min, long max) {
+        if (value < min || value > max) {
+            throw new NumberFormatException("Value out of range: " + value);
+        }
+        return value;
+    }
+
+    private static Object grow(Object array, int length) {
+        Object newArray = Array.newInstance(array.getClass().getComponentType(), length * 2);
+        System.arraycopy(array, 0, newArray, 0, length);
+        return newArray;
+    }
+
+    private static Object shrink(Object array, int length) {
+        if (Array.getLength(array) == length) {
+            return array;
+        }
+        Object newArray = Array.newInstance(array.getClass().getComponentType(), length);
+        System.arraycopy(array, 0, newArray, 0, length);
+        return newArray;
+    }
+
+    private boolean isCanonicalUUID() {
+        if (tokenEnd - tokenStart != 36) {
+            return false;
+        }
+        for (int i = 0; i < 36; i++) {
+            char c = literal.charAt(tokenStart + i);
+            boolean dash = i == 8 || i == 13 || i == 18 || i == 23;
+            if (dash ? c != '-' : hexDigit(c) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parse the 16 hexadecimal digits found between the given offsets of the canonical {@link UUID} form,
+     * skipping the dashes.
+     */
+    private long hexBits(int startOffset, int endOffset) {
+        long bits = 0;
+        for (int i = tokenStart + startOffset; i < tokenStart + endOffset; i++) {
+            char c = literal.charAt(i);
+            if (c != '-') {
+                bits = (bits << 4) | hexDigit(c);
+            }
+        }
+        return bits;
+    }
+
+    private static int hexDigit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    private int nestedLiteralEnd(char openingBracket, char nestedClosingBracket) {
+        int depth = 0;
+        boolean quoted = false;
+        for (int i = position; i < end; i++) {
+            char c = literal.charAt(i);
+            if (quoted) {
+                if (c == '\\') {
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                }
+            } else if (c == '\\' && openingBracket == '{') {
+                i++;
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == openingBracket) {
+                depth++;
+            } else if (c == nestedClosingBracket && --depth == 0) {
+                return i + 1;
+            }
+        }
+        throw new IllegalArgumentException("The [" + literal + "] array literal has an unclosed nested array!");
+    }
+
+    private int dimensionsDecorationEnd() {
+        for (int i = position + 1; i < end; i++) {
+            char c = literal.charAt(i);
+            if (c == '=') {
+                return i + 1 < end && literal.charAt(i + 1) == '{' ? i : -1;
+            }
+            if (c != '[' && c != ']' && c != ':' && c != '-' && (c < '0' || c > '9')) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private boolean regionMatches(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (Character.toUpperCase(literal.charAt(tokenStart + i)) != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void skipWhitespace() {
+        while (position < end && Character.isWhitespace(literal.charAt(position))) {
+            position++;
+        }
+    }
+
+    private void trimTrailingWhitespace() {
+        while (end > position && Character.isWhitespace(literal.charAt(end - 1))) {
+            end--;
+        }
+    }
+}
@@ -27,10 +27,11 @@ public class ArraySqlTypeDescriptor implements JdbcType {
         return new BasicBinder<X>(javaType, this) {
             @Override
             protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options) throws SQLException {
-                AbstractArrayTypeDescriptor<Object> abstractArrayTypeDescriptor = (AbstractArrayTypeDescriptor<Object>) javaType;
-                st.setArray(index, st.getConnection().createArrayOf(
-                    abstractArrayTypeDescriptor.getSqlArrayType(),
-                    abstractArrayTypeDescriptor.unwrap(value, Object[].class, options)
+                st.setArray(index, createArrayOf(
+                    st.getConnection(),
+                    (AbstractArrayTypeDescriptor<Object>) javaType,
+                    value,
+                    options
                 ));
             }
 
@@ -62,4 +63,39 @@ public class ArraySqlTypeDescriptor implements JdbcType {
         };
     }
 
+    /**
+     * Create the JDBC {@link Array} for the given array attribute value, using the binary, primitive,
+     * {@link java.util.UUID} or {@link Enum} array encoding when it's supported.
+     *
+     * @param connection JDBC connection
+     * @param arrayTypeDescriptor array attribute Java type descriptor
+     * @param value array attribute value
+     * @param options wrapper options
+     * @return JDBC {@link Array}
+     * @throws SQLException if the array could not be created
+     */
+    static Array createArrayOf(
+            Connection connection,
+            AbstractArrayTypeDescriptor<Object> arrayTypeDescriptor,
+            Object value,
+            WrapperOptions options) throws SQLException {
+        String sqlArrayType = arrayTypeDescriptor.getSqlArrayType();
+        Array array = PostgreSQLArraySupport.createBinaryArrayOf(connection, sqlArrayType, value);
+        if (array == null) {
+            array = PostgreSQLArraySupport.createArrayOf(connection, sqlArrayType, value);
+        }
+        if (array == null) {
+            array = PostgreSQLArraySupport.createUUIDArrayOf(connection, sqlArrayType, value);
+        }
+        if (array == null) {
+            array = PostgreSQLArraySupport.createEnumArrayOf(connection, sqlArrayType, value);
+        }
+        if (array == null) {
+            array = connection.createArrayOf(
+                sqlArrayType,
+                arrayTypeDescriptor.unwrap(value, Object[].class, options)
+            );
+        }
+        return array;
+    }
 }
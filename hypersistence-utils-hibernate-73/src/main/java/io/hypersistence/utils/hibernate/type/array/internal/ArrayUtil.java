@@ -1,5 +1,7 @@
 package io.hypersistence.utils.hibernate.type.array.internal;
 
+import io.hypersistence.utils.hibernate.type.util.EnumCodec;
+
 import java.lang.reflect.*;
 import java.util.*;
 
@@ -181,18 +183,7 @@ public class ArrayUtil {
             }
             return (T) array;
         } else if (Enum[].class.isAssignableFrom(arrayClass)) {
-            T array = arrayClass.cast(Array.newInstance(arrayClass.getComponentType(), originalArray.length));
-            for (int i = 0; i < originalArray.length; i++) {
-                Object objectValue = originalArray[i];
-                if (objectValue instanceof Number) {
-                    objectValue = arrayClass.getComponentType().getEnumConstants()[((Number) objectValue).intValue()];
-                } else if (objectValue != null) {
-                    String stringValue = (objectValue instanceof String) ? (String) objectValue : String.valueOf(objectValue);
-                    objectValue = Enum.valueOf((Class) arrayClass.getComponentType(), stringValue);
-                }
-                Array.set(array, i, objectValue);
-            }
-            return array;
+            return (T) EnumCodec.of((Class) arrayClass.getComponentType()).toArray(originalArray);
         } else if (java.time.LocalDate[].class.equals(arrayClass) && java.sql.Date[].class.equals(originalArray.getClass())) {
             // special case because conversion is neither with ctor nor valueOf
             Object[] array = (Object[]) Array.newInstance(java.time.LocalDate.class, originalArray.length);
@@ -226,7 +217,8 @@ public class ArrayUtil {
     }
 
     /**
-     * Create array from its {@link String} representation.
+     * Create array from its {@link String} representation, which can be either the {@link Arrays#toString} format
+     * (e.g., {@code [a, b]}) or the PostgreSQL array literal format (e.g., {@code {a,"b,c",NULL}}).
      *
      * @param string     string representation
      * @param arrayClass array class
@@ -234,62 +226,7 @@ public class ArrayUtil {
      * @return array
      */
     public static <T> T fromString(String string, Class<T> arrayClass) {
-        String stringArray = string.replaceAll("[\\[\\]]", "");
-        String[] tokens = stringArray.split(",");
-
-        int length = tokens.length;
-
-        if (boolean[].class.equals(arrayClass)) {
-            boolean[] array = new boolean[length];
-            for (int i = 0; i < tokens.length; i++) {
-                array[i] = Boolean.valueOf(tokens[i]);
-            }
-            return (T) array;
-        } else if (byte[].class.equals(arrayClass)) {
-            byte[] array = new byte[length];
-            for (int i = 0; i < tokens.length; i++) {
-                array[i] = Byte.valueOf(tokens[i]);
-            }
-            return (T) array;
-        } else if (short[].class.equals(arrayClass)) {
-            short[] array = new short[length];
-            for (int i = 0; i < tokens.length; i++) {
-                array[i] = Short.valueOf(tokens[i]);
-            }
-            return (T) array;
-        } else if (int[].class.equals(arrayClass)) {
-            int[] array = new int[length];
-            for (int i = 0; i < tokens.length; i++) {
-                array[i] = Integer.valueOf(tokens[i]);
-            }
-            return (T) array;
-        } else if (long[].class.equals(arrayClass)) {
-            long[] array = new long[length];
-            for (int i = 0; i < tokens.length; i++) {
-                array[i] = Long.valueOf(tokens[i]);
-            }
-            return (T) array;
-        } else if (float[].class.equals(arrayClass)) {
-            float[] array = new float[length];
-            for (int i = 0; i < tokens.length; i++) {
-                array[i] = Float.valueOf(tokens[i]);
-            }
-            return (T) array;
-        } else if (double[].class.equals(arrayClass)) {
-            double[] array = new double[length];
-            for (int i = 0; i < tokens.length; i++) {
-                array[i] = Double.valueOf(tokens[i]);
-            }
-            return (T) array;
-        } else if (char[].class.equals(arrayClass)) {
-            char[] array = new char[length];
-            for (int i = 0; i < tokens.length; i++) {
-                array[i] = tokens[i].length() > 0 ? tokens[i].charAt(0) : Character.MIN_VALUE;
-            }
-            return (T) array;
-        } else {
-            return (T) tokens;
-        }
+        return ArrayLiteralTokenizer.parse(string, arrayClass);
     }
 
     /**
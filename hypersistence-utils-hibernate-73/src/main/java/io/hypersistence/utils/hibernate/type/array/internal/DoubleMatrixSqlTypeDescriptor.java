@@ -0,0 +1,73 @@
+package io.hypersistence.utils.hibernate.type.array.internal;
+
+import io.hypersistence.utils.hibernate.type.array.DoubleMatrix;
+import org.hibernate.type.descriptor.ValueBinder;
+import org.hibernate.type.descriptor.ValueExtractor;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.jdbc.BasicBinder;
+import org.hibernate.type.descriptor.jdbc.BasicExtractor;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+
+import java.sql.*;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class DoubleMatrixSqlTypeDescriptor implements JdbcType {
+
+    public static final DoubleMatrixSqlTypeDescriptor INSTANCE = new DoubleMatrixSqlTypeDescriptor();
+
+    @Override
+    public int getJdbcTypeCode() {
+        return Types.OTHER;
+    }
+
+    @Override
+    public <X> ValueBinder<X> getBinder(final JavaType<X> javaType) {
+        return new BasicBinder<X>(javaType, this) {
+            @Override
+            protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options) throws SQLException {
+                DoubleMatrixTypeDescriptor doubleMatrixTypeDescriptor = (DoubleMatrixTypeDescriptor) javaType;
+                Array array = PostgreSQLArraySupport.createArrayOf(
+                    st.getConnection(),
+                    doubleMatrixTypeDescriptor.getSqlArrayType(),
+                    (DoubleMatrix) value
+                );
+                if (array == null) {
+                    array = st.getConnection().createArrayOf(
+                        doubleMatrixTypeDescriptor.getSqlArrayType(),
+                        doubleMatrixTypeDescriptor.unwrap((DoubleMatrix) value, Object[].class, options)
+                    );
+                }
+                st.setArray(index, array);
+            }
+
+            @Override
+            protected void doBind(CallableStatement st, X value, String name, WrapperOptions options)
+                throws SQLException {
+                throw new UnsupportedOperationException("Binding by name is not supported!");
+            }
+        };
+    }
+
+    @Override
+    public <X> ValueExtractor<X> getExtractor(final JavaType<X> javaType) {
+        return new BasicExtractor<X>(javaType, this) {
+            @Override
+            protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
+                return javaType.wrap(rs.getArray(paramIndex), options);
+            }
+
+            @Override
+            protected X doExtract(CallableStatement statement, int index, WrapperOptions options) throws SQLException {
+                return javaType.wrap(statement.getArray(index), options);
+            }
+
+            @Override
+            protected X doExtract(CallableStatement statement, String name, WrapperOptions options) throws SQLException {
+                return javaType.wrap(statement.getArray(name), options);
+            }
+        };
+    }
+}
@@ -0,0 +1,131 @@
+package io.hypersistence.utils.hibernate.type.array.internal;
+
+import io.hypersistence.utils.hibernate.type.array.DoubleMatrix;
+import org.hibernate.HibernateException;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.AbstractClassJavaType;
+import org.hibernate.type.descriptor.java.MutableMutabilityPlan;
+import org.hibernate.usertype.ParameterizedType;
+
+import java.sql.Array;
+import java.sql.SQLException;
+import java.util.Properties;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class DoubleMatrixTypeDescriptor extends AbstractClassJavaType<DoubleMatrix> implements ParameterizedType {
+
+    private String sqlArrayType = "float8";
+
+    public DoubleMatrixTypeDescriptor() {
+        super(DoubleMatrix.class, new MutableMutabilityPlan<>() {
+            @Override
+            protected DoubleMatrix deepCopyNotNull(DoubleMatrix value) {
+                return new DoubleMatrix(value.getValues().clone(), value.getShape());
+            }
+        });
+    }
+
+    @Override
+    public void setParameterValues(Properties parameters) {
+        String sqlArrayType = parameters.getProperty(AbstractArrayType.SQL_ARRAY_TYPE);
+        if (sqlArrayType != null) {
+            this.sqlArrayType = sqlArrayType;
+        }
+    }
+
+    public String getSqlArrayType() {
+        return sqlArrayType;
+    }
+
+    @Override
+    public boolean areEqual(DoubleMatrix one, DoubleMatrix another) {
+        if (one == another) {
+            return true;
+        }
+        if (one == null || another == null) {
+            return false;
+        }
+        return one.equals(another);
+    }
+
+    @Override
+    public String toString(DoubleMatrix value) {
+        return PostgreSQLArraySupport.formatDoubleMatrix(value);
+    }
+
+    @Override
+    public DoubleMatrix fromString(CharSequence string) {
+        return PostgreSQLArraySupport.parseDoubleMatrix(string.toString());
+    }
+
+    @SuppressWarnings({"unchecked"})
+    @Override
+    public <X> X unwrap(DoubleMatrix value, Class<X> type, WrapperOptions options) {
+        if (value == null) {
+            return null;
+        }
+        if (DoubleMatrix.class.isAssignableFrom(type)) {
+            return (X) value;
+        }
+        if (String.class.isAssignableFrom(type)) {
+            return (X) toString(value);
+        }
+        if (Object[].class.isAssignableFrom(type)) {
+            return (X) toBoxedArray(value);
+        }
+        throw unknownUnwrap(type);
+    }
+
+    private Object[] toBoxedArray(DoubleMatrix matrix) {
+        Object[] array = (Object[]) java.lang.reflect.Array.newInstance(Double.class, matrix.getShape());
+        double[] values = matrix.getValues();
+        if (values.length > 0) {
+            fill(array, matrix.getShape(), 0, values, 0);
+        }
+        return array;
+    }
+
+    private int fill(Object[] array, int[] shape, int dimension, double[] values, int offset) {
+        for (int i = 0; i < array.length; i++) {
+            if (dimension == shape.length - 1) {
+                array[i] = values[offset++];
+            } else {
+                offset = fill((Object[]) array[i], shape, dimension + 1, values, offset);
+            }
+        }
+        return offset;
+    }
+
+    @Override
+    public <X> DoubleMatrix wrap(X value, WrapperOptions options) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof DoubleMatrix) {
+            return (DoubleMatrix) value;
+        }
+        if (value instanceof Array) {
+            Array array = (Array) value;
+            DoubleMatrix matrix = PostgreSQLArraySupport.toDoubleMatrix(array);
+            if (matrix != null) {
+                return matrix;
+            }
+            try {
+                return DoubleMatrix.of(array.getArray());
+            } catch (SQLException e) {
+                throw new HibernateException(
+                    new IllegalArgumentException(e)
+                );
+            }
+        }
+        if (value.getClass().isArray()) {
+            return DoubleMatrix.of(value);
+        }
+        if (value instanceof String) {
+            return fromString((String) value);
+        }
+        throw unknownWrap(value.getClass());
+    }
+}
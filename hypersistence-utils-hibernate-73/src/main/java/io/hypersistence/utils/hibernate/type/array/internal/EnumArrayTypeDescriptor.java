@@ -1,5 +1,6 @@
 package io.hypersistence.utils.hibernate.type.array.internal;
 
+import java.sql.Array;
 import java.util.Properties;
 
 /**
@@ -29,4 +30,10 @@ public class EnumArrayTypeDescriptor
         sqlArrayType = parameters.getProperty(AbstractArrayType.SQL_ARRAY_TYPE);
         super.setParameterValues(parameters);
     }
+
+    @Override
+    protected Object toPostgreSQLArray(Array array) {
+        Object enumArray = PostgreSQLArraySupport.toEnumArray(array, getArrayObjectClass());
+        return enumArray != null ? enumArray : super.toPostgreSQLArray(array);
+    }
 }
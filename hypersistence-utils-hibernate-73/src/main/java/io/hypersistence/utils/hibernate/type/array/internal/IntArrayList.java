@@ -0,0 +1,199 @@
+package io.hypersistence.utils.hibernate.type.array.internal;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * The {@link IntArrayList} is a {@link java.util.List} of {@link Integer} elements backed by a {@code int[]} array,
+ * so that the elements are not stored as {@link Integer} objects.
+ * <p>
+ * The {@link #snapshot()} copies are copy-on-write, so the backing array is shared until either list is changed.
+ * The {@code null} elements are not permitted, so adding or setting a {@code null} element throws
+ * a {@link NullPointerException}. To store {@code null} elements, set a new {@link java.util.ArrayList}
+ * on the entity attribute instead.
+ *
+ * @author Vlad Mihalcea
+ */
+public final class IntArrayList extends AbstractList<Integer> implements RandomAccess, Serializable {
+
+    private int[] values;
+
+    private int size;
+
+    private transient boolean shared;
+
+    public IntArrayList() {
+        this(new int[0], 0, false);
+    }
+
+    public IntArrayList(int[] values) {
+        this(values.clone(), values.length, false);
+    }
+
+    private IntArrayList(int[] values, int size, boolean shared) {
+        this.values = values;
+        this.size = size;
+        this.shared = shared;
+    }
+
+    /**
+     * Create a {@link IntArrayList} from the given boxed array.
+     *
+     * @param array boxed array
+     * @return {@link IntArrayList}, or {@code null} if the array contains {@code null} elements
+     */
+    public static IntArrayList of(Object[] array) {
+        int[] values = new int[array.length];
+        for (int i = 0; i < array.length; i++) {
+            Object value = array[i];
+            if (value == null) {
+                return null;
+            }
+            values[i] = ((Number) value).intValue();
+        }
+        return new IntArrayList(values, values.length, false);
+    }
+
+    /**
+     * Create a {@link IntArrayList} backed by the given array, without copying it.
+     *
+     * @param values backing array
+     * @return {@link IntArrayList}
+     */
+    static IntArrayList of(int[] values) {
+        return new IntArrayList(values, values.length, false);
+    }
+
+    /**
+     * Create a copy that shares the backing array with this list until either of them is changed.
+     *
+     * @return list snapshot
+     */
+    public IntArrayList snapshot() {
+        shared = true;
+        return new IntArrayList(values, size, true);
+    }
+
+    /**
+     * Get a copy of the list elements.
+     *
+     * @return {@code int[]} array
+     */
+    public int[] toIntArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public Integer get(int index) {
+        Objects.checkIndex(index, size);
+        return values[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException if the element is {@code null}
+     */
+    @Override
+    public Integer set(int index, Integer element) {
+        Objects.checkIndex(index, size);
+        int value = requireNonNull(element);
+        ensureExclusive(values.length);
+        int previous = values[index];
+        values[index] = value;
+        return previous;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException if the element is {@code null}
+     */
+    @Override
+    public void add(int index, Integer element) {
+        Objects.checkIndex(index, size + 1);
+        int value = requireNonNull(element);
+        ensureExclusive(size + 1);
+        System.arraycopy(values, index, values, index + 1, size - index);
+        values[index] = value;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public Integer remove(int index) {
+        Objects.checkIndex(index, size);
+        ensureExclusive(values.length);
+        int previous = values[index];
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        ensureExclusive(values.length);
+        System.arraycopy(values, toIndex, values, fromIndex, size - toIndex);
+        size -= toIndex - fromIndex;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (o instanceof Integer) {
+            int value = (Integer) o;
+            for (int i = 0; i < size; i++) {
+                if (values[i] == value) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof IntArrayList) {
+            IntArrayList that = (IntArrayList) o;
+            return Arrays.equals(values, 0, size, that.values, 0, that.size);
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (int i = 0; i < size; i++) {
+            hashCode = 31 * hashCode + Integer.hashCode(values[i]);
+        }
+        return hashCode;
+    }
+
+    private static Integer requireNonNull(Integer element) {
+        return Objects.requireNonNull(
+            element,
+            "The IntArrayList doesn't permit null elements. Set a new ArrayList on the entity attribute to store null elements."
+        );
+    }
+
+    private void ensureExclusive(int capacity) {
+        if (shared || capacity > values.length) {
+            values = Arrays.copyOf(values, Math.max(capacity, shared ? size : size + (size >> 1) + 1));
+            shared = false;
+        }
+    }
+}
@@ -11,11 +11,17 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.WildcardType;
 import java.math.BigDecimal;
+import java.sql.Array;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 
 /**
+ * The {@code List<Long>} and {@code List<Integer>} properties are loaded as {@link LongArrayList}
+ * and {@link IntArrayList} instances, which store the elements in a primitive array, unless the
+ * loaded array contains {@code null} elements. Adding a {@code null} element to such a list throws
+ * a {@link NullPointerException}, so a new {@link ArrayList} must be set on the entity attribute instead.
+ *
  * @author Vlad Mihalcea
  */
 public class ListArrayTypeDescriptor extends AbstractArrayTypeDescriptor<Collection> {
@@ -32,7 +38,11 @@ public class ListArrayTypeDescriptor extends AbstractArrayTypeDescriptor<Collect
         super(Collection.class, new MutableMutabilityPlan<>() {
             @Override
             protected Collection deepCopyNotNull(Collection value) {
-                if (value instanceof SortedSet) {
+                if (value instanceof LongArrayList) {
+                    return ((LongArrayList) value).snapshot();
+                } else if (value instanceof IntArrayList) {
+                    return ((IntArrayList) value).snapshot();
+                } else if (value instanceof SortedSet) {
                     Object[] array = ((SortedSet<Object>) value).toArray();
                     return ArrayUtil.asSortedSet(ArrayUtil.deepCopy(array));
                 } else if (value instanceof Set) {
@@ -65,14 +75,30 @@ public class ListArrayTypeDescriptor extends AbstractArrayTypeDescriptor<Collect
         return super.unwrap(value, type, options);
     }
 
+    @Override
+    public Collection fromString(CharSequence string) {
+        Object array = fromString(string, (Class<?>) getArrayObjectClass());
+        return wrap(array, null);
+    }
+
     @Override
     public Collection wrap(Object value, WrapperOptions options) {
+        if (value instanceof Array) {
+            Collection primitiveList = newPrimitiveListInstance((Array) value);
+            if (primitiveList != null) {
+                return primitiveList;
+            }
+        }
         Object wrappedObject = super.wrap(value, options);
         Collection list = null;
         if (wrappedObject != null) {
             list = newPropertyCollectionInstance();
             if (wrappedObject instanceof Object[]) {
                 Object[] wrappedArray = (Object[]) wrappedObject;
+                Collection primitiveList = newPrimitiveListInstance(wrappedArray);
+                if (primitiveList != null) {
+                    return primitiveList;
+                }
                 Collections.addAll(list, wrappedArray);
             } else {
                 throw new UnsupportedOperationException("The wrapped object " + value + " is not an Object[]!");
@@ -89,6 +115,10 @@ public class ListArrayTypeDescriptor extends AbstractArrayTypeDescriptor<Collect
         if (one == null || another == null) {
             return false;
         }
+        if ((one instanceof LongArrayList && another instanceof LongArrayList) ||
+            (one instanceof IntArrayList && another instanceof IntArrayList)) {
+            return one.equals(another);
+        }
         return ArrayUtil.isEquals(one.toArray(), another.toArray());
     }
 
@@ -111,6 +141,7 @@ public class ListArrayTypeDescriptor extends AbstractArrayTypeDescriptor<Collect
                     ArrayUtil.toArrayClass(arrayElementClass)
             );
             sqlArrayType = parameters.getProperty(AbstractArrayType.SQL_ARRAY_TYPE);
+            setIncrementalUpdate(Boolean.parseBoolean(parameters.getProperty(AbstractArrayType.INCREMENTAL_UPDATE)));
             if (sqlArrayType == null) {
                 if (Integer.class.isAssignableFrom(arrayElementClass)) {
                     sqlArrayType = "integer";
@@ -141,6 +172,36 @@ public class ListArrayTypeDescriptor extends AbstractArrayTypeDescriptor<Collect
         }
     }
 
+    /**
+     * Decode the PostgreSQL array right into the {@code long[]} or {@code int[]} array backing the
+     * {@link LongArrayList} or {@link IntArrayList}, so that no boxed array is created.
+     */
+    private Collection newPrimitiveListInstance(Array array) {
+        if (propertyClass != null && !propertyClass.isAssignableFrom(List.class)) {
+            return null;
+        }
+        if (Long[].class.equals(getArrayObjectClass())) {
+            long[] values = PostgreSQLArraySupport.toNonNullPrimitiveArray(array, long[].class);
+            return values != null ? LongArrayList.of(values) : null;
+        } else if (Integer[].class.equals(getArrayObjectClass())) {
+            int[] values = PostgreSQLArraySupport.toNonNullPrimitiveArray(array, int[].class);
+            return values != null ? IntArrayList.of(values) : null;
+        }
+        return null;
+    }
+
+    private Collection newPrimitiveListInstance(Object[] array) {
+        if (propertyClass != null && !propertyClass.isAssignableFrom(List.class)) {
+            return null;
+        }
+        if (array instanceof Long[]) {
+            return LongArrayList.of(array);
+        } else if (array instanceof Integer[]) {
+            return IntArrayList.of(array);
+        }
+        return null;
+    }
+
     private Collection newPropertyCollectionInstance() {
         if (propertyClass == null || List.class.isAssignableFrom(propertyClass)) {
             return new ArrayList();
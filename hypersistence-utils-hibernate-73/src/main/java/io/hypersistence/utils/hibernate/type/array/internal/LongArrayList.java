@@ -0,0 +1,199 @@
+package io.hypersistence.utils.hibernate.type.array.internal;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * The {@link LongArrayList} is a {@link java.util.List} of {@link Long} elements backed by a {@code long[]} array,
+ * so that the elements are not stored as {@link Long} objects.
+ * <p>
+ * The {@link #snapshot()} copies are copy-on-write, so the backing array is shared until either list is changed.
+ * The {@code null} elements are not permitted, so adding or setting a {@code null} element throws
+ * a {@link NullPointerException}. To store {@code null} elements, set a new {@link java.util.ArrayList}
+ * on the entity attribute instead.
+ *
+ * @author Vlad Mihalcea
+ */
+public final class LongArrayList extends AbstractList<Long> implements RandomAccess, Serializable {
+
+    private long[] values;
+
+    private int size;
+
+    private transient boolean shared;
+
+    public LongArrayList() {
+        this(new long[0], 0, false);
+    }
+
+    public LongArrayList(long[] values) {
+        this(values.clone(), values.length, false);
+    }
+
+    private LongArrayList(long[] values, int size, boolean shared) {
+        this.values = values;
+        this.size = size;
+        this.shared = shared;
+    }
+
+    /**
+     * Create a {@link LongArrayList} from the given boxed array.
+     *
+     * @param array boxed array
+     * @return {@link LongArrayList}, or {@code null} if the array contains {@code null} elements
+     */
+    public static LongArrayList of(Object[] array) {
+        long[] values = new long[array.length];
+        for (int i = 0; i < array.length; i++) {
+            Object value = array[i];
+            if (value == null) {
+                return null;
+            }
+            values[i] = ((Number) value).longValue();
+        }
+        return new LongArrayList(values, values.length, false);
+    }
+
+    /**
+     * Create a {@link LongArrayList} backed by the given array, without copying it.
+     *
+     * @param values backing array
+     * @return {@link LongArrayList}
+     */
+    static LongArrayList of(long[] values) {
+        return new LongArrayList(values, values.length, false);
+    }
+
+    /**
+     * Create a copy that shares the backing array with this list until either of them is changed.
+     *
+     * @return list snapshot
+     */
+    public LongArrayList snapshot() {
+        shared = true;
+        return new LongArrayList(values, size, true);
+    }
+
+    /**
+     * Get a copy of the list elements.
+     *
+     * @return {@code long[]} array
+     */
+    public long[] toLongArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public Long get(int index) {
+        Objects.checkIndex(index, size);
+        return values[index];
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException if the element is {@code null}
+     */
+    @Override
+    public Long set(int index, Long element) {
+        Objects.checkIndex(index, size);
+        long value = requireNonNull(element);
+        ensureExclusive(values.length);
+        long previous = values[index];
+        values[index] = value;
+        return previous;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException if the element is {@code null}
+     */
+    @Override
+    public void add(int index, Long element) {
+        Objects.checkIndex(index, size + 1);
+        long value = requireNonNull(element);
+        ensureExclusive(size + 1);
+        System.arraycopy(values, index, values, index + 1, size - index);
+        values[index] = value;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public Long remove(int index) {
+        Objects.checkIndex(index, size);
+        ensureExclusive(values.length);
+        long previous = values[index];
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        ensureExclusive(values.length);
+        System.arraycopy(values, toIndex, values, fromIndex, size - toIndex);
+        size -= toIndex - fromIndex;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (o instanceof Long) {
+            long value = (Long) o;
+            for (int i = 0; i < size; i++) {
+                if (values[i] == value) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof LongArrayList) {
+            LongArrayList that = (LongArrayList) o;
+            return Arrays.equals(values, 0, size, that.values, 0, that.size);
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (int i = 0; i < size; i++) {
+            hashCode = 31 * hashCode + Long.hashCode(values[i]);
+        }
+        return hashCode;
+    }
+
+    private static Long requireNonNull(Long element) {
+        return Objects.requireNonNull(
+            element,
+            "The LongArrayList doesn't permit null elements. Set a new ArrayList on the entity attribute to store null elements."
+        );
+    }
+
+    private void ensureExclusive(int capacity) {
+        if (shared || capacity > values.length) {
+            values = Arrays.copyOf(values, Math.max(capacity, shared ? size : size + (size >> 1) + 1));
+            shared = false;
+        }
+    }
+}
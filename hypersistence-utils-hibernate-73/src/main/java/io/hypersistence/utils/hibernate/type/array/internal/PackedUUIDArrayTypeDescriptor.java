@@ -0,0 +1,103 @@
+package io.hypersistence.utils.hibernate.type.array.internal;
+
+import io.hypersistence.utils.hibernate.type.array.PackedUUIDArray;
+import org.hibernate.HibernateException;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.AbstractClassJavaType;
+import org.hibernate.type.descriptor.java.ImmutableMutabilityPlan;
+
+import java.sql.Array;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class PackedUUIDArrayTypeDescriptor extends AbstractClassJavaType<PackedUUIDArray> {
+
+    public PackedUUIDArrayTypeDescriptor() {
+        super(PackedUUIDArray.class, ImmutableMutabilityPlan.instance());
+    }
+
+    public String getSqlArrayType() {
+        return "uuid";
+    }
+
+    @Override
+    public boolean areEqual(PackedUUIDArray one, PackedUUIDArray another) {
+        if (one == another) {
+            return true;
+        }
+        if (one == null || another == null) {
+            return false;
+        }
+        return one.equals(another);
+    }
+
+    @Override
+    public String toString(PackedUUIDArray value) {
+        return PostgreSQLArraySupport.formatPackedUUIDArray(value);
+    }
+
+    @Override
+    public PackedUUIDArray fromString(CharSequence string) {
+        return PostgreSQLArraySupport.parsePackedUUIDArray(string.toString());
+    }
+
+    @SuppressWarnings({"unchecked"})
+    @Override
+    public <X> X unwrap(PackedUUIDArray value, Class<X> type, WrapperOptions options) {
+        if (value == null) {
+            return null;
+        }
+        if (PackedUUIDArray.class.isAssignableFrom(type)) {
+            return (X) value;
+        }
+        if (String.class.isAssignableFrom(type)) {
+            return (X) toString(value);
+        }
+        if (Object[].class.isAssignableFrom(type)) {
+            return (X) value.toArray();
+        }
+        throw unknownUnwrap(type);
+    }
+
+    @Override
+    public <X> PackedUUIDArray wrap(X value, WrapperOptions options) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof PackedUUIDArray) {
+            return (PackedUUIDArray) value;
+        }
+        if (value instanceof Array) {
+            Array array = (Array) value;
+            PackedUUIDArray uuids = PostgreSQLArraySupport.toPackedUUIDArray(array);
+            if (uuids != null) {
+                return uuids;
+            }
+            try {
+                return wrap(array.getArray(), options);
+            } catch (SQLException e) {
+                throw new HibernateException(
+                    new IllegalArgumentException(e)
+                );
+            }
+        }
+        if (value instanceof UUID[]) {
+            return PackedUUIDArray.of((UUID[]) value);
+        }
+        if (value instanceof Object[]) {
+            Object[] values = (Object[]) value;
+            UUID[] uuids = new UUID[values.length];
+            for (int i = 0; i < values.length; i++) {
+                uuids[i] = values[i] instanceof UUID ? (UUID) values[i] : UUID.fromString(String.valueOf(values[i]));
+            }
+            return PackedUUIDArray.of(uuids);
+        }
+        if (value instanceof String) {
+            return fromString((String) value);
+        }
+        throw unknownWrap(value.getClass());
+    }
+}
@@ -0,0 +1,534 @@
+package io.hypersistence.utils.hibernate.type.array.internal;
+
+import io.hypersistence.utils.hibernate.type.array.DoubleMatrix;
+import io.hypersistence.utils.hibernate.type.array.PackedUUIDArray;
+import io.hypersistence.utils.hibernate.type.util.EnumCodec;
+import org.postgresql.PGConnection;
+import org.postgresql.core.BaseConnection;
+import org.postgresql.jdbc.PgArray;
+import org.postgresql.jdbc.PreferQueryMode;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * The {@link PostgreSQLArraySupport} binds and extracts one-dimensional {@code int[]}, {@code long[]},
+ * {@code float[]} and {@code double[]} arrays without boxing every element into a wrapper object.
+ * <p>
+ * On bind, the primitive array is handed to the PostgreSQL JDBC Driver, which encodes it directly.
+ * On extract, the array literal is parsed right into the primitive array.
+ * <p>
+ * When the connection uses the binary transfer for the array type, the {@link PostgreSQLBinaryArrayCodec}
+ * encodes and decodes the binary array format directly, which also covers the multidimensional arrays,
+ * as well as the {@link UUID}, {@link LocalDate} and {@link LocalDateTime} arrays.
+ * <p>
+ * The PostgreSQL JDBC Driver is only used if it's visible to the class loader of this class, since that's
+ * the class loader the PostgreSQL JDBC Driver classes referenced by this class are resolved with.
+ *
+ * @author Vlad Mihalcea
+ */
+public class PostgreSQLArraySupport {
+
+    private static final boolean DRIVER_AVAILABLE = isDriverAvailable();
+
+    private static final String NULL = "NULL";
+
+    private PostgreSQLArraySupport() {
+        throw new UnsupportedOperationException("PostgreSQLArraySupport is not instantiable!");
+    }
+
+    private static boolean isDriverAvailable() {
+        try {
+            Class.forName("org.postgresql.jdbc.PgArray", false, PostgreSQLArraySupport.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Is the given array class supported by the primitive array fast path?
+     *
+     * @param arrayClass array class
+     * @return {@code true} if the array class is supported
+     */
+    public static boolean isPrimitiveArrayClass(Class<?> arrayClass) {
+        return int[].class.equals(arrayClass) ||
+            long[].class.equals(arrayClass) ||
+            float[].class.equals(arrayClass) ||
+            double[].class.equals(arrayClass);
+    }
+
+    /**
+     * Create a PostgreSQL {@link Array} from the given primitive array, without boxing its elements.
+     *
+     * @param connection JDBC connection
+     * @param sqlArrayType SQL array element type
+     * @param primitiveArray primitive array
+     * @return PostgreSQL {@link Array}, or {@code null} if the connection is not a PostgreSQL one
+     * @throws SQLException if the array could not be created
+     */
+    public static Array createArrayOf(Connection connection, String sqlArrayType, Object primitiveArray) throws SQLException {
+        if (!DRIVER_AVAILABLE || !isPrimitiveArrayClass(primitiveArray.getClass()) ||
+            !connection.isWrapperFor(PGConnection.class)) {
+            return null;
+        }
+        return connection.unwrap(PGConnection.class).createArrayOf(sqlArrayType, primitiveArray);
+    }
+
+    /**
+     * Create a PostgreSQL binary {@link Array} from the given array, if the connection uses
+     * the binary transfer for the given array type.
+     *
+     * @param connection JDBC connection
+     * @param sqlArrayType SQL array element type
+     * @param array Java array
+     * @return PostgreSQL binary {@link Array}, or {@code null} if the binary transfer cannot be used
+     * @throws SQLException if the array could not be created
+     */
+    public static Array createBinaryArrayOf(Connection connection, String sqlArrayType, Object array) throws SQLException {
+        if (!DRIVER_AVAILABLE || !isBinaryArrayClass(array.getClass()) ||
+            !connection.isWrapperFor(BaseConnection.class)) {
+            return null;
+        }
+        BaseConnection baseConnection = connection.unwrap(BaseConnection.class);
+        if (!supportsBinaryParameters(baseConnection)) {
+            return null;
+        }
+        int arrayOid = baseConnection.getTypeInfo().getPGArrayType(sqlArrayType);
+        if (arrayOid == 0 || !baseConnection.binaryTransferSend(arrayOid)) {
+            return null;
+        }
+        byte[] bytes = PostgreSQLBinaryArrayCodec.encode(
+            array,
+            baseConnection.getTypeInfo().getPGType(sqlArrayType)
+        );
+        return bytes != null ? new PgArray(baseConnection, arrayOid, bytes) : null;
+    }
+
+    /**
+     * Extract the Java array from the given PostgreSQL {@link Array}, either by decoding the binary array format,
+     * or by parsing the one-dimensional primitive array literal.
+     *
+     * @param array JDBC array
+     * @param arrayClass Java array class
+     * @param <T> Java array type
+     * @return Java array, or {@code null} if the array cannot be extracted without the default JDBC conversion
+     */
+    public static <T> T toArray(Array array, Class<T> arrayClass) {
+        if (!DRIVER_AVAILABLE || !(array instanceof PgArray)) {
+            return null;
+        }
+        PgArray pgArray = (PgArray) array;
+        if (pgArray.isBinary()) {
+            return PostgreSQLBinaryArrayCodec.decode(pgArray.toBytes(), arrayClass);
+        }
+        return toPrimitiveArray(array, arrayClass);
+    }
+
+    /**
+     * Create a PostgreSQL binary {@code uuid[]} {@link Array} from the given {@code UUID[]} array or
+     * {@link PackedUUIDArray}, so that no {@link UUID} is formatted as a {@link String}. Unlike the other
+     * array types, the binary format is used even if the connection does not use the binary transfer
+     * for the {@code uuid[]} type, since PostgreSQL can always receive the binary {@code uuid[]} parameters.
+     *
+     * @param connection JDBC connection
+     * @param sqlArrayType SQL array element type
+     * @param array {@code UUID[]} array or {@link PackedUUIDArray}
+     * @return PostgreSQL binary {@link Array}, or {@code null} if the array is not a {@code uuid} array
+     * or the connection uses the simple query mode
+     * @throws SQLException if the array could not be created
+     */
+    public static Array createUUIDArrayOf(Connection connection, String sqlArrayType, Object array) throws SQLException {
+        if (!DRIVER_AVAILABLE || !"uuid".equalsIgnoreCase(sqlArrayType) ||
+            !(array instanceof UUID[] || array instanceof PackedUUIDArray) ||
+            !connection.isWrapperFor(BaseConnection.class)) {
+            return null;
+        }
+        BaseConnection baseConnection = connection.unwrap(BaseConnection.class);
+        if (!supportsBinaryParameters(baseConnection)) {
+            return null;
+        }
+        byte[] bytes = array instanceof PackedUUIDArray ?
+            PostgreSQLBinaryArrayCodec.encode((PackedUUIDArray) array) :
+            PostgreSQLBinaryArrayCodec.encode(array, PostgreSQLBinaryArrayCodec.UUID_OID);
+        return bytes != null ?
+            new PgArray(baseConnection, PostgreSQLBinaryArrayCodec.UUID_ARRAY_OID, bytes) :
+            null;
+    }
+
+    /**
+     * Extract the one-dimensional {@code UUID[]} array from the given PostgreSQL text {@link Array},
+     * parsing the {@link UUID} elements right from the array literal.
+     *
+     * @param array JDBC array
+     * @return {@code UUID[]} array, or {@code null} if the array is not a one-dimensional PostgreSQL text array
+     */
+    public static UUID[] toUUIDArray(Array array) {
+        if (!DRIVER_AVAILABLE || !(array instanceof PgArray) || ((PgArray) array).isBinary()) {
+            return null;
+        }
+        return parsePrimitiveArray(array.toString(), UUID[].class);
+    }
+
+    /**
+     * Extract the {@link PackedUUIDArray} from the given PostgreSQL {@link Array}, without creating
+     * a {@link UUID} object for each element.
+     *
+     * @param array JDBC array
+     * @return {@link PackedUUIDArray}, or {@code null} if the array is not a one-dimensional PostgreSQL array
+     */
+    public static PackedUUIDArray toPackedUUIDArray(Array array) {
+        if (!DRIVER_AVAILABLE || !(array instanceof PgArray)) {
+            return null;
+        }
+        PgArray pgArray = (PgArray) array;
+        if (pgArray.isBinary()) {
+            return PostgreSQLBinaryArrayCodec.decodePackedUUIDArray(pgArray.toBytes());
+        }
+        String literal = pgArray.toString();
+        if (literal.indexOf('{', 1) >= 0) {
+            return null;
+        }
+        return parsePackedUUIDArray(literal);
+    }
+
+    /**
+     * Parse the given one-dimensional array literal into a {@link PackedUUIDArray}.
+     *
+     * @param literal array literal
+     * @return {@link PackedUUIDArray}
+     * @throws IllegalArgumentException if the array contains {@code NULL} elements
+     */
+    public static PackedUUIDArray parsePackedUUIDArray(String literal) {
+        ArrayLiteralTokenizer tokenizer = new ArrayLiteralTokenizer(literal);
+        PackedUUIDArray.Builder builder = new PackedUUIDArray.Builder(8);
+        long[] bits = new long[2];
+        while (tokenizer.next()) {
+            if (!tokenizer.getUUIDBits(bits, 0)) {
+                throw new IllegalArgumentException("The PackedUUIDArray does not support null elements!");
+            }
+            builder.add(bits[0], bits[1]);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Format the given {@link PackedUUIDArray} as a PostgreSQL array literal.
+     *
+     * @param uuids {@link PackedUUIDArray}
+     * @return PostgreSQL array literal
+     */
+    public static String formatPackedUUIDArray(PackedUUIDArray uuids) {
+        StringBuilder builder = new StringBuilder(uuids.size() * 37 + 2).append('{');
+        for (int i = 0; i < uuids.size(); i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(uuids.get(i));
+        }
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Create a PostgreSQL {@link Array} from the given one-dimensional {@link Enum} array, using the constant names
+     * instead of the {@link Enum#toString()} values the JDBC driver would use for the {@link Object} elements.
+     *
+     * @param connection JDBC connection
+     * @param sqlArrayType SQL enum type
+     * @param array Java array
+     * @return PostgreSQL {@link Array}, or {@code null} if the array is not a one-dimensional {@link Enum} array
+     * @throws SQLException if the array could not be created
+     */
+    public static Array createEnumArrayOf(Connection connection, String sqlArrayType, Object array) throws SQLException {
+        if (!DRIVER_AVAILABLE || !(array instanceof Enum[]) || sqlArrayType == null ||
+            !connection.isWrapperFor(BaseConnection.class)) {
+            return null;
+        }
+        BaseConnection baseConnection = connection.unwrap(BaseConnection.class);
+        int arrayOid = baseConnection.getTypeInfo().getPGArrayType(sqlArrayType);
+        if (arrayOid == 0) {
+            return null;
+        }
+        return new PgArray(baseConnection, arrayOid, formatEnumArray((Enum[]) array));
+    }
+
+    /**
+     * Extract the one-dimensional {@link Enum} array from the given PostgreSQL {@link Array}, resolving the
+     * {@link Enum} constants right from the array literal.
+     *
+     * @param array JDBC array
+     * @param arrayClass {@link Enum} array class
+     * @param <T> {@link Enum} array type
+     * @return {@link Enum} array, or {@code null} if the array is not a one-dimensional PostgreSQL text array
+     */
+    public static <T> T toEnumArray(Array array, Class<T> arrayClass) {
+        if (!DRIVER_AVAILABLE || !(array instanceof PgArray) || !Enum[].class.isAssignableFrom(arrayClass) ||
+            arrayClass.getComponentType() == Enum.class) {
+            return null;
+        }
+        PgArray pgArray = (PgArray) array;
+        if (pgArray.isBinary()) {
+            return null;
+        }
+        return parsePrimitiveArray(pgArray.toString(), arrayClass);
+    }
+
+    /**
+     * Format the given {@link Enum} array as a PostgreSQL array literal.
+     *
+     * @param array {@link Enum} array
+     * @return PostgreSQL array literal
+     */
+    static String formatEnumArray(Enum[] array) {
+        StringBuilder builder = new StringBuilder(array.length * 16 + 2).append('{');
+        for (int i = 0; i < array.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            Enum value = array[i];
+            if (value == null) {
+                builder.append(NULL);
+            } else {
+                builder.append('"').append(value.name()).append('"');
+            }
+        }
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Create a PostgreSQL {@link Array} from the given {@link DoubleMatrix}, without creating the nested Java arrays.
+     * The binary array format is used if the connection uses the binary transfer for the array type
+     * and the extended query protocol, and the text array format otherwise.
+     *
+     * @param connection JDBC connection
+     * @param sqlArrayType SQL array element type
+     * @param matrix {@link DoubleMatrix}
+     * @return PostgreSQL {@link Array}, or {@code null} if the connection is not a PostgreSQL one
+     * @throws SQLException if the array could not be created
+     */
+    public static Array createArrayOf(Connection connection, String sqlArrayType, DoubleMatrix matrix) throws SQLException {
+        if (!DRIVER_AVAILABLE || !connection.isWrapperFor(BaseConnection.class)) {
+            return null;
+        }
+        BaseConnection baseConnection = connection.unwrap(BaseConnection.class);
+        int arrayOid = baseConnection.getTypeInfo().getPGArrayType(sqlArrayType);
+        if (arrayOid == 0) {
+            return null;
+        }
+        if (supportsBinaryParameters(baseConnection) && baseConnection.binaryTransferSend(arrayOid) &&
+            baseConnection.getTypeInfo().getPGType(sqlArrayType) == PostgreSQLBinaryArrayCodec.FLOAT8_OID) {
+            return new PgArray(baseConnection, arrayOid, PostgreSQLBinaryArrayCodec.encode(matrix));
+        }
+        return new PgArray(baseConnection, arrayOid, formatDoubleMatrix(matrix));
+    }
+
+    /**
+     * Extract the {@link DoubleMatrix} from the given PostgreSQL {@link Array}, without creating the nested Java arrays.
+     *
+     * @param array JDBC array
+     * @return {@link DoubleMatrix}, or {@code null} if the array is not a PostgreSQL array
+     */
+    public static DoubleMatrix toDoubleMatrix(Array array) {
+        if (!DRIVER_AVAILABLE || !(array instanceof PgArray)) {
+            return null;
+        }
+        PgArray pgArray = (PgArray) array;
+        if (pgArray.isBinary()) {
+            return PostgreSQLBinaryArrayCodec.decodeDoubleMatrix(pgArray.toBytes());
+        }
+        return parseDoubleMatrix(pgArray.toString());
+    }
+
+    /**
+     * Format the given {@link DoubleMatrix} as a PostgreSQL array literal (e.g., {@code {{1.0,2.0},{3.0,4.0}}}).
+     *
+     * @param matrix {@link DoubleMatrix}
+     * @return PostgreSQL array literal
+     */
+    public static String formatDoubleMatrix(DoubleMatrix matrix) {
+        double[] values = matrix.getValues();
+        if (values.length == 0) {
+            return "{}";
+        }
+        int[] shape = matrix.getShape();
+        StringBuilder builder = new StringBuilder(values.length * 8);
+        int[] indices = new int[shape.length];
+        for (int i = 0; i < shape.length; i++) {
+            builder.append('{');
+        }
+        for (int offset = 0; offset < values.length; offset++) {
+            builder.append(values[offset]);
+            int dimension = shape.length - 1;
+            while (dimension >= 0 && ++indices[dimension] == shape[dimension]) {
+                indices[dimension--] = 0;
+                builder.append('}');
+            }
+            if (dimension >= 0) {
+                builder.append(',');
+                for (int i = dimension + 1; i < shape.length; i++) {
+                    builder.append('{');
+                }
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Parse the given PostgreSQL array literal (e.g., {@code {{1,2},{3,4}}}) into a {@link DoubleMatrix}.
+     * The {@code NULL} elements are mapped to {@code 0}.
+     *
+     * @param literal PostgreSQL array literal
+     * @return {@link DoubleMatrix}
+     */
+    public static DoubleMatrix parseDoubleMatrix(String literal) {
+        int start = literal.indexOf('{');
+        if (start < 0) {
+            throw new IllegalArgumentException("The [" + literal + "] value is not a valid array literal!");
+        }
+        int dimensions = 0;
+        while (start + dimensions < literal.length() && literal.charAt(start + dimensions) == '{') {
+            dimensions++;
+        }
+        if (literal.charAt(start + dimensions) == '}') {
+            return new DoubleMatrix(new double[0], 0);
+        }
+        int[] shape = new int[dimensions];
+        int[] counts = new int[dimensions];
+        double[] values = new double[16];
+        int length = 0;
+        int depth = 0;
+        int tokenStart = -1;
+        for (int i = start; i < literal.length(); i++) {
+            char c = literal.charAt(i);
+            if (c == '{') {
+                depth++;
+                counts[depth - 1] = 0;
+            } else if (c == ',' || c == '}') {
+                if (tokenStart >= 0) {
+                    if (length == values.length) {
+                        values = Arrays.copyOf(values, length * 2);
+                    }
+                    values[length++] = parseDouble(literal, tokenStart, i);
+                    tokenStart = -1;
+                    counts[depth - 1]++;
+                }
+                if (c == '}') {
+                    int count = counts[depth - 1];
+                    if (shape[depth - 1] == 0) {
+                        shape[depth - 1] = count;
+                    } else if (shape[depth - 1] != count) {
+                        throw new IllegalArgumentException("The [" + literal + "] array is not rectangular!");
+                    }
+                    depth--;
+                    if (depth == 0) {
+                        break;
+                    }
+                    counts[depth - 1]++;
+                }
+            } else if (tokenStart < 0 && !Character.isWhitespace(c)) {
+                tokenStart = i;
+            }
+        }
+        return new DoubleMatrix(length == values.length ? values : Arrays.copyOf(values, length), shape);
+    }
+
+    private static double parseDouble(String literal, int start, int end) {
+        while (end > start && Character.isWhitespace(literal.charAt(end - 1))) {
+            end--;
+        }
+        if (end - start == NULL.length() && literal.regionMatches(start, NULL, 0, NULL.length())) {
+            return 0;
+        }
+        return Double.parseDouble(literal.substring(start, end));
+    }
+
+    /**
+     * Can the binary arrays be bound on the given connection? In the simple query mode, the PostgreSQL JDBC Driver
+     * inlines the parameters into the SQL statement, so the arrays must use the text format.
+     *
+     * @param connection PostgreSQL connection
+     * @return {@code true} if the binary arrays can be bound
+     */
+    private static boolean supportsBinaryParameters(BaseConnection connection) {
+        return connection.getPreferQueryMode() != PreferQueryMode.SIMPLE;
+    }
+
+    private static boolean isBinaryArrayClass(Class<?> arrayClass) {
+        Class<?> elementClass = arrayClass;
+        while (elementClass.isArray()) {
+            elementClass = elementClass.getComponentType();
+        }
+        return elementClass.isPrimitive() ||
+            UUID.class.equals(elementClass) ||
+            LocalDate.class.equals(elementClass) ||
+            LocalDateTime.class.equals(elementClass);
+    }
+
+    /**
+     * Extract the primitive array from the given PostgreSQL {@link Array}, without boxing its elements.
+     *
+     * @param array JDBC array
+     * @param arrayClass primitive array class
+     * @param <T> primitive array type
+     * @return primitive array, or {@code null} if the array is not a one-dimensional PostgreSQL text array
+     */
+    public static <T> T toPrimitiveArray(Array array, Class<T> arrayClass) {
+        if (!DRIVER_AVAILABLE || !isPrimitiveArrayClass(arrayClass) || !(array instanceof PgArray)) {
+            return null;
+        }
+        PgArray pgArray = (PgArray) array;
+        if (pgArray.isBinary()) {
+            return null;
+        }
+        return parsePrimitiveArray(pgArray.toString(), arrayClass);
+    }
+
+    /**
+     * Extract the one-dimensional primitive array from the given PostgreSQL {@link Array}, either by decoding
+     * the binary array format, or by parsing the array literal, unless the array contains {@code NULL} elements.
+     *
+     * @param array JDBC array
+     * @param arrayClass primitive array class
+     * @param <T> primitive array type
+     * @return primitive array, or {@code null} if the array contains {@code NULL} elements
+     * or if it cannot be extracted without the default JDBC conversion
+     */
+    public static <T> T toNonNullPrimitiveArray(Array array, Class<T> arrayClass) {
+        if (!DRIVER_AVAILABLE || !isPrimitiveArrayClass(arrayClass) || !(array instanceof PgArray)) {
+            return null;
+        }
+        PgArray pgArray = (PgArray) array;
+        if (pgArray.isBinary()) {
+            byte[] bytes = pgArray.toBytes();
+            return PostgreSQLBinaryArrayCodec.hasNullElements(bytes) ? null :
+                PostgreSQLBinaryArrayCodec.decode(bytes, arrayClass);
+        }
+        String literal = pgArray.toString();
+        return isOneDimensionalLiteral(literal) ? ArrayLiteralTokenizer.parseNonNull(literal, arrayClass) : null;
+    }
+
+    /**
+     * Parse the given one-dimensional PostgreSQL array literal (e.g., {@code {1,2,NULL}})
+     * into a primitive or {@link Enum} array. The {@code NULL} elements are mapped to {@code 0} for the primitive arrays.
+     *
+     * @param literal PostgreSQL array literal
+     * @param arrayClass primitive array class
+     * @param <T> primitive array type
+     * @return primitive array, or {@code null} if the literal is not a one-dimensional array
+     */
+    static <T> T parsePrimitiveArray(String literal, Class<T> arrayClass) {
+        return isOneDimensionalLiteral(literal) ? ArrayLiteralTokenizer.parse(literal, arrayClass) : null;
+    }
+
+    private static boolean isOneDimensionalLiteral(String literal) {
+        int end = literal.length() - 1;
+        return end >= 1 && literal.charAt(0) == '{' && literal.charAt(end) == '}' &&
+            literal.indexOf('{', 1) < 0;
+    }
+}
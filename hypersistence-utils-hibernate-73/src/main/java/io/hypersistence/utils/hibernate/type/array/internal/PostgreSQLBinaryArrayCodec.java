@@ -0,0 +1,589 @@
+package io.hypersistence.utils.hibernate.type.array.internal;
+
+import io.hypersistence.utils.hibernate.type.array.DoubleMatrix;
+import io.hypersistence.utils.hibernate.type.array.PackedUUIDArray;
+
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The {@link PostgreSQLBinaryArrayCodec} reads and writes the PostgreSQL binary array format,
+ * which is made of a header (number of dimensions, null bitmap flag, element type OID),
+ * the size and lower bound of each dimension, and the length-prefixed elements in row-major order.
+ * <p>
+ * The elements are decoded right into the target Java array, so that {@code int[]}, {@code long[]},
+ * {@code float[]}, {@code double[]} and their multidimensional variants don't need a boxed intermediary array.
+ * Besides the primitive types, {@link UUID}, {@link LocalDate}, {@link LocalDateTime} and {@link String}
+ * elements are supported.
+ * <p>
+ * The {@code infinity} and {@code -infinity} {@code date} and {@code timestamp} values cannot be represented by
+ * {@link LocalDate} and {@link LocalDateTime}, so such arrays are not decoded, and the default JDBC conversion is
+ * used instead.
+ *
+ * @author Vlad Mihalcea
+ */
+public class PostgreSQLBinaryArrayCodec {
+
+    public static final int BOOL_OID = 16;
+    public static final int INT8_OID = 20;
+    public static final int INT2_OID = 21;
+    public static final int INT4_OID = 23;
+    public static final int TEXT_OID = 25;
+    public static final int FLOAT4_OID = 700;
+    public static final int FLOAT8_OID = 701;
+    public static final int BPCHAR_OID = 1042;
+    public static final int VARCHAR_OID = 1043;
+    public static final int DATE_OID = 1082;
+    public static final int TIMESTAMP_OID = 1114;
+    public static final int UUID_OID = 2950;
+    public static final int UUID_ARRAY_OID = 2951;
+
+    private static final LocalDate POSTGRESQL_EPOCH_DATE = LocalDate.of(2000, 1, 1);
+
+    private static final LocalDateTime POSTGRESQL_EPOCH = POSTGRESQL_EPOCH_DATE.atStartOfDay();
+
+    private static final int NULL_LENGTH = -1;
+
+    private static final Object INFINITY = new Object();
+
+    private PostgreSQLBinaryArrayCodec() {
+        throw new UnsupportedOperationException("PostgreSQLBinaryArrayCodec is not instantiable!");
+    }
+
+    /**
+     * Decode the PostgreSQL binary array into the given Java array type.
+     *
+     * @param bytes binary array
+     * @param arrayClass Java array class, which can be multidimensional
+     * @param <T> Java array type
+     * @return Java array, or {@code null} if the element type cannot be decoded into the given Java array type,
+     * or if the array contains {@code infinity} dates or timestamps
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T decode(byte[] bytes, Class<T> arrayClass) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int dimensions = buffer.getInt();
+        buffer.getInt();
+        int elementOid = buffer.getInt();
+
+        Class<?> elementClass = arrayClass;
+        int arrayClassDimensions = 0;
+        while (elementClass.isArray()) {
+            elementClass = elementClass.getComponentType();
+            arrayClassDimensions++;
+        }
+        if (!isDecodable(elementOid, elementClass)) {
+            return null;
+        }
+        if (dimensions == 0) {
+            return (T) Array.newInstance(arrayClass.getComponentType(), 0);
+        }
+        if (dimensions != arrayClassDimensions) {
+            return null;
+        }
+        int[] sizes = new int[dimensions];
+        for (int i = 0; i < dimensions; i++) {
+            sizes[i] = buffer.getInt();
+            buffer.getInt();
+        }
+        Object array = decode(buffer, arrayClass, sizes, 0, elementOid);
+        return array != INFINITY ? (T) array : null;
+    }
+
+    /**
+     * Does the PostgreSQL binary array contain {@code NULL} elements?
+     *
+     * @param bytes binary array
+     * @return {@code true} if the array has the {@code NULL} elements flag set
+     */
+    public static boolean hasNullElements(byte[] bytes) {
+        return ByteBuffer.wrap(bytes).getInt(4) != 0;
+    }
+
+    /**
+     * Decode the PostgreSQL binary {@code float8} or {@code float4} array into a {@link DoubleMatrix},
+     * without creating the nested Java arrays. The {@code NULL} elements are mapped to {@code 0}.
+     *
+     * @param bytes binary array
+     * @return {@link DoubleMatrix}, or {@code null} if the element type is not a floating-point one
+     */
+    public static DoubleMatrix decodeDoubleMatrix(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int dimensions = buffer.getInt();
+        buffer.getInt();
+        int elementOid = buffer.getInt();
+        if (elementOid != FLOAT8_OID && elementOid != FLOAT4_OID) {
+            return null;
+        }
+        if (dimensions == 0) {
+            return new DoubleMatrix(new double[0], 0);
+        }
+        int[] shape = new int[dimensions];
+        int length = 1;
+        for (int i = 0; i < dimensions; i++) {
+            shape[i] = buffer.getInt();
+            buffer.getInt();
+            length *= shape[i];
+        }
+        double[] values = new double[length];
+        for (int i = 0; i < length; i++) {
+            if (buffer.getInt() != NULL_LENGTH) {
+                values[i] = elementOid == FLOAT4_OID ? buffer.getFloat() : buffer.getDouble();
+            }
+        }
+        return new DoubleMatrix(values, shape);
+    }
+
+    /**
+     * Decode the PostgreSQL binary one-dimensional {@code uuid} array into a {@link PackedUUIDArray},
+     * without creating a {@link UUID} object for each element.
+     *
+     * @param bytes binary array
+     * @return {@link PackedUUIDArray}, or {@code null} if the array is not a one-dimensional {@code uuid} array
+     * @throws IllegalArgumentException if the array contains {@code NULL} elements
+     */
+    public static PackedUUIDArray decodePackedUUIDArray(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int dimensions = buffer.getInt();
+        buffer.getInt();
+        int elementOid = buffer.getInt();
+        if (elementOid != UUID_OID || dimensions > 1) {
+            return null;
+        }
+        if (dimensions == 0) {
+            return PackedUUIDArray.of();
+        }
+        int size = buffer.getInt();
+        buffer.getInt();
+        PackedUUIDArray.Builder builder = new PackedUUIDArray.Builder(size);
+        for (int i = 0; i < size; i++) {
+            if (buffer.getInt() == NULL_LENGTH) {
+                throw new IllegalArgumentException("The PackedUUIDArray does not support null elements!");
+            }
+            builder.add(buffer.getLong(), buffer.getLong());
+        }
+        return builder.build();
+    }
+
+    private static Object decode(ByteBuffer buffer, Class<?> arrayClass, int[] sizes, int dimension, int elementOid) {
+        int size = sizes[dimension];
+        if (dimension < sizes.length - 1) {
+            Object[] array = (Object[]) Array.newInstance(arrayClass.getComponentType(), size);
+            for (int i = 0; i < size; i++) {
+                Object subArray = decode(buffer, arrayClass.getComponentType(), sizes, dimension + 1, elementOid);
+                if (subArray == INFINITY) {
+                    return INFINITY;
+                }
+                array[i] = subArray;
+            }
+            return array;
+        }
+        if (int[].class.equals(arrayClass)) {
+            int[] array = new int[size];
+            for (int i = 0; i < size; i++) {
+                int length = buffer.getInt();
+                if (length != NULL_LENGTH) {
+                    array[i] = elementOid == INT2_OID ? buffer.getShort() : buffer.getInt();
+                }
+            }
+            return array;
+        }
+        if (long[].class.equals(arrayClass)) {
+            long[] array = new long[size];
+            for (int i = 0; i < size; i++) {
+                int length = buffer.getInt();
+                if (length != NULL_LENGTH) {
+                    array[i] = readLong(buffer, elementOid);
+                }
+            }
+            return array;
+        }
+        if (double[].class.equals(arrayClass)) {
+            double[] array = new double[size];
+            for (int i = 0; i < size; i++) {
+                int length = buffer.getInt();
+                if (length != NULL_LENGTH) {
+                    array[i] = elementOid == FLOAT4_OID ? buffer.getFloat() : buffer.getDouble();
+                }
+            }
+            return array;
+        }
+        if (float[].class.equals(arrayClass)) {
+            float[] array = new float[size];
+            for (int i = 0; i < size; i++) {
+                int length = buffer.getInt();
+                if (length != NULL_LENGTH) {
+                    array[i] = buffer.getFloat();
+                }
+            }
+            return array;
+        }
+        if (short[].class.equals(arrayClass)) {
+            short[] array = new short[size];
+            for (int i = 0; i < size; i++) {
+                int length = buffer.getInt();
+                if (length != NULL_LENGTH) {
+                    array[i] = buffer.getShort();
+                }
+            }
+            return array;
+        }
+        if (boolean[].class.equals(arrayClass)) {
+            boolean[] array = new boolean[size];
+            for (int i = 0; i < size; i++) {
+                int length = buffer.getInt();
+                if (length != NULL_LENGTH) {
+                    array[i] = buffer.get() != 0;
+                }
+            }
+            return array;
+        }
+        Object[] array = (Object[]) Array.newInstance(arrayClass.getComponentType(), size);
+        for (int i = 0; i < size; i++) {
+            int length = buffer.getInt();
+            if (length != NULL_LENGTH) {
+                Object element = readObject(buffer, length, elementOid, arrayClass.getComponentType());
+                if (element == INFINITY) {
+                    return INFINITY;
+                }
+                array[i] = element;
+            }
+        }
+        return array;
+    }
+
+    private static long readLong(ByteBuffer buffer, int elementOid) {
+        switch (elementOid) {
+            case INT2_OID:
+                return buffer.getShort();
+            case INT4_OID:
+                return buffer.getInt();
+            default:
+                return buffer.getLong();
+        }
+    }
+
+    private static Object readObject(ByteBuffer buffer, int length, int elementOid, Class<?> elementClass) {
+        switch (elementOid) {
+            case INT2_OID:
+                return toIntegralElement(buffer.getShort(), elementClass);
+            case INT4_OID:
+                return toIntegralElement(buffer.getInt(), elementClass);
+            case INT8_OID:
+                return buffer.getLong();
+            case FLOAT4_OID:
+                return Float.class.equals(elementClass) ? (Object) buffer.getFloat() : (Object) (double) buffer.getFloat();
+            case FLOAT8_OID:
+                return buffer.getDouble();
+            case BOOL_OID:
+                return buffer.get() != 0;
+            case UUID_OID:
+                return new UUID(buffer.getLong(), buffer.getLong());
+            case DATE_OID:
+                int days = buffer.getInt();
+                if (days == Integer.MAX_VALUE || days == Integer.MIN_VALUE) {
+                    return INFINITY;
+                }
+                return POSTGRESQL_EPOCH_DATE.plusDays(days);
+            case TIMESTAMP_OID:
+                long micros = buffer.getLong();
+                if (micros == Long.MAX_VALUE || micros == Long.MIN_VALUE) {
+                    return INFINITY;
+                }
+                return POSTGRESQL_EPOCH.plus(micros, ChronoUnit.MICROS);
+            default:
+                String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + length);
+                return value;
+        }
+    }
+
+    private static Object toIntegralElement(int value, Class<?> elementClass) {
+        if (Short.class.equals(elementClass)) {
+            return (short) value;
+        }
+        if (Integer.class.equals(elementClass)) {
+            return value;
+        }
+        return (long) value;
+    }
+
+    private static boolean isDecodable(int elementOid, Class<?> elementClass) {
+        switch (elementOid) {
+            case INT2_OID:
+                return short.class.equals(elementClass) || Short.class.equals(elementClass) ||
+                    int.class.equals(elementClass) || Integer.class.equals(elementClass) ||
+                    long.class.equals(elementClass) || Long.class.equals(elementClass);
+            case INT4_OID:
+                return int.class.equals(elementClass) || Integer.class.equals(elementClass) ||
+                    long.class.equals(elementClass) || Long.class.equals(elementClass);
+            case INT8_OID:
+                return long.class.equals(elementClass) || Long.class.equals(elementClass);
+            case FLOAT4_OID:
+                return float.class.equals(elementClass) || Float.class.equals(elementClass) ||
+                    double.class.equals(elementClass) || Double.class.equals(elementClass);
+            case FLOAT8_OID:
+                return double.class.equals(elementClass) || Double.class.equals(elementClass);
+            case BOOL_OID:
+                return boolean.class.equals(elementClass) || Boolean.class.equals(elementClass);
+            case UUID_OID:
+                return UUID.class.equals(elementClass);
+            case DATE_OID:
+                return LocalDate.class.equals(elementClass);
+            case TIMESTAMP_OID:
+                return LocalDateTime.class.equals(elementClass);
+            case TEXT_OID:
+            case VARCHAR_OID:
+            case BPCHAR_OID:
+                return String.class.equals(elementClass);
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Encode the given Java array into the PostgreSQL binary array format.
+     *
+     * @param array Java array, which can be multidimensional, but must not be jagged
+     * @param elementOid element type OID
+     * @return binary array, or {@code null} if the Java array cannot be encoded into the given element type
+     */
+    public static byte[] encode(Object array, int elementOid) {
+        List<Integer> sizes = new ArrayList<>();
+        Object current = array;
+        Class<?> elementClass = array.getClass();
+        while (elementClass.isArray()) {
+            int size = current != null ? Array.getLength(current) : 0;
+            sizes.add(size);
+            elementClass = elementClass.getComponentType();
+            current = size > 0 && elementClass.isArray() ? Array.get(current, 0) : null;
+        }
+        if (!isEncodable(elementOid, elementClass)) {
+            return null;
+        }
+        int elementCount = 1;
+        for (int size : sizes) {
+            elementCount *= size;
+        }
+        int dimensions = elementCount == 0 ? 0 : sizes.size();
+        List<Object> leaves = new ArrayList<>();
+        if (sizes.get(0) > 0 && !collectLeaves(array, sizes, 0, leaves)) {
+            return null;
+        }
+        int length = 12 + 8 * dimensions;
+        boolean hasNulls = false;
+        for (Object leaf : leaves) {
+            length += encodedLength(leaf, elementOid);
+            if (leaf instanceof Object[]) {
+                for (Object element : (Object[]) leaf) {
+                    hasNulls |= element == null;
+                }
+            }
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        buffer.putInt(dimensions);
+        buffer.putInt(hasNulls ? 1 : 0);
+        buffer.putInt(elementOid);
+        for (int i = 0; i < dimensions; i++) {
+            buffer.putInt(sizes.get(i));
+            buffer.putInt(1);
+        }
+        for (Object leaf : leaves) {
+            write(buffer, leaf, elementOid);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Encode the given {@link DoubleMatrix} into the PostgreSQL binary {@code float8} array format.
+     *
+     * @param matrix {@link DoubleMatrix}
+     * @return binary array
+     */
+    public static byte[] encode(DoubleMatrix matrix) {
+        double[] values = matrix.getValues();
+        int dimensions = values.length == 0 ? 0 : matrix.getDimensions();
+        ByteBuffer buffer = ByteBuffer.allocate(12 + 8 * dimensions + 12 * values.length);
+        buffer.putInt(dimensions);
+        buffer.putInt(0);
+        buffer.putInt(FLOAT8_OID);
+        for (int i = 0; i < dimensions; i++) {
+            buffer.putInt(matrix.getSize(i));
+            buffer.putInt(1);
+        }
+        for (double value : values) {
+            buffer.putInt(8).putDouble(value);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Encode the given {@link PackedUUIDArray} into the PostgreSQL binary {@code uuid} array format.
+     *
+     * @param uuids {@link PackedUUIDArray}
+     * @return binary array
+     */
+    public static byte[] encode(PackedUUIDArray uuids) {
+        int size = uuids.size();
+        int dimensions = size == 0 ? 0 : 1;
+        ByteBuffer buffer = ByteBuffer.allocate(12 + 8 * dimensions + 20 * size);
+        buffer.putInt(dimensions);
+        buffer.putInt(0);
+        buffer.putInt(UUID_OID);
+        if (dimensions > 0) {
+            buffer.putInt(size);
+            buffer.putInt(1);
+        }
+        for (int i = 0; i < size; i++) {
+            buffer.putInt(16)
+                .putLong(uuids.getMostSignificantBits(i))
+                .putLong(uuids.getLeastSignificantBits(i));
+        }
+        return buffer.array();
+    }
+
+    private static boolean collectLeaves(Object array, List<Integer> sizes, int dimension, List<Object> leaves) {
+        if (array == null || Array.getLength(array) != sizes.get(dimension)) {
+            return false;
+        }
+        if (dimension == sizes.size() - 1) {
+            leaves.add(array);
+            return true;
+        }
+        for (Object element : (Object[]) array) {
+            if (!collectLeaves(element, sizes, dimension + 1, leaves)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isEncodable(int elementOid, Class<?> elementClass) {
+        switch (elementOid) {
+            case INT2_OID:
+                return short.class.equals(elementClass) || Short.class.equals(elementClass);
+            case INT4_OID:
+                return int.class.equals(elementClass) || Integer.class.equals(elementClass);
+            default:
+                return isDecodable(elementOid, elementClass) &&
+                    !(elementOid == FLOAT4_OID && (double.class.equals(elementClass) || Double.class.equals(elementClass)));
+        }
+    }
+
+    private static int encodedLength(Object leaf, int elementOid) {
+        int length = Array.getLength(leaf);
+        int elementLength = elementLength(elementOid);
+        if (elementLength > 0 && leaf.getClass().getComponentType().isPrimitive()) {
+            return length * (4 + elementLength);
+        }
+        int encodedLength = 0;
+        for (Object element : (Object[]) leaf) {
+            encodedLength += 4;
+            if (element != null) {
+                encodedLength += elementLength > 0 ? elementLength :
+                    ((String) element).getBytes(StandardCharsets.UTF_8).length;
+            }
+        }
+        return encodedLength;
+    }
+
+    private static int elementLength(int elementOid) {
+        switch (elementOid) {
+            case BOOL_OID:
+                return 1;
+            case INT2_OID:
+                return 2;
+            case INT4_OID:
+            case FLOAT4_OID:
+            case DATE_OID:
+                return 4;
+            case INT8_OID:
+            case FLOAT8_OID:
+            case TIMESTAMP_OID:
+                return 8;
+            case UUID_OID:
+                return 16;
+            default:
+                return -1;
+        }
+    }
+
+    private static void write(ByteBuffer buffer, Object leaf, int elementOid) {
+        if (leaf instanceof int[]) {
+            for (int value : (int[]) leaf) {
+                buffer.putInt(4).putInt(value);
+            }
+        } else if (leaf instanceof long[]) {
+            for (long value : (long[]) leaf) {
+                buffer.putInt(8).putLong(value);
+            }
+        } else if (leaf instanceof double[]) {
+            for (double value : (double[]) leaf) {
+                buffer.putInt(8).putDouble(value);
+            }
+        } else if (leaf instanceof float[]) {
+            for (float value : (float[]) leaf) {
+                buffer.putInt(4).putFloat(value);
+            }
+        } else if (leaf instanceof short[]) {
+            for (short value : (short[]) leaf) {
+                buffer.putInt(2).putShort(value);
+            }
+        } else if (leaf instanceof boolean[]) {
+            for (boolean value : (boolean[]) leaf) {
+                buffer.putInt(1).put((byte) (value ? 1 : 0));
+            }
+        } else {
+            for (Object value : (Object[]) leaf) {
+                if (value == null) {
+                    buffer.putInt(NULL_LENGTH);
+                } else {
+                    writeObject(buffer, value, elementOid);
+                }
+            }
+        }
+    }
+
+    private static void writeObject(ByteBuffer buffer, Object value, int elementOid) {
+        switch (elementOid) {
+            case INT2_OID:
+                buffer.putInt(2).putShort((Short) value);
+                break;
+            case INT4_OID:
+                buffer.putInt(4).putInt((Integer) value);
+                break;
+            case INT8_OID:
+                buffer.putInt(8).putLong((Long) value);
+                break;
+            case FLOAT4_OID:
+                buffer.putInt(4).putFloat((Float) value);
+                break;
+            case FLOAT8_OID:
+                buffer.putInt(8).putDouble((Double) value);
+                break;
+            case BOOL_OID:
+                buffer.putInt(1).put((byte) ((Boolean) value ? 1 : 0));
+                break;
+            case UUID_OID:
+                UUID uuid = (UUID) value;
+                buffer.putInt(16).putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits());
+                break;
+            case DATE_OID:
+                buffer.putInt(4).putInt((int) ChronoUnit.DAYS.between(POSTGRESQL_EPOCH_DATE, (LocalDate) value));
+                break;
+            case TIMESTAMP_OID:
+                buffer.putInt(8).putLong(ChronoUnit.MICROS.between(POSTGRESQL_EPOCH, (LocalDateTime) value));
+                break;
+            default:
+                byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+                buffer.putInt(bytes.length).put(bytes);
+        }
+    }
+}
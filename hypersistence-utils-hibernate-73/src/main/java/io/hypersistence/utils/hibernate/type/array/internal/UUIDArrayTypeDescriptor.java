@@ -1,5 +1,8 @@
 package io.hypersistence.utils.hibernate.type.array.internal;
 
+import org.hibernate.type.descriptor.WrapperOptions;
+
+import java.sql.Array;
 import java.util.UUID;
 
 /**
@@ -16,4 +19,15 @@ public class UUIDArrayTypeDescriptor
     protected String getSqlArrayType() {
         return "uuid";
     }
+
+    @Override
+    public <X> UUID[] wrap(X value, WrapperOptions options) {
+        if (value instanceof Array && UUID[].class.equals(getArrayObjectClass())) {
+            UUID[] uuids = PostgreSQLArraySupport.toUUIDArray((Array) value);
+            if (uuids != null) {
+                return uuids;
+            }
+        }
+        return super.wrap(value, options);
+    }
 }
@@ -1,11 +1,8 @@
 package io.hypersistence.utils.hibernate.type.basic;
 
-import io.hypersistence.utils.common.ReflectionUtils;
+import io.hypersistence.utils.hibernate.type.util.EnumCodec;
 import jakarta.persistence.AttributeConverter;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Maps a Java {@link Enum} to a custom ordinal integer value.
  * <p>
@@ -16,7 +13,9 @@ import java.util.Map;
  */
 public abstract class CustomOrdinalEnumConverter<T extends Enum> implements AttributeConverter<T, Integer> {
 
-    private Map<Integer, T> customOrdinalValueToEnumMap = new HashMap<>();
+    private final EnumCodec<?> enumCodec;
+
+    private volatile EnumCodec.OrdinalIndex<?> customOrdinalIndex;
 
     /**
      * Initialization constructor taking the Java Enum to manage.
@@ -24,13 +23,7 @@ public abstract class CustomOrdinalEnumConverter<T extends Enum> implements Attr
      * @param enumType Java Enum type to manage
      */
     public CustomOrdinalEnumConverter(Class<T> enumType) {
-        T[] enumValues = ReflectionUtils.invokeStaticMethod(
-            ReflectionUtils.getMethod(enumType, "values")
-        );
-        for (T enumValue : enumValues) {
-            Integer customOrdinalValue = convertToDatabaseColumn(enumValue);
-            customOrdinalValueToEnumMap.put(customOrdinalValue, enumValue);
-        }
+        enumCodec = EnumCodec.of((Class) enumType);
     }
 
     /**
@@ -38,6 +31,26 @@ public abstract class CustomOrdinalEnumConverter<T extends Enum> implements Attr
      */
     @Override
     public T convertToEntityAttribute(Integer ordinalValue) {
-        return customOrdinalValueToEnumMap.get(ordinalValue);
+        if (ordinalValue == null) {
+            return null;
+        }
+        return (T) customOrdinalIndex().get(ordinalValue);
+    }
+
+    /**
+     * Get the custom ordinal index, which is built on first use, so that it covers the custom ordinal values
+     * that depend on the state initialized by the subclass constructor.
+     *
+     * @return custom ordinal index
+     */
+    private EnumCodec.OrdinalIndex<?> customOrdinalIndex() {
+        EnumCodec.OrdinalIndex<?> ordinalIndex = customOrdinalIndex;
+        if (ordinalIndex == null) {
+            ordinalIndex = enumCodec.indexBy(
+                enumValue -> convertToDatabaseColumn((T) enumValue)
+            );
+            customOrdinalIndex = ordinalIndex;
+        }
+        return ordinalIndex;
     }
 }
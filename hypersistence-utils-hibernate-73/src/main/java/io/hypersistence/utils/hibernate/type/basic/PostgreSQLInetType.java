@@ -2,7 +2,7 @@ package io.hypersistence.utils.hibernate.type.basic;
 
 import io.hypersistence.utils.hibernate.type.ImmutableType;
 import io.hypersistence.utils.hibernate.type.util.Configuration;
-import io.hypersistence.utils.common.ReflectionUtils;
+import io.hypersistence.utils.hibernate.type.util.PGobjectAccessor;
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
@@ -48,9 +48,7 @@ public class PostgreSQLInetType extends ImmutableType<Inet> {
         if (value == null) {
             st.setNull(index, Types.OTHER);
         } else {
-            Object holder = ReflectionUtils.newInstance("org.postgresql.util.PGobject");
-            ReflectionUtils.invokeSetter(holder, "type", "inet");
-            ReflectionUtils.invokeSetter(holder, "value", value.getAddress());
+            Object holder = PGobjectAccessor.newPGobject("inet", value.getAddress());
             st.setObject(index, holder);
         }
     }
@@ -2,7 +2,7 @@ package io.hypersistence.utils.hibernate.type.basic;
 
 import io.hypersistence.utils.hibernate.type.ImmutableType;
 import io.hypersistence.utils.hibernate.type.util.Configuration;
-import io.hypersistence.utils.common.ReflectionUtils;
+import io.hypersistence.utils.hibernate.type.util.PGobjectAccessor;
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
@@ -42,9 +42,7 @@ public class PostgreSQLMacAddressType extends ImmutableType<MacAddress> {
         if (value == null) {
             st.setNull(index, Types.OTHER);
         } else {
-            Object holder = ReflectionUtils.newInstance("org.postgresql.util.PGobject");
-            ReflectionUtils.invokeSetter(holder, "type", "macaddr");
-            ReflectionUtils.invokeSetter(holder, "value", value.getAddress());
+            Object holder = PGobjectAccessor.newPGobject("macaddr", value.getAddress());
             st.setObject(index, holder);
         }
     }
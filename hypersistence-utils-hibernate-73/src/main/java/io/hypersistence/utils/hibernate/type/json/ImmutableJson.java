@@ -0,0 +1,29 @@
+package io.hypersistence.utils.hibernate.type.json;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+
+/**
+ * The {@code @ImmutableJson} annotation can be added to a JSON entity attribute or to the Java type
+ * of the JSON attribute, indicating that the JSON object is never changed in place.
+ * <p>
+ * Immutable JSON objects are not deep-copied when the entity is loaded, and the dirty checking mechanism
+ * compares them using {@link Object#equals(Object)}. To change such an attribute, a new JSON object
+ * has to be set on the entity.
+ * <p>
+ * Java records are considered immutable even without this annotation, but only if all their components
+ * are immutable as well, like primitives, {@link String}, {@link java.math.BigDecimal}, enums,
+ * {@code java.time} types or other immutable records. A record holding a {@link java.util.List}
+ * or a mutable Java object is deep-copied and compared by its JSON representation.
+ *
+ * @author Vlad Mihalcea
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({FIELD, METHOD, TYPE})
+public @interface ImmutableJson {
+}
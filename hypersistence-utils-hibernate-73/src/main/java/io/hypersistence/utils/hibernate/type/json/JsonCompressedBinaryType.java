@@ -0,0 +1,76 @@
+package io.hypersistence.utils.hibernate.type.json;
+
+import io.hypersistence.utils.hibernate.type.MutableDynamicParameterizedType;
+import io.hypersistence.utils.hibernate.type.json.internal.JsonCompressedBytesJdbcTypeDescriptor;
+import io.hypersistence.utils.hibernate.type.json.internal.JsonJavaTypeDescriptor;
+import io.hypersistence.utils.hibernate.type.util.JsonConfiguration;
+import io.hypersistence.utils.hibernate.type.util.ObjectMapperWrapper;
+
+import java.lang.reflect.Type;
+
+/**
+ * <p>
+ * Maps any given Java object on a binary column type (e.g., {@code bytea}, {@code varbinary}, {@code blob})
+ * that stores the JSON document compressed with DEFLATE.
+ * </p>
+ * <p>
+ * The JSON documents smaller than the {@code hypersistence.utils.json.compression.threshold} number of bytes
+ * (1024 by default) are stored uncompressed. The compression level is given by the
+ * {@code hypersistence.utils.json.compression.level} property, which takes a {@link java.util.zip.Deflater} level.
+ * Both properties can be set globally or as {@link org.hibernate.annotations.Type} parameters.
+ * </p>
+ * <p>
+ * Since the compressed values are prefixed by a header byte, the column can also contain uncompressed UTF-8 JSON values,
+ * like the ones written by the {@link JsonType} on H2 or Oracle.
+ * </p>
+ *
+ * @author Vlad Mihalcea
+ */
+public class JsonCompressedBinaryType extends MutableDynamicParameterizedType<Object, JsonCompressedBytesJdbcTypeDescriptor, JsonJavaTypeDescriptor> {
+
+    public static final JsonCompressedBinaryType INSTANCE = new JsonCompressedBinaryType();
+
+    public JsonCompressedBinaryType() {
+        this(JsonConfiguration.INSTANCE);
+    }
+
+    public JsonCompressedBinaryType(Type javaType) {
+        super(
+            Object.class,
+            new JsonCompressedBytesJdbcTypeDescriptor(JsonConfiguration.INSTANCE),
+            new JsonJavaTypeDescriptor(JsonConfiguration.INSTANCE.getObjectMapperWrapper(), javaType)
+        );
+    }
+
+    public JsonCompressedBinaryType(JsonConfiguration configuration) {
+        super(
+            Object.class,
+            new JsonCompressedBytesJdbcTypeDescriptor(configuration),
+            new JsonJavaTypeDescriptor(configuration.getObjectMapperWrapper())
+        );
+    }
+
+    public JsonCompressedBinaryType(org.hibernate.type.spi.TypeBootstrapContext typeBootstrapContext) {
+        this(new JsonConfiguration(typeBootstrapContext.getConfigurationSettings()));
+    }
+
+    public JsonCompressedBinaryType(ObjectMapperWrapper objectMapperWrapper) {
+        super(
+            Object.class,
+            new JsonCompressedBytesJdbcTypeDescriptor(),
+            new JsonJavaTypeDescriptor(objectMapperWrapper)
+        );
+    }
+
+    public JsonCompressedBinaryType(ObjectMapperWrapper objectMapperWrapper, Type javaType) {
+        super(
+            Object.class,
+            new JsonCompressedBytesJdbcTypeDescriptor(),
+            new JsonJavaTypeDescriptor(objectMapperWrapper, javaType)
+        );
+    }
+
+    public String getName() {
+        return "json-compressed";
+    }
+}
@@ -0,0 +1,31 @@
+package io.hypersistence.utils.hibernate.type.json;
+
+import io.hypersistence.utils.hibernate.type.json.internal.JsonPartialUpdateHandler;
+import io.hypersistence.utils.hibernate.type.util.PartialUpdateHandler;
+import io.hypersistence.utils.hibernate.type.util.PartialUpdateIntegrator;
+import org.hibernate.boot.Metadata;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * The {@link JsonPartialUpdateIntegrator} enables the partial updates of the JSON attributes
+ * that set the {@code hypersistence.utils.json.partial.update.ratio} property, either globally
+ * or as a {@link org.hibernate.annotations.Type} parameter.
+ * <p>
+ * At flush time, instead of rewriting the whole JSON document, only the changed JSON elements are updated
+ * using {@code jsonb_set} on PostgreSQL {@code jsonb} columns, or {@code JSON_SET} on MySQL {@code json} columns,
+ * as long as the size of the changes is at most the given ratio of the whole document size.
+ * Otherwise, or if the attribute is stored in any other column type, Hibernate updates the whole JSON document, as usual.
+ *
+ * @author Vlad Mihalcea
+ */
+public class JsonPartialUpdateIntegrator extends PartialUpdateIntegrator {
+
+    public static final JsonPartialUpdateIntegrator INSTANCE = new JsonPartialUpdateIntegrator();
+
+    @Override
+    protected PartialUpdateHandler partialUpdateHandler(Metadata metadata, SessionFactoryImplementor sessionFactory) {
+        Dialect dialect = sessionFactory.getJdbcServices().getDialect();
+        return JsonPartialUpdateHandler.supports(dialect) ? new JsonPartialUpdateHandler(metadata, dialect) : null;
+    }
+}
@@ -0,0 +1,215 @@
+package io.hypersistence.utils.hibernate.type.json;
+
+import io.hypersistence.utils.hibernate.type.util.ObjectMapperWrapper;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectReader;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * The {@link LazyJson} holds a JSON column value that is deserialized only when
+ * the {@link #get()} method is called for the first time.
+ * <p>
+ * When mapping an entity attribute as {@code LazyJson<T>} with any JSON type (e.g., {@link JsonType}),
+ * the raw JSON value that was read from the database is kept as-is, so entities loaded
+ * only to access other attributes don't pay for the JSON deserialization. If the JSON value was never accessed,
+ * the dirty checking mechanism compares the raw JSON values without parsing them.
+ * <p>
+ * The {@link #equals(Object)} and {@link #hashCode()} methods compare the {@link JsonNode} tree of the JSON value,
+ * whether it was accessed or not. The raw JSON value is parsed into a tree, but never deserialized,
+ * so comparing two {@link LazyJson} values doesn't materialize them.
+ * A {@link LazyJson} that was not accessed is serialized along with its raw JSON value, which is deserialized
+ * with the default {@link ObjectMapperWrapper} on first access after being read back.
+ *
+ * @param <T> JSON object type
+ * @author Vlad Mihalcea
+ */
+public class LazyJson<T> implements Serializable {
+
+    private Object json;
+
+    private T value;
+
+    private boolean materialized;
+
+    private transient ObjectMapperWrapper objectMapperWrapper;
+
+    private final JavaType valueType;
+
+    private transient ObjectReader objectReader;
+
+    private transient JsonNode jsonNode;
+
+    private LazyJson(Object json, T value, boolean materialized, ObjectMapperWrapper objectMapperWrapper, ObjectReader objectReader) {
+        this.json = json;
+        this.value = value;
+        this.materialized = materialized;
+        this.objectMapperWrapper = objectMapperWrapper;
+        this.objectReader = objectReader;
+        this.valueType = objectReader != null ? objectReader.getValueType() : null;
+    }
+
+    /**
+     * Create a {@link LazyJson} holding the given JSON object.
+     *
+     * @param value JSON object
+     * @param <T> JSON object type
+     * @return {@link LazyJson} holding the given JSON object
+     */
+    public static <T> LazyJson<T> of(T value) {
+        return new LazyJson<>(null, value, true, null, null);
+    }
+
+    /**
+     * Create a {@link LazyJson} holding the raw JSON value that is going to be deserialized on first access.
+     *
+     * @param json raw JSON, either a {@link String} or a UTF-8 encoded byte array
+     * @param objectMapperWrapper {@link ObjectMapperWrapper} used to serialize the JSON object
+     * @param objectReader {@link ObjectReader} used to deserialize the raw JSON
+     * @param <T> JSON object type
+     * @return {@link LazyJson} holding the raw JSON value
+     */
+    public static <T> LazyJson<T> ofJson(Object json, ObjectMapperWrapper objectMapperWrapper, ObjectReader objectReader) {
+        if (!(json instanceof String) && !(json instanceof byte[])) {
+            throw new IllegalArgumentException("The raw JSON value must be either a String or a byte array!");
+        }
+        return new LazyJson<>(json, null, false, objectMapperWrapper, objectReader);
+    }
+
+    /**
+     * Get the JSON object, deserializing the raw JSON value if this is the first access.
+     *
+     * @return JSON object
+     */
+    public T get() {
+        if (!materialized) {
+            ObjectReader objectReader = objectReader();
+            value = json instanceof byte[] ?
+                objectMapperWrapper.fromBytes((byte[]) json, objectReader) :
+                objectMapperWrapper.fromString((String) json, objectReader);
+            materialized = true;
+        }
+        return value;
+    }
+
+    /**
+     * Replace the JSON object.
+     *
+     * @param value JSON object
+     */
+    public void set(T value) {
+        this.value = value;
+        this.materialized = true;
+        this.json = null;
+        this.jsonNode = null;
+    }
+
+    /**
+     * Was the JSON object accessed or set since the raw JSON value was loaded?
+     *
+     * @return {@code true} if the JSON object is available
+     */
+    public boolean isMaterialized() {
+        return materialized;
+    }
+
+    /**
+     * Get the raw JSON value that was loaded from the database.
+     *
+     * @return raw JSON value, or {@code null} if the {@link LazyJson} was created from a JSON object
+     */
+    public Object getJson() {
+        return json;
+    }
+
+    /**
+     * Get the raw JSON value as a {@link String}.
+     *
+     * @return raw JSON {@link String}
+     */
+    public String getJsonString() {
+        return json instanceof byte[] ? new String((byte[]) json, StandardCharsets.UTF_8) : (String) json;
+    }
+
+    /**
+     * Get the raw JSON value as a UTF-8 encoded byte array.
+     *
+     * @return raw JSON byte array
+     */
+    public byte[] getJsonBytes() {
+        return json instanceof String ? ((String) json).getBytes(StandardCharsets.UTF_8) : (byte[]) json;
+    }
+
+    /**
+     * Create a copy that shares the immutable raw JSON value if the JSON object was not accessed,
+     * or holds the given copy of the JSON object otherwise.
+     *
+     * @param valueCopy copy of the JSON object, only used if the JSON object was accessed
+     * @return {@link LazyJson} copy
+     */
+    public LazyJson<T> copy(T valueCopy) {
+        return materialized ?
+            new LazyJson<>(null, valueCopy, true, objectMapperWrapper, objectReader()) :
+            new LazyJson<>(json, null, false, objectMapperWrapper, objectReader());
+    }
+
+    private ObjectReader objectReader() {
+        if (objectReader == null && valueType != null) {
+            objectReader = objectMapperWrapper().getObjectReader(valueType);
+        }
+        return objectReader;
+    }
+
+    private ObjectMapperWrapper objectMapperWrapper() {
+        if (objectMapperWrapper == null) {
+            objectMapperWrapper = ObjectMapperWrapper.INSTANCE;
+        }
+        return objectMapperWrapper;
+    }
+
+    /**
+     * Get the {@link JsonNode} tree of the raw JSON value, if the JSON object was not accessed,
+     * or of the JSON object otherwise. The tree of the raw JSON value is built only once, since it never changes.
+     */
+    private JsonNode toJsonNode() {
+        if (materialized) {
+            return objectMapperWrapper().getObjectMapper().valueToTree(value);
+        }
+        JsonNode node = jsonNode;
+        if (node == null) {
+            node = json instanceof byte[] ?
+                objectMapperWrapper().toJsonNode((byte[]) json) :
+                objectMapperWrapper().toJsonNode((String) json);
+            jsonNode = node;
+        }
+        return node;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LazyJson)) {
+            return false;
+        }
+        LazyJson<?> that = (LazyJson<?>) o;
+        if (!materialized && !that.materialized && json == that.json) {
+            return true;
+        }
+        return Objects.equals(toJsonNode(), that.toJsonNode());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(toJsonNode());
+    }
+
+    @Override
+    public String toString() {
+        return materialized ? String.valueOf(value) : getJsonString();
+    }
+}
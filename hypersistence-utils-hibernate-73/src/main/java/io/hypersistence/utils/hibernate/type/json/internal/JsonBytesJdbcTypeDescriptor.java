@@ -2,11 +2,14 @@ package io.hypersistence.utils.hibernate.type.json.internal;
 
 import org.hibernate.dialect.Database;
 import org.hibernate.type.descriptor.ValueBinder;
+import org.hibernate.type.descriptor.ValueExtractor;
 import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.java.JavaType;
 import org.hibernate.type.descriptor.jdbc.BasicBinder;
+import org.hibernate.type.descriptor.jdbc.BasicExtractor;
 
 import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
 import java.sql.*;
 import java.util.HashMap;
 import java.util.Map;
@@ -51,46 +54,64 @@ public class JsonBytesJdbcTypeDescriptor extends AbstractJsonJdbcTypeDescriptor
         return new BasicBinder<X>(javaType, this) {
             @Override
             protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options) throws SQLException {
-                st.setBytes(index, toJsonBytes(javaType.unwrap(value, String.class, options)));
+                st.setBytes(index, toJsonBytes(javaType, value, options));
             }
 
             @Override
             protected void doBind(CallableStatement st, X value, String name, WrapperOptions options)
                 throws SQLException {
-                st.setBytes(name, toJsonBytes(javaType.unwrap(value, String.class, options)));
+                st.setBytes(name, toJsonBytes(javaType, value, options));
             }
         };
     }
 
+    /**
+     * For the JSON Java types, the JSON bytes are passed as-is to the {@link JavaType#wrap(Object, WrapperOptions)} method,
+     * so they can deserialize them without creating an intermediary {@link String}. The other Java types get
+     * the JSON {@link String}, as they don't know how to wrap a {@code byte[]}.
+     */
     @Override
-    protected Object extractJson(ResultSet rs, int paramIndex) throws SQLException {
-        return fromJsonBytes(rs.getBytes(paramIndex));
-    }
+    public <X> ValueExtractor<X> getExtractor(final JavaType<X> javaType) {
+        final boolean jsonJavaType = isJsonJavaType(javaType);
+        return new BasicExtractor<X>(javaType, this) {
+            @Override
+            protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
+                return javaType.wrap(toJsonValue(rs.getBytes(paramIndex), jsonJavaType), options);
+            }
 
-    @Override
-    protected Object extractJson(CallableStatement statement, int index) throws SQLException {
-        return fromJsonBytes(statement.getBytes(index));
-    }
+            @Override
+            protected X doExtract(CallableStatement statement, int index, WrapperOptions options) throws SQLException {
+                return javaType.wrap(toJsonValue(statement.getBytes(index), jsonJavaType), options);
+            }
 
-    @Override
-    protected Object extractJson(CallableStatement statement, String name) throws SQLException {
-        return fromJsonBytes(statement.getBytes(name));
+            @Override
+            protected X doExtract(CallableStatement statement, String name, WrapperOptions options) throws SQLException {
+                return javaType.wrap(toJsonValue(statement.getBytes(name), jsonJavaType), options);
+            }
+        };
     }
 
-    protected byte[] toJsonBytes(String jsonValue) {
-        try {
-            return jsonValue.getBytes(CHARSET);
-        } catch (UnsupportedEncodingException e) {
-            throw new IllegalStateException(e);
+    private Object toJsonValue(byte[] jsonBytes, boolean jsonJavaType) {
+        if (jsonBytes == null || jsonJavaType) {
+            return jsonBytes;
         }
+        return new String(jsonBytes, StandardCharsets.UTF_8);
     }
 
-    protected String fromJsonBytes(byte[] jsonBytes) {
-        if (jsonBytes == null) {
-            return null;
+    protected <X> byte[] toJsonBytes(JavaType<X> javaType, X value, WrapperOptions options) {
+        if (isJsonJavaType(javaType)) {
+            return javaType.unwrap(value, byte[].class, options);
         }
+        return toJsonBytes(javaType.unwrap(value, String.class, options));
+    }
+
+    private boolean isJsonJavaType(JavaType<?> javaType) {
+        return javaType instanceof JsonJavaTypeDescriptor || javaType instanceof JsonNodeJavaTypeDescriptor;
+    }
+
+    protected byte[] toJsonBytes(String jsonValue) {
         try {
-            return new String(jsonBytes, CHARSET);
+            return jsonValue.getBytes(CHARSET);
         } catch (UnsupportedEncodingException e) {
             throw new IllegalStateException(e);
         }
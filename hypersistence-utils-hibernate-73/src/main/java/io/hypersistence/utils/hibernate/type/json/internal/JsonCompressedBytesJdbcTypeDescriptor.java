@@ -0,0 +1,197 @@
+package io.hypersistence.utils.hibernate.type.json.internal;
+
+import io.hypersistence.utils.hibernate.type.util.Configuration;
+import org.hibernate.HibernateException;
+import org.hibernate.type.descriptor.ValueBinder;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.jdbc.BasicBinder;
+import org.hibernate.usertype.ParameterizedType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.*;
+import java.util.Properties;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * The {@link JsonCompressedBytesJdbcTypeDescriptor} stores the JSON documents that are larger than
+ * the compression threshold as a header byte followed by the DEFLATE-compressed UTF-8 JSON.
+ * Smaller documents are stored as plain UTF-8 JSON bytes, and since a JSON document cannot start with
+ * the header byte, the rows written without compression remain readable.
+ *
+ * @author Vlad Mihalcea
+ */
+public class JsonCompressedBytesJdbcTypeDescriptor extends AbstractJsonJdbcTypeDescriptor implements ParameterizedType {
+
+    public static final byte COMPRESSED_HEADER = 0x01;
+
+    public static final int DEFAULT_THRESHOLD = 1024;
+
+    private volatile int level;
+
+    private volatile int threshold;
+
+    public JsonCompressedBytesJdbcTypeDescriptor() {
+        this(Deflater.DEFAULT_COMPRESSION, DEFAULT_THRESHOLD);
+    }
+
+    public JsonCompressedBytesJdbcTypeDescriptor(int level, int threshold) {
+        this.level = level;
+        this.threshold = threshold;
+    }
+
+    public JsonCompressedBytesJdbcTypeDescriptor(Configuration configuration) {
+        this();
+        Integer level = configuration.integerProperty(Configuration.PropertyKey.JSON_COMPRESSION_LEVEL);
+        if (level != null) {
+            this.level = level;
+        }
+        Integer threshold = configuration.integerProperty(Configuration.PropertyKey.JSON_COMPRESSION_THRESHOLD);
+        if (threshold != null) {
+            this.threshold = threshold;
+        }
+    }
+
+    @Override
+    public int getJdbcTypeCode() {
+        return Types.VARBINARY;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    @Override
+    public void setParameterValues(Properties parameters) {
+        String level = Configuration.PropertyKey.JSON_COMPRESSION_LEVEL.resolve(parameters);
+        if (level != null) {
+            this.level = Integer.parseInt(level);
+        }
+        String threshold = Configuration.PropertyKey.JSON_COMPRESSION_THRESHOLD.resolve(parameters);
+        if (threshold != null) {
+            this.threshold = Integer.parseInt(threshold);
+        }
+    }
+
+    @Override
+    public <X> ValueBinder<X> getBinder(final JavaType<X> javaType) {
+        return new BasicBinder<X>(javaType, this) {
+            @Override
+            protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options) throws SQLException {
+                st.setBytes(index, toCompressedBytes(javaType, value, options));
+            }
+
+            @Override
+            protected void doBind(CallableStatement st, X value, String name, WrapperOptions options)
+                throws SQLException {
+                st.setBytes(name, toCompressedBytes(javaType, value, options));
+            }
+        };
+    }
+
+    @Override
+    protected Object extractJson(ResultSet rs, int paramIndex) throws SQLException {
+        return fromCompressedBytes(rs.getBytes(paramIndex));
+    }
+
+    @Override
+    protected Object extractJson(CallableStatement statement, int index) throws SQLException {
+        return fromCompressedBytes(statement.getBytes(index));
+    }
+
+    @Override
+    protected Object extractJson(CallableStatement statement, String name) throws SQLException {
+        return fromCompressedBytes(statement.getBytes(name));
+    }
+
+    protected <X> byte[] toCompressedBytes(JavaType<X> javaType, X value, WrapperOptions options) {
+        ThresholdDeflaterOutputStream outputStream = new ThresholdDeflaterOutputStream(threshold, level);
+        try (outputStream) {
+            if (javaType instanceof JsonJavaTypeDescriptor) {
+                ((JsonJavaTypeDescriptor) javaType).toOutputStream(value, outputStream);
+            } else {
+                outputStream.write(javaType.unwrap(value, String.class, options).getBytes(StandardCharsets.UTF_8));
+            }
+        } catch (IOException e) {
+            throw new HibernateException("Unable to compress the JSON value", e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * The compressed JSON is inflated while Jackson parses it, so the uncompressed document
+     * is never materialized in memory.
+     */
+    protected Object fromCompressedBytes(byte[] bytes) {
+        if (bytes == null || bytes.length == 0 || bytes[0] != COMPRESSED_HEADER) {
+            return bytes;
+        }
+        return new InflaterInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1));
+    }
+
+    /**
+     * Buffers the JSON bytes until the threshold is exceeded, and switches to DEFLATE compression afterward.
+     */
+    static class ThresholdDeflaterOutputStream extends OutputStream {
+
+        private final int threshold;
+
+        private final int level;
+
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        private DeflaterOutputStream deflaterOutputStream;
+
+        private Deflater deflater;
+
+        ThresholdDeflaterOutputStream(int threshold, int level) {
+            this.threshold = threshold;
+            this.level = level;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (deflaterOutputStream == null && buffer.size() + length > threshold) {
+                byte[] uncompressed = buffer.toByteArray();
+                buffer.reset();
+                buffer.write(COMPRESSED_HEADER);
+                deflater = new Deflater(level);
+                deflaterOutputStream = new DeflaterOutputStream(buffer, deflater, 8192);
+                deflaterOutputStream.write(uncompressed);
+            }
+            if (deflaterOutputStream != null) {
+                deflaterOutputStream.write(bytes, offset, length);
+            } else {
+                buffer.write(bytes, offset, length);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (deflaterOutputStream != null) {
+                deflaterOutputStream.finish();
+                deflater.end();
+                deflaterOutputStream = null;
+            }
+        }
+
+        byte[] toByteArray() {
+            return buffer.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package io.hypersistence.utils.hibernate.type.json.internal;
+
+import tools.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@link JsonDiff} computes the structural changes between two {@link JsonNode} trees
+ * as a list of set and remove operations that can be applied in place by the database JSON functions.
+ * <p>
+ * Objects are compared property by property, and arrays element by element. When the target array
+ * is shorter than the source array, the whole array is replaced, while the extra target array elements
+ * are set past the end of the source array, which appends them.
+ *
+ * @author Vlad Mihalcea
+ */
+public class JsonDiff {
+
+    private final List<Operation> operations = new ArrayList<>();
+
+    private JsonDiff() {
+    }
+
+    /**
+     * Compute the operations that turn the source JSON into the target JSON.
+     *
+     * @param source source JSON
+     * @param target target JSON
+     * @return list of operations, which is empty if the two JSON trees are equal
+     */
+    public static List<Operation> diff(JsonNode source, JsonNode target) {
+        JsonDiff jsonDiff = new JsonDiff();
+        jsonDiff.diff(new ArrayList<>(), source, target);
+        return jsonDiff.operations;
+    }
+
+    private void diff(List<Object> path, JsonNode source, JsonNode target) {
+        if (source.equals(target)) {
+            return;
+        }
+        if (source.isObject() && target.isObject()) {
+            for (String propertyName : source.propertyNames()) {
+                if (!target.has(propertyName)) {
+                    operations.add(Operation.remove(child(path, propertyName)));
+                }
+            }
+            for (Map.Entry<String, JsonNode> property : target.properties()) {
+                JsonNode sourceValue = source.get(property.getKey());
+                if (sourceValue == null) {
+                    operations.add(Operation.set(child(path, property.getKey()), property.getValue()));
+                } else {
+                    diff(child(path, property.getKey()), sourceValue, property.getValue());
+                }
+            }
+        } else if (source.isArray() && target.isArray() && source.size() <= target.size()) {
+            for (int i = 0; i < source.size(); i++) {
+                diff(child(path, i), source.get(i), target.get(i));
+            }
+            for (int i = source.size(); i < target.size(); i++) {
+                operations.add(Operation.set(child(path, i), target.get(i)));
+            }
+        } else {
+            operations.add(Operation.set(path, target));
+        }
+    }
+
+    private static List<Object> child(List<Object> path, Object element) {
+        List<Object> childPath = new ArrayList<>(path.size() + 1);
+        childPath.addAll(path);
+        childPath.add(element);
+        return childPath;
+    }
+
+    /**
+     * JSON change operation
+     */
+    public static class Operation {
+
+        private final List<Object> path;
+
+        private final JsonNode value;
+
+        private Operation(List<Object> path, JsonNode value) {
+            this.path = Collections.unmodifiableList(path);
+            this.value = value;
+        }
+
+        static Operation set(List<Object> path, JsonNode value) {
+            return new Operation(path, value);
+        }
+
+        static Operation remove(List<Object> path) {
+            return new Operation(path, null);
+        }
+
+        /**
+         * Get the path of the changed JSON element, made of {@link String} property names
+         * and {@link Integer} array indexes. An empty path denotes the root element.
+         *
+         * @return path of the changed JSON element
+         */
+        public List<Object> getPath() {
+            return path;
+        }
+
+        /**
+         * Get the new value of the JSON element.
+         *
+         * @return new value, or {@code null} if the JSON element is removed
+         */
+        public JsonNode getValue() {
+            return value;
+        }
+
+        public boolean isRemove() {
+            return value == null;
+        }
+
+        @Override
+        public String toString() {
+            return isRemove() ? "remove " + path : "set " + path + " = " + value;
+        }
+    }
+}
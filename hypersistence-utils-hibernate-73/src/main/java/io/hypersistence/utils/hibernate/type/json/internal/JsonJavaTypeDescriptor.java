@@ -2,6 +2,10 @@ package io.hypersistence.utils.hibernate.type.json.internal;
 
 import io.hypersistence.utils.common.LogUtils;
 import io.hypersistence.utils.common.ReflectionUtils;
+import io.hypersistence.utils.hibernate.type.json.ImmutableJson;
+import io.hypersistence.utils.hibernate.type.json.LazyJson;
+import io.hypersistence.utils.hibernate.type.util.Configuration;
+import io.hypersistence.utils.hibernate.type.util.JsonFingerprint;
 import io.hypersistence.utils.hibernate.type.util.ObjectMapperWrapper;
 import org.hibernate.HibernateException;
 import org.hibernate.dialect.OracleDialect;
@@ -16,19 +20,32 @@ import org.hibernate.type.descriptor.java.*;
 import org.hibernate.type.descriptor.jdbc.JdbcType;
 import org.hibernate.type.descriptor.jdbc.JdbcTypeIndicators;
 import org.hibernate.usertype.DynamicParameterizedType;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Serializable;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Vlad Mihalcea
@@ -43,6 +60,20 @@ public class JsonJavaTypeDescriptor extends AbstractClassJavaType<Object> implem
 
     private JdbcType jdbcType;
 
+    private boolean fingerprintDirtyChecking;
+
+    private final SnapshotFingerprints snapshotFingerprints;
+
+    private double partialUpdateRatio;
+
+    private boolean immutable;
+
+    private Type lazyJsonType;
+
+    private transient volatile ObjectReader objectReader;
+
+    private transient volatile ObjectWriterHolder objectWriterHolder;
+
     public JsonJavaTypeDescriptor() {
         this(Object.class);
     }
@@ -52,13 +83,26 @@ public class JsonJavaTypeDescriptor extends AbstractClassJavaType<Object> implem
     }
 
     public JsonJavaTypeDescriptor(Class clazz, final ObjectMapperWrapper objectMapperWrapper) {
+        this(clazz, objectMapperWrapper, new SnapshotFingerprints(objectMapperWrapper));
+    }
+
+    private JsonJavaTypeDescriptor(Class clazz, final ObjectMapperWrapper objectMapperWrapper, final SnapshotFingerprints snapshotFingerprints) {
         super(clazz, new MutableMutabilityPlan<>() {
             @Override
             protected Object deepCopyNotNull(Object value) {
-                return objectMapperWrapper.clone(value);
+                if (value instanceof LazyJson) {
+                    LazyJson lazyJson = (LazyJson) value;
+                    Object lazyJsonValue = lazyJson.isMaterialized() ? lazyJson.get() : null;
+                    return lazyJson.copy(lazyJsonValue != null ? objectMapperWrapper.clone(lazyJsonValue) : null);
+                }
+                return snapshotFingerprints.record(objectMapperWrapper.clone(value));
             }
         });
         this.objectMapperWrapper = objectMapperWrapper;
+        this.snapshotFingerprints = snapshotFingerprints;
+        this.fingerprintDirtyChecking = objectMapperWrapper.isFingerprintDirtyChecking();
+        snapshotFingerprints.setEnabled(fingerprintDirtyChecking);
+        this.partialUpdateRatio = objectMapperWrapper.getPartialUpdateRatio();
         setPropertyClass(clazz);
     }
 
@@ -75,8 +119,8 @@ public class JsonJavaTypeDescriptor extends AbstractClassJavaType<Object> implem
     public void setParameterValues(Properties parameters) {
         Type type = null;
         final Object parameterTypeObject = parameters.get(PARAMETER_TYPE);
+        final MemberDetails xProperty = (MemberDetails) parameters.get(XPROPERTY);
         if (parameterTypeObject instanceof ParameterType) {
-            final MemberDetails xProperty = (MemberDetails) parameters.get(XPROPERTY);
             ParameterType parameterType = ((ParameterType) parameterTypeObject);
             if (xProperty != null && xProperty.getType().getTypeKind() == TypeDetails.Kind.TYPE_VARIABLE) {
                 type = parameterType.getReturnedClass();
@@ -92,6 +136,65 @@ public class JsonJavaTypeDescriptor extends AbstractClassJavaType<Object> implem
             throw new HibernateException("Could not resolve property type!");
         }
         setPropertyClass(type);
+        if (xProperty != null && xProperty.hasDirectAnnotationUsage(ImmutableJson.class)) {
+            this.immutable = true;
+        }
+
+        String immutable = Configuration.PropertyKey.JSON_IMMUTABLE.resolve(parameters);
+        if (immutable != null) {
+            this.immutable = Boolean.parseBoolean(immutable);
+        }
+
+        String fingerprintDirtyChecking = Configuration.PropertyKey.JSON_FINGERPRINT_DIRTY_CHECKING.resolve(parameters);
+        if (fingerprintDirtyChecking != null) {
+            this.fingerprintDirtyChecking = Boolean.parseBoolean(fingerprintDirtyChecking);
+            snapshotFingerprints.setEnabled(this.fingerprintDirtyChecking);
+        }
+
+        String partialUpdateRatio = Configuration.PropertyKey.JSON_PARTIAL_UPDATE_RATIO.resolve(parameters);
+        if (partialUpdateRatio != null) {
+            this.partialUpdateRatio = Double.parseDouble(partialUpdateRatio);
+        }
+    }
+
+    /**
+     * Is the JSON attribute immutable, so that it's neither deep-copied, nor compared by its JSON representation?
+     *
+     * @return {@code true} if the JSON attribute is immutable
+     */
+    public boolean isImmutable() {
+        return immutable;
+    }
+
+    @Override
+    public MutabilityPlan<Object> getMutabilityPlan() {
+        return immutable ? ImmutableMutabilityPlan.instance() : super.getMutabilityPlan();
+    }
+
+    /**
+     * Get the maximum ratio between the size of the changes and the size of the whole JSON document
+     * for which the {@link io.hypersistence.utils.hibernate.type.json.JsonPartialUpdateIntegrator} issues partial updates.
+     *
+     * @return partial update ratio, or {@code 0} if the partial updates are disabled
+     */
+    public double getPartialUpdateRatio() {
+        return partialUpdateRatio;
+    }
+
+    /**
+     * Convert the given JSON attribute value to a {@link JsonNode} tree.
+     *
+     * @param value JSON attribute value
+     * @return {@link JsonNode} tree
+     */
+    public JsonNode toJsonNode(Object value) {
+        if (value instanceof LazyJson && !((LazyJson) value).isMaterialized()) {
+            return objectMapperWrapper.toJsonNode(((LazyJson) value).getJsonString());
+        }
+        if (value instanceof String) {
+            return objectMapperWrapper.toJsonNode((String) value);
+        }
+        return objectMapperWrapper.toJsonNode(toString(value));
     }
 
     @Override
@@ -102,6 +205,23 @@ public class JsonJavaTypeDescriptor extends AbstractClassJavaType<Object> implem
         if (one == null || another == null) {
             return false;
         }
+        if (immutable) {
+            return one.equals(another);
+        }
+        if (one instanceof LazyJson && another instanceof LazyJson) {
+            LazyJson oneLazyJson = (LazyJson) one;
+            LazyJson anotherLazyJson = (LazyJson) another;
+            if (!oneLazyJson.isMaterialized() && !anotherLazyJson.isMaterialized()) {
+                if (oneLazyJson.getJson() == anotherLazyJson.getJson() ||
+                    oneLazyJson.getJsonString().equals(anotherLazyJson.getJsonString())) {
+                    return true;
+                }
+                return objectMapperWrapper.toJsonNode(oneLazyJson.getJsonString()).equals(
+                    objectMapperWrapper.toJsonNode(anotherLazyJson.getJsonString())
+                );
+            }
+            return areEqual(oneLazyJson.get(), anotherLazyJson.get());
+        }
         if (one instanceof String && another instanceof String) {
             return one.equals(another);
         }
@@ -109,11 +229,16 @@ public class JsonJavaTypeDescriptor extends AbstractClassJavaType<Object> implem
             (one instanceof Map && another instanceof Map)) {
             return Objects.equals(one, another);
         }
-        if (one.getClass().equals(another.getClass())) {
-            var equalsMethod = ReflectionUtils.getMethodOrNull(one.getClass(), "equals", Object.class);
-            if (equalsMethod != null && !Object.class.equals(equalsMethod.getDeclaringClass())) {
-                return one.equals(another);
+        if (one.getClass().equals(another.getClass()) && overridesEquals(one.getClass())) {
+            return one.equals(another);
+        }
+        if (fingerprintDirtyChecking) {
+            //The loaded state snapshot is the first argument, and its fingerprint was taken by deepCopy
+            JsonFingerprint oneFingerprint = snapshotFingerprints.get(one);
+            if (oneFingerprint == null) {
+                oneFingerprint = objectMapperWrapper.fingerprint(one);
             }
+            return oneFingerprint.equals(objectMapperWrapper.fingerprint(another));
         }
         return objectMapperWrapper.toJsonNode(objectMapperWrapper.toString(one)).equals(
             objectMapperWrapper.toJsonNode(objectMapperWrapper.toString(another))
@@ -122,22 +247,102 @@ public class JsonJavaTypeDescriptor extends AbstractClassJavaType<Object> implem
 
     @Override
     public String toString(Object value) {
-        return objectMapperWrapper.toString(value);
+        if (value instanceof LazyJson) {
+            LazyJson lazyJson = (LazyJson) value;
+            if (!lazyJson.isMaterialized()) {
+                return lazyJson.getJsonString();
+            }
+            value = lazyJson.get();
+        }
+        return objectMapperWrapper.toString(value, objectWriter(value));
     }
 
     @Override
     public Object fromString(CharSequence string) {
-        if(propertyClass == null) {
-            throw new HibernateException(
-                "The propertyClass in JsonTypeDescriptor is null, " +
-                    "hence it doesn't know to what Java Object type " +
-                    "to map the JSON column value that was read from the database!"
-            );
-        }
+        validatePropertyClass();
         if (String.class.isAssignableFrom(propertyClass)) {
             return string;
         }
-        return objectMapperWrapper.fromString((String) string, propertyType);
+        if (lazyJsonType != null) {
+            return LazyJson.ofJson(string.toString(), objectMapperWrapper, objectReader());
+        }
+        return objectMapperWrapper.fromString((String) string, objectReader());
+    }
+
+    /**
+     * Deserialize the JSON object from its UTF-8 encoded bytes, without creating an intermediary {@link String}.
+     *
+     * @param bytes UTF-8 encoded JSON
+     * @return JSON object
+     */
+    public Object fromBytes(byte[] bytes) {
+        validatePropertyClass();
+        if (String.class.isAssignableFrom(propertyClass)) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        if (lazyJsonType != null) {
+            return LazyJson.ofJson(bytes, objectMapperWrapper, objectReader());
+        }
+        return objectMapperWrapper.fromBytes(bytes, objectReader());
+    }
+
+    /**
+     * Deserialize the JSON object while reading the given {@link InputStream},
+     * so the whole JSON document is never materialized in memory.
+     *
+     * @param inputStream UTF-8 encoded JSON stream
+     * @return JSON object
+     */
+    public Object fromInputStream(InputStream inputStream) {
+        validatePropertyClass();
+        if (String.class.isAssignableFrom(propertyClass)) {
+            return new String(DataHelper.extractBytes(inputStream), StandardCharsets.UTF_8);
+        }
+        if (lazyJsonType != null) {
+            return LazyJson.ofJson(DataHelper.extractBytes(inputStream), objectMapperWrapper, objectReader());
+        }
+        return objectMapperWrapper.fromInputStream(inputStream, objectReader());
+    }
+
+    /**
+     * Deserialize the JSON object while reading the given {@link Reader},
+     * so the whole JSON document is never materialized in memory.
+     *
+     * @param reader JSON character stream
+     * @return JSON object
+     */
+    public Object fromReader(Reader reader) {
+        validatePropertyClass();
+        if (String.class.isAssignableFrom(propertyClass)) {
+            return DataHelper.extractString(reader);
+        }
+        if (lazyJsonType != null) {
+            return LazyJson.ofJson(DataHelper.extractString(reader), objectMapperWrapper, objectReader());
+        }
+        return objectMapperWrapper.fromReader(reader, objectReader());
+    }
+
+    /**
+     * Serialize the JSON object directly into the given {@link OutputStream}.
+     *
+     * @param value JSON object
+     * @param outputStream UTF-8 encoded JSON stream
+     */
+    public void toOutputStream(Object value, OutputStream outputStream) {
+        if (value instanceof LazyJson && !((LazyJson) value).isMaterialized()) {
+            value = ((LazyJson) value).getJsonString();
+        } else if (value instanceof LazyJson) {
+            value = ((LazyJson) value).get();
+        }
+        if (value instanceof String) {
+            try {
+                outputStream.write(((String) value).getBytes(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new HibernateException("Unable to write the JSON value", e);
+            }
+        } else {
+            objectMapperWrapper.toOutputStream(value, outputStream, objectWriter(value));
+        }
     }
 
     @SuppressWarnings({"unchecked"})
@@ -149,8 +354,18 @@ public class JsonJavaTypeDescriptor extends AbstractClassJavaType<Object> implem
 
         if (String.class.isAssignableFrom(type)) {
             return value instanceof String ? (X) value : (X) toString(value);
-        } else if (BinaryStream.class.isAssignableFrom(type) ||
-            byte[].class.isAssignableFrom(type)) {
+        } else if (byte[].class.isAssignableFrom(type)) {
+            if (value instanceof LazyJson) {
+                LazyJson lazyJson = (LazyJson) value;
+                if (!lazyJson.isMaterialized()) {
+                    return (X) lazyJson.getJsonBytes();
+                }
+                value = lazyJson.get();
+            }
+            return value instanceof String ?
+                (X) ((String) value).getBytes(StandardCharsets.UTF_8) :
+                (X) objectMapperWrapper.toBytes(value, objectWriter(value));
+        } else if (BinaryStream.class.isAssignableFrom(type)) {
             String stringValue = (value instanceof String) ? (String) value : toString(value);
 
             return (X) new ArrayBackedBinaryStream(DataHelper.extractBytes(new ByteArrayInputStream(stringValue.getBytes())));
@@ -185,40 +400,30 @@ public class JsonJavaTypeDescriptor extends AbstractClassJavaType<Object> implem
             return null;
         }
 
-        String stringValue;
-        if (value instanceof Map || value instanceof List) {
-            stringValue = toString(value);
-        } else {
-            Blob blob = null;
-            Clob clob = null;
-
-            if (Blob.class.isAssignableFrom(value.getClass())) {
-                blob = options.getLobCreator().wrap((Blob) value);
-            }  if (Clob.class.isAssignableFrom(value.getClass())) {
-                clob = options.getLobCreator().wrap((Clob) value);
-            }  else if (byte[].class.isAssignableFrom(value.getClass())) {
-                blob = options.getLobCreator().createBlob((byte[]) value);
-            } else if (InputStream.class.isAssignableFrom(value.getClass())) {
-                InputStream inputStream = (InputStream) value;
-                try {
-                    blob = options.getLobCreator().createBlob(inputStream, inputStream.available());
-                } catch (IOException e) {
-                    throw unknownWrap(value.getClass());
-                }
-            }
-
-            try {
-                if (blob != null) {
-                    stringValue = new String(DataHelper.extractBytes(blob.getBinaryStream()));
-                } else if (clob != null) {
-                    stringValue = DataHelper.extractString(clob);
-                } else {
-                    stringValue = value.toString();
-                }
-            } catch (SQLException e) {
+        if (value instanceof byte[]) {
+            return fromBytes((byte[]) value);
+        }
+        if (value instanceof Blob) {
+            try (InputStream inputStream = ((Blob) value).getBinaryStream()) {
+                return fromInputStream(inputStream);
+            } catch (SQLException | IOException e) {
                 throw new HibernateException("Unable to extract binary stream from Blob", e);
             }
         }
+        if (value instanceof Clob) {
+            try (Reader reader = ((Clob) value).getCharacterStream()) {
+                return fromReader(reader);
+            } catch (SQLException | IOException e) {
+                throw new HibernateException("Unable to extract character stream from Clob", e);
+            }
+        }
+        if (value instanceof InputStream) {
+            return fromInputStream((InputStream) value);
+        }
+
+        String stringValue = (value instanceof Map || value instanceof List) ?
+            toString(value) :
+            value.toString();
 
         try {
             return fromString(stringValue);
@@ -229,14 +434,53 @@ public class JsonJavaTypeDescriptor extends AbstractClassJavaType<Object> implem
         return fromString(stringValue);
     }
 
+    private ObjectReader objectReader() {
+        ObjectReader reader = objectReader;
+        if (reader == null) {
+            reader = objectMapperWrapper.getObjectReader(lazyJsonType != null ? lazyJsonType : propertyType);
+            objectReader = reader;
+        }
+        return reader;
+    }
+
+    private ObjectWriter objectWriter(Object value) {
+        if (value == null) {
+            return objectMapperWrapper.getObjectMapper().writer();
+        }
+        ObjectWriterHolder holder = objectWriterHolder;
+        if (holder == null || holder.clazz != value.getClass()) {
+            holder = new ObjectWriterHolder(value.getClass(), objectMapperWrapper.getObjectWriter(value.getClass()));
+            objectWriterHolder = holder;
+        }
+        return holder.objectWriter;
+    }
+
+    private void validatePropertyClass() {
+        if(propertyClass == null) {
+            throw new HibernateException(
+                "The propertyClass in JsonTypeDescriptor is null, " +
+                    "hence it doesn't know to what Java Object type " +
+                    "to map the JSON column value that was read from the database!"
+            );
+        }
+    }
+
     private void setPropertyClass(Type type) {
         this.propertyType = type;
+        this.objectReader = null;
         if (type instanceof ParameterizedType) {
             type = ((ParameterizedType) type).getRawType();
         } else if (type instanceof TypeVariable) {
             type = ((TypeVariable) type).getGenericDeclaration().getClass();
         }
         this.propertyClass = (Class) type;
+        this.immutable = isImmutableType(propertyClass, new HashSet<>());
+        this.lazyJsonType = null;
+        if (LazyJson.class.isAssignableFrom(propertyClass)) {
+            this.lazyJsonType = propertyType instanceof ParameterizedType ?
+                ((ParameterizedType) propertyType).getActualTypeArguments()[0] :
+                Object.class;
+        }
         validatePropertyType();
     }
 
@@ -279,5 +523,153 @@ public class JsonJavaTypeDescriptor extends AbstractClassJavaType<Object> implem
         this.jdbcType = jdbcType;
     }
 
+    private boolean isImmutableType(Class<?> clazz, Set<Class<?>> visitedRecords) {
+        return clazz.isAnnotationPresent(ImmutableJson.class) ||
+            objectMapperWrapper.isImmutableType(clazz) ||
+            (clazz.isRecord() && isImmutableRecord(clazz, visitedRecords));
+    }
+
+    /**
+     * A record is immutable only if all its components are immutable too, since a record component
+     * can reference a mutable object, like a {@link List}, that is changed in place.
+     */
+    private boolean isImmutableRecord(Class<?> recordClass, Set<Class<?>> visitedRecords) {
+        if (!visitedRecords.add(recordClass)) {
+            return true;
+        }
+        for (RecordComponent recordComponent : recordClass.getRecordComponents()) {
+            Class<?> componentType = recordComponent.getType();
+            if (!componentType.isPrimitive() &&
+                !componentType.isEnum() &&
+                !IMMUTABLE_VALUE_TYPES.contains(componentType) &&
+                !"java.time".equals(componentType.getPackageName()) &&
+                !isImmutableType(componentType, visitedRecords)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean overridesEquals(Class<?> clazz) {
+        Method equalsMethod = ReflectionUtils.getMethodOrNull(clazz, "equals", Object.class);
+        return equalsMethod != null && !Object.class.equals(equalsMethod.getDeclaringClass());
+    }
+
     private static final Set<Class> validatedTypes = new HashSet<>();
+
+    private static final Set<Class<?>> IMMUTABLE_VALUE_TYPES = Set.of(
+        String.class,
+        Boolean.class,
+        Character.class,
+        Byte.class,
+        Short.class,
+        Integer.class,
+        Long.class,
+        Float.class,
+        Double.class,
+        BigInteger.class,
+        BigDecimal.class,
+        UUID.class
+    );
+
+    /**
+     * Holds the {@link JsonFingerprint} of the loaded state snapshots created by the mutability plan,
+     * so that the flush-time dirty checking only fingerprints the current value.
+     * The snapshots are referenced weakly and matched by identity.
+     */
+    private static class SnapshotFingerprints implements Serializable {
+
+        private final ObjectMapperWrapper objectMapperWrapper;
+
+        private volatile boolean enabled;
+
+        private final transient ReferenceQueue<Object> referenceQueue = new ReferenceQueue<>();
+
+        private final transient Map<SnapshotKey, JsonFingerprint> fingerprints = new ConcurrentHashMap<>();
+
+        private SnapshotFingerprints(ObjectMapperWrapper objectMapperWrapper) {
+            this.objectMapperWrapper = objectMapperWrapper;
+        }
+
+        private void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+            if (!enabled) {
+                fingerprints.clear();
+            }
+        }
+
+        private Object record(Object snapshot) {
+            if (enabled && snapshot != null &&
+                !(snapshot instanceof String) &&
+                !(snapshot instanceof Collection) &&
+                !(snapshot instanceof Map) &&
+                !overridesEquals(snapshot.getClass())) {
+                expunge();
+                fingerprints.put(
+                    new SnapshotKey(snapshot, referenceQueue),
+                    objectMapperWrapper.fingerprint(snapshot)
+                );
+            }
+            return snapshot;
+        }
+
+        private JsonFingerprint get(Object snapshot) {
+            if (!enabled || fingerprints.isEmpty()) {
+                return null;
+            }
+            return fingerprints.get(new SnapshotKey(snapshot, null));
+        }
+
+        private void expunge() {
+            Reference<?> reference;
+            while ((reference = referenceQueue.poll()) != null) {
+                fingerprints.remove(reference);
+            }
+        }
+
+        private Object readResolve() {
+            SnapshotFingerprints snapshotFingerprints = new SnapshotFingerprints(objectMapperWrapper);
+            snapshotFingerprints.enabled = enabled;
+            return snapshotFingerprints;
+        }
+    }
+
+    private static class SnapshotKey extends WeakReference<Object> {
+
+        private final int hashCode;
+
+        private SnapshotKey(Object snapshot, ReferenceQueue<Object> referenceQueue) {
+            super(snapshot, referenceQueue);
+            this.hashCode = System.identityHashCode(snapshot);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SnapshotKey)) {
+                return false;
+            }
+            Object snapshot = get();
+            return snapshot != null && snapshot == ((SnapshotKey) o).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static class ObjectWriterHolder {
+
+        private final Class<?> clazz;
+
+        private final ObjectWriter objectWriter;
+
+        private ObjectWriterHolder(Class<?> clazz, ObjectWriter objectWriter) {
+            this.clazz = clazz;
+            this.objectWriter = objectWriter;
+        }
+    }
 }
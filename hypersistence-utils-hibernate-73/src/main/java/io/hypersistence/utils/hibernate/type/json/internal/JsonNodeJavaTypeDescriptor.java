@@ -1,24 +1,41 @@
 package io.hypersistence.utils.hibernate.type.json.internal;
 
+import io.hypersistence.utils.hibernate.type.util.Configuration;
 import tools.jackson.databind.JsonNode;
 import io.hypersistence.utils.hibernate.type.util.ObjectMapperWrapper;
 import org.hibernate.SharedSessionContract;
 import org.hibernate.type.descriptor.WrapperOptions;
 import org.hibernate.type.descriptor.java.AbstractClassJavaType;
+import org.hibernate.type.descriptor.java.ImmutableMutabilityPlan;
+import org.hibernate.type.descriptor.java.MutabilityPlan;
 import org.hibernate.type.descriptor.java.MutableMutabilityPlan;
+import org.hibernate.usertype.ParameterizedType;
 
 import java.io.Serializable;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Properties;
 
 /**
+ * The {@link JsonNodeJavaTypeDescriptor} compares the {@link JsonNode} trees structurally,
+ * so that numbers are compared by their value (e.g., {@code 1} equals {@code 1.0}).
+ * <p>
+ * When the {@code hypersistence.utils.json.node.frozen} property is enabled, the {@link JsonNode} trees
+ * are considered frozen, so they are never deep-copied and the loaded state snapshot shares the tree
+ * with the entity attribute. In this mode, the trees must not be changed in place. Instead, a new tree
+ * has to be set on the entity attribute, and that new tree can share the unchanged subtrees with the old one.
+ *
  * @author Vlad Mihalcea
  */
 public class JsonNodeJavaTypeDescriptor
-        extends AbstractClassJavaType<JsonNode> {
+        extends AbstractClassJavaType<JsonNode> implements ParameterizedType {
 
     public static final JsonNodeJavaTypeDescriptor INSTANCE = new JsonNodeJavaTypeDescriptor();
 
     private ObjectMapperWrapper objectMapperWrapper;
 
+    private boolean frozen;
+
     public JsonNodeJavaTypeDescriptor() {
         this(ObjectMapperWrapper.INSTANCE);
     }
@@ -26,6 +43,24 @@ public class JsonNodeJavaTypeDescriptor
     public JsonNodeJavaTypeDescriptor(final ObjectMapperWrapper objectMapperWrapper) {
         super(JsonNode.class, JsonBinaryMutabilityPlan.INSTANCE);
         this.objectMapperWrapper = objectMapperWrapper;
+        this.frozen = objectMapperWrapper.isFrozenJsonNode();
+    }
+
+    @Override
+    public void setParameterValues(Properties parameters) {
+        String frozen = Configuration.PropertyKey.JSON_NODE_FROZEN.resolve(parameters);
+        if (frozen != null) {
+            this.frozen = Boolean.parseBoolean(frozen);
+        }
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    @Override
+    public MutabilityPlan<JsonNode> getMutabilityPlan() {
+        return frozen ? ImmutableMutabilityPlan.instance() : super.getMutabilityPlan();
     }
 
     @Override
@@ -36,8 +71,55 @@ public class JsonNodeJavaTypeDescriptor
         if (one == null || another == null) {
             return false;
         }
-        return objectMapperWrapper.toJsonNode(objectMapperWrapper.toString(one)).equals(
-                objectMapperWrapper.toJsonNode(objectMapperWrapper.toString(another)));
+        if (one.isPojo() || another.isPojo()) {
+            return areEqual(
+                one.isPojo() ? objectMapperWrapper.toJsonNode(toString(one)) : one,
+                another.isPojo() ? objectMapperWrapper.toJsonNode(toString(another)) : another
+            );
+        }
+        if (one.isNumber() && another.isNumber()) {
+            return areNumbersEqual(one, another);
+        }
+        if (one.isObject() && another.isObject()) {
+            if (one.size() != another.size()) {
+                return false;
+            }
+            for (Map.Entry<String, JsonNode> property : one.properties()) {
+                JsonNode anotherValue = another.get(property.getKey());
+                if (anotherValue == null || !areEqual(property.getValue(), anotherValue)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (one.isArray() && another.isArray()) {
+            if (one.size() != another.size()) {
+                return false;
+            }
+            Iterator<JsonNode> oneElements = one.iterator();
+            Iterator<JsonNode> anotherElements = another.iterator();
+            while (oneElements.hasNext()) {
+                if (!areEqual(oneElements.next(), anotherElements.next())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return one.equals(another);
+    }
+
+    private boolean areNumbersEqual(JsonNode one, JsonNode another) {
+        if (one.isIntegralNumber() && another.isIntegralNumber()) {
+            return one.bigIntegerValue().equals(another.bigIntegerValue());
+        }
+        if (isNonFinite(one) || isNonFinite(another)) {
+            return one.equals(another);
+        }
+        return one.decimalValue().compareTo(another.decimalValue()) == 0;
+    }
+
+    private boolean isNonFinite(JsonNode node) {
+        return (node.isDouble() || node.isFloat()) && !Double.isFinite(node.doubleValue());
     }
 
     @Override
@@ -59,8 +141,11 @@ public class JsonNodeJavaTypeDescriptor
         if (String.class.isAssignableFrom(type)) {
             return (X) toString(value);
         }
+        if (byte[].class.isAssignableFrom(type)) {
+            return (X) objectMapperWrapper.toBytes(value);
+        }
         if (JsonNode.class.isAssignableFrom(type)) {
-            return (X) objectMapperWrapper.toJsonNode(toString(value));
+            return (X) value;
         }
         throw unknownUnwrap(type);
     }
@@ -70,6 +155,9 @@ public class JsonNodeJavaTypeDescriptor
         if (value == null) {
             return null;
         }
+        if (value instanceof byte[]) {
+            return objectMapperWrapper.toJsonNode((byte[]) value);
+        }
         return fromString(value.toString());
     }
 
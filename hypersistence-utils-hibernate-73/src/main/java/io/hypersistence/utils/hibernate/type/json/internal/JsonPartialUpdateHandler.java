@@ -0,0 +1,231 @@
+package io.hypersistence.utils.hibernate.type.json.internal;
+
+import io.hypersistence.utils.hibernate.type.MutableType;
+import io.hypersistence.utils.hibernate.type.util.PartialUpdateHandler;
+import org.hibernate.boot.Metadata;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MariaDBDialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.mapping.Column;
+import org.hibernate.mapping.PersistentClass;
+import org.hibernate.mapping.Property;
+import org.hibernate.mapping.Selectable;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.CustomType;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.Type;
+import tools.jackson.databind.JsonNode;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The {@link JsonPartialUpdateHandler} updates in place the JSON attributes that have the partial updates enabled
+ * and are mapped to the JSON column type of the database, like {@code jsonb} on PostgreSQL or {@code json} on MySQL.
+ * <p>
+ * It computes the {@link JsonDiff} between the loaded state and the current attribute value, and if the changes
+ * are small enough, they are applied using {@code jsonb_set} and {@code #-} on PostgreSQL,
+ * or {@code JSON_SET} and {@code JSON_REMOVE} on MySQL. Otherwise, the whole JSON document is rewritten.
+ *
+ * @author Vlad Mihalcea
+ */
+public class JsonPartialUpdateHandler implements PartialUpdateHandler {
+
+    private final Dialect dialect;
+
+    private final Set<String> jsonColumnProperties;
+
+    public JsonPartialUpdateHandler(Metadata metadata, Dialect dialect) {
+        this.dialect = dialect;
+        this.jsonColumnProperties = jsonColumnProperties(metadata, dialect);
+    }
+
+    @Override
+    public boolean supports(EntityPersister persister, int property) {
+        JsonJavaTypeDescriptor javaTypeDescriptor = jsonJavaTypeDescriptor(persister.getPropertyTypes()[property]);
+        return javaTypeDescriptor != null && javaTypeDescriptor.getPartialUpdateRatio() > 0 &&
+            jsonColumnProperties.contains(persister.getEntityName() + '.' + persister.getPropertyNames()[property]);
+    }
+
+    @Override
+    public Assignment assignment(EntityPersister persister, int property, String columnName, Object loadedValue, Object value) {
+        JsonJavaTypeDescriptor javaTypeDescriptor = jsonJavaTypeDescriptor(persister.getPropertyTypes()[property]);
+        JsonNode target = javaTypeDescriptor.toJsonNode(value);
+        List<JsonDiff.Operation> operations = JsonDiff.diff(
+            javaTypeDescriptor.toJsonNode(loadedValue),
+            target
+        );
+        if (operations.isEmpty()) {
+            return null;
+        }
+        for (JsonDiff.Operation operation : operations) {
+            if (operation.getPath().isEmpty()) {
+                return null;
+            }
+        }
+        List<String> parameters = new ArrayList<>();
+        String expression = updateExpression(dialect, columnName, operations, parameters);
+        long changesLength = 0;
+        for (String parameter : parameters) {
+            changesLength += parameter.length();
+        }
+        if (changesLength > javaTypeDescriptor.getPartialUpdateRatio() * length(target)) {
+            return null;
+        }
+        return new Assignment() {
+            @Override
+            public String getExpression() {
+                return expression;
+            }
+
+            @Override
+            public int bind(PreparedStatement statement, int index) throws SQLException {
+                for (String parameter : parameters) {
+                    statement.setString(index++, parameter);
+                }
+                return index;
+            }
+        };
+    }
+
+    private static Set<String> jsonColumnProperties(Metadata metadata, Dialect dialect) {
+        String jsonColumnType = metadata.getDatabase().getTypeConfiguration().getDdlTypeRegistry()
+            .getTypeName(SqlTypes.JSON, dialect);
+        Set<String> jsonColumnProperties = new HashSet<>();
+        for (PersistentClass persistentClass : metadata.getEntityBindings()) {
+            for (Property property : persistentClass.getPropertyClosure()) {
+                List<Selectable> selectables = property.getValue().getSelectables();
+                if (selectables.size() == 1 && selectables.get(0) instanceof Column &&
+                    isColumnType(((Column) selectables.get(0)).getSqlType(metadata), jsonColumnType)) {
+                    jsonColumnProperties.add(persistentClass.getEntityName() + '.' + property.getName());
+                }
+            }
+        }
+        return jsonColumnProperties;
+    }
+
+    private static boolean isColumnType(String sqlType, String columnType) {
+        if (sqlType == null) {
+            return false;
+        }
+        String type = sqlType.trim().toLowerCase(Locale.ROOT);
+        int end = 0;
+        while (end < type.length() && Character.isLetterOrDigit(type.charAt(end))) {
+            end++;
+        }
+        return type.substring(0, end).equals(columnType.toLowerCase(Locale.ROOT));
+    }
+
+    private JsonJavaTypeDescriptor jsonJavaTypeDescriptor(Type type) {
+        if (type instanceof CustomType) {
+            Object userType = ((CustomType<?>) type).getUserType();
+            if (userType instanceof MutableType) {
+                Object javaTypeDescriptor = ((MutableType<?, ?, ?>) userType).getJavaTypeDescriptor();
+                if (javaTypeDescriptor instanceof JsonJavaTypeDescriptor) {
+                    return (JsonJavaTypeDescriptor) javaTypeDescriptor;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the approximate length of the JSON document, without serializing the {@link JsonNode} tree.
+     *
+     * @param node JSON node
+     * @return JSON document length, ignoring the escaped characters
+     */
+    static long length(JsonNode node) {
+        if (node.isObject()) {
+            long length = node.isEmpty() ? 2 : 1;
+            for (Map.Entry<String, JsonNode> property : node.properties()) {
+                length += property.getKey().length() + 4 + length(property.getValue());
+            }
+            return length;
+        }
+        if (node.isArray()) {
+            long length = node.isEmpty() ? 2 : 1;
+            for (JsonNode element : node.values()) {
+                length += length(element) + 1;
+            }
+            return length;
+        }
+        if (node.isString()) {
+            return node.stringValue().length() + 2;
+        }
+        return node.isNull() ? 4 : node.asString().length();
+    }
+
+    public static boolean supports(Dialect dialect) {
+        return dialect instanceof PostgreSQLDialect ||
+            (dialect instanceof MySQLDialect && !(dialect instanceof MariaDBDialect));
+    }
+
+    /**
+     * Build the SQL expression that applies the given operations to the JSON column.
+     *
+     * @param dialect database dialect
+     * @param columnName JSON column name
+     * @param operations JSON operations
+     * @param parameters the list the bind parameter values are added to
+     * @return SQL expression
+     */
+    static String updateExpression(Dialect dialect, String columnName, List<JsonDiff.Operation> operations, List<String> parameters) {
+        boolean postgreSQL = dialect instanceof PostgreSQLDialect;
+        String expression = columnName;
+        for (JsonDiff.Operation operation : operations) {
+            if (postgreSQL) {
+                parameters.add(postgreSQLPath(operation.getPath()));
+                if (operation.isRemove()) {
+                    expression = "(" + expression + " #- cast(? as text[]))";
+                } else {
+                    parameters.add(operation.getValue().toString());
+                    expression = "jsonb_set(" + expression + ", cast(? as text[]), cast(? as jsonb))";
+                }
+            } else {
+                parameters.add(mySQLPath(operation.getPath()));
+                if (operation.isRemove()) {
+                    expression = "JSON_REMOVE(" + expression + ", ?)";
+                } else {
+                    parameters.add(operation.getValue().toString());
+                    expression = "JSON_SET(" + expression + ", ?, CAST(? AS JSON))";
+                }
+            }
+        }
+        return expression;
+    }
+
+    static String postgreSQLPath(List<Object> path) {
+        StringBuilder builder = new StringBuilder("{");
+        for (Object element : path) {
+            if (builder.length() > 1) {
+                builder.append(',');
+            }
+            builder.append('"').append(escape(element.toString())).append('"');
+        }
+        return builder.append('}').toString();
+    }
+
+    static String mySQLPath(List<Object> path) {
+        StringBuilder builder = new StringBuilder("$");
+        for (Object element : path) {
+            if (element instanceof Integer) {
+                builder.append('[').append(element).append(']');
+            } else {
+                builder.append(".\"").append(escape((String) element)).append('"');
+            }
+        }
+        return builder.toString();
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -0,0 +1,547 @@
+package io.hypersistence.utils.hibernate.type.range;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Represents an ordered set of non-empty, non-overlapping {@link Range} objects, following the semantics
+ * of the PostgreSQL 14 <a href="https://www.postgresql.org/docs/current/rangetypes.html">multirange</a> types.
+ * <p>
+ * The ranges are sorted by their lower bounds, and the overlapping or adjacent ranges are merged when the
+ * {@link MultiRange} is created, so the {@link MultiRange#contains(Comparable)}, {@link MultiRange#contains(Range)}
+ * and {@link MultiRange#overlaps(Range)} checks use a binary search instead of scanning every range.
+ * <p>
+ * Like PostgreSQL, the {@code Integer}, {@code Long} and {@code LocalDate} ranges are converted to the canonical
+ * {@code [a,b)} form first, so {@code {[1,3],[4,6]}} becomes {@code {[1,7)}}, and a multirange read from
+ * the database is equal to the one that was written.
+ * <p>
+ * For example:
+ * <pre>{@code
+ *     MultiRange<Integer> multiRange = MultiRange.integerMultiRange("{[1,3),[5,7)}");
+ *
+ *     assertTrue(multiRange.contains(6));
+ *     assertFalse(multiRange.contains(3));
+ *     assertTrue(multiRange.overlaps(Range.integerRange("[2,4)")));
+ * }</pre>
+ *
+ * @author Vlad Mihalcea
+ */
+public final class MultiRange<T extends Comparable<? super T>> implements Serializable {
+
+    public static final String EMPTY = "{}";
+
+    private final List<Range<T>> ranges;
+
+    private final Class<T> clazz;
+
+    private MultiRange(List<Range<T>> ranges, Class<T> clazz) {
+        this.ranges = ranges;
+        this.clazz = clazz;
+    }
+
+    /**
+     * Creates the multirange containing the provided ranges. The discrete ranges are converted to the canonical
+     * {@code [a,b)} form, the empty ranges are discarded, and the overlapping or adjacent ranges are merged.
+     *
+     * @param clazz  The range class, never null.
+     * @param ranges The ranges.
+     * @param <T>    The type of bounds.
+     *
+     * @return The multirange.
+     */
+    @SafeVarargs
+    public static <T extends Comparable<? super T>> MultiRange<T> of(Class<T> clazz, Range<T>... ranges) {
+        return of(clazz, Arrays.asList(ranges));
+    }
+
+    /**
+     * Creates the multirange containing the provided ranges. The discrete ranges are converted to the canonical
+     * {@code [a,b)} form, the empty ranges are discarded, and the overlapping or adjacent ranges are merged.
+     *
+     * @param clazz  The range class, never null.
+     * @param ranges The ranges.
+     * @param <T>    The type of bounds.
+     *
+     * @return The multirange.
+     */
+    public static <T extends Comparable<? super T>> MultiRange<T> of(Class<T> clazz, Collection<Range<T>> ranges) {
+        Objects.requireNonNull(clazz);
+        List<Range<T>> sortedRanges = new ArrayList<>(ranges.size());
+        for (Range<T> range : ranges) {
+            range = canonical(range, clazz);
+            if (!isEmpty(range)) {
+                sortedRanges.add(range);
+            }
+        }
+        sortedRanges.sort(MultiRange::compareLower);
+
+        List<Range<T>> mergedRanges = new ArrayList<>(sortedRanges.size());
+        Range<T> current = null;
+        for (Range<T> range : sortedRanges) {
+            if (current == null) {
+                current = range;
+            } else if (!hasGap(current, range)) {
+                if (compareUpper(current, range) < 0) {
+                    current = current.span(range);
+                }
+            } else {
+                mergedRanges.add(current);
+                current = range;
+            }
+        }
+        if (current != null) {
+            mergedRanges.add(current);
+        }
+        return new MultiRange<>(Collections.unmodifiableList(mergedRanges), clazz);
+    }
+
+    /**
+     * Creates the empty multirange. In other words the multirange that contains no ranges.
+     *
+     * @param clazz The range class, never null.
+     * @param <T>   The type of bounds.
+     *
+     * @return The empty multirange.
+     */
+    public static <T extends Comparable<? super T>> MultiRange<T> empty(Class<T> clazz) {
+        return new MultiRange<>(Collections.emptyList(), Objects.requireNonNull(clazz));
+    }
+
+    /**
+     * Creates the multirange from the provided string, using the range parser for every range literal:
+     * <pre>{@code
+     *     MultiRange<Integer> multiRange = MultiRange.ofString("{[1,3),[5,7)}", Range::integerRange, Integer.class);
+     * }</pre>
+     *
+     * @param str         The multirange string, for example {@literal "{[1,3),[5,7)}"}.
+     * @param rangeParser The range literal parser.
+     * @param clazz       The range class, never null.
+     * @param <T>         The type of bounds.
+     *
+     * @return The multirange.
+     */
+    public static <T extends Comparable<? super T>> MultiRange<T> ofString(String str, Function<String, Range<T>> rangeParser, Class<T> clazz) {
+        int start = 0;
+        int end = str.length();
+        while (start < end && Character.isWhitespace(str.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(str.charAt(end - 1))) {
+            end--;
+        }
+        if (end - start < 2 || str.charAt(start) != '{' || str.charAt(end - 1) != '}') {
+            throw new IllegalArgumentException("The multirange [" + str + "] must be enclosed by curly braces!");
+        }
+
+        List<Range<T>> ranges = new ArrayList<>();
+        int i = start + 1;
+        end--;
+        while (i < end) {
+            char c = str.charAt(i);
+            if (c == ',' || Character.isWhitespace(c)) {
+                i++;
+                continue;
+            }
+            int rangeStart = i;
+            if (c == '[' || c == '(') {
+                boolean quoted = false;
+                while (i < end) {
+                    c = str.charAt(i++);
+                    if (c == '\\' && quoted) {
+                        i++;
+                    } else if (c == '"') {
+                        quoted = !quoted;
+                    } else if (!quoted && (c == ']' || c == ')')) {
+                        break;
+                    }
+                }
+            } else {
+                while (i < end && str.charAt(i) != ',') {
+                    i++;
+                }
+            }
+            ranges.add(rangeParser.apply(str.substring(rangeStart, i)));
+        }
+        return of(clazz, ranges);
+    }
+
+    /**
+     * Creates the {@code BigDecimal} multirange from provided string:
+     * <pre>{@code
+     *     MultiRange<BigDecimal> multiRange = MultiRange.bigDecimalMultiRange("{[0.1,1.1],(2.5,3.5)}");
+     * }</pre>
+     *
+     * @param multiRange The multirange string.
+     *
+     * @return The multirange of {@code BigDecimal}s.
+     */
+    public static MultiRange<BigDecimal> bigDecimalMultiRange(String multiRange) {
+        return ofString(multiRange, Range::bigDecimalRange, BigDecimal.class);
+    }
+
+    /**
+     * Creates the {@code Integer} multirange from provided string:
+     * <pre>{@code
+     *     MultiRange<Integer> multiRange = MultiRange.integerMultiRange("{[1,3),[5,7)}");
+     * }</pre>
+     *
+     * @param multiRange The multirange string.
+     *
+     * @return The multirange of {@code Integer}s.
+     */
+    public static MultiRange<Integer> integerMultiRange(String multiRange) {
+        return ofString(multiRange, Range::integerRange, Integer.class);
+    }
+
+    /**
+     * Creates the {@code Long} multirange from provided string:
+     * <pre>{@code
+     *     MultiRange<Long> multiRange = MultiRange.longMultiRange("{[1,3),[5,7)}");
+     * }</pre>
+     *
+     * @param multiRange The multirange string.
+     *
+     * @return The multirange of {@code Long}s.
+     */
+    public static MultiRange<Long> longMultiRange(String multiRange) {
+        return ofString(multiRange, Range::longRange, Long.class);
+    }
+
+    /**
+     * Creates the {@code LocalDateTime} multirange from provided string:
+     * <pre>{@code
+     *     MultiRange<LocalDateTime> multiRange = MultiRange.localDateTimeMultiRange("{[2019-03-27 16:33:10,2019-03-28 16:33:10)}");
+     * }</pre>
+     *
+     * @param multiRange The multirange string.
+     *
+     * @return The multirange of {@code LocalDateTime}s.
+     */
+    public static MultiRange<LocalDateTime> localDateTimeMultiRange(String multiRange) {
+        return ofString(multiRange, Range::localDateTimeRange, LocalDateTime.class);
+    }
+
+    /**
+     * Creates the {@code LocalDate} multirange from provided string:
+     * <pre>{@code
+     *     MultiRange<LocalDate> multiRange = MultiRange.localDateMultiRange("{[2019-03-27,2019-03-28),[2019-04-01,)}");
+     * }</pre>
+     *
+     * @param multiRange The multirange string.
+     *
+     * @return The multirange of {@code LocalDate}s.
+     */
+    public static MultiRange<LocalDate> localDateMultiRange(String multiRange) {
+        return ofString(multiRange, Range::localDateRange, LocalDate.class);
+    }
+
+    /**
+     * Creates the {@code ZonedDateTime} multirange from provided string:
+     * <pre>{@code
+     *     MultiRange<ZonedDateTime> multiRange = MultiRange.zonedDateTimeMultiRange("{[\"2019-03-27 16:33:10+01\",\"2019-03-28 16:33:10+01\")}");
+     * }</pre>
+     *
+     * @param multiRange The multirange string.
+     *
+     * @return The multirange of {@code ZonedDateTime}s.
+     */
+    public static MultiRange<ZonedDateTime> zonedDateTimeMultiRange(String multiRange) {
+        return ofString(multiRange, Range::zonedDateTimeRange, ZonedDateTime.class);
+    }
+
+    /**
+     * Returns the sorted, non-overlapping ranges of this multirange.
+     *
+     * @return The unmodifiable list of ranges.
+     */
+    public List<Range<T>> getRanges() {
+        return ranges;
+    }
+
+    public int size() {
+        return ranges.size();
+    }
+
+    public boolean isEmpty() {
+        return ranges.isEmpty();
+    }
+
+    /**
+     * Determines whether any range of this multirange contains this point or not.
+     *
+     * @param point The point to check.
+     *
+     * @return Whether {@code point} in this multirange or not.
+     */
+    public boolean contains(T point) {
+        int low = 0;
+        int high = ranges.size() - 1;
+        int candidate = -1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            Range<T> range = ranges.get(middle);
+            if (!range.hasLowerBound() || range.lower().compareTo(point) <= 0) {
+                candidate = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return candidate >= 0 && ranges.get(candidate).contains(point);
+    }
+
+    /**
+     * Determines whether a single range of this multirange fully encloses this range or not.
+     *
+     * @param range The range to check.
+     *
+     * @return Whether {@code range} in this multirange or not.
+     */
+    public boolean contains(Range<T> range) {
+        range = canonical(range, clazz);
+        if (isEmpty(range)) {
+            return true;
+        }
+        int low = 0;
+        int high = ranges.size() - 1;
+        int candidate = -1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (compareLower(ranges.get(middle), range) <= 0) {
+                candidate = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return candidate >= 0 && compareUpper(range, ranges.get(candidate)) <= 0;
+    }
+
+    /**
+     * Determines whether this multirange contains every range of the other multirange or not.
+     *
+     * @param multiRange The multirange to check.
+     *
+     * @return Whether {@code multiRange} in this multirange or not.
+     */
+    public boolean contains(MultiRange<T> multiRange) {
+        for (Range<T> range : multiRange.ranges) {
+            if (!contains(range)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Determines whether any range of this multirange has points in common with this range or not.
+     *
+     * @param range The range to check.
+     *
+     * @return Whether {@code range} overlaps this multirange or not.
+     */
+    public boolean overlaps(Range<T> range) {
+        range = canonical(range, clazz);
+        if (isEmpty(range)) {
+            return false;
+        }
+        int low = 0;
+        int high = ranges.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (isBefore(ranges.get(middle), range)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low < ranges.size() && !isBefore(range, ranges.get(low));
+    }
+
+    /**
+     * Determines whether this multirange has points in common with the other multirange or not.
+     *
+     * @param multiRange The multirange to check.
+     *
+     * @return Whether {@code multiRange} overlaps this multirange or not.
+     */
+    public boolean overlaps(MultiRange<T> multiRange) {
+        int i = 0;
+        int j = 0;
+        while (i < ranges.size() && j < multiRange.ranges.size()) {
+            Range<T> range = ranges.get(i);
+            Range<T> otherRange = multiRange.ranges.get(j);
+            if (isBefore(range, otherRange)) {
+                i++;
+            } else if (isBefore(otherRange, range)) {
+                j++;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public String asString() {
+        if (ranges.isEmpty()) {
+            return EMPTY;
+        }
+        StringBuilder sb = new StringBuilder().append('{');
+        for (int i = 0; i < ranges.size(); i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(ranges.get(i).asString());
+        }
+        return sb.append('}').toString();
+    }
+
+    Class<T> getClazz() {
+        return clazz;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MultiRange)) return false;
+        MultiRange<?> multiRange = (MultiRange<?>) o;
+        return Objects.equals(ranges, multiRange.ranges) &&
+                Objects.equals(clazz, multiRange.clazz);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(ranges, clazz);
+    }
+
+    @Override
+    public String toString() {
+        return "MultiRange{" + "ranges=" + ranges +
+                ", clazz=" + clazz +
+                '}';
+    }
+
+    /**
+     * Converts the {@code Integer}, {@code Long} and {@code LocalDate} ranges to the {@code [a,b)} form
+     * PostgreSQL uses for the discrete range types. The other ranges, and the discrete ranges whose bounds
+     * cannot be incremented, are returned as they are.
+     */
+    private static <T extends Comparable<? super T>> Range<T> canonical(Range<T> range, Class<T> clazz) {
+        if (!(Integer.class.equals(clazz) || Long.class.equals(clazz) || LocalDate.class.equals(clazz)) ||
+            range.isEmpty() || (!range.hasLowerBound() && !range.hasUpperBound())) {
+            return range;
+        }
+        T lower = range.hasLowerBound() && !range.isLowerBoundClosed() ? next(range.lower()) : range.lower();
+        T upper = range.hasUpperBound() && range.isUpperBoundClosed() ? next(range.upper()) : range.upper();
+        if ((range.hasLowerBound() && lower == null) || (range.hasUpperBound() && upper == null)) {
+            return range;
+        }
+        if (!range.hasLowerBound()) {
+            return Range.infiniteOpen(upper);
+        }
+        if (!range.hasUpperBound()) {
+            return Range.closedInfinite(lower);
+        }
+        return Range.closedOpen(lower, upper);
+    }
+
+    /**
+     * Returns the value following the given discrete value, or {@code null} if there is no such value.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T next(T value) {
+        if (value instanceof Integer) {
+            int intValue = (Integer) value;
+            return intValue < Integer.MAX_VALUE ? (T) Integer.valueOf(intValue + 1) : null;
+        }
+        if (value instanceof Long) {
+            long longValue = (Long) value;
+            return longValue < Long.MAX_VALUE ? (T) Long.valueOf(longValue + 1) : null;
+        }
+        LocalDate date = (LocalDate) value;
+        return date.isBefore(LocalDate.MAX) ? (T) date.plusDays(1) : null;
+    }
+
+    /**
+     * Determines whether the range contains no points, including the {@code [a,a)} and {@code (a,a]} ranges
+     * that PostgreSQL normalizes to {@code empty}.
+     */
+    private static <T extends Comparable<? super T>> boolean isEmpty(Range<T> range) {
+        if (range.isEmpty()) {
+            return true;
+        }
+        return range.hasLowerBound() && range.hasUpperBound() &&
+            range.lower() != null && range.upper() != null &&
+            range.lower().compareTo(range.upper()) == 0 &&
+            !(range.isLowerBoundClosed() && range.isUpperBoundClosed());
+    }
+
+    /**
+     * Compares the lower bounds, an unbounded lower bound being the smallest, and an inclusive bound
+     * coming before an exclusive bound with the same value.
+     */
+    private static <T extends Comparable<? super T>> int compareLower(Range<T> first, Range<T> second) {
+        if (!first.hasLowerBound()) {
+            return second.hasLowerBound() ? -1 : 0;
+        }
+        if (!second.hasLowerBound()) {
+            return 1;
+        }
+        int result = first.lower().compareTo(second.lower());
+        if (result != 0) {
+            return result;
+        }
+        return Boolean.compare(second.isLowerBoundClosed(), first.isLowerBoundClosed());
+    }
+
+    /**
+     * Compares the upper bounds, an unbounded upper bound being the largest, and an exclusive bound
+     * coming before an inclusive bound with the same value.
+     */
+    private static <T extends Comparable<? super T>> int compareUpper(Range<T> first, Range<T> second) {
+        if (!first.hasUpperBound()) {
+            return second.hasUpperBound() ? 1 : 0;
+        }
+        if (!second.hasUpperBound()) {
+            return -1;
+        }
+        int result = first.upper().compareTo(second.upper());
+        if (result != 0) {
+            return result;
+        }
+        return Boolean.compare(first.isUpperBoundClosed(), second.isUpperBoundClosed());
+    }
+
+    /**
+     * Determines whether the first range ends before the second range starts, so that they have no points in common.
+     */
+    private static <T extends Comparable<? super T>> boolean isBefore(Range<T> first, Range<T> second) {
+        if (!first.hasUpperBound() || !second.hasLowerBound()) {
+            return false;
+        }
+        int result = first.upper().compareTo(second.lower());
+        return result < 0 || result == 0 && !(first.isUpperBoundClosed() && second.isLowerBoundClosed());
+    }
+
+    /**
+     * Determines whether there is a gap between the end of the first range and the start of the second range,
+     * so that the two ranges cannot be merged.
+     */
+    private static <T extends Comparable<? super T>> boolean hasGap(Range<T> first, Range<T> second) {
+        if (!first.hasUpperBound() || !second.hasLowerBound()) {
+            return false;
+        }
+        int result = first.upper().compareTo(second.lower());
+        return result < 0 || result == 0 && !first.isUpperBoundClosed() && !second.isLowerBoundClosed();
+    }
+}
@@ -0,0 +1,162 @@
+package io.hypersistence.utils.hibernate.type.range;
+
+import io.hypersistence.utils.hibernate.type.ImmutableType;
+import io.hypersistence.utils.hibernate.type.util.Configuration;
+import io.hypersistence.utils.hibernate.type.util.PGobjectAccessor;
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.usertype.DynamicParameterizedType;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.util.Properties;
+
+/**
+ * Maps a {@link MultiRange} object type to a PostgreSQL 14
+ * <a href="https://www.postgresql.org/docs/current/rangetypes.html">multirange</a> column type.
+ * <p>
+ * Supported multirange types:
+ * <ul>
+ * <li>int4multirange</li>
+ * <li>int8multirange</li>
+ * <li>nummultirange</li>
+ * <li>tsmultirange</li>
+ * <li>tstzmultirange</li>
+ * <li>datemultirange</li>
+ * </ul>
+ *
+ * @author Vlad Mihalcea
+ */
+public class PostgreSQLMultiRangeType extends ImmutableType<MultiRange> implements DynamicParameterizedType {
+
+    public static final PostgreSQLMultiRangeType INSTANCE = new PostgreSQLMultiRangeType();
+
+    private Type type;
+
+    public PostgreSQLMultiRangeType() {
+        super(MultiRange.class);
+    }
+
+    public PostgreSQLMultiRangeType(org.hibernate.type.spi.TypeBootstrapContext typeBootstrapContext) {
+        super(MultiRange.class, new Configuration(typeBootstrapContext.getConfigurationSettings()));
+    }
+
+    @Override
+    public int getSqlType() {
+        return Types.OTHER;
+    }
+
+    @Override
+    protected MultiRange get(ResultSet rs, int position, SharedSessionContractImplementor session, Object owner) throws SQLException {
+        Object pgObject = rs.getObject(position);
+
+        if (pgObject == null) {
+            return null;
+        }
+
+        String type = PGobjectAccessor.getType(pgObject);
+        String value = PGobjectAccessor.getValue(pgObject);
+
+        switch (type) {
+            case "int4multirange":
+                return MultiRange.integerMultiRange(value);
+            case "int8multirange":
+                return MultiRange.longMultiRange(value);
+            case "nummultirange":
+                return MultiRange.bigDecimalMultiRange(value);
+            case "tsmultirange":
+                return MultiRange.localDateTimeMultiRange(value);
+            case "tstzmultirange":
+                return MultiRange.zonedDateTimeMultiRange(value);
+            case "datemultirange":
+                return MultiRange.localDateMultiRange(value);
+            default:
+                throw new HibernateException(
+                    new IllegalStateException("The multirange type [" + type + "] is not supported!")
+                );
+        }
+    }
+
+    @Override
+    protected void set(PreparedStatement st, MultiRange multiRange, int index, SharedSessionContractImplementor session) throws SQLException {
+
+        if (multiRange == null) {
+            st.setNull(index, Types.OTHER);
+        } else {
+            Object holder = PGobjectAccessor.newPGobject(determineMultiRangeType(multiRange), multiRange.asString());
+            st.setObject(index, holder);
+        }
+    }
+
+    private static String determineMultiRangeType(MultiRange<?> multiRange) {
+        Class<?> clazz = multiRange.getClazz();
+
+        if (clazz.equals(Integer.class)) {
+            return "int4multirange";
+        } else if (clazz.equals(Long.class)) {
+            return "int8multirange";
+        } else if (clazz.equals(BigDecimal.class)) {
+            return "nummultirange";
+        } else if (clazz.equals(LocalDateTime.class)) {
+            return "tsmultirange";
+        } else if (clazz.equals(ZonedDateTime.class)) {
+            return "tstzmultirange";
+        } else if (clazz.equals(LocalDate.class)) {
+            return "datemultirange";
+        }
+
+        throw new HibernateException(
+            new IllegalStateException("The class [" + clazz.getName() + "] is not supported!")
+        );
+    }
+
+    @Override
+    public void setParameterValues(Properties parameters) {
+        type = ((ParameterType) parameters.get(PARAMETER_TYPE)).getReturnedJavaType();
+    }
+
+    public Class<?> getElementType() {
+        return type instanceof ParameterizedType ?
+                (Class<?>) ((ParameterizedType) type).getActualTypeArguments()[0] : null;
+    }
+
+    @Override
+    public MultiRange fromStringValue(CharSequence sequence) throws HibernateException {
+        if (sequence != null) {
+            String stringValue = sequence.toString();
+            Class<?> clazz = getElementType();
+            if (clazz != null) {
+                if (Integer.class.isAssignableFrom(clazz)) {
+                    return MultiRange.integerMultiRange(stringValue);
+                }
+                if (Long.class.isAssignableFrom(clazz)) {
+                    return MultiRange.longMultiRange(stringValue);
+                }
+                if (BigDecimal.class.isAssignableFrom(clazz)) {
+                    return MultiRange.bigDecimalMultiRange(stringValue);
+                }
+                if (LocalDateTime.class.isAssignableFrom(clazz)) {
+                    return MultiRange.localDateTimeMultiRange(stringValue);
+                }
+                if (ZonedDateTime.class.isAssignableFrom(clazz)) {
+                    return MultiRange.zonedDateTimeMultiRange(stringValue);
+                }
+                if (LocalDate.class.isAssignableFrom(clazz)) {
+                    return MultiRange.localDateMultiRange(stringValue);
+                }
+                throw new HibernateException(
+                    new IllegalStateException("The multirange type [" + type + "] is not supported!")
+                );
+            }
+        }
+        return null;
+    }
+}
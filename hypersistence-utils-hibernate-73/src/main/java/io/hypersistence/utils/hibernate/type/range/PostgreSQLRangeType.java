@@ -2,7 +2,7 @@ package io.hypersistence.utils.hibernate.type.range;
 
 import io.hypersistence.utils.hibernate.type.ImmutableType;
 import io.hypersistence.utils.hibernate.type.util.Configuration;
-import io.hypersistence.utils.common.ReflectionUtils;
+import io.hypersistence.utils.hibernate.type.util.PGobjectAccessor;
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.usertype.DynamicParameterizedType;
@@ -67,8 +67,8 @@ public class PostgreSQLRangeType extends ImmutableType<Range> implements Dynamic
             return null;
         }
 
-        String type = ReflectionUtils.invokeGetter(pgObject, "type");
-        String value = ReflectionUtils.invokeGetter(pgObject, "value");
+        String type = PGobjectAccessor.getType(pgObject);
+        String value = PGobjectAccessor.getValue(pgObject);
 
         switch (type) {
             case "int4range":
@@ -96,9 +96,7 @@ public class PostgreSQLRangeType extends ImmutableType<Range> implements Dynamic
         if (range == null) {
             st.setNull(index, Types.OTHER);
         } else {
-            Object holder = ReflectionUtils.newInstance("org.postgresql.util.PGobject");
-            ReflectionUtils.invokeSetter(holder, "type", determineRangeType(range));
-            ReflectionUtils.invokeSetter(holder, "value", range.asString());
+            Object holder = PGobjectAccessor.newPGobject(determineRangeType(range), range.asString());
             st.setObject(index, holder);
         }
     }
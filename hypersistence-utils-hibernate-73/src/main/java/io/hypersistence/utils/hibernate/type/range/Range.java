@@ -1,5 +1,8 @@
 package io.hypersistence.utils.hibernate.type.range;
 
+import io.hypersistence.utils.hibernate.type.range.internal.RangeLiteralParser;
+import io.hypersistence.utils.hibernate.type.range.internal.RangeLiteralParser.BoundParser;
+
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.time.*;
@@ -10,6 +13,9 @@ import java.time.temporal.ChronoField;
 import java.util.Objects;
 import java.util.function.Function;
 
+import static io.hypersistence.utils.hibernate.type.range.internal.RangeLiteralParser.LOWER;
+import static io.hypersistence.utils.hibernate.type.range.internal.RangeLiteralParser.UPPER;
+
 /**
  * Represents the range/interval with two bounds. Abstraction follows the semantics of the mathematical interval. The
  * range can be unbounded, empty or open from the left or/and unbounded from the right. The range supports half-open or closed
@@ -40,14 +46,6 @@ public final class Range<T extends Comparable<? super T>> implements Serializabl
 
     public static final String INFINITY = "infinity";
 
-    private static final DateTimeFormatter LOCAL_DATE_TIME = new DateTimeFormatterBuilder()
-        .appendPattern("yyyy-MM-dd HH:mm:ss")
-        .optionalStart()
-        .appendPattern(".")
-        .appendFraction(ChronoField.NANO_OF_SECOND, 1, 6, false)
-        .optionalEnd()
-        .toFormatter();
-
     private static final DateTimeFormatter ZONE_DATE_TIME = new DateTimeFormatterBuilder()
         .appendPattern("yyyy-MM-dd HH:mm:ss")
         .optionalStart()
@@ -272,40 +270,45 @@ public final class Range<T extends Comparable<? super T>> implements Serializabl
         );
     }
 
+    /**
+     * Creates the range from the provided string, using the given converter for the bound values.
+     * <p>
+     * The converter gets each bound value as it appears in the range literal, so a quoted bound
+     * value is passed along with its quotes and escape characters.
+     *
+     * @param str       The range literal, never null.
+     * @param converter The bound value converter, never null.
+     * @param clazz     The range class, never null.
+     * @param <T>       The type of bounds.
+     *
+     * @return The range.
+     */
     public static <T extends Comparable<? super T>> Range<T> ofString(String str, Function<String, T> converter, Class<T> clazz) {
-        if(str.equals(EMPTY)) {
-            return emptyRange(clazz);
-        }
-
-        int mask = str.charAt(0) == '[' ? LOWER_INCLUSIVE : LOWER_EXCLUSIVE;
-        mask |= str.charAt(str.length() - 1) == ']' ? UPPER_INCLUSIVE : UPPER_EXCLUSIVE;
-
-        int delim = str.indexOf(',');
-
-        if (delim == -1) {
-            throw new IllegalArgumentException("Cannot find comma character");
-        }
-
-        String lowerStr = str.substring(1, delim);
-        String upperStr = str.substring(delim + 1, str.length() - 1);
+        return ofString(str, (parser, bound) -> converter.apply(parser.getRawString(bound)), clazz);
+    }
 
-        if (lowerStr.length() == 0 || lowerStr.endsWith(INFINITY)) {
-            mask |= LOWER_INFINITE;
+    private static <T extends Comparable<? super T>> Range<T> ofString(String str, BoundParser<T> boundParser, Class<T> clazz) {
+        RangeLiteralParser parser = new RangeLiteralParser(str);
+        if (parser.isEmpty()) {
+            return emptyRange(clazz);
         }
 
-        if (upperStr.length() == 0 || upperStr.endsWith(INFINITY)) {
-            mask |= UPPER_INFINITE;
-        }
+        int mask = parser.isInclusive(LOWER) ? LOWER_INCLUSIVE : LOWER_EXCLUSIVE;
+        mask |= parser.isInclusive(UPPER) ? UPPER_INCLUSIVE : UPPER_EXCLUSIVE;
 
         T lower = null;
         T upper = null;
 
-        if ((mask & LOWER_INFINITE) != LOWER_INFINITE) {
-            lower = converter.apply(lowerStr);
+        if (parser.isInfinite(LOWER)) {
+            mask |= LOWER_INFINITE;
+        } else {
+            lower = parser.get(LOWER, boundParser);
         }
 
-        if ((mask & UPPER_INFINITE) != UPPER_INFINITE) {
-            upper = converter.apply(upperStr);
+        if (parser.isInfinite(UPPER)) {
+            mask |= UPPER_INFINITE;
+        } else {
+            upper = parser.get(UPPER, boundParser);
         }
 
         return new Range<>(lower, upper, mask, clazz);
@@ -327,7 +330,7 @@ public final class Range<T extends Comparable<? super T>> implements Serializabl
      * @throws NumberFormatException when one of the bounds are invalid.
      */
     public static Range<BigDecimal> bigDecimalRange(String range) {
-        return ofString(range, BigDecimal::new, BigDecimal.class);
+        return ofString(range, RangeLiteralParser::getBigDecimal, BigDecimal.class);
     }
 
     /**
@@ -347,7 +350,7 @@ public final class Range<T extends Comparable<? super T>> implements Serializabl
      * @throws NumberFormatException when one of the bounds are invalid.
      */
     public static Range<Integer> integerRange(String range) {
-        return ofString(range, Integer::parseInt, Integer.class);
+        return ofString(range, RangeLiteralParser::getInteger, Integer.class);
     }
 
     /**
@@ -367,7 +370,7 @@ public final class Range<T extends Comparable<? super T>> implements Serializabl
      * @throws NumberFormatException when one of the bounds are invalid.
      */
     public static Range<Long> longRange(String range) {
-        return ofString(range, Long::parseLong, Long.class);
+        return ofString(range, RangeLiteralParser::getLong, Long.class);
     }
 
     /**
@@ -391,7 +394,7 @@ public final class Range<T extends Comparable<? super T>> implements Serializabl
      * @throws DateTimeParseException when one of the bounds are invalid.
      */
     public static Range<LocalDateTime> localDateTimeRange(String range) {
-        return ofString(range, parseLocalDateTime().compose(unquote()), LocalDateTime.class);
+        return ofString(range, RangeLiteralParser::getLocalDateTime, LocalDateTime.class);
     }
 
     /**
@@ -415,8 +418,7 @@ public final class Range<T extends Comparable<? super T>> implements Serializabl
      * @throws DateTimeParseException when one of the bounds are invalid.
      */
     public static Range<LocalDate> localDateRange(String range) {
-        Function<String, LocalDate> parseLocalDate = LocalDate::parse;
-        return ofString(range, parseLocalDate.compose(unquote()), LocalDate.class);
+        return ofString(range, RangeLiteralParser::getLocalDate, LocalDate.class);
     }
 
     /**
@@ -441,7 +443,7 @@ public final class Range<T extends Comparable<? super T>> implements Serializabl
      * @throws IllegalArgumentException when bounds time zones are different.
      */
     public static Range<ZonedDateTime> zonedDateTimeRange(String rangeStr) {
-        Range<ZonedDateTime> range = ofString(rangeStr, parseZonedDateTime().compose(unquote()), ZonedDateTime.class);
+        Range<ZonedDateTime> range = ofString(rangeStr, RangeLiteralParser::getZonedDateTime, ZonedDateTime.class);
         if (range.hasLowerBound() && range.hasUpperBound() && !EMPTY.equals(rangeStr)) {
             ZoneId lowerZone = range.lower().getZone();
             ZoneId upperZone = range.upper().getZone();
@@ -465,36 +467,6 @@ public final class Range<T extends Comparable<? super T>> implements Serializabl
         return range;
     }
 
-    private static Function<String, LocalDateTime> parseLocalDateTime() {
-        return s -> {
-            try {
-                return LocalDateTime.parse(s, LOCAL_DATE_TIME);
-            } catch (DateTimeParseException e) {
-                return LocalDateTime.parse(s);
-            }
-        };
-    }
-
-    private static Function<String, ZonedDateTime> parseZonedDateTime() {
-        return s -> {
-            try {
-                return ZonedDateTime.parse(s, ZONE_DATE_TIME);
-            } catch (DateTimeParseException e) {
-                return ZonedDateTime.parse(s);
-            }
-        };
-    }
-
-    private static Function<String, String> unquote() {
-        return s -> {
-            if (s.charAt(0) == '\"' && s.charAt(s.length() - 1) == '\"') {
-                return s.substring(1, s.length() - 1);
-            }
-
-            return s;
-        };
-    }
-
     public boolean isBounded() {
         return !hasMask(LOWER_INFINITE) && !hasMask(UPPER_INFINITE);
     }
@@ -677,4 +649,20 @@ public final class Range<T extends Comparable<? super T>> implements Serializabl
     Class<T> getClazz() {
         return clazz;
     }
+
+    /**
+     * Creates the range that starts with the lower bound of this range and ends with the upper bound of the other range.
+     *
+     * @param other The range providing the upper bound.
+     *
+     * @return The spanning range.
+     */
+    Range<T> span(Range<T> other) {
+        return new Range<>(
+            lower,
+            other.upper,
+            (mask & (LOWER_INCLUSIVE | LOWER_INFINITE)) | (other.mask & (UPPER_INCLUSIVE | UPPER_INFINITE)),
+            clazz
+        );
+    }
 }
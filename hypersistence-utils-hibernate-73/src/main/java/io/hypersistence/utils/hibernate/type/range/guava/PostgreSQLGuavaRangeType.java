@@ -3,7 +3,9 @@ package io.hypersistence.utils.hibernate.type.range.guava;
 import com.google.common.collect.BoundType;
 import com.google.common.collect.Range;
 import io.hypersistence.utils.hibernate.type.ImmutableType;
-import io.hypersistence.utils.common.ReflectionUtils;
+import io.hypersistence.utils.hibernate.type.range.internal.RangeLiteralParser;
+import io.hypersistence.utils.hibernate.type.range.internal.RangeLiteralParser.BoundParser;
+import io.hypersistence.utils.hibernate.type.util.PGobjectAccessor;
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.models.internal.jdk.JdkFieldDetails;
@@ -24,6 +26,9 @@ import java.time.temporal.ChronoField;
 import java.util.Properties;
 import java.util.function.Function;
 
+import static io.hypersistence.utils.hibernate.type.range.internal.RangeLiteralParser.LOWER;
+import static io.hypersistence.utils.hibernate.type.range.internal.RangeLiteralParser.UPPER;
+
 /**
  * Maps a {@link Range} object type to a PostgreSQL <a href="https://www.postgresql.org/docs/current/rangetypes.html">range</a>
  * column type.
@@ -79,14 +84,6 @@ public class PostgreSQLGuavaRangeType extends ImmutableType<Range> implements Dy
      */
     private static final Range<LocalDate> EMPTY_DATE_RANGE = Range.closedOpen(LocalDate.MIN, LocalDate.MIN);
 
-    private static final DateTimeFormatter LOCAL_DATE_TIME = new DateTimeFormatterBuilder()
-        .appendPattern("yyyy-MM-dd HH:mm:ss")
-        .optionalStart()
-        .appendPattern(".")
-        .appendFraction(ChronoField.NANO_OF_SECOND, 1, 6, false)
-        .optionalEnd()
-        .toFormatter();
-
     private static final DateTimeFormatter OFFSET_DATE_TIME = new DateTimeFormatterBuilder()
             .appendPattern("yyyy-MM-dd HH:mm:ss")
             .optionalStart()
@@ -124,8 +121,8 @@ public class PostgreSQLGuavaRangeType extends ImmutableType<Range> implements Dy
             return null;
         }
 
-        String type = ReflectionUtils.invokeGetter(pgObject, "type");
-        String value = ReflectionUtils.invokeGetter(pgObject, "value");
+        String type = PGobjectAccessor.getType(pgObject);
+        String value = PGobjectAccessor.getValue(pgObject);
 
         switch (type) {
             case "int4range":
@@ -152,9 +149,7 @@ public class PostgreSQLGuavaRangeType extends ImmutableType<Range> implements Dy
         if (range == null) {
             st.setNull(index, Types.OTHER);
         } else {
-            Object holder = ReflectionUtils.newInstance("org.postgresql.util.PGobject");
-            ReflectionUtils.invokeSetter(holder, "type", determineRangeType(range));
-            ReflectionUtils.invokeSetter(holder, "value", asString(range));
+            Object holder = PGobjectAccessor.newPGobject(determineRangeType(range), asString(range));
             st.setObject(index, holder);
         }
     }
@@ -195,6 +190,10 @@ public class PostgreSQLGuavaRangeType extends ImmutableType<Range> implements Dy
     }
 
     public static <T extends Comparable<?>> Range<T> ofString(String str, Function<String, T> converter, Class<T> clazz) {
+        return ofString(str, (parser, bound) -> converter.apply(parser.getRawString(bound)), clazz);
+    }
+
+    private static <T extends Comparable<?>> Range<T> ofString(String str, BoundParser<T> boundParser, Class<T> clazz) {
         if ("empty".equals(str)) {
             if (clazz.equals(Integer.class)) {
                 return (Range<T>) EMPTY_INT_RANGE;
@@ -217,40 +216,30 @@ public class PostgreSQLGuavaRangeType extends ImmutableType<Range> implements Dy
             );
         }
 
-        BoundType lowerBound = str.charAt(0) == '[' ? BoundType.CLOSED : BoundType.OPEN;
-        BoundType upperBound = str.charAt(str.length() - 1) == ']' ? BoundType.CLOSED : BoundType.OPEN;
-
-        int delim = str.indexOf(',');
-
-        if (delim == -1) {
-            throw new HibernateException(
-                new IllegalArgumentException("Cannot find comma character")
-            );
-        }
-
-        String lowerStr = str.substring(1, delim);
-        String upperStr = str.substring(delim + 1, str.length() - 1);
+        RangeLiteralParser parser = parse(str);
+        BoundType lowerBound = parser.isInclusive(LOWER) ? BoundType.CLOSED : BoundType.OPEN;
+        BoundType upperBound = parser.isInclusive(UPPER) ? BoundType.CLOSED : BoundType.OPEN;
 
         T lower = null;
         T upper = null;
 
-        if (lowerStr.length() > 0) {
-            lower = converter.apply(lowerStr);
+        if (parser.hasValue(LOWER)) {
+            lower = parser.get(LOWER, boundParser);
         }
 
-        if (upperStr.length() > 0) {
-            upper = converter.apply(upperStr);
+        if (parser.hasValue(UPPER)) {
+            upper = parser.get(UPPER, boundParser);
         }
 
         if (lower == null && upper == null && upperBound == BoundType.OPEN && lowerBound == BoundType.OPEN) {
             return Range.all();
         }
 
-        if (lowerStr.length() == 0) {
+        if (!parser.hasValue(LOWER)) {
             return upperBound == BoundType.CLOSED ?
                     Range.atMost(upper) :
                     Range.lessThan(upper);
-        } else if (upperStr.length() == 0) {
+        } else if (!parser.hasValue(UPPER)) {
             return lowerBound == BoundType.CLOSED ?
                     Range.atLeast(lower) :
                     Range.greaterThan(lower);
@@ -275,7 +264,7 @@ public class PostgreSQLGuavaRangeType extends ImmutableType<Range> implements Dy
      * @throws NumberFormatException when one of the bounds are invalid.
      */
     public static Range<BigDecimal> bigDecimalRange(String range) {
-        return ofString(range, BigDecimal::new, BigDecimal.class);
+        return ofString(range, RangeLiteralParser::getBigDecimal, BigDecimal.class);
     }
 
     /**
@@ -295,7 +284,7 @@ public class PostgreSQLGuavaRangeType extends ImmutableType<Range> implements Dy
      * @throws NumberFormatException when one of the bounds are invalid.
      */
     public static Range<Integer> integerRange(String range) {
-        return ofString(range, Integer::parseInt, Integer.class);
+        return ofString(range, RangeLiteralParser::getInteger, Integer.class);
     }
 
     /**
@@ -315,7 +304,7 @@ public class PostgreSQLGuavaRangeType extends ImmutableType<Range> implements Dy
      * @throws NumberFormatException when one of the bounds are invalid.
      */
     public static Range<Long> longRange(String range) {
-        return ofString(range, Long::parseLong, Long.class);
+        return ofString(range, RangeLiteralParser::getLong, Long.class);
     }
 
     /**
@@ -339,7 +328,7 @@ public class PostgreSQLGuavaRangeType extends ImmutableType<Range> implements Dy
      * @throws DateTimeParseException when one of the bounds are invalid.
      */
     public static Range<LocalDateTime> localDateTimeRange(String range) {
-        return ofString(range, parseLocalDateTime().compose(unquote()), LocalDateTime.class);
+        return ofString(range, RangeLiteralParser::getLocalDateTime, LocalDateTime.class);
     }
 
     /**
@@ -363,8 +352,7 @@ public class PostgreSQLGuavaRangeType extends ImmutableType<Range> implements Dy
      * @throws DateTimeParseException when one of the bounds are invalid.
      */
     public static Range<LocalDate> localDateRange(String range) {
-        Function<String, LocalDate> parseLocalDate = LocalDate::parse;
-        return ofString(range, parseLocalDate.compose(unquote()), LocalDate.class);
+        return ofString(range, RangeLiteralParser::getLocalDate, LocalDate.class);
     }
 
     /**
@@ -389,7 +377,7 @@ public class PostgreSQLGuavaRangeType extends ImmutableType<Range> implements Dy
      * @throws IllegalArgumentException when bounds time zones are different.
      */
     public static Range<ZonedDateTime> zonedDateTimeRange(String rangeStr) {
-        Range<ZonedDateTime> range = ofString(rangeStr, parseZonedDateTime().compose(unquote()), ZonedDateTime.class);
+        Range<ZonedDateTime> range = ofString(rangeStr, RangeLiteralParser::getZonedDateTime, ZonedDateTime.class);
         if (range.hasLowerBound() && range.hasUpperBound()) {
             ZoneId lowerZone = range.lowerEndpoint().getZone();
             ZoneId upperZone = range.upperEndpoint().getZone();
@@ -437,47 +425,15 @@ public class PostgreSQLGuavaRangeType extends ImmutableType<Range> implements Dy
      * @throws IllegalArgumentException when bounds time zones are different.
      */
     public static Range<OffsetDateTime> offsetDateTimeRange(String rangeStr) {
-        return ofString(rangeStr, parseOffsetDateTime().compose(unquote()), OffsetDateTime.class);
-    }
-
-    private static Function<String, LocalDateTime> parseLocalDateTime() {
-        return str -> {
-            try {
-                return LocalDateTime.parse(str, LOCAL_DATE_TIME);
-            } catch (DateTimeParseException e) {
-                return LocalDateTime.parse(str);
-            }
-        };
-    }
-
-    private static Function<String, ZonedDateTime> parseZonedDateTime() {
-        return s -> {
-            try {
-                return ZonedDateTime.parse(s, OFFSET_DATE_TIME);
-            } catch (DateTimeParseException e) {
-                return ZonedDateTime.parse(s);
-            }
-        };
+        return ofString(rangeStr, RangeLiteralParser::getOffsetDateTime, OffsetDateTime.class);
     }
 
-    private static Function<String, OffsetDateTime> parseOffsetDateTime() {
-        return s -> {
-            try {
-                return OffsetDateTime.parse(s, OFFSET_DATE_TIME);
-            } catch (DateTimeParseException e) {
-                return OffsetDateTime.parse(s);
-            }
-        };
-    }
-
-    private static Function<String, String> unquote() {
-        return s -> {
-            if (s.charAt(0) == '\"' && s.charAt(s.length() - 1) == '\"') {
-                return s.substring(1, s.length() - 1);
-            }
-
-            return s;
-        };
+    private static RangeLiteralParser parse(String str) {
+        try {
+            return new RangeLiteralParser(str);
+        } catch (IllegalArgumentException e) {
+            throw new HibernateException(e);
+        }
     }
 
     public String asString(Range range) {
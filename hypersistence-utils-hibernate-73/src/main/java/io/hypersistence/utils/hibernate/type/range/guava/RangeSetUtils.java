@@ -0,0 +1,107 @@
+package io.hypersistence.utils.hibernate.type.range.guava;
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.ImmutableRangeSet;
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeSet;
+import io.hypersistence.utils.hibernate.type.range.MultiRange;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@link RangeSetUtils} converts a {@link MultiRange} to a Guava {@link RangeSet} and vice versa,
+ * so that the PostgreSQL multirange column values can be used with the Guava {@link RangeSet} API.
+ *
+ * @author Vlad Mihalcea
+ */
+public final class RangeSetUtils {
+
+    private RangeSetUtils() {
+        throw new UnsupportedOperationException("RangeSetUtils is not instantiable!");
+    }
+
+    /**
+     * Convert the {@link MultiRange} to a Guava {@link ImmutableRangeSet}.
+     *
+     * @param multiRange {@link MultiRange} to convert
+     * @param <T>        The type of bounds.
+     * @return the equivalent {@link ImmutableRangeSet}
+     */
+    public static <T extends Comparable<? super T>> ImmutableRangeSet<T> toRangeSet(MultiRange<T> multiRange) {
+        ImmutableRangeSet.Builder<T> builder = ImmutableRangeSet.builder();
+        for (io.hypersistence.utils.hibernate.type.range.Range<T> range : multiRange.getRanges()) {
+            builder.add(toGuavaRange(range));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Convert the Guava {@link RangeSet} to a {@link MultiRange}.
+     *
+     * @param rangeSet {@link RangeSet} to convert
+     * @param clazz    The range class, never null.
+     * @param <T>      The type of bounds.
+     * @return the equivalent {@link MultiRange}
+     */
+    public static <T extends Comparable<? super T>> MultiRange<T> toMultiRange(RangeSet<T> rangeSet, Class<T> clazz) {
+        List<io.hypersistence.utils.hibernate.type.range.Range<T>> ranges = new ArrayList<>();
+        for (Range<T> range : rangeSet.asRanges()) {
+            ranges.add(fromGuavaRange(range, clazz));
+        }
+        return MultiRange.of(clazz, ranges);
+    }
+
+    /**
+     * Convert the {@link io.hypersistence.utils.hibernate.type.range.Range} to a Guava {@link Range}.
+     *
+     * @param range non-empty range to convert
+     * @param <T>   The type of bounds.
+     * @return the equivalent Guava {@link Range}
+     */
+    public static <T extends Comparable<? super T>> Range<T> toGuavaRange(io.hypersistence.utils.hibernate.type.range.Range<T> range) {
+        BoundType lowerBoundType = range.isLowerBoundClosed() ? BoundType.CLOSED : BoundType.OPEN;
+        BoundType upperBoundType = range.isUpperBoundClosed() ? BoundType.CLOSED : BoundType.OPEN;
+
+        if (range.hasLowerBound() && range.hasUpperBound()) {
+            return Range.range(range.lower(), lowerBoundType, range.upper(), upperBoundType);
+        } else if (range.hasLowerBound()) {
+            return Range.downTo(range.lower(), lowerBoundType);
+        } else if (range.hasUpperBound()) {
+            return Range.upTo(range.upper(), upperBoundType);
+        }
+        return Range.all();
+    }
+
+    /**
+     * Convert the Guava {@link Range} to a {@link io.hypersistence.utils.hibernate.type.range.Range}.
+     *
+     * @param range Guava {@link Range} to convert
+     * @param clazz The range class, never null.
+     * @param <T>   The type of bounds.
+     * @return the equivalent {@link io.hypersistence.utils.hibernate.type.range.Range}
+     */
+    public static <T extends Comparable<? super T>> io.hypersistence.utils.hibernate.type.range.Range<T> fromGuavaRange(Range<T> range, Class<T> clazz) {
+        if (range.hasLowerBound() && range.hasUpperBound()) {
+            boolean lowerClosed = range.lowerBoundType() == BoundType.CLOSED;
+            boolean upperClosed = range.upperBoundType() == BoundType.CLOSED;
+            if (lowerClosed && upperClosed) {
+                return io.hypersistence.utils.hibernate.type.range.Range.closed(range.lowerEndpoint(), range.upperEndpoint());
+            } else if (lowerClosed) {
+                return io.hypersistence.utils.hibernate.type.range.Range.closedOpen(range.lowerEndpoint(), range.upperEndpoint());
+            } else if (upperClosed) {
+                return io.hypersistence.utils.hibernate.type.range.Range.openClosed(range.lowerEndpoint(), range.upperEndpoint());
+            }
+            return io.hypersistence.utils.hibernate.type.range.Range.open(range.lowerEndpoint(), range.upperEndpoint());
+        } else if (range.hasLowerBound()) {
+            return range.lowerBoundType() == BoundType.CLOSED ?
+                io.hypersistence.utils.hibernate.type.range.Range.closedInfinite(range.lowerEndpoint()) :
+                io.hypersistence.utils.hibernate.type.range.Range.openInfinite(range.lowerEndpoint());
+        } else if (range.hasUpperBound()) {
+            return range.upperBoundType() == BoundType.CLOSED ?
+                io.hypersistence.utils.hibernate.type.range.Range.infiniteClosed(range.upperEndpoint()) :
+                io.hypersistence.utils.hibernate.type.range.Range.infiniteOpen(range.upperEndpoint());
+        }
+        return io.hypersistence.utils.hibernate.type.range.Range.infinite(clazz);
+    }
+}
@@ -0,0 +1,491 @@
+package io.hypersistence.utils.hibernate.type.range.internal;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+
+/**
+ * The {@link RangeLiteralParser} reads a PostgreSQL range literal, like {@code [1,10)} or
+ * {@code ["2014-04-28 16:00:49","2015-04-28 16:00:49"]}, in a single pass, recording the bound types
+ * and the region of each bound value, so that the bound values can be converted without a substring.
+ * <p>
+ * The {@code int}, {@code long}, date and timestamp bound values are parsed directly from the literal characters.
+ * Only the bound values that are not in the format used by PostgreSQL fall back to the
+ * {@link DateTimeFormatter} parsing, so no exception is used for control flow.
+ *
+ * @author Vlad Mihalcea
+ */
+public final class RangeLiteralParser {
+
+    public static final int LOWER = 0;
+
+    public static final int UPPER = 1;
+
+    private static final String EMPTY = "empty";
+
+    private static final String INFINITY = "infinity";
+
+    private static final int LOCAL_DATE_LENGTH = 10;
+
+    private static final int LOCAL_DATE_TIME_LENGTH = 19;
+
+    private static final int MAX_FRACTION_DIGITS = 9;
+
+    private static final DateTimeFormatter LOCAL_DATE_TIME = new DateTimeFormatterBuilder()
+        .appendPattern("yyyy-MM-dd HH:mm:ss")
+        .optionalStart()
+        .appendPattern(".")
+        .appendFraction(ChronoField.NANO_OF_SECOND, 1, 6, false)
+        .optionalEnd()
+        .toFormatter();
+
+    private static final DateTimeFormatter OFFSET_DATE_TIME = new DateTimeFormatterBuilder()
+        .appendPattern("yyyy-MM-dd HH:mm:ss")
+        .optionalStart()
+        .appendPattern(".")
+        .appendFraction(ChronoField.NANO_OF_SECOND, 1, 6, false)
+        .optionalEnd()
+        .appendOffset("+HH:mm:ss", "Z")
+        .toFormatter();
+
+    /**
+     * Converts a bound value of the parsed range literal.
+     *
+     * @param <T> bound value type
+     */
+    @FunctionalInterface
+    public interface BoundParser<T> {
+
+        /**
+         * Parse the given bound value.
+         *
+         * @param parser range literal parser
+         * @param bound  {@link #LOWER} or {@link #UPPER}
+         * @return bound value
+         */
+        T parse(RangeLiteralParser parser, int bound);
+    }
+
+    private final String literal;
+
+    private final boolean empty;
+
+    private final boolean lowerInclusive;
+
+    private final boolean upperInclusive;
+
+    private final int lowerStart;
+
+    private final int lowerEnd;
+
+    private final int upperStart;
+
+    private final int upperEnd;
+
+    private final boolean lowerQuoted;
+
+    private final boolean upperQuoted;
+
+    /**
+     * Parse the given PostgreSQL range literal.
+     *
+     * @param literal range literal
+     * @throws IllegalArgumentException if the range literal is malformed
+     */
+    public RangeLiteralParser(String literal) {
+        this.literal = literal;
+        int length = literal.length();
+        if (length == EMPTY.length() && literal.equalsIgnoreCase(EMPTY)) {
+            empty = true;
+            lowerInclusive = upperInclusive = lowerQuoted = upperQuoted = false;
+            lowerStart = lowerEnd = upperStart = upperEnd = 0;
+            return;
+        }
+        empty = false;
+        if (length < 3) {
+            throw new IllegalArgumentException("The [" + literal + "] range literal is malformed");
+        }
+        lowerInclusive = literal.charAt(0) == '[';
+        upperInclusive = literal.charAt(length - 1) == ']';
+        int last = length - 1;
+
+        int delimiter;
+        if (literal.charAt(1) == '"') {
+            int index = skipQuoted(1, last);
+            lowerQuoted = true;
+            lowerStart = 2;
+            lowerEnd = index;
+            delimiter = index + 1;
+            if (delimiter >= last || literal.charAt(delimiter) != ',') {
+                throw new IllegalArgumentException("Cannot find comma character");
+            }
+        } else {
+            delimiter = literal.indexOf(',', 1);
+            if (delimiter == -1 || delimiter >= last) {
+                throw new IllegalArgumentException("Cannot find comma character");
+            }
+            lowerQuoted = false;
+            lowerStart = 1;
+            lowerEnd = delimiter;
+        }
+
+        int start = delimiter + 1;
+        if (last - start >= 2 && literal.charAt(start) == '"' && literal.charAt(last - 1) == '"') {
+            upperQuoted = true;
+            upperStart = start + 1;
+            upperEnd = last - 1;
+        } else {
+            upperQuoted = false;
+            upperStart = start;
+            upperEnd = last;
+        }
+    }
+
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    /**
+     * Check whether the given bound is inclusive.
+     *
+     * @param bound {@link #LOWER} or {@link #UPPER}
+     * @return the bound is inclusive
+     */
+    public boolean isInclusive(int bound) {
+        return bound == LOWER ? lowerInclusive : upperInclusive;
+    }
+
+    /**
+     * Check whether the given bound has a value, which might still be {@code infinity}.
+     *
+     * @param bound {@link #LOWER} or {@link #UPPER}
+     * @return the bound has a value
+     */
+    public boolean hasValue(int bound) {
+        return !empty && (bound == LOWER ?
+            lowerQuoted || lowerEnd > lowerStart :
+            upperQuoted || upperEnd > upperStart);
+    }
+
+    /**
+     * Check whether the given bound is unbounded, being either missing or {@code infinity} or {@code -infinity}.
+     *
+     * @param bound {@link #LOWER} or {@link #UPPER}
+     * @return the bound is unbounded
+     */
+    public boolean isInfinite(int bound) {
+        if (!hasValue(bound)) {
+            return true;
+        }
+        int end = end(bound);
+        int start = end - INFINITY.length();
+        return start >= start(bound) && literal.regionMatches(start, INFINITY, 0, INFINITY.length());
+    }
+
+    /**
+     * Parse the given bound value.
+     *
+     * @param bound       {@link #LOWER} or {@link #UPPER}
+     * @param boundParser bound value parser
+     * @param <T>         bound value type
+     * @return bound value
+     */
+    public <T> T get(int bound, BoundParser<T> boundParser) {
+        return boundParser.parse(this, bound);
+    }
+
+    /**
+     * Get the given bound value as it appears in the range literal, including the quotes and escape characters.
+     *
+     * @param bound {@link #LOWER} or {@link #UPPER}
+     * @return raw bound value
+     */
+    public String getRawString(int bound) {
+        return isQuoted(bound) ?
+            literal.substring(start(bound) - 1, end(bound) + 1) :
+            literal.substring(start(bound), end(bound));
+    }
+
+    /**
+     * Get the given bound value, with the quotes and escape characters removed.
+     *
+     * @param bound {@link #LOWER} or {@link #UPPER}
+     * @return bound value
+     */
+    public String getString(int bound) {
+        int start = start(bound);
+        int end = end(bound);
+        if (isQuoted(bound)) {
+            for (int i = start; i < end; i++) {
+                char c = literal.charAt(i);
+                if (c == '\\' || c == '"') {
+                    return unescape(start, end);
+                }
+            }
+        }
+        return literal.substring(start, end);
+    }
+
+    public Integer getInteger(int bound) {
+        if (isQuoted(bound)) {
+            return Integer.parseInt(getString(bound));
+        }
+        return Integer.parseInt(literal, start(bound), end(bound), 10);
+    }
+
+    public Long getLong(int bound) {
+        if (isQuoted(bound)) {
+            return Long.parseLong(getString(bound));
+        }
+        return Long.parseLong(literal, start(bound), end(bound), 10);
+    }
+
+    public BigDecimal getBigDecimal(int bound) {
+        return new BigDecimal(getString(bound));
+    }
+
+    public LocalDate getLocalDate(int bound) {
+        int start = start(bound);
+        int end = end(bound);
+        if (end - start == LOCAL_DATE_LENGTH && isLocalDate(start)) {
+            return toLocalDate(start);
+        }
+        return LocalDate.parse(getString(bound));
+    }
+
+    public LocalDateTime getLocalDateTime(int bound) {
+        int start = start(bound);
+        int end = end(bound);
+        if (localDateTimeEnd(start, end) == end) {
+            return toLocalDateTime(start, end);
+        }
+        String value = getString(bound);
+        return isSpaceSeparated(value) ?
+            LocalDateTime.parse(value, LOCAL_DATE_TIME) :
+            LocalDateTime.parse(value);
+    }
+
+    public OffsetDateTime getOffsetDateTime(int bound) {
+        int start = start(bound);
+        int end = end(bound);
+        int offsetStart = localDateTimeEnd(start, end);
+        if (offsetStart > 0) {
+            ZoneOffset offset = toZoneOffset(offsetStart, end);
+            if (offset != null) {
+                return OffsetDateTime.of(toLocalDateTime(start, offsetStart), offset);
+            }
+        }
+        String value = getString(bound);
+        return isSpaceSeparated(value) ?
+            OffsetDateTime.parse(value, OFFSET_DATE_TIME) :
+            OffsetDateTime.parse(value);
+    }
+
+    public ZonedDateTime getZonedDateTime(int bound) {
+        int start = start(bound);
+        int end = end(bound);
+        int offsetStart = localDateTimeEnd(start, end);
+        if (offsetStart > 0) {
+            ZoneOffset offset = toZoneOffset(offsetStart, end);
+            if (offset != null) {
+                return ZonedDateTime.of(toLocalDateTime(start, offsetStart), offset);
+            }
+        }
+        String value = getString(bound);
+        return isSpaceSeparated(value) ?
+            ZonedDateTime.parse(value, OFFSET_DATE_TIME) :
+            ZonedDateTime.parse(value);
+    }
+
+    private int start(int bound) {
+        return bound == LOWER ? lowerStart : upperStart;
+    }
+
+    private int end(int bound) {
+        return bound == LOWER ? lowerEnd : upperEnd;
+    }
+
+    private boolean isQuoted(int bound) {
+        return bound == LOWER ? lowerQuoted : upperQuoted;
+    }
+
+    /**
+     * Skip the quoted value starting at the given opening quote, where a quote is escaped
+     * either by a backslash or by doubling it.
+     *
+     * @param quote opening quote index
+     * @param last  closing bracket index
+     * @return closing quote index
+     */
+    private int skipQuoted(int quote, int last) {
+        int index = quote + 1;
+        while (index < last) {
+            char c = literal.charAt(index);
+            if (c == '\\') {
+                index += 2;
+            } else if (c == '"') {
+                if (index + 1 < last && literal.charAt(index + 1) == '"') {
+                    index += 2;
+                } else {
+                    return index;
+                }
+            } else {
+                index++;
+            }
+        }
+        throw new IllegalArgumentException("The [" + literal + "] range literal has an unterminated quoted value");
+    }
+
+    private String unescape(int start, int end) {
+        StringBuilder builder = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            char c = literal.charAt(i);
+            if (c == '\\' && i + 1 < end) {
+                c = literal.charAt(++i);
+            } else if (c == '"' && i + 1 < end && literal.charAt(i + 1) == '"') {
+                i++;
+            }
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+
+    private boolean isLocalDate(int start) {
+        return literal.charAt(start + 4) == '-' &&
+            literal.charAt(start + 7) == '-' &&
+            isDigits(start, start + 4) &&
+            isDigits(start + 5, start + 7) &&
+            isDigits(start + 8, start + 10);
+    }
+
+    private LocalDate toLocalDate(int start) {
+        return LocalDate.of(
+            digits(start, start + 4),
+            digits(start + 5, start + 7),
+            digits(start + 8, start + 10)
+        );
+    }
+
+    /**
+     * Match the {@code yyyy-MM-dd HH:mm:ss[.SSSSSSSSS]} or {@code yyyy-MM-dd'T'HH:mm:ss[.SSSSSSSSS]} format
+     * at the beginning of the given region.
+     *
+     * @param start region start index
+     * @param end   region end index
+     * @return the index following the matched date and time, or {@code -1} if the format does not match
+     */
+    private int localDateTimeEnd(int start, int end) {
+        if (end - start < LOCAL_DATE_TIME_LENGTH || !isLocalDate(start)) {
+            return -1;
+        }
+        char separator = literal.charAt(start + 10);
+        if ((separator != ' ' && separator != 'T') ||
+            literal.charAt(start + 13) != ':' ||
+            literal.charAt(start + 16) != ':' ||
+            !isDigits(start + 11, start + 13) ||
+            !isDigits(start + 14, start + 16) ||
+            !isDigits(start + 17, start + 19)) {
+            return -1;
+        }
+        int index = start + LOCAL_DATE_TIME_LENGTH;
+        if (index < end && literal.charAt(index) == '.') {
+            int fractionStart = ++index;
+            while (index < end && index - fractionStart < MAX_FRACTION_DIGITS && isDigit(literal.charAt(index))) {
+                index++;
+            }
+            if (index == fractionStart) {
+                return -1;
+            }
+        }
+        return index;
+    }
+
+    private LocalDateTime toLocalDateTime(int start, int end) {
+        int nanos = 0;
+        int fractionStart = start + LOCAL_DATE_TIME_LENGTH + 1;
+        if (fractionStart <= end) {
+            nanos = digits(fractionStart, end);
+            for (int i = end - fractionStart; i < MAX_FRACTION_DIGITS; i++) {
+                nanos *= 10;
+            }
+        }
+        return LocalDateTime.of(
+            digits(start, start + 4),
+            digits(start + 5, start + 7),
+            digits(start + 8, start + 10),
+            digits(start + 11, start + 13),
+            digits(start + 14, start + 16),
+            digits(start + 17, start + 19),
+            nanos
+        );
+    }
+
+    /**
+     * Parse the {@code Z}, {@code ±HH}, {@code ±HH:mm} or {@code ±HH:mm:ss} offset,
+     * with optional colons, occupying the whole given region.
+     *
+     * @param start region start index
+     * @param end   region end index
+     * @return the {@link ZoneOffset}, or {@code null} if the format does not match
+     */
+    private ZoneOffset toZoneOffset(int start, int end) {
+        int length = end - start;
+        if (length == 1 && literal.charAt(start) == 'Z') {
+            return ZoneOffset.UTC;
+        }
+        if (length < 3) {
+            return null;
+        }
+        char sign = literal.charAt(start);
+        if (sign != '+' && sign != '-') {
+            return null;
+        }
+        int index = start + 1;
+        int seconds = 0;
+        for (int field = 0; field < 3 && index < end; field++) {
+            if (field > 0 && literal.charAt(index) == ':') {
+                index++;
+            }
+            if (index + 2 > end || !isDigits(index, index + 2)) {
+                return null;
+            }
+            seconds += digits(index, index + 2) * (field == 0 ? 3600 : field == 1 ? 60 : 1);
+            index += 2;
+        }
+        if (index != end) {
+            return null;
+        }
+        return ZoneOffset.ofTotalSeconds(sign == '+' ? seconds : -seconds);
+    }
+
+    private boolean isDigits(int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!isDigit(literal.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int digits(int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 + (literal.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isSpaceSeparated(String value) {
+        return value.length() > LOCAL_DATE_LENGTH && value.charAt(LOCAL_DATE_LENGTH) == ' ';
+    }
+}
@@ -1,7 +1,9 @@
 package io.hypersistence.utils.hibernate.type.range.spring;
 
-import io.hypersistence.utils.common.ReflectionUtils;
 import io.hypersistence.utils.hibernate.type.ImmutableType;
+import io.hypersistence.utils.hibernate.type.range.internal.RangeLiteralParser;
+import io.hypersistence.utils.hibernate.type.range.internal.RangeLiteralParser.BoundParser;
+import io.hypersistence.utils.hibernate.type.util.PGobjectAccessor;
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.usertype.DynamicParameterizedType;
@@ -15,13 +17,12 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.time.*;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeFormatterBuilder;
-import java.time.format.DateTimeParseException;
-import java.time.temporal.ChronoField;
 import java.util.Properties;
 import java.util.function.Function;
 
+import static io.hypersistence.utils.hibernate.type.range.internal.RangeLiteralParser.LOWER;
+import static io.hypersistence.utils.hibernate.type.range.internal.RangeLiteralParser.UPPER;
+
 public class PostgreSQLSpringRangeType extends ImmutableType<Range> implements DynamicParameterizedType {
 
     private static final Range<Integer> EMPTY_INT_RANGE = Range.rightOpen(Integer.MIN_VALUE, Integer.MIN_VALUE);
@@ -38,23 +39,6 @@ public class PostgreSQLSpringRangeType extends ImmutableType<Range> implements D
     
     private static final Range<LocalDate> EMPTY_DATE_RANGE = Range.rightOpen(LocalDate.MIN, LocalDate.MIN);
 
-    private static final DateTimeFormatter LOCAL_DATE_TIME = new DateTimeFormatterBuilder()
-            .appendPattern("yyyy-MM-dd HH:mm:ss")
-            .optionalStart()
-            .appendPattern(".")
-            .appendFraction(ChronoField.NANO_OF_SECOND, 1, 6, false)
-            .optionalEnd()
-            .toFormatter();
-
-    private static final DateTimeFormatter OFFSET_DATE_TIME = new DateTimeFormatterBuilder()
-            .appendPattern("yyyy-MM-dd HH:mm:ss")
-            .optionalStart()
-            .appendPattern(".")
-            .appendFraction(ChronoField.NANO_OF_SECOND, 1, 6, false)
-            .optionalEnd()
-            .appendPattern("X")
-            .toFormatter();
-
     public static final PostgreSQLSpringRangeType INSTANCE = new PostgreSQLSpringRangeType();
 
     private Type type;
@@ -78,8 +62,8 @@ public class PostgreSQLSpringRangeType extends ImmutableType<Range> implements D
             return null;
         }
 
-        String type = ReflectionUtils.invokeGetter(pgObject, "type");
-        String value = ReflectionUtils.invokeGetter(pgObject, "value");
+        String type = PGobjectAccessor.getType(pgObject);
+        String value = PGobjectAccessor.getValue(pgObject);
 
         switch (type) {
             case "int4range":
@@ -106,9 +90,7 @@ public class PostgreSQLSpringRangeType extends ImmutableType<Range> implements D
         if (range == null) {
             st.setNull(index, Types.OTHER);
         } else {
-            Object holder = ReflectionUtils.newInstance("org.postgresql.util.PGobject");
-            ReflectionUtils.invokeSetter(holder, "type", determineRangeType(range));
-            ReflectionUtils.invokeSetter(holder, "value", asString(range));
+            Object holder = PGobjectAccessor.newPGobject(determineRangeType(range), asString(range));
             st.setObject(index, holder);
         }
     }
@@ -185,6 +167,10 @@ public class PostgreSQLSpringRangeType extends ImmutableType<Range> implements D
     }
 
     public static <T extends Comparable<?>> Range<T> ofString(String str, Function<String, T> converter, Class<T> clazz) {
+        return ofString(str, (parser, bound) -> converter.apply(parser.getRawString(bound)), clazz);
+    }
+
+    private static <T extends Comparable<?>> Range<T> ofString(String str, BoundParser<T> boundParser, Class<T> clazz) {
         if ("empty".equals(str)) {
             if (clazz.equals(Integer.class)) {
                 return (Range<T>) EMPTY_INT_RANGE;
@@ -203,28 +189,19 @@ public class PostgreSQLSpringRangeType extends ImmutableType<Range> implements D
             }
         }
 
-        int delim = str.indexOf(',');
-
-        if (delim == -1) {
-            throw new HibernateException(
-                    new IllegalArgumentException("Cannot find comma character")
-            );
-        }
-
-        String lowerStr = str.substring(1, delim);
-        String upperStr = str.substring(delim + 1, str.length() - 1);
+        RangeLiteralParser parser = parse(str);
 
         Range.Bound<T> lowerBound =  Range.Bound.unbounded();
         Range.Bound<T> upperBound = Range.Bound.unbounded();
 
-        if (!lowerStr.isEmpty()) {
-            T lower = converter.apply(lowerStr);
-            lowerBound = str.charAt(0) == '[' ? Range.Bound.inclusive(lower) : Range.Bound.exclusive(lower);
+        if (parser.hasValue(LOWER)) {
+            T lower = parser.get(LOWER, boundParser);
+            lowerBound = parser.isInclusive(LOWER) ? Range.Bound.inclusive(lower) : Range.Bound.exclusive(lower);
         }
 
-        if (!upperStr.isEmpty()) {
-            T upper = converter.apply(upperStr);
-            upperBound = str.charAt(str.length() - 1) == ']' ? Range.Bound.inclusive(upper) : Range.Bound.exclusive(upper);
+        if (parser.hasValue(UPPER)) {
+            T upper = parser.get(UPPER, boundParser);
+            upperBound = parser.isInclusive(UPPER) ? Range.Bound.inclusive(upper) : Range.Bound.exclusive(upper);
         }
 
         return Range.of(lowerBound, upperBound);
@@ -232,28 +209,27 @@ public class PostgreSQLSpringRangeType extends ImmutableType<Range> implements D
     }
 
     public static Range<BigDecimal> bigDecimalRange(String range) {
-        return ofString(range, BigDecimal::new, BigDecimal.class);
+        return ofString(range, RangeLiteralParser::getBigDecimal, BigDecimal.class);
     }
 
     public static Range<Integer> integerRange(String range) {
-        return ofString(range, Integer::parseInt, Integer.class);
+        return ofString(range, RangeLiteralParser::getInteger, Integer.class);
     }
 
     public static Range<Long> longRange(String range) {
-        return ofString(range, Long::parseLong, Long.class);
+        return ofString(range, RangeLiteralParser::getLong, Long.class);
     }
 
     public static Range<LocalDateTime> localDateTimeRange(String range) {
-        return ofString(range, parseLocalDateTime().compose(unquote()), LocalDateTime.class);
+        return ofString(range, RangeLiteralParser::getLocalDateTime, LocalDateTime.class);
     }
 
     public static Range<LocalDate> localDateRange(String range) {
-        Function<String, LocalDate> parseLocalDate = LocalDate::parse;
-        return ofString(range, parseLocalDate.compose(unquote()), LocalDate.class);
+        return ofString(range, RangeLiteralParser::getLocalDate, LocalDate.class);
     }
 
     public static Range<ZonedDateTime> zonedDateTimeRange(String rangeStr) {
-        Range<ZonedDateTime> range = ofString(rangeStr, parseZonedDateTime().compose(unquote()), ZonedDateTime.class);
+        Range<ZonedDateTime> range = ofString(rangeStr, RangeLiteralParser::getZonedDateTime, ZonedDateTime.class);
         if (range.getLowerBound().isBounded() && range.getUpperBound().isBounded()) {
             ZoneId lowerZone = range.getLowerBound().getValue().get().getZone();
             ZoneId upperZone = range.getUpperBound().getValue().get().getZone();
@@ -280,47 +256,15 @@ public class PostgreSQLSpringRangeType extends ImmutableType<Range> implements D
     }
 
     public static Range<OffsetDateTime> offsetDateTimeRange(String rangeStr) {
-        return ofString(rangeStr, parseOffsetDateTime().compose(unquote()), OffsetDateTime.class);
-    }
-
-    private static Function<String, LocalDateTime> parseLocalDateTime() {
-        return str -> {
-            try {
-                return LocalDateTime.parse(str, LOCAL_DATE_TIME);
-            } catch (DateTimeParseException e) {
-                return LocalDateTime.parse(str);
-            }
-        };
+        return ofString(rangeStr, RangeLiteralParser::getOffsetDateTime, OffsetDateTime.class);
     }
 
-    private static Function<String, ZonedDateTime> parseZonedDateTime() {
-        return s -> {
-            try {
-                return ZonedDateTime.parse(s, OFFSET_DATE_TIME);
-            } catch (DateTimeParseException e) {
-                return ZonedDateTime.parse(s);
-            }
-        };
-    }
-
-    private static Function<String, OffsetDateTime> parseOffsetDateTime() {
-        return s -> {
-            try {
-                return OffsetDateTime.parse(s, OFFSET_DATE_TIME);
-            } catch (DateTimeParseException e) {
-                return OffsetDateTime.parse(s);
-            }
-        };
-    }
-
-    private static Function<String, String> unquote() {
-        return s -> {
-            if (s.charAt(0) == '\"' && s.charAt(s.length() - 1) == '\"') {
-                return s.substring(1, s.length() - 1);
-            }
-
-            return s;
-        };
+    private static RangeLiteralParser parse(String str) {
+        try {
+            return new RangeLiteralParser(str);
+        } catch (IllegalArgumentException e) {
+            throw new HibernateException(e);
+        }
     }
 
     String asString(Range<?> range) {
@@ -1,6 +1,6 @@
 package io.hypersistence.utils.hibernate.type.search.internal;
 
-import io.hypersistence.utils.common.ReflectionUtils;
+import io.hypersistence.utils.hibernate.type.util.PGobjectAccessor;
 import org.hibernate.type.descriptor.ValueBinder;
 import org.hibernate.type.descriptor.ValueExtractor;
 import org.hibernate.type.descriptor.WrapperOptions;
@@ -25,18 +25,14 @@ public class PostgreSQLTSVectorSqlTypeDescriptor implements JdbcType {
         return new BasicBinder<X>(javaType, this) {
             @Override
             protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options) throws SQLException {
-                Object holder = ReflectionUtils.newInstance("org.postgresql.util.PGobject");
-                ReflectionUtils.invokeSetter(holder, "type", "tsvector");
-                ReflectionUtils.invokeSetter(holder, "value", javaType.unwrap(value, String.class, options));
+                Object holder = PGobjectAccessor.newPGobject("tsvector", javaType.unwrap(value, String.class, options));
                 st.setObject(index, holder);
             }
 
             @Override
             protected void doBind(CallableStatement st, X value, String name, WrapperOptions options)
                     throws SQLException {
-                Object holder = ReflectionUtils.newInstance("org.postgresql.util.PGobject");
-                ReflectionUtils.invokeSetter(holder, "type", "tsvector");
-                ReflectionUtils.invokeSetter(holder, "value", javaType.unwrap(value, String.class, options));
+                Object holder = PGobjectAccessor.newPGobject("tsvector", javaType.unwrap(value, String.class, options));
 
                 st.setObject(name, holder);
             }
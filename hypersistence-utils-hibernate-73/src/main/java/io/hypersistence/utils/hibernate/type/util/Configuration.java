@@ -48,20 +48,49 @@ public class Configuration implements Serializable {
         PRINT_BANNER(
             "hypersistence.utils.print.banner",
             "hibernate.types.print.banner"
+        ),
+        JSON_FINGERPRINT_DIRTY_CHECKING(
+            "hypersistence.utils.json.fingerprint.dirty.checking"
+        ),
+        JSON_COMPRESSION_LEVEL(
+            "hypersistence.utils.json.compression.level"
+        ),
+        JSON_COMPRESSION_THRESHOLD(
+            "hypersistence.utils.json.compression.threshold"
+        ),
+        JSON_PARTIAL_UPDATE_RATIO(
+            "hypersistence.utils.json.partial.update.ratio"
+        ),
+        JSON_NODE_FROZEN(
+            "hypersistence.utils.json.node.frozen"
+        ),
+        JSON_IMMUTABLE(
+            "hypersistence.utils.json.immutable"
+        ),
+        JSON_IMMUTABLE_TYPE_PREDICATE(
+            "hypersistence.utils.json.immutable.type.predicate"
         );
 
         private final String key;
         @Deprecated
         private final String deprecatedKey;
 
+        PropertyKey(String key) {
+            this(key, null);
+        }
+
         PropertyKey(String key, String deprecatedKey) {
             this.key = key;
             this.deprecatedKey = deprecatedKey;
         }
 
+        public String getKey() {
+            return key;
+        }
+
         public String resolve(Properties properties) {
             String value = properties.getProperty(key);
-            if(value == null) {
+            if(value == null && deprecatedKey != null) {
                 value = properties.getProperty(deprecatedKey);
                 if(value != null) {
                     LOGGER.warn(
@@ -215,6 +244,21 @@ public class Configuration implements Serializable {
         return value;
     }
 
+    /**
+     * Get Double property value
+     *
+     * @param propertyKey property key
+     * @return Double property value
+     */
+    public Double doubleProperty(PropertyKey propertyKey) {
+        Double value = null;
+        String property = propertyKey.resolve(properties);
+        if (property != null) {
+            value = Double.valueOf(property);
+        }
+        return value;
+    }
+
     /**
      * Get Boolean property value
      *
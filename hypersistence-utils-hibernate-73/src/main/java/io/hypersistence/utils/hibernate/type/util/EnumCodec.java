@@ -0,0 +1,325 @@
+package io.hypersistence.utils.hibernate.type.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * The {@link EnumCodec} converts the Java {@link Enum} constants from their ordinal values and names
+ * without the per-element allocation and reflection overhead of {@link Class#getEnumConstants()}
+ * and {@link Enum#valueOf(Class, String)}.
+ * <p>
+ * There is a single codec instance per {@link Enum} class, which is cached in a {@link ClassValue}.
+ * The constants are stored in a dense array indexed by their ordinal values, and the names are resolved
+ * using a perfect-hash table, so no {@link String} needs to be created when the name is
+ * a region of a larger {@link CharSequence}, like an array literal.
+ *
+ * @author Vlad Mihalcea
+ */
+public final class EnumCodec<E extends Enum<E>> {
+
+    private static final ClassValue<EnumCodec<?>> CODECS = new ClassValue<EnumCodec<?>>() {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected EnumCodec<?> computeValue(Class<?> type) {
+            return new EnumCodec(type);
+        }
+    };
+
+    private static final int MAX_MULTIPLIER_ATTEMPTS = 256;
+
+    private static final int MAX_TABLE_BITS = 16;
+
+    private final Class<E> enumClass;
+
+    private final E[] constants;
+
+    private final E[] emptyArray;
+
+    private final E[] nameTable;
+
+    private final int multiplier;
+
+    private final int shift;
+
+    private final Map<String, E> nameMap;
+
+    private EnumCodec(Class<E> enumClass) {
+        this.enumClass = enumClass;
+        this.constants = enumClass.getEnumConstants();
+        this.emptyArray = Arrays.copyOf(constants, 0);
+
+        int bits = 1;
+        while ((1 << bits) < constants.length * 2) {
+            bits++;
+        }
+        for (; bits <= MAX_TABLE_BITS; bits++) {
+            for (int attempt = 0; attempt < MAX_MULTIPLIER_ATTEMPTS; attempt++) {
+                int candidateMultiplier = 0x9E3779B9 + attempt * 0x632BE5AA;
+                candidateMultiplier |= 1;
+                E[] table = buildNameTable(candidateMultiplier, bits);
+                if (table != null) {
+                    this.nameTable = table;
+                    this.multiplier = candidateMultiplier;
+                    this.shift = 32 - bits;
+                    this.nameMap = null;
+                    return;
+                }
+            }
+        }
+        this.nameTable = null;
+        this.multiplier = 0;
+        this.shift = 0;
+        this.nameMap = new HashMap<>();
+        for (E constant : constants) {
+            nameMap.put(constant.name(), constant);
+        }
+    }
+
+    /**
+     * Get the codec of the given {@link Enum} class.
+     *
+     * @param enumClass {@link Enum} class
+     * @param <E> {@link Enum} type
+     * @return {@link EnumCodec} instance
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>> EnumCodec<E> of(Class<E> enumClass) {
+        if (!enumClass.isEnum()) {
+            Class<?> superclass = enumClass.getSuperclass();
+            if (superclass != null && superclass.isEnum()) {
+                return (EnumCodec<E>) CODECS.get(superclass);
+            }
+            throw new IllegalArgumentException("The " + enumClass + " is not an Enum class!");
+        }
+        return (EnumCodec<E>) CODECS.get(enumClass);
+    }
+
+    public Class<E> getEnumClass() {
+        return enumClass;
+    }
+
+    /**
+     * Get the number of {@link Enum} constants.
+     *
+     * @return number of {@link Enum} constants
+     */
+    public int size() {
+        return constants.length;
+    }
+
+    /**
+     * Get the {@link Enum} constant with the given ordinal value.
+     *
+     * @param ordinal ordinal value
+     * @return {@link Enum} constant
+     */
+    public E fromOrdinal(int ordinal) {
+        return constants[ordinal];
+    }
+
+    /**
+     * Get the {@link Enum} constant with the given name.
+     *
+     * @param name {@link Enum} constant name
+     * @return {@link Enum} constant
+     * @throws IllegalArgumentException if there is no {@link Enum} constant with the given name
+     */
+    public E fromName(CharSequence name) {
+        return fromName(name, 0, name.length());
+    }
+
+    /**
+     * Get the {@link Enum} constant whose name is the given region of the {@link CharSequence}.
+     *
+     * @param source source characters
+     * @param start  region start index, inclusive
+     * @param end    region end index, exclusive
+     * @return {@link Enum} constant
+     * @throws IllegalArgumentException if there is no {@link Enum} constant with the given name
+     */
+    public E fromName(CharSequence source, int start, int end) {
+        E constant;
+        if (nameTable != null) {
+            int hash = 0;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + source.charAt(i);
+            }
+            constant = nameTable[(hash * multiplier) >>> shift];
+            if (constant != null && !regionEquals(constant.name(), source, start, end)) {
+                constant = null;
+            }
+        } else {
+            constant = nameMap.get(source.subSequence(start, end).toString());
+        }
+        if (constant == null) {
+            throw new IllegalArgumentException(
+                "No enum constant " + enumClass.getCanonicalName() + "." + source.subSequence(start, end)
+            );
+        }
+        return constant;
+    }
+
+    /**
+     * Get the {@link Enum} constant matching the given value, which can be the {@link Enum} constant itself,
+     * its ordinal {@link Number} value or its name.
+     *
+     * @param value {@link Enum} constant, ordinal value or name
+     * @return {@link Enum} constant, or {@code null} if the value is {@code null}
+     */
+    public E fromValue(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (enumClass.isInstance(value)) {
+            return enumClass.cast(value);
+        }
+        if (value instanceof Number) {
+            return fromOrdinal(((Number) value).intValue());
+        }
+        return fromName(value instanceof CharSequence ? (CharSequence) value : String.valueOf(value));
+    }
+
+    /**
+     * Create a new {@link Enum} array with the given length.
+     *
+     * @param length array length
+     * @return {@link Enum} array
+     */
+    public E[] newArray(int length) {
+        return Arrays.copyOf(emptyArray, length);
+    }
+
+    /**
+     * Convert the given JDBC array elements to an {@link Enum} array, filling the typed array directly.
+     *
+     * @param values {@link Enum} constants, ordinal values or names
+     * @return {@link Enum} array
+     */
+    public E[] toArray(Object[] values) {
+        E[] array = newArray(values.length);
+        for (int i = 0; i < values.length; i++) {
+            array[i] = fromValue(values[i]);
+        }
+        return array;
+    }
+
+    /**
+     * Index the {@link Enum} constants by the given custom ordinal value.
+     * The {@link Enum} constants without a custom ordinal value are not indexed.
+     *
+     * @param ordinalFunction function providing the custom ordinal value of an {@link Enum} constant,
+     *                        or {@code null} if the {@link Enum} constant has no custom ordinal value
+     * @return {@link OrdinalIndex} instance
+     */
+    public OrdinalIndex<E> indexBy(Function<? super E, Integer> ordinalFunction) {
+        return new OrdinalIndex<>(this, ordinalFunction);
+    }
+
+    private E[] buildNameTable(int candidateMultiplier, int bits) {
+        E[] table = newArray(1 << bits);
+        for (E constant : constants) {
+            int slot = (constant.name().hashCode() * candidateMultiplier) >>> (32 - bits);
+            if (table[slot] != null) {
+                return null;
+            }
+            table[slot] = constant;
+        }
+        return table;
+    }
+
+    private static boolean regionEquals(String name, CharSequence source, int start, int end) {
+        if (name.length() != end - start) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) != source.charAt(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The {@link OrdinalIndex} resolves the {@link Enum} constants by a custom ordinal value,
+     * using a dense array when the custom ordinal values are compact, and a sorted key array otherwise,
+     * so that the lookup does not box the custom ordinal value.
+     *
+     * @param <E> {@link Enum} type
+     */
+    public static final class OrdinalIndex<E extends Enum<E>> {
+
+        private static final int MAX_DENSE_SLACK = 64;
+
+        private final int minOrdinal;
+
+        private final E[] denseConstants;
+
+        private final int[] sortedOrdinals;
+
+        private final E[] sortedConstants;
+
+        private OrdinalIndex(EnumCodec<E> codec, Function<? super E, Integer> ordinalFunction) {
+            E[] constants = codec.newArray(codec.constants.length);
+            int[] ordinals = new int[constants.length];
+            int count = 0;
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (E constant : codec.constants) {
+                Integer ordinal = ordinalFunction.apply(constant);
+                if (ordinal == null) {
+                    continue;
+                }
+                constants[count] = constant;
+                ordinals[count++] = ordinal;
+                min = Math.min(min, ordinal);
+                max = Math.max(max, ordinal);
+            }
+            if (count > 0 && max - min < 2L * count + MAX_DENSE_SLACK) {
+                minOrdinal = (int) min;
+                denseConstants = codec.newArray((int) (max - min + 1));
+                for (int i = 0; i < count; i++) {
+                    denseConstants[ordinals[i] - minOrdinal] = constants[i];
+                }
+                sortedOrdinals = null;
+                sortedConstants = null;
+            } else {
+                minOrdinal = 0;
+                denseConstants = null;
+                Integer[] order = new Integer[count];
+                for (int i = 0; i < order.length; i++) {
+                    order[i] = i;
+                }
+                Arrays.sort(order, (first, second) -> Integer.compare(ordinals[first], ordinals[second]));
+                int[] keys = new int[count];
+                E[] values = codec.newArray(count);
+                int size = 0;
+                for (Integer index : order) {
+                    if (size > 0 && keys[size - 1] == ordinals[index]) {
+                        size--;
+                    }
+                    keys[size] = ordinals[index];
+                    values[size++] = constants[index];
+                }
+                sortedOrdinals = Arrays.copyOf(keys, size);
+                sortedConstants = Arrays.copyOf(values, size);
+            }
+        }
+
+        /**
+         * Get the {@link Enum} constant with the given custom ordinal value.
+         *
+         * @param ordinal custom ordinal value
+         * @return {@link Enum} constant, or {@code null} if there is no such {@link Enum} constant
+         */
+        public E get(int ordinal) {
+            if (denseConstants != null) {
+                long index = (long) ordinal - minOrdinal;
+                return index >= 0 && index < denseConstants.length ? denseConstants[(int) index] : null;
+            }
+            int index = Arrays.binarySearch(sortedOrdinals, ordinal);
+            return index >= 0 ? sortedConstants[index] : null;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package io.hypersistence.utils.hibernate.type.util;
 import tools.jackson.databind.ObjectMapper;
 
 import java.util.Map;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 /**
@@ -64,6 +65,24 @@ public class JsonConfiguration extends Configuration {
             }
         }
 
+        if (Boolean.TRUE.equals(booleanProperty(PropertyKey.JSON_FINGERPRINT_DIRTY_CHECKING))) {
+            objectMapperWrapper.setFingerprintDirtyChecking(true);
+        }
+
+        if (Boolean.TRUE.equals(booleanProperty(PropertyKey.JSON_NODE_FROZEN))) {
+            objectMapperWrapper.setFrozenJsonNode(true);
+        }
+
+        Object immutableTypePredicate = instantiateClass(PropertyKey.JSON_IMMUTABLE_TYPE_PREDICATE);
+        if (immutableTypePredicate instanceof Predicate) {
+            objectMapperWrapper.setImmutableTypePredicate((Predicate<Class<?>>) immutableTypePredicate);
+        }
+
+        Double partialUpdateRatio = doubleProperty(PropertyKey.JSON_PARTIAL_UPDATE_RATIO);
+        if (partialUpdateRatio != null) {
+            objectMapperWrapper.setPartialUpdateRatio(partialUpdateRatio);
+        }
+
         this.objectMapperWrapper = objectMapperWrapper;
     }
 
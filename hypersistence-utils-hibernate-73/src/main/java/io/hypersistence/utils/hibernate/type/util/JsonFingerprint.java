@@ -0,0 +1,222 @@
+package io.hypersistence.utils.hibernate.type.util;
+
+import org.hibernate.HibernateException;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectWriter;
+
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * The {@link JsonFingerprint} is a compact 128-bit representation of the JSON document
+ * a given Java object serializes to. When fingerprint-based dirty checking is enabled,
+ * the flush-time comparison streams the loaded state snapshot and the current value through the hash function
+ * instead of building and comparing two {@link tools.jackson.databind.JsonNode} trees.
+ * <p>
+ * The hash function is the 128-bit x64 variant of MurmurHash3. A hash collision cannot be ruled out,
+ * but the probability of two different JSON documents of the same length sharing a 128-bit hash is negligible.
+ *
+ * @author Vlad Mihalcea
+ */
+public final class JsonFingerprint implements Serializable {
+
+    private final long high;
+
+    private final long low;
+
+    private final long length;
+
+    private JsonFingerprint(long high, long low, long length) {
+        this.high = high;
+        this.low = low;
+        this.length = length;
+    }
+
+    /**
+     * Compute the fingerprint of the JSON document produced by the given {@link ObjectWriter}.
+     *
+     * @param value        Java object to fingerprint
+     * @param objectWriter writer used to serialize the Java object
+     * @return the JSON fingerprint
+     */
+    public static JsonFingerprint of(Object value, ObjectWriter objectWriter) {
+        Murmur3OutputStream outputStream = new Murmur3OutputStream();
+        try {
+            objectWriter.writeValue(outputStream, value);
+        } catch (JacksonException e) {
+            throw new HibernateException(
+                new IllegalArgumentException("The given Json object value: " + value + " cannot be fingerprinted", e)
+            );
+        }
+        return outputStream.fingerprint();
+    }
+
+    /**
+     * Get the number of JSON bytes that were hashed.
+     *
+     * @return the JSON document length in bytes
+     */
+    public long getLength() {
+        return length;
+    }
+
+    long getHigh() {
+        return high;
+    }
+
+    long getLow() {
+        return low;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof JsonFingerprint)) {
+            return false;
+        }
+        JsonFingerprint that = (JsonFingerprint) o;
+        return high == that.high &&
+            low == that.low &&
+            length == that.length;
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (low ^ (low >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("JsonFingerprint{%016x%016x, length=%d}", high, low, length);
+    }
+
+    /**
+     * Streaming MurmurHash3 x64 128-bit implementation that consumes the bytes
+     * written by the Jackson generator without buffering the whole document.
+     */
+    static class Murmur3OutputStream extends OutputStream {
+
+        private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+        private static final long C1 = 0x87c37b91114253d5L;
+
+        private static final long C2 = 0x4cf5ad432745937fL;
+
+        private final byte[] block = new byte[16];
+
+        private int blockLength;
+
+        private long h1;
+
+        private long h2;
+
+        private long length;
+
+        @Override
+        public void write(int b) {
+            block[blockLength++] = (byte) b;
+            length++;
+            if (blockLength == 16) {
+                mix(block, 0);
+                blockLength = 0;
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int len) {
+            length += len;
+            if (blockLength > 0) {
+                int fill = Math.min(16 - blockLength, len);
+                System.arraycopy(bytes, offset, block, blockLength, fill);
+                blockLength += fill;
+                offset += fill;
+                len -= fill;
+                if (blockLength < 16) {
+                    return;
+                }
+                mix(block, 0);
+                blockLength = 0;
+            }
+            while (len >= 16) {
+                mix(bytes, offset);
+                offset += 16;
+                len -= 16;
+            }
+            if (len > 0) {
+                System.arraycopy(bytes, offset, block, 0, len);
+                blockLength = len;
+            }
+        }
+
+        private void mix(byte[] bytes, int offset) {
+            long k1 = (long) LONG_VIEW.get(bytes, offset);
+            long k2 = (long) LONG_VIEW.get(bytes, offset + 8);
+
+            h1 ^= mixK1(k1);
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            h2 ^= mixK2(k2);
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        JsonFingerprint fingerprint() {
+            long k1 = 0;
+            long k2 = 0;
+            for (int i = blockLength - 1; i >= 8; i--) {
+                k2 = (k2 << 8) | (block[i] & 0xffL);
+            }
+            for (int i = Math.min(blockLength, 8) - 1; i >= 0; i--) {
+                k1 = (k1 << 8) | (block[i] & 0xffL);
+            }
+            if (blockLength > 8) {
+                h2 ^= mixK2(k2);
+            }
+            if (blockLength > 0) {
+                h1 ^= mixK1(k1);
+            }
+
+            h1 ^= length;
+            h2 ^= length;
+            h1 += h2;
+            h2 += h1;
+            h1 = fmix(h1);
+            h2 = fmix(h2);
+            h1 += h2;
+            h2 += h1;
+
+            return new JsonFingerprint(h2, h1, length);
+        }
+
+        private static long mixK1(long k1) {
+            k1 *= C1;
+            k1 = Long.rotateLeft(k1, 31);
+            k1 *= C2;
+            return k1;
+        }
+
+        private static long mixK2(long k2) {
+            k2 *= C2;
+            k2 = Long.rotateLeft(k2, 33);
+            k2 *= C1;
+            return k2;
+        }
+
+        private static long fmix(long k) {
+            k ^= k >>> 33;
+            k *= 0xff51afd7ed558ccdL;
+            k ^= k >>> 33;
+            k *= 0xc4ceb9fe1a85ec53L;
+            k ^= k >>> 33;
+            return k;
+        }
+    }
+}
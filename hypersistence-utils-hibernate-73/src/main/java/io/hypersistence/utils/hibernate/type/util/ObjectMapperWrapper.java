@@ -9,12 +9,18 @@ import tools.jackson.databind.*;
 import tools.jackson.databind.json.JsonMapper;
 import tools.jackson.databind.type.TypeFactory;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
 import java.io.Serializable;
 import java.lang.reflect.Type;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeParseException;
 import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
 import static java.time.format.DateTimeFormatter.ISO_OFFSET_DATE_TIME;
 
@@ -50,6 +56,20 @@ public class ObjectMapperWrapper implements Serializable {
 
     private JsonSerializer jsonSerializer = new ObjectMapperJsonSerializer();
 
+    private boolean fingerprintDirtyChecking;
+
+    private double partialUpdateRatio;
+
+    private boolean frozenJsonNode;
+
+    private transient Predicate<Class<?>> immutableTypePredicate;
+
+    private transient ObjectWriter fingerprintWriter;
+
+    private transient Map<Type, ObjectReader> objectReaders;
+
+    private transient Map<Class<?>, ObjectWriter> objectWriters;
+
     public ObjectMapperWrapper() {
         this(OBJECT_MAPPER);
     }
@@ -63,9 +83,68 @@ public class ObjectMapperWrapper implements Serializable {
     }
 
     public void setJsonSerializer(JsonSerializer jsonSerializer) {
+        if (jsonSerializer instanceof TokenBufferJsonSerializer) {
+            ((TokenBufferJsonSerializer) jsonSerializer).setObjectMapperWrapper(this);
+        }
         this.jsonSerializer = jsonSerializer;
     }
 
+    /**
+     * Compare the loaded state snapshot and the current JSON object value using their
+     * {@link JsonFingerprint} instead of building and comparing two {@link JsonNode} trees.
+     *
+     * @param fingerprintDirtyChecking enable fingerprint-based dirty checking
+     */
+    public void setFingerprintDirtyChecking(boolean fingerprintDirtyChecking) {
+        this.fingerprintDirtyChecking = fingerprintDirtyChecking;
+    }
+
+    public boolean isFingerprintDirtyChecking() {
+        return fingerprintDirtyChecking;
+    }
+
+    /**
+     * Enable the partial JSON updates issued by the {@link io.hypersistence.utils.hibernate.type.json.JsonPartialUpdateIntegrator}
+     * when the size of the changes is at most the given ratio of the whole JSON document size.
+     *
+     * @param partialUpdateRatio maximum changes to document size ratio, or {@code 0} to disable the partial updates
+     */
+    public void setPartialUpdateRatio(double partialUpdateRatio) {
+        this.partialUpdateRatio = partialUpdateRatio;
+    }
+
+    public double getPartialUpdateRatio() {
+        return partialUpdateRatio;
+    }
+
+    /**
+     * Consider the {@link JsonNode} attribute values frozen, so that they are never deep-copied
+     * and must be replaced instead of being changed in place.
+     *
+     * @param frozenJsonNode enable the frozen {@link JsonNode} mode
+     */
+    public void setFrozenJsonNode(boolean frozenJsonNode) {
+        this.frozenJsonNode = frozenJsonNode;
+    }
+
+    public boolean isFrozenJsonNode() {
+        return frozenJsonNode;
+    }
+
+    /**
+     * Set the {@link Predicate} that tells whether the JSON objects of a given Java type are immutable,
+     * so that they are neither deep-copied, nor compared by their JSON representation.
+     *
+     * @param immutableTypePredicate immutable Java type predicate
+     */
+    public void setImmutableTypePredicate(Predicate<Class<?>> immutableTypePredicate) {
+        this.immutableTypePredicate = immutableTypePredicate;
+    }
+
+    public boolean isImmutableType(Class<?> clazz) {
+        return immutableTypePredicate != null && immutableTypePredicate.test(clazz);
+    }
+
     public ObjectMapper getObjectMapper() {
         if(objectMapper == null && objectMapperSupplier != null) {
             objectMapper = objectMapperSupplier.get();
@@ -78,6 +157,57 @@ public class ObjectMapperWrapper implements Serializable {
 
     public void setObjectMapper(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
+        this.fingerprintWriter = null;
+        this.objectReaders = null;
+        this.objectWriters = null;
+    }
+
+    /**
+     * Get the {@link ObjectReader} for the given Java type. The readers are cached, so the type resolution
+     * and the root deserializer lookup are done only once per type.
+     *
+     * @param type Java type
+     * @return cached {@link ObjectReader}
+     */
+    public ObjectReader getObjectReader(Type type) {
+        Map<Type, ObjectReader> objectReaders = this.objectReaders;
+        if (objectReaders == null) {
+            objectReaders = new ConcurrentHashMap<>();
+            this.objectReaders = objectReaders;
+        }
+        ObjectReader objectReader = objectReaders.get(type);
+        if (objectReader == null) {
+            ObjectMapper objectMapper = getObjectMapper();
+            objectReader = objectMapper.readerFor(objectMapper.getTypeFactory().constructType(type));
+            objectReaders.putIfAbsent(type, objectReader);
+        }
+        return objectReader;
+    }
+
+    /**
+     * Get the {@link ObjectWriter} for the given Java class. The writers are cached, so the root serializer
+     * lookup is done only once per class. Since the writer is bound to the runtime class,
+     * the serialization output is the same as {@link ObjectMapper#writeValueAsString(Object)}.
+     *
+     * @param clazz Java class
+     * @return cached {@link ObjectWriter}
+     */
+    public ObjectWriter getObjectWriter(Class<?> clazz) {
+        Map<Class<?>, ObjectWriter> objectWriters = this.objectWriters;
+        if (objectWriters == null) {
+            objectWriters = new ConcurrentHashMap<>();
+            this.objectWriters = objectWriters;
+        }
+        ObjectWriter objectWriter = objectWriters.get(clazz);
+        if (objectWriter == null) {
+            objectWriter = getObjectMapper().writerFor(clazz);
+            objectWriters.putIfAbsent(clazz, objectWriter);
+        }
+        return objectWriter;
+    }
+
+    private ObjectWriter getObjectWriter(Object value) {
+        return value != null ? getObjectWriter(value.getClass()) : getObjectMapper().writer();
     }
 
     public <T> T fromString(String string, Class<T> clazz) {
@@ -91,8 +221,12 @@ public class ObjectMapperWrapper implements Serializable {
     }
 
     public <T> T fromString(String string, Type type) {
+        return fromString(string, getObjectReader(type));
+    }
+
+    public <T> T fromString(String string, ObjectReader objectReader) {
         try {
-            return getObjectMapper().readValue(string, getObjectMapper().getTypeFactory().constructType(type));
+            return objectReader.readValue(string);
         } catch (JacksonException e) {
             throw new HibernateException(
                 new IllegalArgumentException("The given string value: " + string + " cannot be transformed to Json object", e)
@@ -111,8 +245,12 @@ public class ObjectMapperWrapper implements Serializable {
     }
 
     public <T> T fromBytes(byte[] value, Type type) {
+        return fromBytes(value, getObjectReader(type));
+    }
+
+    public <T> T fromBytes(byte[] value, ObjectReader objectReader) {
         try {
-            return getObjectMapper().readValue(value, getObjectMapper().getTypeFactory().constructType(type));
+            return objectReader.readValue(value);
         } catch (JacksonException e) {
             throw new HibernateException(
                 new IllegalArgumentException("The given byte array cannot be transformed to Json object", e)
@@ -120,9 +258,41 @@ public class ObjectMapperWrapper implements Serializable {
         }
     }
 
+    public <T> T fromInputStream(InputStream inputStream, Type type) {
+        return fromInputStream(inputStream, getObjectReader(type));
+    }
+
+    public <T> T fromInputStream(InputStream inputStream, ObjectReader objectReader) {
+        try {
+            return objectReader.readValue(inputStream);
+        } catch (JacksonException e) {
+            throw new HibernateException(
+                new IllegalArgumentException("The given InputStream cannot be transformed to Json object", e)
+            );
+        }
+    }
+
+    public <T> T fromReader(Reader reader, Type type) {
+        return fromReader(reader, getObjectReader(type));
+    }
+
+    public <T> T fromReader(Reader reader, ObjectReader objectReader) {
+        try {
+            return objectReader.readValue(reader);
+        } catch (JacksonException e) {
+            throw new HibernateException(
+                new IllegalArgumentException("The given Reader cannot be transformed to Json object", e)
+            );
+        }
+    }
+
     public String toString(Object value) {
+        return toString(value, getObjectWriter(value));
+    }
+
+    public String toString(Object value, ObjectWriter objectWriter) {
         try {
-            return getObjectMapper().writeValueAsString(value);
+            return objectWriter.writeValueAsString(value);
         } catch (JacksonException e) {
             throw new HibernateException(
                 new IllegalArgumentException("The given Json object value: " + value + " cannot be transformed to a String", e)
@@ -131,8 +301,12 @@ public class ObjectMapperWrapper implements Serializable {
     }
 
     public byte[] toBytes(Object value) {
+        return toBytes(value, getObjectWriter(value));
+    }
+
+    public byte[] toBytes(Object value, ObjectWriter objectWriter) {
         try {
-            return getObjectMapper().writeValueAsBytes(value);
+            return objectWriter.writeValueAsBytes(value);
         } catch (JacksonException e) {
             throw new HibernateException(
                 new IllegalArgumentException("The given Json object value: " + value + " cannot be transformed to a byte array", e)
@@ -140,6 +314,20 @@ public class ObjectMapperWrapper implements Serializable {
         }
     }
 
+    public void toOutputStream(Object value, OutputStream outputStream) {
+        toOutputStream(value, outputStream, getObjectWriter(value));
+    }
+
+    public void toOutputStream(Object value, OutputStream outputStream, ObjectWriter objectWriter) {
+        try {
+            objectWriter.writeValue(outputStream, value);
+        } catch (JacksonException e) {
+            throw new HibernateException(
+                new IllegalArgumentException("The given Json object value: " + value + " cannot be written to an OutputStream", e)
+            );
+        }
+    }
+
     public JsonNode toJsonNode(String value) {
         try {
             return getObjectMapper().readTree(value);
@@ -150,6 +338,25 @@ public class ObjectMapperWrapper implements Serializable {
         }
     }
 
+    public JsonNode toJsonNode(byte[] value) {
+        try {
+            return getObjectMapper().readTree(value);
+        } catch (JacksonException e) {
+            throw new HibernateException(
+                new IllegalArgumentException(e)
+            );
+        }
+    }
+
+    public JsonFingerprint fingerprint(Object value) {
+        ObjectWriter writer = fingerprintWriter;
+        if (writer == null) {
+            writer = getObjectMapper().writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+            fingerprintWriter = writer;
+        }
+        return JsonFingerprint.of(value, writer);
+    }
+
     public <T> T clone(T value) {
         return jsonSerializer.clone(value);
     }
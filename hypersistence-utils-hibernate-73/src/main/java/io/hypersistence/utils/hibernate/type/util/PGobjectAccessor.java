@@ -0,0 +1,219 @@
+package io.hypersistence.utils.hibernate.type.util;
+
+import org.hibernate.HibernateException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.WeakReference;
+
+/**
+ * The {@link PGobjectAccessor} creates and reads the {@code org.postgresql.util.PGobject} values
+ * without requiring the PostgreSQL JDBC Driver at compile time.
+ * <p>
+ * The {@code PGobject} class, its constructor, and the type and value getters and setters are resolved
+ * once per {@link ClassLoader} as {@link MethodHandle} objects, so binding a parameter or reading a column
+ * no longer needs a {@link Class#forName(String)} and {@link Class#getMethod(String, Class[])} lookup.
+ * <p>
+ * The last thread context {@link ClassLoader} and its accessor are only weakly referenced,
+ * so that a redeployed application {@link ClassLoader} can be garbage collected.
+ *
+ * @author Vlad Mihalcea
+ */
+public final class PGobjectAccessor {
+
+    public static final String PG_OBJECT_CLASS_NAME = "org.postgresql.util.PGobject";
+
+    private static final ClassValue<PGobjectAccessor> ACCESSORS = new ClassValue<PGobjectAccessor>() {
+        @Override
+        protected PGobjectAccessor computeValue(Class<?> type) {
+            Class<?> pgObjectClass = type;
+            while (pgObjectClass != null && !PG_OBJECT_CLASS_NAME.equals(pgObjectClass.getName())) {
+                pgObjectClass = pgObjectClass.getSuperclass();
+            }
+            if (pgObjectClass == null) {
+                throw new HibernateException(
+                    new IllegalArgumentException("The " + type + " is not a " + PG_OBJECT_CLASS_NAME + " type!")
+                );
+            }
+            return pgObjectClass == type ? new PGobjectAccessor(type) : get(pgObjectClass);
+        }
+    };
+
+    private static volatile ClassLoaderAccessor lastAccessor;
+
+    private final MethodHandle constructor;
+
+    private final MethodHandle typeSetter;
+
+    private final MethodHandle valueSetter;
+
+    private final MethodHandle typeGetter;
+
+    private final MethodHandle valueGetter;
+
+    private PGobjectAccessor(Class<?> pgObjectClass) {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        try {
+            this.constructor = lookup.findConstructor(pgObjectClass, MethodType.methodType(void.class))
+                .asType(MethodType.methodType(Object.class));
+            this.typeSetter = lookup.findVirtual(pgObjectClass, "setType", MethodType.methodType(void.class, String.class))
+                .asType(MethodType.methodType(void.class, Object.class, String.class));
+            this.valueSetter = lookup.findVirtual(pgObjectClass, "setValue", MethodType.methodType(void.class, String.class))
+                .asType(MethodType.methodType(void.class, Object.class, String.class));
+            this.typeGetter = lookup.findVirtual(pgObjectClass, "getType", MethodType.methodType(String.class))
+                .asType(MethodType.methodType(String.class, Object.class));
+            this.valueGetter = lookup.findVirtual(pgObjectClass, "getValue", MethodType.methodType(String.class))
+                .asType(MethodType.methodType(String.class, Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new HibernateException(
+                new IllegalArgumentException("The " + pgObjectClass + " methods could not be resolved!", e)
+            );
+        }
+    }
+
+    /**
+     * Get the accessor of the {@code PGobject} class loaded by the current thread context {@link ClassLoader}.
+     *
+     * @return {@link PGobjectAccessor} instance
+     */
+    public static PGobjectAccessor getInstance() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = PGobjectAccessor.class.getClassLoader();
+        }
+        ClassLoaderAccessor cachedAccessor = lastAccessor;
+        PGobjectAccessor accessor = cachedAccessor != null ? cachedAccessor.get(classLoader) : null;
+        if (accessor == null) {
+            try {
+                accessor = ACCESSORS.get(Class.forName(PG_OBJECT_CLASS_NAME, false, classLoader));
+            } catch (ClassNotFoundException e) {
+                throw new HibernateException(
+                    new IllegalArgumentException("The PostgreSQL JDBC Driver is not available!", e)
+                );
+            }
+            lastAccessor = new ClassLoaderAccessor(classLoader, accessor);
+        }
+        return accessor;
+    }
+
+    /**
+     * Get the accessor of the given {@code PGobject} class or subclass.
+     *
+     * @param pgObjectClass {@code PGobject} class
+     * @return {@link PGobjectAccessor} instance
+     */
+    public static PGobjectAccessor of(Class<?> pgObjectClass) {
+        return ACCESSORS.get(pgObjectClass);
+    }
+
+    /**
+     * Create a new {@code PGobject} using the {@code PGobject} class of the current thread context {@link ClassLoader}.
+     *
+     * @param type  database type name
+     * @param value database value
+     * @return new {@code PGobject} instance
+     */
+    public static Object newPGobject(String type, String value) {
+        return getInstance().newInstance(type, value);
+    }
+
+    /**
+     * Get the database type name of the given {@code PGobject}.
+     *
+     * @param pgObject {@code PGobject} instance
+     * @return database type name
+     */
+    public static String getType(Object pgObject) {
+        return of(pgObject.getClass()).type(pgObject);
+    }
+
+    /**
+     * Get the database value of the given {@code PGobject}.
+     *
+     * @param pgObject {@code PGobject} instance
+     * @return database value
+     */
+    public static String getValue(Object pgObject) {
+        return of(pgObject.getClass()).value(pgObject);
+    }
+
+    /**
+     * Create a new {@code PGobject} with the given type name and value.
+     *
+     * @param type  database type name
+     * @param value database value
+     * @return new {@code PGobject} instance
+     */
+    public Object newInstance(String type, String value) {
+        try {
+            Object pgObject = (Object) constructor.invokeExact();
+            typeSetter.invokeExact(pgObject, type);
+            valueSetter.invokeExact(pgObject, value);
+            return pgObject;
+        } catch (Throwable e) {
+            throw handleException(e);
+        }
+    }
+
+    /**
+     * Get the database type name of the given {@code PGobject}.
+     *
+     * @param pgObject {@code PGobject} instance
+     * @return database type name
+     */
+    public String type(Object pgObject) {
+        try {
+            return (String) typeGetter.invokeExact(pgObject);
+        } catch (Throwable e) {
+            throw handleException(e);
+        }
+    }
+
+    /**
+     * Get the database value of the given {@code PGobject}.
+     *
+     * @param pgObject {@code PGobject} instance
+     * @return database value
+     */
+    public String value(Object pgObject) {
+        try {
+            return (String) valueGetter.invokeExact(pgObject);
+        } catch (Throwable e) {
+            throw handleException(e);
+        }
+    }
+
+    private static RuntimeException handleException(Throwable e) {
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        return new HibernateException(
+            new IllegalArgumentException(e)
+        );
+    }
+
+    /**
+     * Pairs the last requesting {@link ClassLoader} with the accessor of the {@code PGobject} class it resolves,
+     * which may have been loaded by a parent {@link ClassLoader}. Both are weakly referenced, since the accessor
+     * references the {@code PGobject} class, and so its {@link ClassLoader}, through its {@link MethodHandle} objects.
+     */
+    private static final class ClassLoaderAccessor {
+
+        private final WeakReference<ClassLoader> classLoader;
+
+        private final WeakReference<PGobjectAccessor> accessor;
+
+        private ClassLoaderAccessor(ClassLoader classLoader, PGobjectAccessor accessor) {
+            this.classLoader = new WeakReference<>(classLoader);
+            this.accessor = new WeakReference<>(accessor);
+        }
+
+        private PGobjectAccessor get(ClassLoader classLoader) {
+            return this.classLoader.get() == classLoader ? accessor.get() : null;
+        }
+    }
+}
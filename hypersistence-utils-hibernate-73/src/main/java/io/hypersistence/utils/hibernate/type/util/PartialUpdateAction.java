@@ -0,0 +1,286 @@
+package io.hypersistence.utils.hibernate.type.util;
+
+import org.hibernate.AssertionFailure;
+import org.hibernate.HibernateException;
+import org.hibernate.StaleObjectStateException;
+import org.hibernate.action.internal.EntityUpdateAction;
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.engine.jdbc.batch.internal.BasicBatchKey;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
+import org.hibernate.engine.jdbc.mutation.ParameterUsage;
+import org.hibernate.engine.jdbc.mutation.group.PreparedStatementDetails;
+import org.hibernate.engine.jdbc.mutation.internal.ModelMutationHelper;
+import org.hibernate.engine.jdbc.mutation.internal.PreparedStatementGroupSingleTable;
+import org.hibernate.engine.jdbc.mutation.spi.BindingGroup;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.monitor.spi.DiagnosticEvent;
+import org.hibernate.event.monitor.spi.EventMonitor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.mutation.EntityTableMapping;
+import org.hibernate.sql.model.TableMapping;
+import org.hibernate.sql.model.jdbc.JdbcUpdateMutation;
+import org.hibernate.stat.spi.StatisticsImplementor;
+import org.hibernate.type.TypeHelper;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+
+/**
+ * The {@link PartialUpdateAction} is the entity update action scheduled by the {@link PartialUpdateEventListener}.
+ * <p>
+ * The dirty properties are written using the SQL assignments provided by their {@link PartialUpdateHandler},
+ * and the update statements are batched just like the ones generated by Hibernate, according to the
+ * {@code hibernate.jdbc.batch_size} setting. If any dirty property cannot be updated in place,
+ * the default entity update action is executed instead.
+ *
+ * @author Vlad Mihalcea
+ */
+public class PartialUpdateAction extends EntityUpdateAction {
+
+    private final PartialUpdateHandler[] propertyHandlers;
+
+    private Boolean veto;
+
+    /**
+     * Create the partial entity update action.
+     *
+     * @param id entity identifier
+     * @param state current entity state
+     * @param dirtyProperties dirty property indexes
+     * @param hasDirtyCollection whether any collection is dirty
+     * @param previousState loaded entity state
+     * @param previousVersion loaded version
+     * @param nextVersion next version
+     * @param instance entity instance
+     * @param rowId entity row id
+     * @param persister entity persister
+     * @param session Hibernate session
+     * @param propertyHandlers the {@link PartialUpdateHandler} of every property, or {@code null} if there's none
+     */
+    public PartialUpdateAction(
+            Object id,
+            Object[] state,
+            int[] dirtyProperties,
+            boolean hasDirtyCollection,
+            Object[] previousState,
+            Object previousVersion,
+            Object nextVersion,
+            Object instance,
+            Object rowId,
+            EntityPersister persister,
+            EventSource session,
+            PartialUpdateHandler[] propertyHandlers) {
+        super(
+            id,
+            state,
+            dirtyProperties,
+            hasDirtyCollection,
+            previousState,
+            previousVersion,
+            nextVersion,
+            instance,
+            rowId,
+            persister,
+            session
+        );
+        this.propertyHandlers = propertyHandlers;
+    }
+
+    @Override
+    public void execute() throws HibernateException {
+        if (preUpdate()) {
+            return;
+        }
+        PartialUpdateHandler.Assignment[] assignments = assignments();
+        if (assignments == null) {
+            super.execute();
+            return;
+        }
+        EntityPersister persister = getPersister();
+        EventSource session = getSession();
+        Object instance = getInstance();
+
+        EventMonitor eventMonitor = session.getEventMonitor();
+        DiagnosticEvent event = eventMonitor.beginEntityUpdateEvent();
+        boolean success = false;
+        try {
+            update(assignments);
+            success = true;
+        } finally {
+            eventMonitor.completeEntityUpdateEvent(event, getId(), persister.getEntityName(), success, session);
+        }
+
+        EntityEntry entry = session.getPersistenceContextInternal().getEntry(instance);
+        if (entry == null) {
+            throw new AssertionFailure("possible non thread safe access to session");
+        }
+        if (entry.getStatus() == Status.MANAGED) {
+            Object[] state = getState();
+            TypeHelper.deepCopy(state, persister.getPropertyTypes(), persister.getPropertyCheckability(), state, session);
+            entry.postUpdate(instance, state, getNextVersion());
+            entry.setMaybeLazySet(null);
+        }
+        handleDeleted(entry);
+        postUpdate();
+
+        StatisticsImplementor statistics = session.getFactory().getStatistics();
+        if (statistics.isStatisticsEnabled()) {
+            statistics.updateEntity(persister.getEntityName());
+        }
+    }
+
+    /**
+     * The pre-update listeners are notified only once, even if the default entity update action is executed.
+     */
+    @Override
+    protected boolean preUpdate() {
+        if (veto == null) {
+            veto = super.preUpdate();
+        }
+        return veto;
+    }
+
+    private PartialUpdateHandler.Assignment[] assignments() {
+        AbstractEntityPersister persister = (AbstractEntityPersister) getPersister();
+        Object[] state = getState();
+        Object[] previousState = getPreviousState();
+        int[] dirtyProperties = getDirtyFields();
+        PartialUpdateHandler.Assignment[] assignments = new PartialUpdateHandler.Assignment[dirtyProperties.length];
+        for (int i = 0; i < dirtyProperties.length; i++) {
+            int property = dirtyProperties[i];
+            Object loadedValue = previousState[property];
+            Object value = state[property];
+            if (loadedValue == null || value == null ||
+                loadedValue == LazyPropertyInitializer.UNFETCHED_PROPERTY ||
+                value == LazyPropertyInitializer.UNFETCHED_PROPERTY) {
+                return null;
+            }
+            assignments[i] = propertyHandlers[property].assignment(
+                persister,
+                property,
+                persister.getPropertyColumnNames(property)[0],
+                loadedValue,
+                value
+            );
+            if (assignments[i] == null) {
+                return null;
+            }
+        }
+        return assignments;
+    }
+
+    private void update(PartialUpdateHandler.Assignment[] assignments) {
+        AbstractEntityPersister persister = (AbstractEntityPersister) getPersister();
+        EventSource session = getSession();
+        Object id = getId();
+        EntityTableMapping tableMapping = persister.getTableMappings()[0];
+        int[] dirtyProperties = getDirtyFields();
+        StringBuilder sql = new StringBuilder("update ")
+            .append(tableMapping.getTableName())
+            .append(" set ");
+        for (int i = 0; i < assignments.length; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(persister.getPropertyColumnNames(dirtyProperties[i])[0])
+                .append(" = ")
+                .append(assignments[i].getExpression());
+        }
+        sql.append(" where ");
+        String[] identifierColumnNames = persister.getIdentifierColumnNames();
+        for (int i = 0; i < identifierColumnNames.length; i++) {
+            if (i > 0) {
+                sql.append(" and ");
+            }
+            sql.append(identifierColumnNames[i]).append(" = ?");
+        }
+        String updateSql = sql.toString();
+
+        JdbcUpdateMutation mutation = new JdbcUpdateMutation(
+            tableMapping,
+            persister,
+            updateSql,
+            false,
+            tableMapping.getUpdateExpectation(),
+            Collections.emptyList()
+        );
+        AssignmentBindings bindings = new AssignmentBindings(assignments);
+        BatchKey batchKey = new BasicBatchKey(persister.getEntityName() + "#PARTIAL_UPDATE#" + updateSql);
+        Integer batchSize = session.getConfiguredJdbcBatchSize();
+        JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+
+        if (batchSize != null && batchSize > 1 && mutation.getExpectation().canBeBatched()) {
+            jdbcCoordinator.getBatch(
+                batchKey,
+                batchSize,
+                () -> new PreparedStatementGroupSingleTable(mutation, session)
+            ).addToBatch(
+                bindings,
+                null,
+                e -> new StaleObjectStateException(persister.getEntityName(), id, e)
+            );
+        } else {
+            jdbcCoordinator.conditionallyExecuteBatch(batchKey);
+            PreparedStatementDetails statementDetails = ModelMutationHelper.standardPreparation(mutation, null, session);
+            try {
+                session.getJdbcServices().getSqlStatementLogger().logStatement(updateSql);
+                bindings.beforeStatement(statementDetails);
+                int rowCount = jdbcCoordinator.getResultSetReturn().executeUpdate(statementDetails.getStatement(), updateSql);
+                ModelMutationHelper.identifiedResultsCheck(statementDetails, rowCount, -1, persister, id, session.getFactory());
+            } finally {
+                statementDetails.releaseStatement(session);
+            }
+        }
+    }
+
+    /**
+     * Binds the parameters of the SQL assignments and the entity identifier.
+     */
+    private class AssignmentBindings implements JdbcValueBindings {
+
+        private final PartialUpdateHandler.Assignment[] assignments;
+
+        private AssignmentBindings(PartialUpdateHandler.Assignment[] assignments) {
+            this.assignments = assignments;
+        }
+
+        @Override
+        public BindingGroup getBindingGroup(String tableName) {
+            return null;
+        }
+
+        @Override
+        public void bindValue(Object value, String tableName, String columnName, ParameterUsage usage) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void beforeStatement(PreparedStatementDetails statementDetails) {
+            EventSource session = getSession();
+            PreparedStatement statement = statementDetails.resolveStatement();
+            try {
+                int index = 1;
+                for (PartialUpdateHandler.Assignment assignment : assignments) {
+                    index = assignment.bind(statement, index);
+                }
+                getPersister().getIdentifierType().nullSafeSet(statement, getId(), index, session);
+            } catch (SQLException e) {
+                throw session.getJdbcServices().getSqlExceptionHelper().convert(
+                    e,
+                    "Could not update entity: " + getPersister().getEntityName(),
+                    statementDetails.getSqlString()
+                );
+            }
+        }
+
+        @Override
+        public void afterStatement(TableMapping mutatingTable) {
+        }
+    }
+}
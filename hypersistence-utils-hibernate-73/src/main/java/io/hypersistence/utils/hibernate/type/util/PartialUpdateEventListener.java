@@ -0,0 +1,131 @@
+package io.hypersistence.utils.hibernate.type.util;
+
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.event.internal.DefaultFlushEntityEventListener;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.FlushEntityEvent;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.mutation.EntityTableMapping;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The {@link PartialUpdateEventListener} extends the default Hibernate flush entity event listener,
+ * so the dirty checking, the interceptors and the entity callbacks work as usual. When all dirty
+ * properties of an entity are supported by a {@link PartialUpdateHandler}, it schedules
+ * a {@link PartialUpdateAction} instead of the default entity update action.
+ * <p>
+ * Versioned entities, cached entities, entities with a natural id, generated properties,
+ * the {@code ALL} and {@code DIRTY} optimistic locking, a custom update statement or multiple tables,
+ * like secondary tables or joined inheritance, are always updated as usual.
+ *
+ * @author Vlad Mihalcea
+ */
+public class PartialUpdateEventListener extends DefaultFlushEntityEventListener {
+
+    private static final PartialUpdateHandler[] NO_HANDLERS = new PartialUpdateHandler[0];
+
+    private final List<PartialUpdateHandler> handlers = new CopyOnWriteArrayList<>();
+
+    private final Map<String, PartialUpdateHandler[]> propertyHandlersMap = new ConcurrentHashMap<>();
+
+    /**
+     * Add a {@link PartialUpdateHandler}.
+     *
+     * @param handler {@link PartialUpdateHandler}
+     */
+    public void addHandler(PartialUpdateHandler handler) {
+        handlers.add(handler);
+        propertyHandlersMap.clear();
+    }
+
+    @Override
+    protected void addEntityUpdateActionToActionQueue(
+            FlushEntityEvent event,
+            EventSource session,
+            EntityEntry entry,
+            Object[] values,
+            int[] dirtyProperties,
+            Status status,
+            EntityPersister persister,
+            Object entity,
+            Object nextVersion) {
+        PartialUpdateHandler[] propertyHandlers = propertyHandlersMap.computeIfAbsent(
+            persister.getEntityName(),
+            entityName -> propertyHandlers(persister)
+        );
+        if (status == Status.MANAGED && entry.getLoadedState() != null &&
+            isPartialUpdate(propertyHandlers, dirtyProperties)) {
+            session.getActionQueue().addAction(
+                new PartialUpdateAction(
+                    entry.getId(),
+                    values,
+                    dirtyProperties,
+                    event.hasDirtyCollection(),
+                    entry.getLoadedState(),
+                    entry.getVersion(),
+                    nextVersion,
+                    entity,
+                    entry.getRowId(),
+                    persister,
+                    session,
+                    propertyHandlers
+                )
+            );
+        } else {
+            super.addEntityUpdateActionToActionQueue(
+                event, session, entry, values, dirtyProperties, status, persister, entity, nextVersion
+            );
+        }
+    }
+
+    private boolean isPartialUpdate(PartialUpdateHandler[] propertyHandlers, int[] dirtyProperties) {
+        if (propertyHandlers.length == 0 || dirtyProperties == null || dirtyProperties.length == 0) {
+            return false;
+        }
+        for (int dirtyProperty : dirtyProperties) {
+            if (propertyHandlers[dirtyProperty] == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private PartialUpdateHandler[] propertyHandlers(EntityPersister persister) {
+        if (!(persister instanceof AbstractEntityPersister) ||
+            persister.isVersioned() ||
+            persister.canWriteToCache() ||
+            persister.getNaturalIdMapping() != null ||
+            persister.hasUpdateGeneratedProperties() ||
+            persister.optimisticLockStyle().isAllOrDirty()) {
+            return NO_HANDLERS;
+        }
+        AbstractEntityPersister entityPersister = (AbstractEntityPersister) persister;
+        EntityTableMapping[] tableMappings = entityPersister.getTableMappings();
+        if (tableMappings.length != 1 || tableMappings[0].getUpdateCustomSql() != null) {
+            return NO_HANDLERS;
+        }
+        boolean[] propertyUpdateability = persister.getPropertyUpdateability();
+        PartialUpdateHandler[] propertyHandlers = new PartialUpdateHandler[propertyUpdateability.length];
+        boolean supported = false;
+        for (int i = 0; i < propertyHandlers.length; i++) {
+            String[] columnNames = entityPersister.getPropertyColumnNames(i);
+            if (!propertyUpdateability[i] || columnNames.length != 1 || columnNames[0] == null) {
+                continue;
+            }
+            for (PartialUpdateHandler handler : handlers) {
+                if (handler.supports(persister, i)) {
+                    propertyHandlers[i] = handler;
+                    supported = true;
+                    break;
+                }
+            }
+        }
+        return supported ? propertyHandlers : NO_HANDLERS;
+    }
+}
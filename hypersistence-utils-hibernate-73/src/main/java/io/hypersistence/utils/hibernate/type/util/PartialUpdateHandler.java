@@ -0,0 +1,59 @@
+package io.hypersistence.utils.hibernate.type.util;
+
+import org.hibernate.persister.entity.EntityPersister;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * The {@link PartialUpdateHandler} builds the SQL assignment that changes a column value in place,
+ * instead of rewriting it as a whole, and it's registered using a {@link PartialUpdateIntegrator}.
+ *
+ * @author Vlad Mihalcea
+ */
+public interface PartialUpdateHandler {
+
+    /**
+     * Check whether the given entity property can be updated in place.
+     *
+     * @param persister entity persister
+     * @param property property index
+     * @return the property can be updated in place
+     */
+    boolean supports(EntityPersister persister, int property);
+
+    /**
+     * Build the SQL assignment that changes the loaded value into the current one.
+     *
+     * @param persister entity persister
+     * @param property property index
+     * @param columnName column name
+     * @param loadedValue loaded property value
+     * @param value current property value
+     * @return SQL assignment, or {@code null} if the whole column value must be rewritten
+     */
+    Assignment assignment(EntityPersister persister, int property, String columnName, Object loadedValue, Object value);
+
+    /**
+     * The SQL assignment of a column that is updated in place.
+     */
+    interface Assignment {
+
+        /**
+         * Get the SQL expression of the new column value.
+         *
+         * @return SQL expression
+         */
+        String getExpression();
+
+        /**
+         * Bind the parameters of the SQL expression.
+         *
+         * @param statement update statement
+         * @param index index of the first parameter
+         * @return index of the next parameter
+         * @throws SQLException if the parameters cannot be bound
+         */
+        int bind(PreparedStatement statement, int index) throws SQLException;
+    }
+}
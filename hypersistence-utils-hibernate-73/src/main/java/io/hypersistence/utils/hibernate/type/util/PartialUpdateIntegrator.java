@@ -0,0 +1,86 @@
+package io.hypersistence.utils.hibernate.type.util;
+
+import org.hibernate.HibernateException;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.internal.DefaultFlushEntityEventListener;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.FlushEntityEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@link PartialUpdateIntegrator} replaces the default Hibernate flush entity event listener
+ * with the {@link PartialUpdateEventListener} and registers the {@link PartialUpdateHandler}
+ * provided by the subclass. Multiple partial update integrators share the same listener.
+ *
+ * @author Vlad Mihalcea
+ */
+public abstract class PartialUpdateIntegrator implements Integrator {
+
+    /**
+     * Register the {@link PartialUpdateHandler} with the {@link PartialUpdateEventListener}.
+     *
+     * @param metadata metadata
+     * @param bootstrapContext bootstrap context
+     * @param sessionFactory Hibernate session factory
+     */
+    @Override
+    public void integrate(
+            Metadata metadata,
+            BootstrapContext bootstrapContext,
+            SessionFactoryImplementor sessionFactory) {
+        PartialUpdateHandler handler = partialUpdateHandler(metadata, sessionFactory);
+        if (handler == null) {
+            return;
+        }
+        EventListenerRegistry eventListenerRegistry = sessionFactory.getEventListenerRegistry();
+        PartialUpdateEventListener partialUpdateEventListener = null;
+        boolean replaced = false;
+        List<FlushEntityEventListener> listeners = new ArrayList<>();
+        for (FlushEntityEventListener listener : eventListenerRegistry.getEventListenerGroup(EventType.FLUSH_ENTITY).listeners()) {
+            if (listener instanceof PartialUpdateEventListener) {
+                partialUpdateEventListener = (PartialUpdateEventListener) listener;
+            } else if (listener.getClass() == DefaultFlushEntityEventListener.class) {
+                partialUpdateEventListener = new PartialUpdateEventListener();
+                listener = partialUpdateEventListener;
+                replaced = true;
+            }
+            listeners.add(listener);
+        }
+        if (partialUpdateEventListener == null) {
+            throw new HibernateException(
+                new IllegalStateException("The partial updates require the default flush entity event listener!")
+            );
+        }
+        if (replaced) {
+            eventListenerRegistry.setListeners(
+                EventType.FLUSH_ENTITY,
+                listeners.toArray(new FlushEntityEventListener[0])
+            );
+        }
+        partialUpdateEventListener.addHandler(handler);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void disintegrate(
+            SessionFactoryImplementor sessionFactory,
+            SessionFactoryServiceRegistry serviceRegistry) {}
+
+    /**
+     * Create the {@link PartialUpdateHandler} for the given session factory.
+     *
+     * @param metadata metadata
+     * @param sessionFactory Hibernate session factory
+     * @return {@link PartialUpdateHandler}, or {@code null} if the database doesn't support the partial updates
+     */
+    protected abstract PartialUpdateHandler partialUpdateHandler(Metadata metadata, SessionFactoryImplementor sessionFactory);
+}
@@ -0,0 +1,138 @@
+package io.hypersistence.utils.hibernate.type.util;
+
+import org.hibernate.internal.util.SerializationHelper;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.util.TokenBuffer;
+
+import java.io.Serializable;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@link TokenBufferJsonSerializer} clones JSON objects by writing them into a Jackson {@link TokenBuffer}
+ * and reading them back from the buffered token stream, so no JSON text or byte array is produced.
+ * Unlike {@link ObjectMapperJsonSerializer}, the JSON objects don't need to implement {@link Serializable}.
+ * <p>
+ * Collections and maps are copied element by element since their generic element type is not available
+ * at runtime. If Jackson cannot rebuild a {@link Serializable} object (e.g., an untyped polymorphic property),
+ * the Java Serialization clone is used instead.
+ * <p>
+ * To use it, set the {@code hypersistence.utils.json.serializer} property to
+ * {@code io.hypersistence.utils.hibernate.type.util.TokenBufferJsonSerializer}.
+ *
+ * @author Vlad Mihalcea
+ */
+public class TokenBufferJsonSerializer implements JsonSerializer {
+
+    private ObjectMapperWrapper objectMapperWrapper;
+
+    private transient Map<Class<?>, ObjectReader> objectReaders;
+
+    public TokenBufferJsonSerializer() {
+    }
+
+    public TokenBufferJsonSerializer(ObjectMapperWrapper objectMapperWrapper) {
+        this.objectMapperWrapper = objectMapperWrapper;
+    }
+
+    /**
+     * Set the {@link ObjectMapperWrapper} whose {@link tools.jackson.databind.ObjectMapper} is used to copy the JSON objects
+     * unless one was already provided via the constructor.
+     *
+     * @param objectMapperWrapper {@link ObjectMapperWrapper} reference
+     */
+    void setObjectMapperWrapper(ObjectMapperWrapper objectMapperWrapper) {
+        if (this.objectMapperWrapper == null) {
+            this.objectMapperWrapper = objectMapperWrapper;
+        }
+    }
+
+    @Override
+    public <T> T clone(T object) {
+        if (object == null || object instanceof String) {
+            return object;
+        }
+        if (object instanceof JsonNode) {
+            return (T) ((JsonNode) object).deepCopy();
+        }
+        if (object instanceof Optional) {
+            Optional<?> optional = (Optional<?>) object;
+            return (T) optional.map(this::clone);
+        }
+        if (object instanceof Collection) {
+            return (T) cloneCollection((Collection<?>) object);
+        }
+        if (object instanceof Map) {
+            return (T) cloneMap((Map<?, ?>) object);
+        }
+        try {
+            return (T) cloneValue(object);
+        } catch (JacksonException e) {
+            if (object instanceof Serializable) {
+                try {
+                    return (T) SerializationHelper.clone((Serializable) object);
+                } catch (Exception ignore) {
+                }
+            }
+            throw new NonSerializableObjectException(object);
+        }
+    }
+
+    private Object cloneValue(Object object) {
+        try (TokenBuffer tokenBuffer = TokenBuffer.forGeneration()) {
+            objectMapperWrapper().getObjectMapper().writeValue(tokenBuffer, object);
+            try (JsonParser jsonParser = tokenBuffer.asParser()) {
+                return objectReader(object.getClass()).readValue(jsonParser);
+            }
+        }
+    }
+
+    private Collection<?> cloneCollection(Collection<?> collection) {
+        Collection<Object> clone = newInstance(collection);
+        if (clone == null) {
+            clone = collection instanceof Set ? new LinkedHashSet<>() : new ArrayList<>();
+        }
+        for (Object element : collection) {
+            clone.add(clone(element));
+        }
+        return clone;
+    }
+
+    private Map<?, ?> cloneMap(Map<?, ?> map) {
+        Map<Object, Object> clone = newInstance(map);
+        if (clone == null) {
+            clone = new LinkedHashMap<>();
+        }
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            clone.put(entry.getKey(), clone(entry.getValue()));
+        }
+        return clone;
+    }
+
+    private <C> C newInstance(Object original) {
+        try {
+            return (C) original.getClass().getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private ObjectReader objectReader(Class<?> clazz) {
+        Map<Class<?>, ObjectReader> objectReaders = this.objectReaders;
+        if (objectReaders == null) {
+            objectReaders = new ConcurrentHashMap<>();
+            this.objectReaders = objectReaders;
+        }
+        return objectReaders.computeIfAbsent(
+            clazz,
+            type -> objectMapperWrapper().getObjectMapper().readerFor(type)
+        );
+    }
+
+    private ObjectMapperWrapper objectMapperWrapper() {
+        return objectMapperWrapper != null ? objectMapperWrapper : ObjectMapperWrapper.INSTANCE;
+    }
+}
@@ -0,0 +1,50 @@
+package io.hypersistence.utils.hibernate.type.vector;
+
+import io.hypersistence.utils.hibernate.type.MutableDynamicParameterizedType;
+import io.hypersistence.utils.hibernate.type.util.Configuration;
+import io.hypersistence.utils.hibernate.type.vector.internal.PostgreSQLVectorSqlTypeDescriptor;
+import io.hypersistence.utils.hibernate.type.vector.internal.PostgreSQLVectorTypeDescriptor;
+
+/**
+ * Maps a {@code float[]} array on a pgvector {@code vector(n)} column type, so that the similarity queries
+ * can use the {@code ivfflat} or {@code hnsw} indexes.
+ * <p>
+ * The {@code l2_distance}, {@code negative_inner_product} and {@code cosine_distance} HQL functions are
+ * registered for the {@code <->}, {@code <#>} and {@code <=>} pgvector distance operators.
+ * <p>
+ * The vectors are sent and received in the pgvector binary format, as the binary transfer is enabled
+ * for the {@code vector} type OID on every connection using this type. If the PostgreSQL JDBC Driver
+ * cannot add binary OIDs at runtime, the {@code vector} type OID must be added to the
+ * {@code binaryTransferEnable} PostgreSQL JDBC Driver property.
+ *
+ * @author Vlad Mihalcea
+ */
+public class PostgreSQLVectorType extends MutableDynamicParameterizedType<float[], PostgreSQLVectorSqlTypeDescriptor, PostgreSQLVectorTypeDescriptor> {
+
+    public static final PostgreSQLVectorType INSTANCE = new PostgreSQLVectorType();
+
+    public PostgreSQLVectorType() {
+        super(
+            float[].class,
+            PostgreSQLVectorSqlTypeDescriptor.INSTANCE,
+            PostgreSQLVectorTypeDescriptor.INSTANCE
+        );
+    }
+
+    public PostgreSQLVectorType(Configuration configuration) {
+        super(
+            float[].class,
+            PostgreSQLVectorSqlTypeDescriptor.INSTANCE,
+            PostgreSQLVectorTypeDescriptor.INSTANCE,
+            configuration
+        );
+    }
+
+    public PostgreSQLVectorType(org.hibernate.type.spi.TypeBootstrapContext typeBootstrapContext) {
+        this(new Configuration(typeBootstrapContext.getConfigurationSettings()));
+    }
+
+    public String getName() {
+        return "vector";
+    }
+}
@@ -0,0 +1,148 @@
+package io.hypersistence.utils.hibernate.type.vector.internal;
+
+import org.postgresql.util.PGBinaryObject;
+import org.postgresql.util.PGobject;
+
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * The {@link PostgreSQLVector} holds the {@code float[]} value of a pgvector {@code vector} column.
+ * <p>
+ * When the PostgreSQL JDBC Driver uses the binary transfer for the {@code vector} type,
+ * the value is sent and received in the pgvector binary format, which is made of the number of dimensions,
+ * an unused 16-bit field, and the 4-byte floating-point elements. Otherwise, the text format
+ * (e.g., {@code [1,2,3]}) is used.
+ *
+ * @author Vlad Mihalcea
+ */
+public class PostgreSQLVector extends PGobject implements PGBinaryObject {
+
+    public static final String TYPE = "vector";
+
+    private float[] values;
+
+    public PostgreSQLVector() {
+        setType(TYPE);
+    }
+
+    public PostgreSQLVector(float[] values) {
+        this();
+        this.values = values;
+    }
+
+    public float[] getValues() {
+        return values;
+    }
+
+    @Override
+    public void setValue(String value) throws SQLException {
+        values = value != null ? parse(value) : null;
+    }
+
+    @Override
+    public String getValue() {
+        return values != null ? format(values) : null;
+    }
+
+    @Override
+    public boolean isNull() {
+        return values == null;
+    }
+
+    @Override
+    public void setByteValue(byte[] bytes, int offset) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, bytes.length - offset);
+        int dimensions = buffer.getShort() & 0xFFFF;
+        buffer.getShort();
+        float[] values = new float[dimensions];
+        buffer.asFloatBuffer().get(values);
+        this.values = values;
+    }
+
+    @Override
+    public int lengthInBytes() {
+        return values != null ? 4 + 4 * values.length : 0;
+    }
+
+    @Override
+    public void toBytes(byte[] bytes, int offset) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, lengthInBytes());
+        buffer.putShort((short) values.length);
+        buffer.putShort((short) 0);
+        buffer.asFloatBuffer().put(values);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PostgreSQLVector)) {
+            return false;
+        }
+        return Arrays.equals(values, ((PostgreSQLVector) o).values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        PostgreSQLVector clone = (PostgreSQLVector) super.clone();
+        clone.values = values != null ? values.clone() : null;
+        return clone;
+    }
+
+    /**
+     * Format the given {@code float[]} array using the pgvector text format.
+     *
+     * @param values vector elements
+     * @return vector text value
+     */
+    public static String format(float[] values) {
+        StringBuilder builder = new StringBuilder(values.length * 10 + 2);
+        builder.append('[');
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(values[i]);
+        }
+        return builder.append(']').toString();
+    }
+
+    /**
+     * Parse the given pgvector text value (e.g., {@code [1,2,3]}) into a {@code float[]} array.
+     *
+     * @param value vector text value
+     * @return vector elements
+     */
+    public static float[] parse(String value) {
+        int end = value.length() - 1;
+        if (end < 1 || value.charAt(0) != '[' || value.charAt(end) != ']') {
+            throw new IllegalArgumentException("The [" + value + "] value is not a valid vector!");
+        }
+        if (end == 1) {
+            return new float[0];
+        }
+        int length = 1;
+        for (int i = 1; i < end; i++) {
+            if (value.charAt(i) == ',') {
+                length++;
+            }
+        }
+        float[] values = new float[length];
+        int start = 1;
+        for (int i = 0; i < length; i++) {
+            int comma = value.indexOf(',', start);
+            int tokenEnd = comma >= 0 && comma < end ? comma : end;
+            values[i] = Float.parseFloat(value.substring(start, tokenEnd).trim());
+            start = tokenEnd + 1;
+        }
+        return values;
+    }
+}
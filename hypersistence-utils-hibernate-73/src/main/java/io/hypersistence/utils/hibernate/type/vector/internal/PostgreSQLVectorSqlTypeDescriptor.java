@@ -0,0 +1,128 @@
+package io.hypersistence.utils.hibernate.type.vector.internal;
+
+import org.hibernate.type.descriptor.ValueBinder;
+import org.hibernate.type.descriptor.ValueExtractor;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.JavaType;
+import org.hibernate.type.descriptor.jdbc.BasicBinder;
+import org.hibernate.type.descriptor.jdbc.BasicExtractor;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+import io.hypersistence.utils.common.ReflectionUtils;
+import org.postgresql.core.BaseConnection;
+import org.postgresql.core.QueryExecutor;
+import org.postgresql.core.TypeInfo;
+
+import java.lang.reflect.Method;
+import java.sql.*;
+
+/**
+ * The {@link PostgreSQLVectorSqlTypeDescriptor} binds and extracts the pgvector {@code vector} values
+ * as {@link PostgreSQLVector} objects, so that the PostgreSQL JDBC Driver can use the binary transfer
+ * for the {@code vector} type.
+ * <p>
+ * The binary transfer is enabled for the {@code vector} type OID when the type is registered on a connection,
+ * provided the PostgreSQL JDBC Driver supports adding binary OIDs at runtime. Otherwise, the {@code vector}
+ * type OID must be added to the {@code binaryTransferEnable} PostgreSQL JDBC Driver property.
+ *
+ * @author Vlad Mihalcea
+ */
+public class PostgreSQLVectorSqlTypeDescriptor implements JdbcType {
+
+    public static final PostgreSQLVectorSqlTypeDescriptor INSTANCE = new PostgreSQLVectorSqlTypeDescriptor();
+
+    private static final Method ADD_BINARY_RECEIVE_OID_METHOD = ReflectionUtils.getMethodOrNull(
+        QueryExecutor.class, "addBinaryReceiveOid", int.class
+    );
+
+    private static final Method ADD_BINARY_SEND_OID_METHOD = ReflectionUtils.getMethodOrNull(
+        QueryExecutor.class, "addBinarySendOid", int.class
+    );
+
+    @Override
+    public int getJdbcTypeCode() {
+        return Types.OTHER;
+    }
+
+    @Override
+    public <X> ValueBinder<X> getBinder(final JavaType<X> javaType) {
+        return new BasicBinder<X>(javaType, this) {
+            @Override
+            protected void doBind(PreparedStatement st, X value, int index, WrapperOptions options) throws SQLException {
+                registerVectorType(st);
+                st.setObject(index, javaType.unwrap(value, PostgreSQLVector.class, options));
+            }
+
+            @Override
+            protected void doBind(CallableStatement st, X value, String name, WrapperOptions options)
+                    throws SQLException {
+                registerVectorType(st);
+                st.setObject(name, javaType.unwrap(value, PostgreSQLVector.class, options));
+            }
+        };
+    }
+
+    @Override
+    public <X> ValueExtractor<X> getExtractor(final JavaType<X> javaType) {
+        return new BasicExtractor<X>(javaType, this) {
+            @Override
+            protected X doExtract(ResultSet rs, int paramIndex, WrapperOptions options) throws SQLException {
+                registerVectorType(rs.getStatement());
+                return javaType.wrap(rs.getObject(paramIndex), options);
+            }
+
+            @Override
+            protected X doExtract(CallableStatement statement, int index, WrapperOptions options) throws SQLException {
+                registerVectorType(statement);
+                return javaType.wrap(statement.getObject(index), options);
+            }
+
+            @Override
+            protected X doExtract(CallableStatement statement, String name, WrapperOptions options) throws SQLException {
+                registerVectorType(statement);
+                return javaType.wrap(statement.getObject(name), options);
+            }
+        };
+    }
+
+    /**
+     * Register the {@link PostgreSQLVector} class for the {@code vector} type, so that the binary values
+     * received by the PostgreSQL JDBC Driver are decoded by the {@link PostgreSQLVector} object.
+     * <p>
+     * The registration state is kept by the connection type cache, so no global lock is acquired
+     * and the type is registered only once per physical connection.
+     *
+     * @param statement JDBC statement
+     * @throws SQLException if the type could not be registered
+     */
+    private static void registerVectorType(Statement statement) throws SQLException {
+        if (statement == null) {
+            return;
+        }
+        Connection connection = statement.getConnection();
+        if (connection.isWrapperFor(BaseConnection.class)) {
+            BaseConnection baseConnection = connection.unwrap(BaseConnection.class);
+            TypeInfo typeInfo = baseConnection.getTypeInfo();
+            if (typeInfo.getPGobject(PostgreSQLVector.TYPE) != PostgreSQLVector.class) {
+                baseConnection.addDataType(PostgreSQLVector.TYPE, PostgreSQLVector.class);
+                enableBinaryTransfer(baseConnection, typeInfo.getPGType(PostgreSQLVector.TYPE));
+            }
+        }
+    }
+
+    /**
+     * Enable the binary transfer for the {@code vector} type OID, unless it's already enabled
+     * or the PostgreSQL JDBC Driver cannot add binary OIDs at runtime.
+     *
+     * @param connection PostgreSQL connection
+     * @param oid {@code vector} type OID
+     */
+    private static void enableBinaryTransfer(BaseConnection connection, int oid) {
+        if (oid == 0 || connection.binaryTransferSend(oid) ||
+            ADD_BINARY_RECEIVE_OID_METHOD == null || ADD_BINARY_SEND_OID_METHOD == null) {
+            return;
+        }
+        QueryExecutor queryExecutor = connection.getQueryExecutor();
+        ReflectionUtils.invokeMethod(queryExecutor, ADD_BINARY_RECEIVE_OID_METHOD, oid);
+        ReflectionUtils.invokeMethod(queryExecutor, ADD_BINARY_SEND_OID_METHOD, oid);
+    }
+}
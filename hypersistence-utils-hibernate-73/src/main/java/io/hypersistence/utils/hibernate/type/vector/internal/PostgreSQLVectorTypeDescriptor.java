@@ -0,0 +1,82 @@
+package io.hypersistence.utils.hibernate.type.vector.internal;
+
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.AbstractClassJavaType;
+import org.hibernate.type.descriptor.java.MutableMutabilityPlan;
+
+import java.util.Arrays;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class PostgreSQLVectorTypeDescriptor extends AbstractClassJavaType<float[]> {
+
+    public static final PostgreSQLVectorTypeDescriptor INSTANCE = new PostgreSQLVectorTypeDescriptor();
+
+    public PostgreSQLVectorTypeDescriptor() {
+        super(float[].class, new MutableMutabilityPlan<>() {
+            @Override
+            protected float[] deepCopyNotNull(float[] value) {
+                return value.clone();
+            }
+        });
+    }
+
+    @Override
+    public boolean areEqual(float[] one, float[] another) {
+        return Arrays.equals(one, another);
+    }
+
+    @Override
+    public int extractHashCode(float[] value) {
+        return Arrays.hashCode(value);
+    }
+
+    @Override
+    public String toString(float[] value) {
+        return PostgreSQLVector.format(value);
+    }
+
+    @Override
+    public float[] fromString(CharSequence string) {
+        return PostgreSQLVector.parse(string.toString());
+    }
+
+    @SuppressWarnings({"unchecked"})
+    @Override
+    public <X> X unwrap(float[] value, Class<X> type, WrapperOptions options) {
+        if (value == null) {
+            return null;
+        }
+        if (float[].class.isAssignableFrom(type)) {
+            return (X) value;
+        }
+        if (String.class.isAssignableFrom(type)) {
+            return (X) toString(value);
+        }
+        if (PostgreSQLVector.class.isAssignableFrom(type)) {
+            return (X) new PostgreSQLVector(value);
+        }
+        throw unknownUnwrap(type);
+    }
+
+    @Override
+    public <X> float[] wrap(X value, WrapperOptions options) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof float[]) {
+            return (float[]) value;
+        }
+        if (value instanceof PostgreSQLVector) {
+            return ((PostgreSQLVector) value).getValues();
+        }
+        if (value instanceof org.postgresql.util.PGobject) {
+            return fromString(((org.postgresql.util.PGobject) value).getValue());
+        }
+        if (value instanceof String) {
+            return fromString((String) value);
+        }
+        throw unknownWrap(value.getClass());
+    }
+}
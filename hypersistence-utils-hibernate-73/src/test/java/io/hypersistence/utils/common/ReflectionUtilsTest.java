@@ -0,0 +1,103 @@
+package io.hypersistence.utils.common;
+
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class ReflectionUtilsTest {
+
+    public static class Book {
+
+        private String isbn;
+
+        private int pages;
+
+        public String getIsbn() {
+            return isbn;
+        }
+
+        public void setIsbn(String isbn) {
+            this.isbn = isbn;
+        }
+
+        public void setPages(int pages) {
+            this.pages = pages;
+        }
+    }
+
+    public static class EBook extends Book {
+
+        private String format;
+    }
+
+    @Test
+    public void testFieldLookupIsCached() {
+        Field field = ReflectionUtils.getField(EBook.class, "isbn");
+
+        assertEquals(Book.class, field.getDeclaringClass());
+        assertSame(field, ReflectionUtils.getField(EBook.class, "isbn"));
+        assertSame(field, ReflectionUtils.getFieldOrNull(EBook.class, "isbn"));
+        assertNull(ReflectionUtils.getFieldOrNull(EBook.class, "title"));
+        assertNull(ReflectionUtils.getFieldOrNull(EBook.class, "title"));
+
+        try {
+            ReflectionUtils.getField(EBook.class, "title");
+            fail("Should throw IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getCause() instanceof NoSuchFieldException);
+        }
+    }
+
+    @Test
+    public void testMethodLookupIsCached() {
+        Method method = ReflectionUtils.getMethod(EBook.class, "setIsbn", String.class);
+
+        assertSame(method, ReflectionUtils.getMethod(EBook.class, "setIsbn", String.class));
+        assertSame(method, ReflectionUtils.getMethodOrNull(new EBook(), "setIsbn", String.class));
+        assertNull(ReflectionUtils.getMethodOrNull(EBook.class, "setIsbn", Integer.class));
+        assertNull(ReflectionUtils.getMethodOrNull(EBook.class, "setIsbn", Integer.class));
+        assertNull(ReflectionUtils.getMethodOrNull(Runnable.class, "call"));
+        assertNotNull(ReflectionUtils.getMethodOrNull(String.class, "equals", Object.class));
+
+        try {
+            ReflectionUtils.getMethod(EBook.class, "setTitle", String.class);
+            fail("Should throw IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getCause() instanceof NoSuchMethodException);
+        }
+    }
+
+    @Test
+    public void testGetterAndSetter() {
+        EBook book = new EBook();
+
+        ReflectionUtils.invokeSetter(book, "isbn", "978-9730228236");
+        ReflectionUtils.invokeSetter(book, "pages", 450);
+        assertEquals("978-9730228236", ReflectionUtils.invokeGetter(book, "isbn"));
+        assertEquals(450, (int) ReflectionUtils.getFieldValue(book, "pages"));
+
+        ReflectionUtils.setFieldValue(book, "format", "epub");
+        assertEquals("epub", ReflectionUtils.getFieldValue(book, "format"));
+
+        assertSame(ReflectionUtils.getGetter(book, "isbn"), ReflectionUtils.getGetter(book, "isbn"));
+        assertSame(
+            ReflectionUtils.getSetter(book, "isbn", String.class),
+            ReflectionUtils.getSetter(book, "isbn", String.class)
+        );
+        assertNull(ReflectionUtils.getSetterOrNull(book, "title", String.class));
+        assertNull(ReflectionUtils.getSetterOrNull(book, "title", String.class));
+
+        try {
+            ReflectionUtils.getGetter(book, "pages");
+            fail("Should throw IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getCause() instanceof NoSuchMethodException);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package io.hypersistence.utils.hibernate.type.array;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class DoubleMatrixTest {
+
+    @Test
+    public void testRowMajorLayout() {
+        DoubleMatrix matrix = DoubleMatrix.of(new double[][]{
+            {1, 2, 3},
+            {4, 5, 6},
+        });
+        assertArrayEquals(new int[]{2, 3}, matrix.getShape());
+        assertArrayEquals(new double[]{1, 2, 3, 4, 5, 6}, matrix.getValues(), 0);
+        assertEquals(6, matrix.get(1, 2), 0);
+
+        matrix.set(10, 0, 1);
+        assertEquals(10, matrix.getValues()[1], 0);
+        assertArrayEquals(new double[][]{{1, 10, 3}, {4, 5, 6}}, (double[][]) matrix.toArray());
+    }
+
+    @Test
+    public void testBoxedArray() {
+        DoubleMatrix matrix = DoubleMatrix.of(new Double[][][]{
+            {{1d, null}, {3d, 4d}},
+            {{5d, 6d}, {7d, 8d}},
+        });
+        assertArrayEquals(new int[]{2, 2, 2}, matrix.getShape());
+        assertEquals(0, matrix.get(0, 0, 1), 0);
+        assertEquals(7, matrix.get(1, 1, 0), 0);
+        assertEquals(new DoubleMatrix(new double[]{1, 0, 3, 4, 5, 6, 7, 8}, 2, 2, 2), matrix);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testJaggedArray() {
+        DoubleMatrix.of(new double[][]{{1, 2}, {3}});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testShapeMismatch() {
+        new DoubleMatrix(new double[]{1, 2, 3}, 2, 2);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testIndexOutOfBounds() {
+        new DoubleMatrix(new double[]{1, 2, 3, 4}, 2, 2).get(0, 2);
+    }
+}
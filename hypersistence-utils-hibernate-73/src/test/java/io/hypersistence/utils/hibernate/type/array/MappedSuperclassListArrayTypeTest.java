@@ -1,5 +1,6 @@
 package io.hypersistence.utils.hibernate.type.array;
 
+import io.hypersistence.utils.hibernate.type.array.internal.IntArrayList;
 import io.hypersistence.utils.hibernate.util.AbstractPostgreSQLIntegrationTest;
 import jakarta.persistence.*;
 import org.hibernate.annotations.Type;
@@ -9,6 +10,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Vlad Mihalcea
@@ -44,6 +46,7 @@ public class MappedSuperclassListArrayTypeTest extends AbstractPostgreSQLIntegra
 
             assertArrayEquals(new String[]{"Temperature", "Pressure"}, event.getSensorNames().toArray());
             assertArrayEquals(new Integer[]{12, 756}, event.getSensorValues().toArray());
+            assertTrue(event.getSensorValues() instanceof IntArrayList);
             assertArrayEquals(new Short[]{42, 69}, event.getSensorShortValues().toArray());
         });
     }
@@ -0,0 +1,107 @@
+package io.hypersistence.utils.hibernate.type.array;
+
+import io.hypersistence.utils.hibernate.type.array.internal.ArrayUtil;
+import io.hypersistence.utils.hibernate.type.array.internal.PostgreSQLArraySupport;
+import io.hypersistence.utils.hibernate.type.array.internal.PostgreSQLBinaryArrayCodec;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class PackedUUIDArrayTest {
+
+    @Test
+    public void testPackedUUIDArray() {
+        UUID first = UUID.fromString("c0a8011e-0000-0000-0000-000000000001");
+        UUID second = UUID.randomUUID();
+        PackedUUIDArray uuids = PackedUUIDArray.of(first, second);
+
+        assertEquals(2, uuids.size());
+        assertEquals(second, uuids.get(1));
+        assertEquals(1, uuids.indexOf(second));
+        assertFalse(uuids.contains(UUID.randomUUID()));
+        assertArrayEquals(new UUID[]{first, second}, uuids.toArray());
+        assertEquals(PackedUUIDArray.of(Arrays.asList(first, second)), uuids);
+
+        try {
+            PackedUUIDArray.of(first, null);
+            fail("Should not accept null elements");
+        } catch (NullPointerException expected) {
+        }
+    }
+
+    @Test
+    public void testDefensiveCopy() {
+        UUID uuid = UUID.randomUUID();
+        long[] bits = {uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()};
+        PackedUUIDArray uuids = new PackedUUIDArray(bits);
+        bits[0] = 0;
+        assertEquals(uuid, uuids.get(0));
+
+        PackedUUIDArray.Builder builder = new PackedUUIDArray.Builder(0);
+        for (int i = 0; i < 20; i++) {
+            builder.add(i, -i);
+        }
+        PackedUUIDArray built = builder.build();
+        assertEquals(20, built.size());
+        assertEquals(new UUID(19, -19), built.get(19));
+        try {
+            builder.add(1, 1);
+            fail("Should not reuse the builder");
+        } catch (IllegalStateException expected) {
+        }
+    }
+
+    @Test
+    public void testBinaryFormat() {
+        PackedUUIDArray uuids = PackedUUIDArray.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        byte[] bytes = PostgreSQLBinaryArrayCodec.encode(uuids);
+
+        assertArrayEquals(bytes, PostgreSQLBinaryArrayCodec.encode(uuids.toArray(), PostgreSQLBinaryArrayCodec.UUID_OID));
+        assertEquals(uuids, PostgreSQLBinaryArrayCodec.decodePackedUUIDArray(bytes));
+        assertArrayEquals(uuids.toArray(), PostgreSQLBinaryArrayCodec.decode(bytes, UUID[].class));
+
+        PackedUUIDArray empty = PackedUUIDArray.of();
+        assertEquals(empty, PostgreSQLBinaryArrayCodec.decodePackedUUIDArray(PostgreSQLBinaryArrayCodec.encode(empty)));
+    }
+
+    @Test
+    public void testTextFormat() {
+        Random random = new Random(2951L);
+        for (int i = 0; i < 500; i++) {
+            UUID[] values = new UUID[random.nextInt(10)];
+            for (int j = 0; j < values.length; j++) {
+                values[j] = new UUID(random.nextLong(), random.nextLong());
+            }
+            PackedUUIDArray uuids = PackedUUIDArray.of(values);
+            String literal = PostgreSQLArraySupport.formatPackedUUIDArray(uuids);
+
+            assertEquals(uuids, PostgreSQLArraySupport.parsePackedUUIDArray(literal));
+            assertArrayEquals(values, ArrayUtil.fromString(literal, UUID[].class));
+            assertArrayEquals(values, ArrayUtil.fromString(literal.toUpperCase(), UUID[].class));
+            assertArrayEquals(values, ArrayUtil.fromString(Arrays.toString(values), UUID[].class));
+        }
+
+        UUID uuid = UUID.randomUUID();
+        assertArrayEquals(
+            new UUID[]{uuid, null},
+            ArrayUtil.fromString("{\"" + uuid + "\",NULL}", UUID[].class)
+        );
+        try {
+            PostgreSQLArraySupport.parsePackedUUIDArray("{" + uuid + ",NULL}");
+            fail("Should not accept null elements");
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            ArrayUtil.fromString("{c0a8011e-0000-0000-0000-00000000000g}", UUID[].class);
+            fail("Should not accept an invalid UUID");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package io.hypersistence.utils.hibernate.type.array;
+
+import io.hypersistence.utils.hibernate.type.array.internal.LongArrayList;
+import io.hypersistence.utils.hibernate.util.AbstractPostgreSQLIntegrationTest;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Type;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class PostgreSQLArrayFunctionsTest extends AbstractPostgreSQLIntegrationTest {
+
+    @Override
+    protected Class<?>[] entities() {
+        return new Class<?>[]{
+            Post.class
+        };
+    }
+
+    @Override
+    protected void afterInit() {
+        executeStatement("CREATE INDEX idx_post_tags ON post USING GIN (tags)");
+
+        doInJPA(entityManager -> {
+            entityManager.persist(
+                new Post()
+                    .setId(1L)
+                    .setTags(new String[]{"hibernate", "jpa"})
+                    .setCategoryIds(Arrays.asList(1L, 2L))
+            );
+            entityManager.persist(
+                new Post()
+                    .setId(2L)
+                    .setTags(new String[]{"hibernate", "postgresql", "arrays"})
+                    .setCategoryIds(Arrays.asList(3L))
+            );
+        });
+    }
+
+    @Test
+    public void test() {
+        doInJPA(entityManager -> {
+            List<Post> posts = entityManager.createQuery("""
+                select p
+                from Post p
+                where array_contains_all(p.tags, :tags)
+                """, Post.class)
+            .setParameter("tags", new String[]{"hibernate", "postgresql"})
+            .getResultList();
+            assertEquals(1, posts.size());
+            assertEquals(Long.valueOf(2), posts.get(0).getId());
+
+            posts = entityManager.createQuery("""
+                select p
+                from Post p
+                where array_contained_by(p.tags, :tags)
+                """, Post.class)
+            .setParameter("tags", new String[]{"hibernate", "jpa", "java"})
+            .getResultList();
+            assertEquals(1, posts.size());
+            assertEquals(Long.valueOf(1), posts.get(0).getId());
+
+            posts = entityManager.createQuery("""
+                select p
+                from Post p
+                where array_contains_any(p.categoryIds, :categoryIds)
+                order by p.id
+                """, Post.class)
+            .setParameter("categoryIds", new Long[]{2L, 3L})
+            .getResultList();
+            assertEquals(2, posts.size());
+            assertEquals(Arrays.asList(1L, 2L), posts.get(0).getCategoryIds());
+            assertTrue(posts.get(0).getCategoryIds() instanceof LongArrayList);
+
+            Long postCount = entityManager.createQuery("""
+                select count(p)
+                from Post p
+                where array_any(p.tags, :tag)
+                """, Long.class)
+            .setParameter("tag", "jpa")
+            .getSingleResult();
+            assertEquals(Long.valueOf(1), postCount);
+        });
+    }
+
+    @Entity(name = "Post")
+    @Table(name = "post")
+    public static class Post {
+
+        @Id
+        private Long id;
+
+        @Type(StringArrayType.class)
+        @Column(columnDefinition = "text[]")
+        private String[] tags;
+
+        @Type(ListArrayType.class)
+        @Column(name = "category_ids", columnDefinition = "bigint[]")
+        private List<Long> categoryIds;
+
+        public Long getId() {
+            return id;
+        }
+
+        public Post setId(Long id) {
+            this.id = id;
+            return this;
+        }
+
+        public String[] getTags() {
+            return tags;
+        }
+
+        public Post setTags(String[] tags) {
+            this.tags = tags;
+            return this;
+        }
+
+        public List<Long> getCategoryIds() {
+            return categoryIds;
+        }
+
+        public Post setCategoryIds(List<Long> categoryIds) {
+            this.categoryIds = categoryIds;
+            return this;
+        }
+    }
+}
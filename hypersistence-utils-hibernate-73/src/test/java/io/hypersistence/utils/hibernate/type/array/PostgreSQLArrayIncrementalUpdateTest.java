@@ -0,0 +1,244 @@
+package io.hypersistence.utils.hibernate.type.array;
+
+import io.hypersistence.utils.hibernate.type.array.internal.AbstractArrayType;
+import io.hypersistence.utils.hibernate.type.json.JsonPartialUpdateIntegrator;
+import io.hypersistence.utils.hibernate.type.util.PartialUpdateEventListener;
+import io.hypersistence.utils.hibernate.util.AbstractPostgreSQLIntegrationTest;
+import io.hypersistence.utils.jdbc.validator.SQLStatementCountValidator;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.annotations.Type;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.FlushEntityEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.junit.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class PostgreSQLArrayIncrementalUpdateTest extends AbstractPostgreSQLIntegrationTest {
+
+    @Override
+    protected Class<?>[] entities() {
+        return new Class<?>[]{
+            Post.class
+        };
+    }
+
+    @Override
+    protected Integrator integrator() {
+        return new Integrator() {
+            @Override
+            public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+                ArrayIncrementalUpdateIntegrator.INSTANCE.integrate(metadata, bootstrapContext, sessionFactory);
+                JsonPartialUpdateIntegrator.INSTANCE.integrate(metadata, bootstrapContext, sessionFactory);
+            }
+
+            @Override
+            public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+            }
+        };
+    }
+
+    @Override
+    protected void afterInit() {
+        doInJPA(entityManager -> {
+            List<String> tags = new ArrayList<>();
+            for (int i = 0; i < 5000; i++) {
+                tags.add("tag-" + i);
+            }
+
+            Post post = new Post();
+            post.setId(1L);
+            post.setTags(tags);
+            post.setScores(new int[]{1, 2, 3, 2});
+            post.setLabels(new Label[]{Label.JAVA});
+            entityManager.persist(post);
+        });
+    }
+
+    @Test
+    public void testSharedListener() {
+        Iterator<FlushEntityEventListener> listeners = sessionFactory().unwrap(SessionFactoryImplementor.class)
+            .getEventListenerRegistry()
+            .getEventListenerGroup(EventType.FLUSH_ENTITY)
+            .listeners()
+            .iterator();
+        assertTrue(listeners.next() instanceof PartialUpdateEventListener);
+        assertFalse(listeners.hasNext());
+    }
+
+    @Test
+    public void testAppend() {
+        SQLStatementCountValidator.reset();
+
+        doInJPA(entityManager -> {
+            Post post = entityManager.find(Post.class, 1L);
+            post.getTags().add("hibernate");
+
+            doInJDBC(connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(
+                    "update post set tags[1] = 'first' where id = 1")) {
+                    assertEquals(1, statement.executeUpdate());
+                }
+            });
+        });
+
+        SQLStatementCountValidator.assertUpdateCount(2);
+
+        doInJPA(entityManager -> {
+            Post post = entityManager.find(Post.class, 1L);
+            assertEquals(5001, post.getTags().size());
+            assertEquals("first", post.getTags().get(0));
+            assertEquals("hibernate", post.getTags().get(5000));
+        });
+    }
+
+    @Test
+    public void testAppendEncoding() {
+        doInJPA(entityManager -> {
+            Post post = entityManager.find(Post.class, 1L);
+            post.setScores(new int[]{1, 2, 3, 2, 5});
+            post.setLabels(new Label[]{Label.JAVA, Label.HIBERNATE});
+        });
+
+        doInJDBC(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                "select scores::text, labels::text from post where id = 1")) {
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    assertTrue(resultSet.next());
+                    assertEquals("{1,2,3,2,5}", resultSet.getString(1));
+                    assertEquals("{JAVA,HIBERNATE}", resultSet.getString(2));
+                }
+            }
+        });
+
+        doInJPA(entityManager -> {
+            Post post = entityManager.find(Post.class, 1L);
+            assertArrayEquals(new Label[]{Label.JAVA, Label.HIBERNATE}, post.getLabels());
+        });
+    }
+
+    @Test
+    public void testRemove() {
+        doInJPA(entityManager -> {
+            Post post = entityManager.find(Post.class, 1L);
+            post.getTags().remove("tag-10");
+            post.setScores(new int[]{1, 3});
+        });
+
+        doInJPA(entityManager -> {
+            Post post = entityManager.find(Post.class, 1L);
+            assertEquals(4999, post.getTags().size());
+            assertEquals("tag-11", post.getTags().get(10));
+            assertArrayEquals(new int[]{1, 3}, post.getScores());
+        });
+    }
+
+    @Test
+    public void testFullUpdate() {
+        doInJPA(entityManager -> {
+            Post post = entityManager.find(Post.class, 1L);
+            post.getTags().set(0, "first");
+        });
+
+        doInJPA(entityManager -> {
+            Post post = entityManager.find(Post.class, 1L);
+            assertEquals("first", post.getTags().get(0));
+        });
+    }
+
+    @Entity(name = "Post")
+    @Table(name = "post")
+    public static class Post {
+
+        @Id
+        private Long id;
+
+        @Type(
+            value = ListArrayType.class,
+            parameters = @Parameter(name = AbstractArrayType.INCREMENTAL_UPDATE, value = "true")
+        )
+        @Column(columnDefinition = "text[]")
+        private List<String> tags;
+
+        @Type(
+            value = IntArrayType.class,
+            parameters = @Parameter(name = AbstractArrayType.INCREMENTAL_UPDATE, value = "true")
+        )
+        @Column(columnDefinition = "integer[]")
+        private int[] scores;
+
+        @Type(
+            value = EnumArrayType.class,
+            parameters = {
+                @Parameter(name = AbstractArrayType.SQL_ARRAY_TYPE, value = "text"),
+                @Parameter(name = AbstractArrayType.INCREMENTAL_UPDATE, value = "true")
+            }
+        )
+        @Column(columnDefinition = "text[]")
+        private Label[] labels;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+
+        public int[] getScores() {
+            return scores;
+        }
+
+        public void setScores(int[] scores) {
+            this.scores = scores;
+        }
+
+        public Label[] getLabels() {
+            return labels;
+        }
+
+        public void setLabels(Label[] labels) {
+            this.labels = labels;
+        }
+    }
+
+    public enum Label {
+        JAVA {
+            @Override
+            public String toString() {
+                return "Java";
+            }
+        },
+        HIBERNATE {
+            @Override
+            public String toString() {
+                return "Hibernate";
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package io.hypersistence.utils.hibernate.type.array;
+
+import io.hypersistence.utils.hibernate.util.AbstractPostgreSQLIntegrationTest;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Type;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class PostgreSQLDoubleMatrixTypeTest extends AbstractPostgreSQLIntegrationTest {
+
+    @Override
+    protected Class<?>[] entities() {
+        return new Class<?>[]{
+            Sensor.class
+        };
+    }
+
+    @Test
+    public void test() {
+        doInJPA(entityManager -> {
+            entityManager.persist(
+                new Sensor()
+                    .setId(1L)
+                    .setReadings(DoubleMatrix.of(new double[][]{
+                        {1.5, 2.5, 3.5},
+                        {-1, 0, Double.MAX_VALUE},
+                    }))
+            );
+        });
+
+        doInJPA(entityManager -> {
+            Sensor sensor = entityManager.find(Sensor.class, 1L);
+            DoubleMatrix readings = sensor.getReadings();
+            assertArrayEquals(new int[]{2, 3}, readings.getShape());
+            assertArrayEquals(new double[]{1.5, 2.5, 3.5, -1, 0, Double.MAX_VALUE}, readings.getValues(), 0);
+
+            readings.set(42, 1, 1);
+        });
+
+        doInJPA(entityManager -> {
+            Sensor sensor = entityManager.find(Sensor.class, 1L);
+            assertEquals(42, sensor.getReadings().get(1, 1), 0);
+
+            Object readings = entityManager.createNativeQuery(
+                "select readings[2][2] from sensor where id = 1")
+            .getSingleResult();
+            assertEquals(42, ((Number) readings).doubleValue(), 0);
+        });
+    }
+
+    @Entity(name = "Sensor")
+    @Table(name = "sensor")
+    public static class Sensor {
+
+        @Id
+        private Long id;
+
+        @Type(DoubleMatrixType.class)
+        @Column(columnDefinition = "float8[][]")
+        private DoubleMatrix readings;
+
+        public Long getId() {
+            return id;
+        }
+
+        public Sensor setId(Long id) {
+            this.id = id;
+            return this;
+        }
+
+        public DoubleMatrix getReadings() {
+            return readings;
+        }
+
+        public Sensor setReadings(DoubleMatrix readings) {
+            this.readings = readings;
+            return this;
+        }
+    }
+}
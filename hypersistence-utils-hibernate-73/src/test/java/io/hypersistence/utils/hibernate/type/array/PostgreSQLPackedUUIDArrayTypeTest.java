@@ -0,0 +1,104 @@
+package io.hypersistence.utils.hibernate.type.array;
+
+import io.hypersistence.utils.hibernate.util.AbstractPostgreSQLIntegrationTest;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Type;
+import org.junit.Test;
+
+import java.util.UUID;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class PostgreSQLPackedUUIDArrayTypeTest extends AbstractPostgreSQLIntegrationTest {
+
+    private final UUID[] tagIds = {
+        UUID.fromString("c0a8011e-0000-0000-0000-000000000001"),
+        UUID.randomUUID(),
+        UUID.randomUUID(),
+    };
+
+    @Override
+    protected Class<?>[] entities() {
+        return new Class<?>[]{
+            Post.class
+        };
+    }
+
+    @Test
+    public void test() {
+        doInJPA(entityManager -> {
+            entityManager.persist(
+                new Post()
+                    .setId(1L)
+                    .setTagIds(PackedUUIDArray.of(tagIds))
+                    .setCategoryIds(tagIds)
+            );
+        });
+
+        doInJPA(entityManager -> {
+            Post post = entityManager.find(Post.class, 1L);
+            assertEquals(PackedUUIDArray.of(tagIds), post.getTagIds());
+            assertArrayEquals(tagIds, post.getCategoryIds());
+
+            post.setTagIds(PackedUUIDArray.of(tagIds[0]));
+        });
+
+        doInJPA(entityManager -> {
+            Post post = entityManager.find(Post.class, 1L);
+            assertEquals(PackedUUIDArray.of(tagIds[0]), post.getTagIds());
+
+            Object tagCount = entityManager.createNativeQuery(
+                "select cardinality(category_ids) from post where :tagId = any(tag_ids)")
+            .setParameter("tagId", tagIds[0])
+            .getSingleResult();
+            assertEquals(3, ((Number) tagCount).intValue());
+        });
+    }
+
+    @Entity(name = "Post")
+    @Table(name = "post")
+    public static class Post {
+
+        @Id
+        private Long id;
+
+        @Type(PackedUUIDArrayType.class)
+        @Column(name = "tag_ids", columnDefinition = "uuid[]")
+        private PackedUUIDArray tagIds;
+
+        @Type(UUIDArrayType.class)
+        @Column(name = "category_ids", columnDefinition = "uuid[]")
+        private UUID[] categoryIds;
+
+        public Long getId() {
+            return id;
+        }
+
+        public Post setId(Long id) {
+            this.id = id;
+            return this;
+        }
+
+        public PackedUUIDArray getTagIds() {
+            return tagIds;
+        }
+
+        public Post setTagIds(PackedUUIDArray tagIds) {
+            this.tagIds = tagIds;
+            return this;
+        }
+
+        public UUID[] getCategoryIds() {
+            return categoryIds;
+        }
+
+        public Post setCategoryIds(UUID[] categoryIds) {
+            this.categoryIds = categoryIds;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package io.hypersistence.utils.hibernate.type.array;
+
+import io.hypersistence.utils.hibernate.util.AbstractPostgreSQLIntegrationTest;
+import io.hypersistence.utils.hibernate.util.providers.PostgreSQLDataSourceProvider;
+import io.hypersistence.utils.test.providers.DataSourceProvider;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Type;
+import org.junit.Test;
+import org.postgresql.ds.PGSimpleDataSource;
+import org.postgresql.jdbc.PreferQueryMode;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The binary arrays cannot be bound when the PostgreSQL JDBC Driver uses the simple query mode,
+ * like when connecting through PgBouncer, so the text arrays are used instead.
+ *
+ * @author Vlad Mihalcea
+ */
+public class PostgreSQLSimpleQueryModeArrayTypeTest extends AbstractPostgreSQLIntegrationTest {
+
+    private final UUID[] tagIds = {
+        UUID.randomUUID(),
+        UUID.randomUUID(),
+    };
+
+    @Override
+    protected Class<?>[] entities() {
+        return new Class<?>[]{
+            Post.class
+        };
+    }
+
+    @Override
+    protected DataSourceProvider dataSourceProvider() {
+        return new PostgreSQLDataSourceProvider() {
+            @Override
+            protected DataSource newDataSource() {
+                PGSimpleDataSource dataSource = (PGSimpleDataSource) super.newDataSource();
+                dataSource.setPreferQueryMode(PreferQueryMode.SIMPLE);
+                return dataSource;
+            }
+        };
+    }
+
+    @Test
+    public void test() {
+        doInJPA(entityManager -> {
+            entityManager.persist(
+                new Post()
+                    .setId(1L)
+                    .setTagIds(PackedUUIDArray.of(tagIds))
+                    .setCategoryIds(tagIds)
+                    .setScores(new int[]{1, 2, 3})
+                    .setReadings(new DoubleMatrix(new double[]{1.5, 2.5, 3.5, 4.5}, 2, 2))
+            );
+        });
+
+        doInJPA(entityManager -> {
+            Post post = entityManager.find(Post.class, 1L);
+            assertEquals(PackedUUIDArray.of(tagIds), post.getTagIds());
+            assertArrayEquals(tagIds, post.getCategoryIds());
+            assertArrayEquals(new int[]{1, 2, 3}, post.getScores());
+            assertEquals(new DoubleMatrix(new double[]{1.5, 2.5, 3.5, 4.5}, 2, 2), post.getReadings());
+        });
+    }
+
+    @Entity(name = "Post")
+    @Table(name = "post")
+    public static class Post {
+
+        @Id
+        private Long id;
+
+        @Type(PackedUUIDArrayType.class)
+        @Column(name = "tag_ids", columnDefinition = "uuid[]")
+        private PackedUUIDArray tagIds;
+
+        @Type(UUIDArrayType.class)
+        @Column(name = "category_ids", columnDefinition = "uuid[]")
+        private UUID[] categoryIds;
+
+        @Type(IntArrayType.class)
+        @Column(columnDefinition = "integer[]")
+        private int[] scores;
+
+        @Type(DoubleMatrixType.class)
+        @Column(columnDefinition = "float8[][]")
+        private DoubleMatrix readings;
+
+        public Long getId() {
+            return id;
+        }
+
+        public Post setId(Long id) {
+            this.id = id;
+            return this;
+        }
+
+        public PackedUUIDArray getTagIds() {
+            return tagIds;
+        }
+
+        public Post setTagIds(PackedUUIDArray tagIds) {
+            this.tagIds = tagIds;
+            return this;
+        }
+
+        public UUID[] getCategoryIds() {
+            return categoryIds;
+        }
+
+        public Post setCategoryIds(UUID[] categoryIds) {
+            this.categoryIds = categoryIds;
+            return this;
+        }
+
+        public int[] getScores() {
+            return scores;
+        }
+
+        public Post setScores(int[] scores) {
+            this.scores = scores;
+            return this;
+        }
+
+        public DoubleMatrix getReadings() {
+            return readings;
+        }
+
+        public Post setReadings(DoubleMatrix readings) {
+            this.readings = readings;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package io.hypersistence.utils.hibernate.type.array.internal;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class ArrayDiffTest {
+
+    @Test
+    public void testAppend() {
+        ArrayDiff diff = ArrayDiff.diff(new Object[]{"a", "b"}, new Object[]{"a", "b", "c", "d"}, 8);
+        assertTrue(diff.isAppend());
+        assertArrayEquals(new Object[]{"c", "d"}, diff.getAppendedElements());
+        assertEquals("array_cat(tags, ?)", ArrayIncrementalUpdateHandler.updateExpression("tags", "text", diff));
+
+        assertNull(ArrayDiff.diff(new Object[]{"a", "b"}, new Object[]{"b", "a", "c"}, 8));
+    }
+
+    @Test
+    public void testRemove() {
+        ArrayDiff diff = ArrayDiff.diff(new Object[]{1, 2, 3, 2, null, 4}, new Object[]{1, 3, 4}, 8);
+        assertFalse(diff.isAppend());
+        assertEquals(Arrays.asList(2, null), diff.getRemovedValues());
+        assertEquals(
+            "array_remove(array_remove(ids, cast(? as integer)), cast(? as integer))",
+            ArrayIncrementalUpdateHandler.updateExpression("ids", "integer", diff)
+        );
+    }
+
+    @Test
+    public void testNonTrivialChange() {
+        assertNull(ArrayDiff.diff(new Object[]{"a", "b"}, new Object[]{"a", "c"}, 8));
+        assertNull(ArrayDiff.diff(new Object[]{"a", "b", "a"}, new Object[]{"b", "a"}, 8));
+        assertNull(ArrayDiff.diff(new Object[]{"a", "b", "c"}, new Object[]{"c", "b"}, 8));
+        assertNull(ArrayDiff.diff(new Object[]{1, 2, 3, 4}, new Object[]{4}, 2));
+    }
+}
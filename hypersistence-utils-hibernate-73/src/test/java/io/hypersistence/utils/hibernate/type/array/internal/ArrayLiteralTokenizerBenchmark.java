@@ -0,0 +1,61 @@
+package io.hypersistence.utils.hibernate.type.array.internal;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the previous regular expression and {@link String#split} based array literal parsing,
+ * which boxes every element, with the single-pass {@link ArrayLiteralTokenizer}.
+ *
+ * @author Vlad Mihalcea
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArrayLiteralTokenizerBenchmark {
+
+    @Param({"10", "10000"})
+    private int elementCount;
+
+    private String literal;
+
+    @Setup
+    public void setup() {
+        long[] values = new long[elementCount];
+        for (int i = 0; i < elementCount; i++) {
+            values[i] = i * 7919L;
+        }
+        literal = Arrays.toString(values).replace(" ", "");
+    }
+
+    @Benchmark
+    public long[] regexSplit() {
+        String[] tokens = literal.replaceAll("[\\[\\]]", "").split(",");
+        long[] array = new long[tokens.length];
+        for (int i = 0; i < tokens.length; i++) {
+            array[i] = Long.valueOf(tokens[i]);
+        }
+        return array;
+    }
+
+    @Benchmark
+    public long[] tokenizer() {
+        return ArrayLiteralTokenizer.parse(literal, long[].class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+            new OptionsBuilder()
+                .include(ArrayLiteralTokenizerBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
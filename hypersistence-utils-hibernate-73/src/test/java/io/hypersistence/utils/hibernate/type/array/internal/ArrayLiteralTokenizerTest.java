@@ -0,0 +1,254 @@
+package io.hypersistence.utils.hibernate.type.array.internal;
+
+import org.hibernate.HibernateException;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class ArrayLiteralTokenizerTest {
+
+    @Test
+    public void testJavaFormat() {
+        assertArrayEquals(new int[]{1, -2, 3}, ArrayUtil.fromString("[1, -2, 3]", int[].class));
+        assertArrayEquals(new long[]{Long.MAX_VALUE, Long.MIN_VALUE}, ArrayUtil.fromString(Arrays.toString(new long[]{Long.MAX_VALUE, Long.MIN_VALUE}), long[].class));
+        assertArrayEquals(new double[]{1.5, Double.NaN}, ArrayUtil.fromString("[1.5, NaN]", double[].class), 0);
+        assertArrayEquals(new boolean[]{true, false}, ArrayUtil.fromString("[true, false]", boolean[].class));
+        assertArrayEquals(new String[]{"a", "b c"}, ArrayUtil.fromString("[a, b c]", String[].class));
+        assertArrayEquals(new Integer[]{1, 2}, ArrayUtil.fromString("[1,2]", Integer[].class));
+        assertArrayEquals(new int[0], ArrayUtil.fromString("[]", int[].class));
+    }
+
+    @Test
+    public void testPostgreSQLFormat() {
+        assertArrayEquals(
+            new String[]{"a", "b,c", null, "NULL", "say \"hi\"", "back\\slash", ""},
+            ArrayUtil.fromString("{a,\"b,c\",NULL,\"NULL\",\"say \\\"hi\\\"\",\"back\\\\slash\",\"\"}", String[].class)
+        );
+        assertArrayEquals(new int[]{1, 0, 3}, ArrayUtil.fromString("{1,NULL,3}", int[].class));
+        assertNull(ArrayLiteralTokenizer.parseNonNull("{1,NULL,3}", int[].class));
+        assertArrayEquals(new long[]{1, 3}, ArrayLiteralTokenizer.parseNonNull("{1,3}", long[].class));
+        assertArrayEquals(new Long[]{1L, null}, ArrayUtil.fromString("{1,null}", Long[].class));
+        assertArrayEquals(new boolean[]{true, false}, ArrayUtil.fromString("{t,f}", boolean[].class));
+        assertArrayEquals(new int[]{5, 6}, ArrayUtil.fromString("[0:1]={5,6}", int[].class));
+
+        UUID uuid = UUID.randomUUID();
+        assertArrayEquals(new UUID[]{uuid}, ArrayUtil.fromString("{" + uuid + "}", UUID[].class));
+    }
+
+    @Test
+    public void testOtherComponentTypes() {
+        LocalDate[] localDates = {LocalDate.of(2024, 1, 31), null};
+        assertArrayEquals(localDates, ArrayUtil.fromString(Arrays.toString(localDates), LocalDate[].class));
+        assertArrayEquals(localDates, ArrayUtil.fromString("{2024-01-31,NULL}", LocalDate[].class));
+
+        LocalDateTime[] localDateTimes = {LocalDateTime.of(2024, 1, 31, 10, 15, 30, 123000000)};
+        assertArrayEquals(localDateTimes, ArrayUtil.fromString(Arrays.toString(localDateTimes), LocalDateTime[].class));
+        assertArrayEquals(localDateTimes, ArrayUtil.fromString("{\"2024-01-31 10:15:30.123\"}", LocalDateTime[].class));
+
+        BigDecimal[] decimals = {new BigDecimal("10.50"), BigDecimal.ONE.negate()};
+        assertArrayEquals(decimals, ArrayUtil.fromString(Arrays.toString(decimals), BigDecimal[].class));
+
+        Date[] dates = {new Date(1706695200000L)};
+        assertArrayEquals(dates, ArrayUtil.fromString(Arrays.toString(dates), Date[].class));
+        assertEquals(
+            Timestamp.valueOf("2024-01-31 10:15:30"),
+            ArrayUtil.fromString("{\"2024-01-31 10:15:30\"}", Date[].class)[0]
+        );
+        assertEquals(java.sql.Date.valueOf("2024-01-31"), ArrayUtil.fromString("{2024-01-31}", Date[].class)[0]);
+
+        assertArrayEquals(new Character[]{'a', 'b'}, ArrayUtil.fromString("[a, b]", Character[].class));
+        assertArrayEquals(new Object[]{"a", null}, ArrayUtil.fromString("{a,NULL}", Object[].class));
+    }
+
+    @Test
+    public void testMultiDimensionalLiterals() {
+        int[][] ints = {{1, 2}, {3, 4}};
+        assertArrayEquals(ints, ArrayUtil.fromString(Arrays.deepToString(ints), int[][].class));
+        assertArrayEquals(ints, ArrayUtil.fromString("{{1,2},{3,4}}", int[][].class));
+
+        assertArrayEquals(
+            new String[][]{{"a", "{b}"}, {null, "c,d"}},
+            ArrayUtil.fromString("{{a,\"{b}\"},{NULL,\"c,d\"}}", String[][].class)
+        );
+        assertArrayEquals(new Long[][][]{{{1L}}, {{2L}}}, ArrayUtil.fromString("{{{1}},{{2}}}", Long[][][].class));
+        assertArrayEquals(new long[][]{{1}, null}, ArrayUtil.fromString("{{1},NULL}", long[][].class));
+        assertNull(ArrayLiteralTokenizer.parseNonNull("{{1,NULL},{3,4}}", long[][].class));
+
+        try {
+            ArrayUtil.fromString("{1,2}", int[][].class);
+            fail("Should not parse a one-dimensional literal into a two-dimensional array");
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    @Test
+    public void testUnsupportedComponentTypes() {
+        try {
+            ArrayUtil.fromString("{1,2}", Number[].class);
+            fail("Should not parse an unsupported component type");
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            new LocalDateArrayTypeDescriptor().fromString("{2024-13-01}");
+            fail("Should not parse an invalid date");
+        } catch (HibernateException expected) {
+            assertTrue(expected.getMessage().contains("{2024-13-01}"));
+        }
+    }
+
+    @Test
+    public void testInvalidLiterals() {
+        for (String literal : new String[]{"{1,2", "{{1,2},{3,4}}", "{\"a}", "{1,}"}) {
+            try {
+                ArrayUtil.fromString(literal, String[].class);
+                fail("Should not parse " + literal);
+            } catch (IllegalArgumentException expected) {
+            }
+        }
+        try {
+            ArrayUtil.fromString("{2147483648}", int[].class);
+            fail("Should not parse an out of range int");
+        } catch (NumberFormatException expected) {
+        }
+    }
+
+    @Test
+    public void testPostgreSQLOutputTable() {
+        assertArrayEquals(new String[]{"a", "b c"}, ArrayUtil.fromString("{ a , b c }", String[].class));
+        assertArrayEquals(new String[]{"a,b", "c\\d"}, ArrayUtil.fromString("{a\\,b,c\\\\d}", String[].class));
+        assertArrayEquals(
+            new String[]{null, "NULL", null, null, "null", "NULLx", "xNULL", "NULL"},
+            ArrayUtil.fromString("{NULL,\"NULL\",null,NuLl,\"null\",NULLx,xNULL,\\N\\U\\L\\L}", String[].class)
+        );
+        assertArrayEquals(new String[]{"a ", " b", "a\tb"}, ArrayUtil.fromString("{a\\ ,\\ b,a\tb}", String[].class));
+        assertArrayEquals(new String[]{"", "", "\"a\"", "a"}, ArrayUtil.fromString("{\"\",\"\",\\\"a\\\",  \"a\" }", String[].class));
+        assertArrayEquals(new String[0], ArrayUtil.fromString("{  }", String[].class));
+        assertArrayEquals(
+            new String[][]{{"a", "b"}, {null, "c d"}},
+            ArrayUtil.fromString("{{a,b},{NULL,\"c d\"}}", String[][].class)
+        );
+        assertArrayEquals(
+            new String[][]{{"a"}, {" b "}},
+            ArrayUtil.fromString("{ { a } , { \" b \" } }", String[][].class)
+        );
+    }
+
+    @Test
+    public void testFuzzStringArrays() {
+        Random random = new Random(20241018L);
+        String alphabet = "ab ,{}\"\\NUL\tx";
+        for (int i = 0; i < 2000; i++) {
+            if (random.nextBoolean()) {
+                String[] values = randomValues(random, alphabet, random.nextInt(6));
+                String literal = toLiteral(random, values);
+                assertArrayEquals(literal, values, ArrayUtil.fromString(literal, String[].class));
+            } else {
+                int columns = 1 + random.nextInt(4);
+                String[][] values = new String[1 + random.nextInt(4)][];
+                StringBuilder literal = new StringBuilder("{");
+                for (int j = 0; j < values.length; j++) {
+                    values[j] = randomValues(random, alphabet, columns);
+                    if (j > 0) {
+                        literal.append(',');
+                    }
+                    literal.append(whitespace(random)).append(toLiteral(random, values[j])).append(whitespace(random));
+                }
+                literal.append('}');
+                assertArrayEquals(literal.toString(), values, ArrayUtil.fromString(literal.toString(), String[][].class));
+            }
+        }
+    }
+
+    @Test
+    public void testFuzzNumericArrays() {
+        Random random = new Random(42L);
+        for (int i = 0; i < 2000; i++) {
+            long[] longs = new long[random.nextInt(10)];
+            double[] doubles = new double[longs.length];
+            for (int j = 0; j < longs.length; j++) {
+                longs[j] = random.nextInt(4) == 0 ? random.nextLong() : random.nextInt(2000) - 1000;
+                doubles[j] = random.nextBoolean() ? Double.longBitsToDouble(random.nextLong()) : random.nextGaussian();
+            }
+            String longLiteral = Arrays.toString(longs);
+            assertArrayEquals(longLiteral, longs, ArrayUtil.fromString(longLiteral, long[].class));
+            assertArrayEquals(longs, ArrayUtil.fromString(longLiteral.replace('[', '{').replace(']', '}'), long[].class));
+            assertArrayEquals(doubles, ArrayUtil.fromString(Arrays.toString(doubles), double[].class), 0);
+        }
+    }
+
+    private String[] randomValues(Random random, String alphabet, int length) {
+        String[] values = new String[length];
+        for (int i = 0; i < values.length; i++) {
+            switch (random.nextInt(10)) {
+                case 0:
+                    continue;
+                case 1:
+                    values[i] = random.nextBoolean() ? "NULL" : "null";
+                    continue;
+                default:
+                    StringBuilder value = new StringBuilder();
+                    int valueLength = random.nextInt(6);
+                    for (int j = 0; j < valueLength; j++) {
+                        value.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                    }
+                    values[i] = value.toString();
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Build the PostgreSQL array literal of the given values, quoting each element or escaping
+     * its special characters at random, and padding the elements with insignificant whitespace.
+     */
+    private String toLiteral(Random random, String[] values) {
+        StringBuilder builder = new StringBuilder("{");
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(whitespace(random));
+            String value = values[i];
+            if (value == null) {
+                builder.append(random.nextBoolean() ? "NULL" : "null");
+            } else if (value.isEmpty() || random.nextBoolean()) {
+                builder.append('"');
+                for (char c : value.toCharArray()) {
+                    if (c == '"' || c == '\\') {
+                        builder.append('\\');
+                    }
+                    builder.append(c);
+                }
+                builder.append('"');
+            } else {
+                boolean isNull = "null".equalsIgnoreCase(value);
+                for (int j = 0; j < value.length(); j++) {
+                    char c = value.charAt(j);
+                    boolean edge = j == 0 || j == value.length() - 1;
+                    if ("\"\\{},".indexOf(c) >= 0 || (edge && Character.isWhitespace(c)) || (isNull && j == 0)) {
+                        builder.append('\\');
+                    }
+                    builder.append(c);
+                }
+            }
+            builder.append(whitespace(random));
+        }
+        return builder.append('}').toString();
+    }
+
+    private String whitespace(Random random) {
+        return random.nextInt(4) == 0 ? " \t".substring(random.nextInt(2)) : "";
+    }
+}
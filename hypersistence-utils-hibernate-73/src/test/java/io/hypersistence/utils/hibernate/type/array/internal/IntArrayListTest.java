@@ -0,0 +1,83 @@
+package io.hypersistence.utils.hibernate.type.array.internal;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class IntArrayListTest {
+
+    @Test
+    public void testListOperations() {
+        IntArrayList list = IntArrayList.of(new Integer[]{1, 2, 3});
+
+        list.add(4);
+        list.add(0, 0);
+        assertEquals(Integer.valueOf(2), list.remove(2));
+        list.set(1, 10);
+
+        assertEquals(Arrays.asList(0, 10, 3, 4), list);
+        assertEquals(new ArrayList<>(list).hashCode(), list.hashCode());
+        assertTrue(list.contains(3));
+        assertFalse(list.contains(3L));
+        assertEquals(2, list.indexOf(3));
+        assertArrayEquals(new int[]{0, 10, 3, 4}, list.toIntArray());
+
+        list.subList(1, 3).clear();
+        assertEquals(Arrays.asList(0, 4), list);
+    }
+
+    @Test
+    public void testNullElements() {
+        assertNull(IntArrayList.of(new Integer[]{1, null}));
+
+        IntArrayList list = new IntArrayList(new int[]{1});
+        try {
+            list.add(null);
+            fail("Should not accept null elements");
+        } catch (NullPointerException expected) {
+            assertTrue(expected.getMessage().contains("doesn't permit null elements"));
+        }
+        try {
+            list.set(0, null);
+            fail("Should not accept null elements");
+        } catch (NullPointerException expected) {
+        }
+        assertEquals(Arrays.asList(1), list);
+    }
+
+    @Test
+    public void testCopyOnWriteSnapshot() {
+        IntArrayList list = new IntArrayList(new int[]{1, 2, 3});
+        IntArrayList snapshot = list.snapshot();
+        assertEquals(list, snapshot);
+
+        list.set(0, 100);
+        assertEquals(Arrays.asList(100, 2, 3), list);
+        assertEquals(Arrays.asList(1, 2, 3), snapshot);
+
+        IntArrayList secondSnapshot = snapshot.snapshot();
+        snapshot.add(4);
+        assertEquals(Arrays.asList(1, 2, 3, 4), snapshot);
+        assertEquals(Arrays.asList(1, 2, 3), secondSnapshot);
+    }
+
+    @Test
+    public void testPrimitiveArrayBacking() {
+        int[] values = {1, 2, 3};
+        IntArrayList list = IntArrayList.of(values);
+        assertEquals(Arrays.asList(1, 2, 3), list);
+
+        list.set(0, 10);
+        assertEquals(10, values[0]);
+
+        IntArrayList copy = new IntArrayList(values);
+        copy.set(1, 20);
+        assertEquals(2, values[1]);
+    }
+}
@@ -0,0 +1,88 @@
+package io.hypersistence.utils.hibernate.type.array.internal;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class LongArrayListTest {
+
+    @Test
+    public void testListOperations() {
+        LongArrayList list = LongArrayList.of(new Long[]{1L, 2L, 3L});
+
+        list.add(4L);
+        list.add(0, 0L);
+        assertEquals(Long.valueOf(2), list.remove(2));
+        list.set(1, 10L);
+
+        assertEquals(Arrays.asList(0L, 10L, 3L, 4L), list);
+        assertEquals(new ArrayList<>(list).hashCode(), list.hashCode());
+        assertTrue(list.contains(3L));
+        assertFalse(list.contains(3));
+        assertArrayEquals(new long[]{0, 10, 3, 4}, list.toLongArray());
+
+        list.subList(1, 3).clear();
+        assertEquals(Arrays.asList(0L, 4L), list);
+    }
+
+    @Test
+    public void testNullElements() {
+        assertNull(LongArrayList.of(new Long[]{1L, null}));
+        assertNull(IntArrayList.of(new Integer[]{null}));
+
+        LongArrayList list = new LongArrayList(new long[]{1});
+        try {
+            list.add(null);
+            fail("Should not accept null elements");
+        } catch (NullPointerException expected) {
+            assertTrue(expected.getMessage().contains("doesn't permit null elements"));
+        }
+        try {
+            list.set(0, null);
+            fail("Should not accept null elements");
+        } catch (NullPointerException expected) {
+            assertTrue(expected.getMessage().contains("doesn't permit null elements"));
+        }
+        assertEquals(1, list.size());
+    }
+
+    @Test
+    public void testCopyOnWriteSnapshot() {
+        LongArrayList list = new LongArrayList(new long[]{1, 2, 3});
+        LongArrayList snapshot = list.snapshot();
+        assertEquals(list, snapshot);
+
+        list.set(0, 100L);
+        assertEquals(Arrays.asList(100L, 2L, 3L), list);
+        assertEquals(Arrays.asList(1L, 2L, 3L), snapshot);
+
+        LongArrayList secondSnapshot = snapshot.snapshot();
+        snapshot.add(4L);
+        assertEquals(Arrays.asList(1L, 2L, 3L, 4L), snapshot);
+        assertEquals(Arrays.asList(1L, 2L, 3L), secondSnapshot);
+    }
+
+    @Test
+    public void testListArrayTypeDescriptorDirtyChecking() {
+        ListArrayTypeDescriptor descriptor = new ListArrayTypeDescriptor();
+
+        IntArrayList list = IntArrayList.of(new Integer[]{1, 2, 3});
+        Collection snapshot = descriptor.getMutabilityPlan().deepCopy(list);
+        assertTrue(snapshot instanceof IntArrayList);
+        assertTrue(descriptor.areEqual(list, snapshot));
+
+        list.set(2, 4);
+        assertFalse(descriptor.areEqual(list, snapshot));
+
+        List<Integer> boxedList = new ArrayList<>(Arrays.asList(1, 2, 3));
+        assertTrue(descriptor.areEqual(boxedList, snapshot));
+    }
+}
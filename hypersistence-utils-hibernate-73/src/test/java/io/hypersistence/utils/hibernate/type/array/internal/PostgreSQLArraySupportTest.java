@@ -0,0 +1,74 @@
+package io.hypersistence.utils.hibernate.type.array.internal;
+
+import io.hypersistence.utils.hibernate.type.array.DoubleMatrix;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class PostgreSQLArraySupportTest {
+
+    @Test
+    public void testParseIntArray() {
+        assertArrayEquals(
+            new int[]{1, -2, 0, 2147483647},
+            PostgreSQLArraySupport.parsePrimitiveArray("{1,-2,NULL,2147483647}", int[].class)
+        );
+        assertArrayEquals(new int[0], PostgreSQLArraySupport.parsePrimitiveArray("{}", int[].class));
+    }
+
+    @Test
+    public void testParseLongArray() {
+        assertArrayEquals(
+            new long[]{Long.MIN_VALUE, 0, Long.MAX_VALUE},
+            PostgreSQLArraySupport.parsePrimitiveArray("{-9223372036854775808,0,9223372036854775807}", long[].class)
+        );
+    }
+
+    @Test
+    public void testParseFloatingPointArray() {
+        assertArrayEquals(
+            new double[]{1.5, -0.25, 1e+20, Double.NaN, Double.POSITIVE_INFINITY},
+            PostgreSQLArraySupport.parsePrimitiveArray("{1.5,-0.25,1e+20,NaN,Infinity}", double[].class),
+            0
+        );
+        assertArrayEquals(
+            new float[]{3.14f, 0f},
+            PostgreSQLArraySupport.parsePrimitiveArray("{3.14,NULL}", float[].class),
+            0
+        );
+    }
+
+    @Test
+    public void testParseUnsupportedLiteral() {
+        assertNull(PostgreSQLArraySupport.parsePrimitiveArray("{{1,2},{3,4}}", int[].class));
+        assertNull(PostgreSQLArraySupport.parsePrimitiveArray("[0:1]={1,2}", int[].class));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testParseInvalidLiteral() {
+        PostgreSQLArraySupport.parsePrimitiveArray("{1,a}", long[].class);
+    }
+
+    @Test
+    public void testDoubleMatrixLiteral() {
+        DoubleMatrix matrix = new DoubleMatrix(new double[]{1, 2.5, -3, 4, 5, 6, 7, 8}, 2, 2, 2);
+        String literal = PostgreSQLArraySupport.formatDoubleMatrix(matrix);
+        assertEquals("{{{1.0,2.5},{-3.0,4.0}},{{5.0,6.0},{7.0,8.0}}}", literal);
+        assertEquals(matrix, PostgreSQLArraySupport.parseDoubleMatrix(literal));
+
+        assertEquals(
+            new DoubleMatrix(new double[]{1, 0, 1e10, Double.NaN}, 2, 2),
+            PostgreSQLArraySupport.parseDoubleMatrix("[0:1][0:1]={{1,NULL},{1e+10,NaN}}")
+        );
+        assertEquals(new DoubleMatrix(new double[0], 0), PostgreSQLArraySupport.parseDoubleMatrix("{}"));
+        assertEquals("{}", PostgreSQLArraySupport.formatDoubleMatrix(new DoubleMatrix(new double[0], 0)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testJaggedDoubleMatrixLiteral() {
+        PostgreSQLArraySupport.parseDoubleMatrix("{{1,2},{3}}");
+    }
+}
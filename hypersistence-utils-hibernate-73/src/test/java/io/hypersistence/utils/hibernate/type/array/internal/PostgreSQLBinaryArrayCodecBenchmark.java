@@ -0,0 +1,82 @@
+package io.hypersistence.utils.hibernate.type.array.internal;
+
+import io.hypersistence.utils.hibernate.util.providers.PostgreSQLDataSourceProvider;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.postgresql.core.BaseConnection;
+import org.postgresql.jdbc.PgArray;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the default array extraction path, where the PostgreSQL JDBC Driver decodes the binary array
+ * into a boxed array using {@link PgArray#getArray()}, which is then unwrapped into the primitive array,
+ * with the binary codec, which decodes the elements right into the primitive array.
+ * <p>
+ * The {@link PgArray#getArray()} baseline requires a PostgreSQL connection.
+ *
+ * @author Vlad Mihalcea
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PostgreSQLBinaryArrayCodecBenchmark {
+
+    @Param({"10", "10000"})
+    private int elementCount;
+
+    private byte[] bytes;
+
+    private Connection connection;
+
+    private PgArray array;
+
+    @Setup
+    public void setup() throws SQLException {
+        long[] values = new long[elementCount];
+        for (int i = 0; i < elementCount; i++) {
+            values[i] = i * 31L;
+        }
+        bytes = PostgreSQLBinaryArrayCodec.encode(values, PostgreSQLBinaryArrayCodec.INT8_OID);
+
+        connection = PostgreSQLDataSourceProvider.INSTANCE.dataSource().getConnection();
+        BaseConnection baseConnection = connection.unwrap(BaseConnection.class);
+        array = new PgArray(baseConnection, baseConnection.getTypeInfo().getPGArrayType("int8"), bytes);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public long[] getArray() throws SQLException {
+        return ArrayUtil.unwrapArray((Object[]) array.getArray(), long[].class);
+    }
+
+    @Benchmark
+    public long[] boxedDecode() {
+        Long[] boxedValues = PostgreSQLBinaryArrayCodec.decode(bytes, Long[].class);
+        return ArrayUtil.unwrapArray(boxedValues, long[].class);
+    }
+
+    @Benchmark
+    public long[] primitiveDecode() {
+        return PostgreSQLBinaryArrayCodec.decode(bytes, long[].class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+            new OptionsBuilder()
+                .include(PostgreSQLBinaryArrayCodecBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
@@ -0,0 +1,167 @@
+package io.hypersistence.utils.hibernate.type.array.internal;
+
+import io.hypersistence.utils.hibernate.type.array.DoubleMatrix;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class PostgreSQLBinaryArrayCodecTest {
+
+    @Test
+    public void testPrimitiveArrays() {
+        int[] ints = {1, -2, Integer.MAX_VALUE};
+        assertArrayEquals(ints, roundTrip(ints, PostgreSQLBinaryArrayCodec.INT4_OID, int[].class));
+
+        long[] longs = {Long.MIN_VALUE, 0, Long.MAX_VALUE};
+        assertArrayEquals(longs, roundTrip(longs, PostgreSQLBinaryArrayCodec.INT8_OID, long[].class));
+
+        double[] doubles = {1.5, Double.NaN, Double.NEGATIVE_INFINITY};
+        assertArrayEquals(doubles, roundTrip(doubles, PostgreSQLBinaryArrayCodec.FLOAT8_OID, double[].class), 0);
+
+        float[] floats = {3.14f, -0.5f};
+        assertArrayEquals(floats, roundTrip(floats, PostgreSQLBinaryArrayCodec.FLOAT4_OID, float[].class), 0);
+
+        boolean[] booleans = {true, false};
+        assertArrayEquals(booleans, roundTrip(booleans, PostgreSQLBinaryArrayCodec.BOOL_OID, boolean[].class));
+    }
+
+    @Test
+    public void testMultiDimensionalArrays() {
+        Integer[][] seats = {
+            {1, 1, 1, 1},
+            {0, 0, 2, 0},
+            {2, 2, 2, 2},
+        };
+        assertArrayEquals(seats, roundTrip(seats, PostgreSQLBinaryArrayCodec.INT4_OID, Integer[][].class));
+
+        byte[] bytes = PostgreSQLBinaryArrayCodec.encode(seats, PostgreSQLBinaryArrayCodec.INT4_OID);
+        int[][] primitiveSeats = PostgreSQLBinaryArrayCodec.decode(bytes, int[][].class);
+        assertArrayEquals(new int[]{0, 0, 2, 0}, primitiveSeats[1]);
+
+        String[][] statuses = {
+            {"BLOCKED", "BLOCKED"},
+            {"UNRESERVED", "RESERVED"},
+        };
+        assertArrayEquals(statuses, roundTrip(statuses, PostgreSQLBinaryArrayCodec.TEXT_OID, String[][].class));
+
+        double[][][] cube = {
+            {{1, 2}, {3, 4}},
+            {{5, 6}, {7, 8}},
+        };
+        assertArrayEquals(cube, roundTrip(cube, PostgreSQLBinaryArrayCodec.FLOAT8_OID, double[][][].class));
+    }
+
+    @Test
+    public void testDoubleMatrix() {
+        DoubleMatrix matrix = DoubleMatrix.of(new double[][][]{
+            {{1, 2}, {3, 4}},
+            {{5, 6}, {7, 8}},
+        });
+        byte[] bytes = PostgreSQLBinaryArrayCodec.encode(matrix);
+        assertEquals(matrix, PostgreSQLBinaryArrayCodec.decodeDoubleMatrix(bytes));
+        assertArrayEquals((double[][][]) matrix.toArray(), PostgreSQLBinaryArrayCodec.decode(bytes, double[][][].class));
+
+        Float[][] floats = {{1.5f, null}, {3f, 4f}};
+        assertEquals(
+            new DoubleMatrix(new double[]{1.5, 0, 3, 4}, 2, 2),
+            PostgreSQLBinaryArrayCodec.decodeDoubleMatrix(
+                PostgreSQLBinaryArrayCodec.encode(floats, PostgreSQLBinaryArrayCodec.FLOAT4_OID)
+            )
+        );
+        assertNull(PostgreSQLBinaryArrayCodec.decodeDoubleMatrix(
+            PostgreSQLBinaryArrayCodec.encode(new int[]{1}, PostgreSQLBinaryArrayCodec.INT4_OID)
+        ));
+    }
+
+    @Test
+    public void testObjectArrays() {
+        UUID[] uuids = {UUID.randomUUID(), null, UUID.fromString("c0a8011e-0000-0000-0000-000000000001")};
+        assertArrayEquals(uuids, roundTrip(uuids, PostgreSQLBinaryArrayCodec.UUID_OID, UUID[].class));
+
+        LocalDate[] dates = {LocalDate.of(1991, 12, 31), LocalDate.of(2000, 1, 1), LocalDate.of(2024, 2, 29)};
+        assertArrayEquals(dates, roundTrip(dates, PostgreSQLBinaryArrayCodec.DATE_OID, LocalDate[].class));
+
+        LocalDateTime[] timestamps = {
+            LocalDateTime.of(1991, 12, 31, 23, 59, 59, 123456000),
+            LocalDateTime.of(2030, 6, 15, 8, 30),
+        };
+        assertArrayEquals(timestamps, roundTrip(timestamps, PostgreSQLBinaryArrayCodec.TIMESTAMP_OID, LocalDateTime[].class));
+    }
+
+    @Test
+    public void testWideningIntegralArrays() {
+        Short[] shorts = {1, null, Short.MIN_VALUE};
+        byte[] bytes = PostgreSQLBinaryArrayCodec.encode(shorts, PostgreSQLBinaryArrayCodec.INT2_OID);
+        assertArrayEquals(shorts, PostgreSQLBinaryArrayCodec.decode(bytes, Short[].class));
+        assertArrayEquals(new Integer[]{1, null, (int) Short.MIN_VALUE}, PostgreSQLBinaryArrayCodec.decode(bytes, Integer[].class));
+        assertArrayEquals(new Long[]{1L, null, (long) Short.MIN_VALUE}, PostgreSQLBinaryArrayCodec.decode(bytes, Long[].class));
+
+        Integer[][] ints = {{1, 2}, {3, Integer.MAX_VALUE}};
+        bytes = PostgreSQLBinaryArrayCodec.encode(ints, PostgreSQLBinaryArrayCodec.INT4_OID);
+        assertArrayEquals(new Long[][]{{1L, 2L}, {3L, (long) Integer.MAX_VALUE}}, PostgreSQLBinaryArrayCodec.decode(bytes, Long[][].class));
+    }
+
+    @Test
+    public void testInfinityElements() {
+        ByteBuffer dates = binaryArray(PostgreSQLBinaryArrayCodec.DATE_OID, 2, 4);
+        dates.putInt(4).putInt(0);
+        dates.putInt(4).putInt(Integer.MAX_VALUE);
+        assertNull(PostgreSQLBinaryArrayCodec.decode(dates.array(), LocalDate[].class));
+
+        ByteBuffer timestamps = binaryArray(PostgreSQLBinaryArrayCodec.TIMESTAMP_OID, 1, 8);
+        timestamps.putInt(8).putLong(Long.MIN_VALUE);
+        assertNull(PostgreSQLBinaryArrayCodec.decode(timestamps.array(), LocalDateTime[].class));
+    }
+
+    @Test
+    public void testNullElements() {
+        Long[] values = {1L, null, 3L};
+        byte[] bytes = PostgreSQLBinaryArrayCodec.encode(values, PostgreSQLBinaryArrayCodec.INT8_OID);
+        assertEquals(1, ByteBuffer.wrap(bytes).getInt(4));
+        assertTrue(PostgreSQLBinaryArrayCodec.hasNullElements(bytes));
+        assertFalse(PostgreSQLBinaryArrayCodec.hasNullElements(
+            PostgreSQLBinaryArrayCodec.encode(new Long[]{1L, 3L}, PostgreSQLBinaryArrayCodec.INT8_OID)
+        ));
+        assertArrayEquals(values, PostgreSQLBinaryArrayCodec.decode(bytes, Long[].class));
+        assertArrayEquals(new long[]{1, 0, 3}, PostgreSQLBinaryArrayCodec.decode(bytes, long[].class));
+    }
+
+    @Test
+    public void testEmptyArrays() {
+        byte[] bytes = PostgreSQLBinaryArrayCodec.encode(new int[0], PostgreSQLBinaryArrayCodec.INT4_OID);
+        assertEquals(0, ByteBuffer.wrap(bytes).getInt());
+        assertArrayEquals(new int[0], PostgreSQLBinaryArrayCodec.decode(bytes, int[].class));
+        assertArrayEquals(new String[0][], PostgreSQLBinaryArrayCodec.decode(
+            PostgreSQLBinaryArrayCodec.encode(new String[0][], PostgreSQLBinaryArrayCodec.TEXT_OID),
+            String[][].class
+        ));
+    }
+
+    @Test
+    public void testUnsupportedArrays() {
+        byte[] bytes = PostgreSQLBinaryArrayCodec.encode(new long[]{1}, PostgreSQLBinaryArrayCodec.INT8_OID);
+        assertNull(PostgreSQLBinaryArrayCodec.decode(bytes, int[].class));
+        assertNull(PostgreSQLBinaryArrayCodec.decode(bytes, long[][].class));
+        assertNull(PostgreSQLBinaryArrayCodec.encode(new long[]{1}, PostgreSQLBinaryArrayCodec.INT4_OID));
+        assertNull(PostgreSQLBinaryArrayCodec.encode(new int[][]{{1, 2}, {3}}, PostgreSQLBinaryArrayCodec.INT4_OID));
+    }
+
+    private ByteBuffer binaryArray(int elementOid, int size, int elementLength) {
+        ByteBuffer buffer = ByteBuffer.allocate(20 + size * (4 + elementLength));
+        buffer.putInt(1).putInt(0).putInt(elementOid);
+        buffer.putInt(size).putInt(1);
+        return buffer;
+    }
+
+    private <T> T roundTrip(Object array, int elementOid, Class<T> arrayClass) {
+        return PostgreSQLBinaryArrayCodec.decode(PostgreSQLBinaryArrayCodec.encode(array, elementOid), arrayClass);
+    }
+}
@@ -4,9 +4,13 @@ import io.hypersistence.utils.hibernate.util.AbstractTest;
 import jakarta.persistence.*;
 import org.junit.Test;
 
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 /**
  * @author Vlad Mihalcea
@@ -102,6 +106,42 @@ public class CustomOrdinalEnumConverterTest extends AbstractTest {
         });
     }
 
+    @Test
+    public void testMissingCustomOrdinalValues() {
+        CustomOrdinalEnumConverter<PostStatus> converter = new CustomOrdinalEnumConverter<PostStatus>(PostStatus.class) {
+            @Override
+            public Integer convertToDatabaseColumn(PostStatus enumValue) {
+                return enumValue != PostStatus.SPAM ? enumValue.getStatusCode() : null;
+            }
+        };
+        assertEquals(PostStatus.APPROVED, converter.convertToEntityAttribute(10));
+        assertNull(converter.convertToEntityAttribute(50));
+        assertNull(converter.convertToEntityAttribute(null));
+
+        LazyPostStatusConverter lazyConverter = new LazyPostStatusConverter();
+        assertEquals(PostStatus.PENDING, lazyConverter.convertToEntityAttribute(100));
+        assertEquals(PostStatus.REQUIRES_MODERATOR_INTERVENTION, lazyConverter.convertToEntityAttribute(1));
+        assertNull(lazyConverter.convertToEntityAttribute(2));
+    }
+
+    @Test
+    public void testUnknownCustomOrdinalValues() {
+        AtomicInteger conversions = new AtomicInteger();
+        CustomOrdinalEnumConverter<PostStatus> converter = new CustomOrdinalEnumConverter<PostStatus>(PostStatus.class) {
+            @Override
+            public Integer convertToDatabaseColumn(PostStatus enumValue) {
+                conversions.incrementAndGet();
+                return enumValue.getStatusCode();
+            }
+        };
+        assertEquals(PostStatus.SPAM, converter.convertToEntityAttribute(50));
+        int indexConversions = conversions.get();
+        for (int i = 0; i < 10; i++) {
+            assertNull(converter.convertToEntityAttribute(1000 + i));
+        }
+        assertEquals(indexConversions, conversions.get());
+    }
+
     public enum PostStatus {
         PENDING(100),
         APPROVED(10),
@@ -161,6 +201,27 @@ public class CustomOrdinalEnumConverterTest extends AbstractTest {
         }
     }
 
+    /**
+     * The status codes are not available yet when the {@link CustomOrdinalEnumConverter} constructor
+     * indexes the Java Enum values.
+     */
+    public static class LazyPostStatusConverter extends CustomOrdinalEnumConverter<PostStatus> {
+
+        private final Map<PostStatus, Integer> statusCodes = new EnumMap<>(PostStatus.class);
+
+        public LazyPostStatusConverter() {
+            super(PostStatus.class);
+            for (PostStatus status : PostStatus.values()) {
+                statusCodes.put(status, status.getStatusCode());
+            }
+        }
+
+        @Override
+        public Integer convertToDatabaseColumn(PostStatus enumValue) {
+            return statusCodes != null ? statusCodes.get(enumValue) : null;
+        }
+    }
+
     @Converter(autoApply = true)
     public static class PostStatusConverter extends CustomOrdinalEnumConverter<PostStatus> {
 
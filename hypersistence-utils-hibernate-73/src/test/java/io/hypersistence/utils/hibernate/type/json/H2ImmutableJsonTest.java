@@ -0,0 +1,183 @@
+package io.hypersistence.utils.hibernate.type.json;
+
+import io.hypersistence.utils.hibernate.type.json.internal.JsonJavaTypeDescriptor;
+import io.hypersistence.utils.hibernate.type.model.Location;
+import io.hypersistence.utils.hibernate.type.util.ObjectMapperWrapper;
+import io.hypersistence.utils.hibernate.util.AbstractTest;
+import io.hypersistence.utils.hibernate.util.providers.H2DataSourceProvider;
+import io.hypersistence.utils.jdbc.validator.SQLStatementCountValidator;
+import io.hypersistence.utils.test.providers.DataSourceProvider;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Type;
+import org.junit.Test;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class H2ImmutableJsonTest extends AbstractTest {
+
+    @Override
+    protected Class<?>[] entities() {
+        return new Class<?>[]{
+            Event.class
+        };
+    }
+
+    @Override
+    protected DataSourceProvider dataSourceProvider() {
+        return new H2DataSourceProvider();
+    }
+
+    @Override
+    protected void afterInit() {
+        doInJPA(entityManager -> {
+            Location location = new Location();
+            location.setCountry("Romania");
+            location.setCity("Cluj-Napoca");
+
+            Event event = new Event();
+            event.setId(1L);
+            event.setPrice(new Price(new BigDecimal("44.99"), "EUR"));
+            event.setLocation(location);
+            event.setItinerary(new Itinerary("Transylvania", new ArrayList<>(List.of("Cluj-Napoca", "Sibiu"))));
+            entityManager.persist(event);
+        });
+    }
+
+    @Test
+    public void testNoChange() {
+        SQLStatementCountValidator.reset();
+
+        doInJPA(entityManager -> {
+            Event event = entityManager.find(Event.class, 1L);
+            assertEquals("EUR", event.getPrice().currency());
+            event.setPrice(new Price(new BigDecimal("44.99"), "EUR"));
+            event.getLocation().setCity("Bucharest");
+        });
+
+        SQLStatementCountValidator.assertSelectCount(1);
+        SQLStatementCountValidator.assertUpdateCount(0);
+    }
+
+    @Test
+    public void testReplace() {
+        doInJPA(entityManager -> {
+            Event event = entityManager.find(Event.class, 1L);
+            event.setPrice(new Price(new BigDecimal("39.99"), "EUR"));
+
+            Location location = new Location();
+            location.setCountry("Romania");
+            location.setCity("Sibiu");
+            event.setLocation(location);
+        });
+
+        doInJPA(entityManager -> {
+            Event event = entityManager.find(Event.class, 1L);
+            assertEquals(new BigDecimal("39.99"), event.getPrice().amount());
+            assertEquals("Sibiu", event.getLocation().getCity());
+        });
+    }
+
+    @Test
+    public void testRecordWithMutableComponent() {
+        doInJPA(entityManager -> {
+            Event event = entityManager.find(Event.class, 1L);
+            event.getItinerary().stops().add("Brasov");
+        });
+
+        doInJPA(entityManager -> {
+            Event event = entityManager.find(Event.class, 1L);
+            assertEquals(List.of("Cluj-Napoca", "Sibiu", "Brasov"), event.getItinerary().stops());
+        });
+    }
+
+    @Test
+    public void testMutabilityPlan() {
+        JsonJavaTypeDescriptor recordDescriptor = new JsonJavaTypeDescriptor(ObjectMapperWrapper.INSTANCE, Price.class);
+        assertTrue(recordDescriptor.isImmutable());
+        Price price = new Price(BigDecimal.TEN, "EUR");
+        assertSame(price, recordDescriptor.getMutabilityPlan().deepCopy(price));
+
+        assertFalse(new JsonJavaTypeDescriptor(ObjectMapperWrapper.INSTANCE, Location.class).isImmutable());
+        assertTrue(new JsonJavaTypeDescriptor(ObjectMapperWrapper.INSTANCE, Ticket.class).isImmutable());
+        assertFalse(new JsonJavaTypeDescriptor(ObjectMapperWrapper.INSTANCE, Itinerary.class).isImmutable());
+        assertFalse(new JsonJavaTypeDescriptor(ObjectMapperWrapper.INSTANCE, Venue.class).isImmutable());
+
+        ObjectMapperWrapper objectMapperWrapper = new ObjectMapperWrapper();
+        objectMapperWrapper.setImmutableTypePredicate(Location.class::equals);
+        assertTrue(new JsonJavaTypeDescriptor(objectMapperWrapper, Location.class).isImmutable());
+    }
+
+    public record Price(BigDecimal amount, String currency) {
+    }
+
+    public record Ticket(Price price, LocalDate date, int row) {
+    }
+
+    public record Itinerary(String name, List<String> stops) implements Serializable {
+    }
+
+    public record Venue(String name, Location location) {
+    }
+
+    @Entity(name = "Event")
+    @Table(name = "event")
+    public static class Event {
+
+        @Id
+        private Long id;
+
+        @Type(JsonType.class)
+        @Column(columnDefinition = "json")
+        private Price price;
+
+        @Type(JsonType.class)
+        @Column(columnDefinition = "json")
+        @ImmutableJson
+        private Location location;
+
+        @Type(JsonType.class)
+        @Column(columnDefinition = "json")
+        private Itinerary itinerary;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public Price getPrice() {
+            return price;
+        }
+
+        public void setPrice(Price price) {
+            this.price = price;
+        }
+
+        public Location getLocation() {
+            return location;
+        }
+
+        public void setLocation(Location location) {
+            this.location = location;
+        }
+
+        public Itinerary getItinerary() {
+            return itinerary;
+        }
+
+        public void setItinerary(Itinerary itinerary) {
+            this.itinerary = itinerary;
+        }
+    }
+}
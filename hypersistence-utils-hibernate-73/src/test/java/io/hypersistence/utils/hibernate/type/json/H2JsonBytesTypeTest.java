@@ -0,0 +1,154 @@
+package io.hypersistence.utils.hibernate.type.json;
+
+import io.hypersistence.utils.hibernate.type.json.internal.JacksonUtil;
+import io.hypersistence.utils.hibernate.type.json.internal.JsonBytesJdbcTypeDescriptor;
+import io.hypersistence.utils.hibernate.type.model.Location;
+import io.hypersistence.utils.hibernate.util.AbstractTest;
+import io.hypersistence.utils.hibernate.util.providers.H2DataSourceProvider;
+import io.hypersistence.utils.test.providers.DataSourceProvider;
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcType;
+import org.hibernate.annotations.Type;
+import org.junit.Test;
+import tools.jackson.databind.JsonNode;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class H2JsonBytesTypeTest extends AbstractTest {
+
+    @Override
+    protected Class<?>[] entities() {
+        return new Class<?>[]{
+            Event.class
+        };
+    }
+
+    @Override
+    protected DataSourceProvider dataSourceProvider() {
+        return new H2DataSourceProvider();
+    }
+
+    @Test
+    public void test() {
+        doInJPA(entityManager -> {
+            Location location = new Location();
+            location.setCountry("Romania");
+            location.setCity("Cluj-Napoca");
+
+            Map<String, String> properties = new LinkedHashMap<>();
+            properties.put("title", "High-Performance Java Persistence");
+            properties.put("author", "Vlad Mihalcea");
+
+            Event event = new Event();
+            event.setId(1L);
+            event.setLocation(location);
+            event.setProperties(properties);
+            event.setMetadata("{\"organizer\":\"Vlad Mihalcea\"}");
+            event.setAttributes(JacksonUtil.toJsonNode("{\"seats\":100,\"tags\":[\"java\",\"jpa\"]}"));
+            event.setRawJson("{\"city\":\"Cluj-Napoca\"}");
+
+            entityManager.persist(event);
+        });
+
+        doInJPA(entityManager -> {
+            Event event = entityManager.find(Event.class, 1L);
+
+            assertEquals("Cluj-Napoca", event.getLocation().getCity());
+            assertEquals("Vlad Mihalcea", event.getProperties().get("author"));
+            assertEquals("Vlad Mihalcea", JacksonUtil.toJsonNode(event.getMetadata()).get("organizer").asText());
+            assertEquals(100, event.getAttributes().get("seats").asInt());
+            assertEquals("jpa", event.getAttributes().get("tags").get(1).asText());
+            assertEquals("{\"city\":\"Cluj-Napoca\"}", event.getRawJson());
+
+            event.getLocation().setCity("Bucharest");
+        });
+
+        doInJPA(entityManager -> {
+            Event event = entityManager.find(Event.class, 1L);
+
+            assertEquals("Bucharest", event.getLocation().getCity());
+        });
+    }
+
+    @Entity(name = "Event")
+    @Table(name = "event")
+    public static class Event {
+
+        @Id
+        private Long id;
+
+        @Type(JsonType.class)
+        @Column(columnDefinition = "json")
+        private Location location;
+
+        @Type(JsonType.class)
+        @Column(columnDefinition = "json")
+        private Map<String, String> properties;
+
+        @Type(JsonType.class)
+        @Column(columnDefinition = "json")
+        private String metadata;
+
+        @Type(JsonType.class)
+        @Column(columnDefinition = "json")
+        private JsonNode attributes;
+
+        @JdbcType(JsonBytesJdbcTypeDescriptor.class)
+        @Column(name = "raw_json")
+        private String rawJson;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public Location getLocation() {
+            return location;
+        }
+
+        public void setLocation(Location location) {
+            this.location = location;
+        }
+
+        public Map<String, String> getProperties() {
+            return properties;
+        }
+
+        public void setProperties(Map<String, String> properties) {
+            this.properties = properties;
+        }
+
+        public String getMetadata() {
+            return metadata;
+        }
+
+        public void setMetadata(String metadata) {
+            this.metadata = metadata;
+        }
+
+        public JsonNode getAttributes() {
+            return attributes;
+        }
+
+        public void setAttributes(JsonNode attributes) {
+            this.attributes = attributes;
+        }
+
+        public String getRawJson() {
+            return rawJson;
+        }
+
+        public void setRawJson(String rawJson) {
+            this.rawJson = rawJson;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package io.hypersistence.utils.hibernate.type.json;
+
+import io.hypersistence.utils.hibernate.type.json.internal.JsonCompressedBytesJdbcTypeDescriptor;
+import io.hypersistence.utils.hibernate.type.model.Location;
+import io.hypersistence.utils.hibernate.util.AbstractTest;
+import io.hypersistence.utils.hibernate.util.providers.H2DataSourceProvider;
+import io.hypersistence.utils.test.providers.DataSourceProvider;
+import jakarta.persistence.*;
+import org.hibernate.Session;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.annotations.Type;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class H2JsonCompressedBinaryTypeTest extends AbstractTest {
+
+    @Override
+    protected Class<?>[] entities() {
+        return new Class<?>[]{
+            Event.class
+        };
+    }
+
+    @Override
+    protected DataSourceProvider dataSourceProvider() {
+        return new H2DataSourceProvider();
+    }
+
+    @Test
+    public void test() {
+        doInJPA(entityManager -> {
+            Location location = new Location();
+            location.setCountry("Romania");
+            location.setCity("Cluj-Napoca");
+
+            Event event = new Event();
+            event.setId(1L);
+            event.setLocation(location);
+            event.setStops(stops(1000));
+            entityManager.persist(event);
+        });
+
+        byte[][] columns = columns(1L);
+        assertNotEquals(JsonCompressedBytesJdbcTypeDescriptor.COMPRESSED_HEADER, columns[0][0]);
+        assertEquals(JsonCompressedBytesJdbcTypeDescriptor.COMPRESSED_HEADER, columns[1][0]);
+
+        doInJPA(entityManager -> {
+            Event event = entityManager.find(Event.class, 1L);
+            assertEquals("Cluj-Napoca", event.getLocation().getCity());
+            assertEquals(1000, event.getStops().size());
+            assertEquals("City 999", event.getStops().get(999).getCity());
+
+            event.getStops().get(0).setCity("Sibiu");
+        });
+
+        doInJPA(entityManager -> {
+            Event event = entityManager.find(Event.class, 1L);
+            assertEquals("Sibiu", event.getStops().get(0).getCity());
+        });
+    }
+
+    @Test
+    public void testUncompressedRow() {
+        doInJPA(entityManager -> {
+            entityManager.unwrap(Session.class).doWork(connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO event (id, location, stops) VALUES (?, ?, ?)")) {
+                    statement.setLong(1, 2L);
+                    statement.setBytes(2, "{\"country\":\"Romania\",\"city\":\"Bucharest\"}".getBytes(StandardCharsets.UTF_8));
+                    statement.setBytes(3, "[]".getBytes(StandardCharsets.UTF_8));
+                    statement.executeUpdate();
+                }
+            });
+        });
+
+        doInJPA(entityManager -> {
+            Event event = entityManager.find(Event.class, 2L);
+            assertEquals("Bucharest", event.getLocation().getCity());
+            assertTrue(event.getStops().isEmpty());
+        });
+    }
+
+    private List<Location> stops(int count) {
+        List<Location> stops = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Location stop = new Location();
+            stop.setCountry("Romania");
+            stop.setCity("City " + i);
+            stops.add(stop);
+        }
+        return stops;
+    }
+
+    private byte[][] columns(Long id) {
+        return doInJPA(entityManager -> {
+            return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT location, stops FROM event WHERE id = ?")) {
+                    statement.setLong(1, id);
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        assertTrue(resultSet.next());
+                        return new byte[][]{
+                            resultSet.getBytes(1),
+                            resultSet.getBytes(2)
+                        };
+                    }
+                }
+            });
+        });
+    }
+
+    @Entity(name = "Event")
+    @Table(name = "event")
+    public static class Event {
+
+        @Id
+        private Long id;
+
+        @Type(JsonCompressedBinaryType.class)
+        @Column(columnDefinition = "varbinary")
+        private Location location;
+
+        @Type(
+            value = JsonCompressedBinaryType.class,
+            parameters = {
+                @Parameter(name = "hypersistence.utils.json.compression.level", value = "9"),
+                @Parameter(name = "hypersistence.utils.json.compression.threshold", value = "512")
+            }
+        )
+        @Column(columnDefinition = "blob")
+        private List<Location> stops;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public Location getLocation() {
+            return location;
+        }
+
+        public void setLocation(Location location) {
+            this.location = location;
+        }
+
+        public List<Location> getStops() {
+            return stops;
+        }
+
+        public void setStops(List<Location> stops) {
+            this.stops = stops;
+        }
+    }
+}
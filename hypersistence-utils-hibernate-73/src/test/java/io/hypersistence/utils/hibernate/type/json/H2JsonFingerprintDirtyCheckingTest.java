@@ -0,0 +1,151 @@
+package io.hypersistence.utils.hibernate.type.json;
+
+import io.hypersistence.utils.hibernate.util.AbstractTest;
+import io.hypersistence.utils.hibernate.util.providers.H2DataSourceProvider;
+import io.hypersistence.utils.jdbc.validator.SQLStatementCountValidator;
+import io.hypersistence.utils.test.providers.DataSourceProvider;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.annotations.Type;
+import org.junit.Test;
+
+import java.io.Serializable;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class H2JsonFingerprintDirtyCheckingTest extends AbstractTest {
+
+    @Override
+    protected Class<?>[] entities() {
+        return new Class<?>[]{
+            Event.class
+        };
+    }
+
+    @Override
+    protected DataSourceProvider dataSourceProvider() {
+        return new H2DataSourceProvider();
+    }
+
+    @Override
+    protected void afterInit() {
+        doInJPA(entityManager -> {
+            Venue location = new Venue();
+            location.setName("Transylvania Hall");
+            location.setCity("Cluj-Napoca");
+
+            Event event = new Event();
+            event.setId(1L);
+            event.setLocation(location);
+
+            entityManager.persist(event);
+        });
+    }
+
+    @Test
+    public void testNoChange() {
+        SQLStatementCountValidator.reset();
+
+        doInJPA(entityManager -> {
+            Event event = entityManager.find(Event.class, 1L);
+            assertEquals("Cluj-Napoca", event.getLocation().getCity());
+        });
+
+        SQLStatementCountValidator.assertSelectCount(1);
+        SQLStatementCountValidator.assertUpdateCount(0);
+    }
+
+    @Test
+    public void testChange() {
+        SQLStatementCountValidator.reset();
+
+        doInJPA(entityManager -> {
+            Event event = entityManager.find(Event.class, 1L);
+            event.getLocation().setCity("Bucharest");
+        });
+
+        SQLStatementCountValidator.assertSelectCount(1);
+        SQLStatementCountValidator.assertUpdateCount(1);
+
+        doInJPA(entityManager -> {
+            Event event = entityManager.find(Event.class, 1L);
+            assertEquals("Bucharest", event.getLocation().getCity());
+        });
+    }
+
+    @Test
+    public void testMerge() {
+        Event detachedEvent = doInJPA(entityManager -> {
+            return entityManager.find(Event.class, 1L);
+        });
+
+        detachedEvent.getLocation().setCity("Timisoara");
+
+        doInJPA(entityManager -> {
+            Event event = entityManager.merge(detachedEvent);
+            assertEquals("Timisoara", event.getLocation().getCity());
+        });
+
+        doInJPA(entityManager -> {
+            Event event = entityManager.find(Event.class, 1L);
+            assertEquals("Timisoara", event.getLocation().getCity());
+        });
+    }
+
+    @Entity(name = "Event")
+    @Table(name = "event")
+    public static class Event {
+
+        @Id
+        private Long id;
+
+        @Type(
+            value = JsonType.class,
+            parameters = @Parameter(name = "hypersistence.utils.json.fingerprint.dirty.checking", value = "true")
+        )
+        @Column(columnDefinition = "json")
+        private Venue location;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public Venue getLocation() {
+            return location;
+        }
+
+        public void setLocation(Venue location) {
+            this.location = location;
+        }
+    }
+
+    public static class Venue implements Serializable {
+
+        private String name;
+
+        private String city;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getCity() {
+            return city;
+        }
+
+        public void setCity(String city) {
+            this.city = city;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package io.hypersistence.utils.hibernate.type.json;
+
+import io.hypersistence.utils.hibernate.type.json.internal.JacksonUtil;
+import io.hypersistence.utils.hibernate.type.model.Location;
+import io.hypersistence.utils.hibernate.util.AbstractTest;
+import io.hypersistence.utils.hibernate.util.providers.H2DataSourceProvider;
+import io.hypersistence.utils.test.providers.DataSourceProvider;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Type;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class H2JsonLobTypeTest extends AbstractTest {
+
+    @Override
+    protected Class<?>[] entities() {
+        return new Class<?>[]{
+            Event.class
+        };
+    }
+
+    @Override
+    protected DataSourceProvider dataSourceProvider() {
+        return new H2DataSourceProvider();
+    }
+
+    @Test
+    public void test() {
+        doInJPA(entityManager -> {
+            Location location = new Location();
+            location.setCountry("Romania");
+            location.setCity("Cluj-Napoca");
+
+            List<Location> stops = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                Location stop = new Location();
+                stop.setCountry("Romania");
+                stop.setCity("City " + i);
+                stops.add(stop);
+            }
+
+            Event event = new Event();
+            event.setId(1L);
+            event.setLocation(location);
+            event.setStops(stops);
+            event.setMetadata(JacksonUtil.toString(location));
+            entityManager.persist(event);
+
+            Event nullEvent = new Event();
+            nullEvent.setId(2L);
+            entityManager.persist(nullEvent);
+        });
+
+        doInJPA(entityManager -> {
+            Event event = entityManager.find(Event.class, 1L);
+
+            assertEquals("Cluj-Napoca", event.getLocation().getCity());
+            assertEquals(1000, event.getStops().size());
+            assertEquals("City 999", event.getStops().get(999).getCity());
+            assertEquals("Cluj-Napoca", JacksonUtil.fromString(event.getMetadata(), Location.class).getCity());
+
+            event.getLocation().setCity("Bucharest");
+            event.getStops().get(0).setCity("Sibiu");
+
+            Event nullEvent = entityManager.find(Event.class, 2L);
+            assertNull(nullEvent.getLocation());
+            assertNull(nullEvent.getStops());
+        });
+
+        doInJPA(entityManager -> {
+            Event event = entityManager.find(Event.class, 1L);
+
+            assertEquals("Bucharest", event.getLocation().getCity());
+            assertEquals("Sibiu", event.getStops().get(0).getCity());
+        });
+    }
+
+    @Entity(name = "Event")
+    @Table(name = "event")
+    public static class Event {
+
+        @Id
+        private Long id;
+
+        @Type(JsonBlobType.class)
+        @Column(columnDefinition = "blob")
+        private Location location;
+
+        @Type(JsonClobType.class)
+        @Column(columnDefinition = "clob")
+        private List<Location> stops;
+
+        @Type(JsonClobType.class)
+        @Column(columnDefinition = "clob")
+        private String metadata;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public Location getLocation() {
+            return location;
+        }
+
+        public void setLocation(Location location) {
+            this.location = location;
+        }
+
+        public List<Location> getStops() {
+            return stops;
+        }
+
+        public void setStops(List<Location> stops) {
+            this.stops = stops;
+        }
+
+        public String getMetadata() {
+            return metadata;
+        }
+
+        public void setMetadata(String metadata) {
+            this.metadata = metadata;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package io.hypersistence.utils.hibernate.type.json;
+
+import io.hypersistence.utils.hibernate.type.json.internal.JacksonUtil;
+import io.hypersistence.utils.hibernate.util.AbstractTest;
+import io.hypersistence.utils.hibernate.util.providers.H2DataSourceProvider;
+import io.hypersistence.utils.jdbc.validator.SQLStatementCountValidator;
+import io.hypersistence.utils.test.providers.DataSourceProvider;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.annotations.Type;
+import org.junit.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ObjectNode;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class H2JsonNodeFrozenTest extends AbstractTest {
+
+    @Override
+    protected Class<?>[] entities() {
+        return new Class<?>[]{
+            Book.class
+        };
+    }
+
+    @Override
+    protected DataSourceProvider dataSourceProvider() {
+        return new H2DataSourceProvider();
+    }
+
+    @Override
+    protected void afterInit() {
+        doInJPA(entityManager -> {
+            Book book = new Book();
+            book.setId(1L);
+            book.setProperties(
+                JacksonUtil.toJsonNode(
+                    "{" +
+                    "   \"title\": \"High-Performance Java Persistence\"," +
+                    "   \"author\": {\"name\": \"Vlad Mihalcea\"}," +
+                    "   \"price\": 44.99" +
+                    "}"
+                )
+            );
+            entityManager.persist(book);
+        });
+    }
+
+    @Test
+    public void test() {
+        SQLStatementCountValidator.reset();
+
+        doInJPA(entityManager -> {
+            Book book = entityManager.find(Book.class, 1L);
+
+            ObjectNode properties = (ObjectNode) book.getProperties();
+            ObjectNode newProperties = properties.objectNode();
+            newProperties.set("title", properties.get("title"));
+            newProperties.set("author", properties.get("author"));
+            newProperties.put("price", 39.99);
+            book.setProperties(newProperties);
+
+            assertSame(properties.get("author"), book.getProperties().get("author"));
+        });
+
+        SQLStatementCountValidator.assertSelectCount(1);
+        SQLStatementCountValidator.assertUpdateCount(1);
+
+        doInJPA(entityManager -> {
+            Book book = entityManager.find(Book.class, 1L);
+            assertEquals(39.99, book.getProperties().get("price").doubleValue(), 0.001);
+            assertEquals("Vlad Mihalcea", book.getProperties().get("author").get("name").asString());
+        });
+    }
+
+    @Test
+    public void testNoChange() {
+        SQLStatementCountValidator.reset();
+
+        doInJPA(entityManager -> {
+            Book book = entityManager.find(Book.class, 1L);
+            ObjectNode properties = ((ObjectNode) book.getProperties()).deepCopy();
+            properties.put("price", 44.990);
+            book.setProperties(properties);
+        });
+
+        SQLStatementCountValidator.assertSelectCount(1);
+        SQLStatementCountValidator.assertUpdateCount(0);
+    }
+
+    @Entity(name = "Book")
+    @Table(name = "book")
+    public static class Book {
+
+        @Id
+        private Long id;
+
+        @Type(
+            value = JsonNodeStringType.class,
+            parameters = @Parameter(name = "hypersistence.utils.json.node.frozen", value = "true")
+        )
+        @Column(columnDefinition = "varchar(1000)")
+        private JsonNode properties;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public JsonNode getProperties() {
+            return properties;
+        }
+
+        public void setProperties(JsonNode properties) {
+            this.properties = properties;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package io.hypersistence.utils.hibernate.type.json;
+
+import io.hypersistence.utils.hibernate.type.model.Location;
+import io.hypersistence.utils.hibernate.util.AbstractTest;
+import io.hypersistence.utils.hibernate.util.providers.H2DataSourceProvider;
+import io.hypersistence.utils.jdbc.validator.SQLStatementCountValidator;
+import io.hypersistence.utils.test.providers.DataSourceProvider;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Type;
+import org.hibernate.internal.util.SerializationHelper;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class H2LazyJsonTest extends AbstractTest {
+
+    @Override
+    protected Class<?>[] entities() {
+        return new Class<?>[]{
+            Event.class
+        };
+    }
+
+    @Override
+    protected DataSourceProvider dataSourceProvider() {
+        return new H2DataSourceProvider();
+    }
+
+    @Override
+    protected void afterInit() {
+        doInJPA(entityManager -> {
+            Location location = new Location();
+            location.setCountry("Romania");
+            location.setCity("Cluj-Napoca");
+
+            Event event = new Event();
+            event.setId(1L);
+            event.setName("High-Performance Java Persistence");
+            event.setLocation(LazyJson.of(location));
+
+            entityManager.persist(event);
+        });
+    }
+
+    @Test
+    public void testNotAccessed() {
+        SQLStatementCountValidator.reset();
+
+        doInJPA(entityManager -> {
+            Event event = entityManager.find(Event.class, 1L);
+            assertEquals("High-Performance Java Persistence", event.getName());
+            assertFalse(event.getLocation().isMaterialized());
+        });
+
+        SQLStatementCountValidator.assertSelectCount(1);
+        SQLStatementCountValidator.assertUpdateCount(0);
+    }
+
+    @Test
+    public void testAccessed() {
+        SQLStatementCountValidator.reset();
+
+        doInJPA(entityManager -> {
+            Event event = entityManager.find(Event.class, 1L);
+            assertEquals("Cluj-Napoca", event.getLocation().get().getCity());
+            assertTrue(event.getLocation().isMaterialized());
+        });
+
+        SQLStatementCountValidator.assertSelectCount(1);
+        SQLStatementCountValidator.assertUpdateCount(0);
+    }
+
+    @Test
+    public void testChange() {
+        SQLStatementCountValidator.reset();
+
+        doInJPA(entityManager -> {
+            Event event = entityManager.find(Event.class, 1L);
+            event.getLocation().get().setCity("Bucharest");
+        });
+
+        SQLStatementCountValidator.assertSelectCount(1);
+        SQLStatementCountValidator.assertUpdateCount(1);
+
+        doInJPA(entityManager -> {
+            Event event = entityManager.find(Event.class, 1L);
+            assertEquals("Bucharest", event.getLocation().get().getCity());
+
+            Location location = new Location();
+            location.setCountry("Romania");
+            location.setCity("Sibiu");
+            event.getLocation().set(location);
+        });
+
+        doInJPA(entityManager -> {
+            Event event = entityManager.find(Event.class, 1L);
+            assertEquals("Sibiu", event.getLocation().get().getCity());
+        });
+    }
+
+    @Test
+    public void testEqualsAndSerialization() {
+        LazyJson<Location> location = doInJPA(entityManager -> {
+            return entityManager.find(Event.class, 1L).getLocation();
+        });
+        LazyJson<Location> otherLocation = doInJPA(entityManager -> {
+            return entityManager.find(Event.class, 1L).getLocation();
+        });
+
+        assertEquals(location, otherLocation);
+        assertEquals(location.hashCode(), otherLocation.hashCode());
+        assertFalse(location.isMaterialized());
+        assertFalse(otherLocation.isMaterialized());
+
+        @SuppressWarnings("unchecked")
+        LazyJson<Location> deserializedLocation = (LazyJson<Location>) SerializationHelper.clone(location);
+        assertFalse(deserializedLocation.isMaterialized());
+        assertEquals(location, deserializedLocation);
+        assertEquals("Cluj-Napoca", deserializedLocation.get().getCity());
+
+        assertEquals("Cluj-Napoca", location.get().getCity());
+        assertEquals(location, otherLocation);
+        assertEquals(location.hashCode(), otherLocation.hashCode());
+        assertFalse(otherLocation.isMaterialized());
+
+        location.get().setCity("Bucharest");
+        assertNotEquals(location, otherLocation);
+        assertFalse(otherLocation.isMaterialized());
+
+        @SuppressWarnings("unchecked")
+        LazyJson<Location> deserializedMaterializedLocation = (LazyJson<Location>) SerializationHelper.clone(location);
+        assertTrue(deserializedMaterializedLocation.isMaterialized());
+        assertEquals("Bucharest", deserializedMaterializedLocation.get().getCity());
+    }
+
+    @Entity(name = "Event")
+    @Table(name = "event")
+    public static class Event {
+
+        @Id
+        private Long id;
+
+        private String name;
+
+        @Type(JsonType.class)
+        @Column(columnDefinition = "json")
+        private LazyJson<Location> location;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public LazyJson<Location> getLocation() {
+            return location;
+        }
+
+        public void setLocation(LazyJson<Location> location) {
+            this.location = location;
+        }
+    }
+}
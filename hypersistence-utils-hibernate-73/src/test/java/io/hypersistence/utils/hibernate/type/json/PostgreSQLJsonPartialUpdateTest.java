@@ -0,0 +1,287 @@
+package io.hypersistence.utils.hibernate.type.json;
+
+import io.hypersistence.utils.hibernate.type.model.Location;
+import io.hypersistence.utils.hibernate.util.AbstractPostgreSQLIntegrationTest;
+import io.hypersistence.utils.jdbc.validator.SQLStatementCountValidator;
+import jakarta.persistence.*;
+import org.hibernate.Session;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.annotations.Type;
+import org.hibernate.integrator.spi.Integrator;
+import org.junit.Test;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class PostgreSQLJsonPartialUpdateTest extends AbstractPostgreSQLIntegrationTest {
+
+    @Override
+    protected Class<?>[] entities() {
+        return new Class<?>[]{
+            Event.class,
+            Tour.class
+        };
+    }
+
+    @Override
+    protected Integrator integrator() {
+        return JsonPartialUpdateIntegrator.INSTANCE;
+    }
+
+    @Override
+    protected void additionalProperties(Properties properties) {
+        properties.put("hibernate.generate_statistics", "true");
+    }
+
+    @Override
+    protected void afterInit() {
+        doInJPA(entityManager -> {
+            List<Location> stops = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                Location stop = new Location();
+                stop.setCountry("Romania");
+                stop.setCity("City " + i);
+                stops.add(stop);
+            }
+
+            Event event = new Event();
+            event.setId(1L);
+            event.setStops(stops);
+            event.setHistory(new ArrayList<>(stops));
+            entityManager.persist(event);
+
+            Event otherEvent = new Event();
+            otherEvent.setId(2L);
+            otherEvent.setStops(new ArrayList<>(stops));
+            otherEvent.setHistory(new ArrayList<>(stops));
+            entityManager.persist(otherEvent);
+
+            Tour tour = new Tour();
+            tour.setId(1L);
+            tour.setName("Transylvania");
+            tour.setStops(new ArrayList<>(stops));
+            entityManager.persist(tour);
+        });
+    }
+
+    @Test
+    public void testPartialUpdate() {
+        long entityUpdateCount = sessionFactory().getStatistics().getEntityUpdateCount();
+        SQLStatementCountValidator.reset();
+
+        doInJPA(entityManager -> {
+            Event event = entityManager.find(Event.class, 1L);
+            event.getStops().get(10).setCity("Sibiu");
+
+            Location stop = new Location();
+            stop.setCountry("Romania");
+            stop.setCity("Bucharest");
+            event.getStops().add(stop);
+
+            updateCity("stops", 50, "Brasov");
+            entityManager.flush();
+            assertEquals(1, event.getPostUpdateCount());
+        });
+
+        SQLStatementCountValidator.assertUpdateCount(2);
+        assertEquals(entityUpdateCount + 1, sessionFactory().getStatistics().getEntityUpdateCount());
+
+        doInJPA(entityManager -> {
+            Event event = entityManager.find(Event.class, 1L);
+            assertEquals(101, event.getStops().size());
+            assertEquals("Sibiu", event.getStops().get(10).getCity());
+            assertEquals("Brasov", event.getStops().get(50).getCity());
+            assertEquals("Bucharest", event.getStops().get(100).getCity());
+        });
+    }
+
+    @Test
+    public void testBatchedPartialUpdate() {
+        doInJPA(entityManager -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(10);
+            for (long id = 1; id <= 2; id++) {
+                entityManager.find(Event.class, id).getStops().get(10).setCity("Sibiu");
+            }
+            long prepareStatementCount = sessionFactory().getStatistics().getPrepareStatementCount();
+            entityManager.flush();
+            assertEquals(prepareStatementCount + 1, sessionFactory().getStatistics().getPrepareStatementCount());
+        });
+
+        doInJPA(entityManager -> {
+            for (long id = 1; id <= 2; id++) {
+                assertEquals("Sibiu", entityManager.find(Event.class, id).getStops().get(10).getCity());
+            }
+        });
+    }
+
+    @Test
+    public void testSecondaryTableFullUpdate() {
+        doInJPA(entityManager -> {
+            Tour tour = entityManager.find(Tour.class, 1L);
+            tour.getStops().get(10).setCity("Sibiu");
+
+            updateCity("tour", "stops", 50, "Brasov");
+        });
+
+        doInJPA(entityManager -> {
+            Tour tour = entityManager.find(Tour.class, 1L);
+            assertEquals("Sibiu", tour.getStops().get(10).getCity());
+            assertEquals("City 50", tour.getStops().get(50).getCity());
+        });
+    }
+
+    @Test
+    public void testTextColumnFullUpdate() {
+        doInJPA(entityManager -> {
+            Event event = entityManager.find(Event.class, 1L);
+            event.getHistory().get(10).setCity("Sibiu");
+
+            updateCity("history", 50, "Brasov");
+        });
+
+        doInJPA(entityManager -> {
+            Event event = entityManager.find(Event.class, 1L);
+            assertEquals("Sibiu", event.getHistory().get(10).getCity());
+            assertEquals("City 50", event.getHistory().get(50).getCity());
+        });
+    }
+
+    @Test
+    public void testFullUpdate() {
+        doInJPA(entityManager -> {
+            Event event = entityManager.find(Event.class, 1L);
+            event.getStops().subList(0, 50).clear();
+        });
+
+        doInJPA(entityManager -> {
+            Event event = entityManager.find(Event.class, 1L);
+            assertEquals(50, event.getStops().size());
+            assertEquals("City 50", event.getStops().get(0).getCity());
+        });
+    }
+
+    private void updateCity(String column, int index, String city) {
+        updateCity("event", column, index, city);
+    }
+
+    private void updateCity(String table, String column, int index, String city) {
+        String columnType = "history".equals(column) ? "text" : "jsonb";
+        doInJDBC(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(
+                "update " + table + " set " + column + " = cast(jsonb_set(cast(" + column + " as jsonb), " +
+                "cast(? as text[]), to_jsonb(cast(? as text))) as " + columnType + ") where id = 1")) {
+                statement.setString(1, "{" + index + ",city}");
+                statement.setString(2, city);
+                assertEquals(1, statement.executeUpdate());
+            }
+        });
+    }
+
+    @Entity(name = "Event")
+    @Table(name = "event")
+    public static class Event {
+
+        @Id
+        private Long id;
+
+        @Type(
+            value = JsonType.class,
+            parameters = @Parameter(name = "hypersistence.utils.json.partial.update.ratio", value = "0.5")
+        )
+        @Column(columnDefinition = "jsonb")
+        private List<Location> stops;
+
+        @Type(
+            value = JsonType.class,
+            parameters = @Parameter(name = "hypersistence.utils.json.partial.update.ratio", value = "0.5")
+        )
+        @Column(columnDefinition = "text")
+        private List<Location> history;
+
+        @Transient
+        private int postUpdateCount;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public List<Location> getStops() {
+            return stops;
+        }
+
+        public void setStops(List<Location> stops) {
+            this.stops = stops;
+        }
+
+        public List<Location> getHistory() {
+            return history;
+        }
+
+        public void setHistory(List<Location> history) {
+            this.history = history;
+        }
+
+        public int getPostUpdateCount() {
+            return postUpdateCount;
+        }
+
+        @PostUpdate
+        private void postUpdate() {
+            postUpdateCount++;
+        }
+    }
+
+    @Entity(name = "Tour")
+    @Table(name = "tour")
+    @SecondaryTable(name = "tour_details")
+    public static class Tour {
+
+        @Id
+        private Long id;
+
+        @Column(table = "tour_details")
+        private String name;
+
+        @Type(
+            value = JsonType.class,
+            parameters = @Parameter(name = "hypersistence.utils.json.partial.update.ratio", value = "0.5")
+        )
+        @Column(columnDefinition = "jsonb")
+        private List<Location> stops;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public List<Location> getStops() {
+            return stops;
+        }
+
+        public void setStops(List<Location> stops) {
+            this.stops = stops;
+        }
+    }
+}
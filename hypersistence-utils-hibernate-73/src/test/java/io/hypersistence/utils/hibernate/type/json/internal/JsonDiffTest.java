@@ -0,0 +1,103 @@
+package io.hypersistence.utils.hibernate.type.json.internal;
+
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.junit.Test;
+import tools.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class JsonDiffTest {
+
+    @Test
+    public void testEqual() {
+        assertTrue(diff("{\"a\":1,\"b\":[1,2]}", "{\"b\":[1,2],\"a\":1}").isEmpty());
+    }
+
+    @Test
+    public void testObject() {
+        List<JsonDiff.Operation> operations = diff(
+            "{\"name\":\"config\",\"flags\":{\"enabled\":false,\"legacy\":true}}",
+            "{\"name\":\"config\",\"flags\":{\"enabled\":true,\"beta\":\"yes\"}}"
+        );
+        assertEquals(3, operations.size());
+        assertEquals("remove [flags, legacy]", operations.get(0).toString());
+        assertEquals("set [flags, enabled] = true", operations.get(1).toString());
+        assertEquals("set [flags, beta] = \"yes\"", operations.get(2).toString());
+    }
+
+    @Test
+    public void testArray() {
+        List<JsonDiff.Operation> operations = diff(
+            "{\"tags\":[\"a\",\"b\"],\"ids\":[1,2,3]}",
+            "{\"tags\":[\"a\",\"c\",\"d\"],\"ids\":[1,2]}"
+        );
+        assertEquals(3, operations.size());
+        assertEquals("set [tags, 1] = \"c\"", operations.get(0).toString());
+        assertEquals("set [tags, 2] = \"d\"", operations.get(1).toString());
+        assertEquals("set [ids] = [1,2]", operations.get(2).toString());
+    }
+
+    @Test
+    public void testRoot() {
+        List<JsonDiff.Operation> operations = diff("[1]", "{\"a\":1}");
+        assertEquals(1, operations.size());
+        assertTrue(operations.get(0).getPath().isEmpty());
+    }
+
+    @Test
+    public void testLength() {
+        JsonNode node = JacksonUtil.toJsonNode(
+            "{\"name\":\"config\",\"ids\":[1,2.5,-3],\"flags\":{\"enabled\":true,\"legacy\":null},\"tags\":[],\"extra\":{}}"
+        );
+        assertEquals(node.toString().length(), JsonPartialUpdateHandler.length(node));
+    }
+
+    @Test
+    public void testPostgreSQLUpdateExpression() {
+        List<String> parameters = new ArrayList<>();
+        String expression = JsonPartialUpdateHandler.updateExpression(
+            new PostgreSQLDialect(),
+            "properties",
+            diff("{\"a\":{\"b\\\"c\":1},\"d\":[1]}", "{\"a\":{\"b\\\"c\":2}}"),
+            parameters
+        );
+        assertEquals(
+            "jsonb_set((properties #- cast(? as text[])), cast(? as text[]), cast(? as jsonb))",
+            expression
+        );
+        assertEquals(Arrays.asList("{\"d\"}", "{\"a\",\"b\\\"c\"}", "2"), parameters);
+    }
+
+    @Test
+    public void testMySQLUpdateExpression() {
+        List<String> parameters = new ArrayList<>();
+        String expression = JsonPartialUpdateHandler.updateExpression(
+            new MySQLDialect(),
+            "properties",
+            diff("{\"a\":{\"b\":[1]},\"d\":true}", "{\"a\":{\"b\":[1,{\"e\":null}]}}"),
+            parameters
+        );
+        assertEquals(
+            "JSON_SET(JSON_REMOVE(properties, ?), ?, CAST(? AS JSON))",
+            expression
+        );
+        assertEquals(Arrays.asList("$.\"d\"", "$.\"a\".\"b\"[1]", "{\"e\":null}"), parameters);
+    }
+
+    private List<JsonDiff.Operation> diff(String source, String target) {
+        return JsonDiff.diff(toJsonNode(source), toJsonNode(target));
+    }
+
+    private JsonNode toJsonNode(String json) {
+        return JacksonUtil.toJsonNode(json);
+    }
+}
@@ -0,0 +1,127 @@
+package io.hypersistence.utils.hibernate.type.json.internal;
+
+import io.hypersistence.utils.hibernate.type.util.ObjectMapperWrapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the default JSON dirty checking, which serializes and reparses both the snapshot and the current value,
+ * with the fingerprint-based dirty checking, which streams both values through the hash function.
+ *
+ * @author Vlad Mihalcea
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonDirtyCheckingBenchmark {
+
+    @Param({"10", "1000"})
+    private int itemCount;
+
+    private JsonJavaTypeDescriptor defaultDescriptor;
+
+    private JsonJavaTypeDescriptor fingerprintDescriptor;
+
+    private Document document;
+
+    private Object snapshot;
+
+    @Setup
+    public void setup() {
+        defaultDescriptor = new JsonJavaTypeDescriptor(new ObjectMapperWrapper(), Document.class);
+
+        ObjectMapperWrapper fingerprintObjectMapperWrapper = new ObjectMapperWrapper();
+        fingerprintObjectMapperWrapper.setFingerprintDirtyChecking(true);
+        fingerprintDescriptor = new JsonJavaTypeDescriptor(fingerprintObjectMapperWrapper, Document.class);
+
+        document = new Document();
+        for (int i = 0; i < itemCount; i++) {
+            document.getItems().add(new Item("item-" + i, i, i * 1.5D));
+        }
+
+        snapshot = defaultDescriptor.getMutabilityPlan().deepCopy(document);
+    }
+
+    @Benchmark
+    public boolean defaultAreEqual() {
+        return defaultDescriptor.areEqual(snapshot, document);
+    }
+
+    @Benchmark
+    public boolean fingerprintAreEqual() {
+        return fingerprintDescriptor.areEqual(snapshot, document);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+            new OptionsBuilder()
+                .include(JsonDirtyCheckingBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+
+    public static class Document implements Serializable {
+
+        private List<Item> items = new ArrayList<>();
+
+        public List<Item> getItems() {
+            return items;
+        }
+
+        public void setItems(List<Item> items) {
+            this.items = items;
+        }
+    }
+
+    public static class Item implements Serializable {
+
+        private String name;
+
+        private int quantity;
+
+        private double price;
+
+        public Item() {
+        }
+
+        public Item(String name, int quantity, double price) {
+            this.name = name;
+            this.quantity = quantity;
+            this.price = price;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(int quantity) {
+            this.quantity = quantity;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+
+        public void setPrice(double price) {
+            this.price = price;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.hypersistence.utils.hibernate.type.json.internal;
+
+import org.junit.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.DoubleNode;
+import tools.jackson.databind.node.JsonNodeFactory;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.util.Properties;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class JsonNodeJavaTypeDescriptorTest {
+
+    private final JsonNodeJavaTypeDescriptor descriptor = new JsonNodeJavaTypeDescriptor();
+
+    @Test
+    public void testAreEqual() {
+        assertTrue(descriptor.areEqual(
+            JacksonUtil.toJsonNode("{\"price\":1,\"tags\":[\"a\",{\"b\":2.50}]}"),
+            JacksonUtil.toJsonNode("{\"tags\":[\"a\",{\"b\":2.5}],\"price\":1.0}")
+        ));
+        assertFalse(descriptor.areEqual(
+            JacksonUtil.toJsonNode("{\"price\":1,\"tags\":[\"a\",\"b\"]}"),
+            JacksonUtil.toJsonNode("{\"price\":1,\"tags\":[\"b\",\"a\"]}")
+        ));
+        assertFalse(descriptor.areEqual(
+            JacksonUtil.toJsonNode("{\"price\":1}"),
+            JacksonUtil.toJsonNode("{\"price\":\"1\"}")
+        ));
+        assertTrue(descriptor.areEqual(DoubleNode.valueOf(Double.NaN), DoubleNode.valueOf(Double.NaN)));
+        assertFalse(descriptor.areEqual(DoubleNode.valueOf(Double.NaN), DoubleNode.valueOf(1d)));
+    }
+
+    @Test
+    public void testAreEqualPojo() {
+        ObjectNode one = JsonNodeFactory.instance.objectNode();
+        one.putPOJO("stats", new int[]{1, 2});
+        ObjectNode another = JsonNodeFactory.instance.objectNode();
+        another.putArray("stats").add(1).add(2);
+        assertTrue(descriptor.areEqual(one, another));
+    }
+
+    @Test
+    public void testUnwrap() {
+        JsonNode node = JacksonUtil.toJsonNode("{\"price\":1}");
+        assertSame(node, descriptor.unwrap(node, JsonNode.class, null));
+    }
+
+    @Test
+    public void testFrozen() {
+        JsonNodeJavaTypeDescriptor frozenDescriptor = new JsonNodeJavaTypeDescriptor();
+        Properties properties = new Properties();
+        properties.setProperty("hypersistence.utils.json.node.frozen", "true");
+        frozenDescriptor.setParameterValues(properties);
+
+        JsonNode node = JacksonUtil.toJsonNode("{\"price\":1}");
+        assertFalse(frozenDescriptor.getMutabilityPlan().isMutable());
+        assertSame(node, frozenDescriptor.getMutabilityPlan().deepCopy(node));
+
+        assertTrue(descriptor.getMutabilityPlan().isMutable());
+        assertNotSame(node, descriptor.getMutabilityPlan().deepCopy(node));
+    }
+}
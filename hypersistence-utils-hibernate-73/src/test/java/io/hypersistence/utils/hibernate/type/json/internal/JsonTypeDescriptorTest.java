@@ -1,14 +1,20 @@
 package io.hypersistence.utils.hibernate.type.json.internal;
 
 import io.hypersistence.utils.hibernate.type.model.BaseEntity;
+import io.hypersistence.utils.hibernate.type.util.JsonFingerprint;
+import io.hypersistence.utils.hibernate.type.util.ObjectMapperWrapper;
 import org.hibernate.HibernateException;
 import org.junit.Test;
 
+import java.io.Serializable;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -75,6 +81,32 @@ public class JsonTypeDescriptorTest {
         assertTrue(descriptor.areEqual(firstEntity, secondEntity));
     }
 
+    @Test
+    public void testSnapshotIsFingerprintedOnce() {
+        AtomicInteger fingerprintCount = new AtomicInteger();
+        ObjectMapperWrapper objectMapperWrapper = new ObjectMapperWrapper() {
+            @Override
+            public JsonFingerprint fingerprint(Object value) {
+                fingerprintCount.incrementAndGet();
+                return super.fingerprint(value);
+            }
+        };
+        objectMapperWrapper.setFingerprintDirtyChecking(true);
+        JsonJavaTypeDescriptor descriptor = new JsonJavaTypeDescriptor(objectMapperWrapper, FormWithoutEqualsMethod.class);
+
+        FormWithoutEqualsMethod value = new FormWithoutEqualsMethod("value1");
+        Object snapshot = descriptor.getMutabilityPlan().deepCopy(value);
+        assertEquals(1, fingerprintCount.get());
+
+        assertTrue(descriptor.areEqual(snapshot, value));
+        assertTrue(descriptor.areEqual(snapshot, value));
+        assertEquals(3, fingerprintCount.get());
+
+        value.value = "value2";
+        assertFalse(descriptor.areEqual(snapshot, value));
+        assertEquals(4, fingerprintCount.get());
+    }
+
     @Test
     public void testNullPropertyType() {
         JsonJavaTypeDescriptor descriptor = new JsonJavaTypeDescriptor();
@@ -174,9 +206,12 @@ public class JsonTypeDescriptorTest {
         }
     }
 
-    private static class FormWithoutEqualsMethod {
+    public static class FormWithoutEqualsMethod implements Serializable {
         private String value;
 
+        public FormWithoutEqualsMethod() {
+        }
+
         public String getValue() {
             return value;
         }
@@ -0,0 +1,126 @@
+package io.hypersistence.utils.hibernate.type.range;
+
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+
+import static io.hypersistence.utils.hibernate.type.range.MultiRange.integerMultiRange;
+import static io.hypersistence.utils.hibernate.type.range.Range.integerRange;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class MultiRangeTest {
+
+    @Test
+    public void testOfString() {
+        MultiRange<Integer> multiRange = integerMultiRange("{[1,3), [5,7)}");
+        assertEquals(2, multiRange.size());
+        assertEquals(integerRange("[1,3)"), multiRange.getRanges().get(0));
+        assertEquals(integerRange("[5,7)"), multiRange.getRanges().get(1));
+        assertEquals("{[1,3),[5,7)}", multiRange.asString());
+
+        assertTrue(integerMultiRange("{}").isEmpty());
+        assertEquals(MultiRange.EMPTY, MultiRange.empty(Integer.class).asString());
+        assertEquals(MultiRange.empty(Integer.class), integerMultiRange("{}"));
+
+        assertEquals("{(,3),[5,)}", integerMultiRange("{(,3),[5,)}").asString());
+
+        MultiRange<LocalDate> dateMultiRange = MultiRange.localDateMultiRange("{[2024-01-01,2024-01-10),[2024-02-01,2024-02-05)}");
+        assertEquals(Range.localDateRange("[2024-02-01,2024-02-05)"), dateMultiRange.getRanges().get(1));
+
+        MultiRange<ZonedDateTime> zonedDateTimeMultiRange = MultiRange.zonedDateTimeMultiRange(
+            "{[\"2024-01-01 10:00:00+01\",\"2024-01-01 12:00:00+01\"),[\"2024-01-02 10:00:00+01\",)}"
+        );
+        assertEquals(2, zonedDateTimeMultiRange.size());
+        assertFalse(zonedDateTimeMultiRange.getRanges().get(1).hasUpperBound());
+    }
+
+    @Test
+    public void testNormalization() {
+        MultiRange<Integer> multiRange = MultiRange.of(
+            Integer.class,
+            integerRange("[10,12)"),
+            integerRange("[1,4)"),
+            integerRange("[3,6)"),
+            integerRange("[6,8]"),
+            integerRange("[20,20)"),
+            integerRange("(8,9)")
+        );
+        assertEquals("{[1,9),[10,12)}", multiRange.asString());
+
+        assertEquals("{(,)}", MultiRange.of(Integer.class, integerRange("[1,5)"), Range.infinite(Integer.class)).asString());
+        assertEquals(integerMultiRange("{[1,5]}"), MultiRange.of(Integer.class, integerRange("[1,5]"), integerRange("[2,3]")));
+    }
+
+    @Test
+    public void testDiscreteCanonicalization() {
+        MultiRange<Integer> multiRange = MultiRange.of(Integer.class, integerRange("[1,3]"), integerRange("[4,6]"));
+        assertEquals("{[1,7)}", multiRange.asString());
+        assertEquals(integerMultiRange("{[1,7)}"), multiRange);
+        assertEquals("{[4,5)}", integerMultiRange("{(3,4],(5,6)}").asString());
+        assertEquals("{[1," + Integer.MAX_VALUE + "]}", integerMultiRange("{[1," + Integer.MAX_VALUE + "]}").asString());
+
+        assertEquals("{(,1),[5,)}", MultiRange.longMultiRange("{(,0],(4,)}").asString());
+        assertEquals(
+            MultiRange.localDateMultiRange("{[2024-01-01,2024-01-12)}"),
+            MultiRange.localDateMultiRange("{[2024-01-01,2024-01-09],[2024-01-10,2024-01-12)}")
+        );
+        assertEquals(2, MultiRange.bigDecimalMultiRange("{[1,3],[4,6]}").size());
+
+        MultiRange<Integer> slots = integerMultiRange("{[6,8)}");
+        assertFalse(slots.overlaps(integerRange("(7,10)")));
+        assertTrue(slots.contains(integerRange("(5,7]")));
+    }
+
+    @Test
+    public void testContains() {
+        MultiRange<Integer> multiRange = integerMultiRange("{(,0),[1,3),(5,7],[10,)}");
+
+        assertTrue(multiRange.contains(-100));
+        assertFalse(multiRange.contains(0));
+        assertTrue(multiRange.contains(1));
+        assertFalse(multiRange.contains(3));
+        assertFalse(multiRange.contains(5));
+        assertTrue(multiRange.contains(7));
+        assertFalse(multiRange.contains(8));
+        assertTrue(multiRange.contains(Integer.MAX_VALUE));
+
+        assertTrue(multiRange.contains(integerRange("[1,3)")));
+        assertTrue(multiRange.contains(integerRange("[6,7]")));
+        assertTrue(multiRange.contains(integerRange("[11,)")));
+        assertTrue(multiRange.contains(integerRange("(,-5]")));
+        assertTrue(multiRange.contains(Range.emptyRange(Integer.class)));
+        assertFalse(multiRange.contains(integerRange("[1,3]")));
+        assertFalse(multiRange.contains(integerRange("[5,7]")));
+        assertFalse(multiRange.contains(integerRange("[2,6]")));
+        assertFalse(multiRange.contains(Range.infinite(Integer.class)));
+
+        assertTrue(multiRange.contains(integerMultiRange("{[1,2),[6,7),[100,200)}")));
+        assertFalse(multiRange.contains(integerMultiRange("{[1,2),[8,9)}")));
+
+        assertFalse(MultiRange.empty(Integer.class).contains(1));
+    }
+
+    @Test
+    public void testOverlaps() {
+        MultiRange<Integer> multiRange = integerMultiRange("{[1,3),(5,7]}");
+
+        assertTrue(multiRange.overlaps(integerRange("[2,4)")));
+        assertTrue(multiRange.overlaps(integerRange("[7,9)")));
+        assertTrue(multiRange.overlaps(integerRange("(,1]")));
+        assertTrue(multiRange.overlaps(Range.infinite(Integer.class)));
+        assertFalse(multiRange.overlaps(integerRange("[3,5]")));
+        assertFalse(multiRange.overlaps(integerRange("(,1)")));
+        assertFalse(multiRange.overlaps(integerRange("(7,)")));
+        assertFalse(multiRange.overlaps(Range.emptyRange(Integer.class)));
+
+        assertTrue(multiRange.overlaps(integerMultiRange("{[3,4),[6,6]}")));
+        assertFalse(multiRange.overlaps(integerMultiRange("{[3,5],(7,10)}")));
+        assertFalse(multiRange.overlaps(MultiRange.empty(Integer.class)));
+    }
+}
@@ -0,0 +1,167 @@
+package io.hypersistence.utils.hibernate.type.range;
+
+import io.hypersistence.utils.hibernate.util.AbstractPostgreSQLIntegrationTest;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Type;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class PostgreSQLMultiRangeTypeTest extends AbstractPostgreSQLIntegrationTest {
+
+    private final MultiRange<Integer> int4MultiRange = MultiRange.integerMultiRange("{[1,3],[4,6],(8,10]}");
+
+    private final MultiRange<Long> int8MultiRange = MultiRange.longMultiRange("{(,0],[10,)}");
+
+    private final MultiRange<BigDecimal> numMultiRange = MultiRange.bigDecimalMultiRange("{[0.5,0.89],(1.5,2.5)}");
+
+    private final MultiRange<LocalDateTime> tsMultiRange = MultiRange.localDateTimeMultiRange("{[2014-04-28 16:00:49,2015-04-28 16:00:49)}");
+
+    private final MultiRange<LocalDate> dateMultiRange = MultiRange.localDateMultiRange("{[2024-01-01,2024-01-09],[2024-01-10,2024-01-12),(2024-02-01,2024-02-05]}");
+
+    @Override
+    protected Class<?>[] entities() {
+        return new Class[]{
+            Availability.class
+        };
+    }
+
+    @Test
+    public void test() {
+        Availability _availability = doInJPA(entityManager -> {
+            Availability availability = new Availability();
+            availability.setSlots(int4MultiRange);
+            availability.setSlotsEmpty(MultiRange.empty(Integer.class));
+            availability.setVersions(int8MultiRange);
+            availability.setPrices(numMultiRange);
+            availability.setTimestamps(tsMultiRange);
+            availability.setDates(dateMultiRange);
+            entityManager.persist(availability);
+
+            return availability;
+        });
+
+        doInJPA(entityManager -> {
+            Availability availability = entityManager.find(Availability.class, _availability.getId());
+
+            assertEquals(int4MultiRange, availability.getSlots());
+            assertTrue(availability.getSlotsEmpty().isEmpty());
+            assertEquals(int8MultiRange, availability.getVersions());
+            assertEquals(numMultiRange, availability.getPrices());
+            assertEquals(tsMultiRange, availability.getTimestamps());
+            assertEquals(dateMultiRange, availability.getDates());
+            assertTrue(availability.getDates().contains(LocalDate.of(2024, 2, 3)));
+        });
+    }
+
+    @Test
+    public void testNullMultiRange() {
+        Availability _availability = doInJPA(entityManager -> {
+            Availability availability = new Availability();
+            entityManager.persist(availability);
+
+            return availability;
+        });
+
+        doInJPA(entityManager -> {
+            Availability availability = entityManager.find(Availability.class, _availability.getId());
+
+            assertNull(availability.getSlots());
+            assertNull(availability.getDates());
+        });
+    }
+
+    @Entity(name = "Availability")
+    @Table(name = "availability")
+    public static class Availability {
+
+        @Id
+        @GeneratedValue
+        private Long id;
+
+        @Type(PostgreSQLMultiRangeType.class)
+        @Column(name = "slots", columnDefinition = "int4multirange")
+        private MultiRange<Integer> slots;
+
+        @Type(PostgreSQLMultiRangeType.class)
+        @Column(name = "slots_empty", columnDefinition = "int4multirange")
+        private MultiRange<Integer> slotsEmpty;
+
+        @Type(PostgreSQLMultiRangeType.class)
+        @Column(name = "versions", columnDefinition = "int8multirange")
+        private MultiRange<Long> versions;
+
+        @Type(PostgreSQLMultiRangeType.class)
+        @Column(name = "prices", columnDefinition = "nummultirange")
+        private MultiRange<BigDecimal> prices;
+
+        @Type(PostgreSQLMultiRangeType.class)
+        @Column(name = "timestamps", columnDefinition = "tsmultirange")
+        private MultiRange<LocalDateTime> timestamps;
+
+        @Type(PostgreSQLMultiRangeType.class)
+        @Column(name = "dates", columnDefinition = "datemultirange")
+        private MultiRange<LocalDate> dates;
+
+        public Long getId() {
+            return id;
+        }
+
+        public MultiRange<Integer> getSlots() {
+            return slots;
+        }
+
+        public void setSlots(MultiRange<Integer> slots) {
+            this.slots = slots;
+        }
+
+        public MultiRange<Integer> getSlotsEmpty() {
+            return slotsEmpty;
+        }
+
+        public void setSlotsEmpty(MultiRange<Integer> slotsEmpty) {
+            this.slotsEmpty = slotsEmpty;
+        }
+
+        public MultiRange<Long> getVersions() {
+            return versions;
+        }
+
+        public void setVersions(MultiRange<Long> versions) {
+            this.versions = versions;
+        }
+
+        public MultiRange<BigDecimal> getPrices() {
+            return prices;
+        }
+
+        public void setPrices(MultiRange<BigDecimal> prices) {
+            this.prices = prices;
+        }
+
+        public MultiRange<LocalDateTime> getTimestamps() {
+            return timestamps;
+        }
+
+        public void setTimestamps(MultiRange<LocalDateTime> timestamps) {
+            this.timestamps = timestamps;
+        }
+
+        public MultiRange<LocalDate> getDates() {
+            return dates;
+        }
+
+        public void setDates(MultiRange<LocalDate> dates) {
+            this.dates = dates;
+        }
+    }
+}
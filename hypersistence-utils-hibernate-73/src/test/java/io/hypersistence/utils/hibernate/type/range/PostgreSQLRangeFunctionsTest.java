@@ -0,0 +1,133 @@
+package io.hypersistence.utils.hibernate.type.range;
+
+import io.hypersistence.utils.hibernate.util.AbstractPostgreSQLIntegrationTest;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Type;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class PostgreSQLRangeFunctionsTest extends AbstractPostgreSQLIntegrationTest {
+
+    @Override
+    protected Class<?>[] entities() {
+        return new Class<?>[]{
+            Booking.class
+        };
+    }
+
+    @Override
+    protected void afterInit() {
+        executeStatement("CREATE INDEX idx_booking_stay ON booking USING GIST (stay)");
+
+        doInJPA(entityManager -> {
+            entityManager.persist(
+                new Booking()
+                    .setId(1L)
+                    .setStay(Range.localDateRange("[2024-01-01,2024-01-05)"))
+            );
+            entityManager.persist(
+                new Booking()
+                    .setId(2L)
+                    .setStay(Range.localDateRange("[2024-01-10,2024-01-15)"))
+            );
+        });
+    }
+
+    @Test
+    public void test() {
+        doInJPA(entityManager -> {
+            List<Booking> bookings = entityManager.createQuery("""
+                select b
+                from Booking b
+                where range_overlaps(b.stay, :stay)
+                """, Booking.class)
+            .setParameter("stay", Range.localDateRange("[2024-01-04,2024-01-11)"))
+            .getResultList();
+            assertEquals(2, bookings.size());
+
+            bookings = entityManager.createQuery("""
+                select b
+                from Booking b
+                where range_contains(b.stay, :stay)
+                """, Booking.class)
+            .setParameter("stay", Range.localDateRange("[2024-01-02,2024-01-04)"))
+            .getResultList();
+            assertEquals(1, bookings.size());
+            assertEquals(Long.valueOf(1), bookings.get(0).getId());
+
+            bookings = entityManager.createQuery("""
+                select b
+                from Booking b
+                where range_contains_element(b.stay, :day)
+                """, Booking.class)
+            .setParameter("day", LocalDate.of(2024, 1, 12))
+            .getResultList();
+            assertEquals(1, bookings.size());
+            assertEquals(Long.valueOf(2), bookings.get(0).getId());
+
+            Long bookingCount = entityManager.createQuery("""
+                select count(b)
+                from Booking b
+                where range_contained_by(b.stay, :stay)
+                """, Long.class)
+            .setParameter("stay", Range.localDateRange("[2024-01-01,2024-01-31)"))
+            .getSingleResult();
+            assertEquals(Long.valueOf(2), bookingCount);
+
+            bookings = entityManager.createQuery("""
+                select b
+                from Booking b
+                where range_adjacent(b.stay, :stay)
+                """, Booking.class)
+            .setParameter("stay", Range.localDateRange("[2024-01-05,2024-01-10)"))
+            .getResultList();
+            assertEquals(2, bookings.size());
+
+            Range<LocalDate> intersection = entityManager.createQuery("""
+                select range_intersect(b.stay, :stay)
+                from Booking b
+                where b.id = 1
+                """, Range.class)
+            .setParameter("stay", Range.localDateRange("[2024-01-03,2024-01-10)"))
+            .getSingleResult();
+            assertEquals(Range.localDateRange("[2024-01-03,2024-01-05)"), intersection);
+        });
+    }
+
+    @Entity(name = "Booking")
+    @Table(name = "booking")
+    public static class Booking {
+
+        @Id
+        private Long id;
+
+        @Type(PostgreSQLRangeType.class)
+        @Column(columnDefinition = "daterange")
+        private Range<LocalDate> stay;
+
+        public Long getId() {
+            return id;
+        }
+
+        public Booking setId(Long id) {
+            this.id = id;
+            return this;
+        }
+
+        public Range<LocalDate> getStay() {
+            return stay;
+        }
+
+        public Booking setStay(Range<LocalDate> stay) {
+            this.stay = stay;
+            return this;
+        }
+    }
+}
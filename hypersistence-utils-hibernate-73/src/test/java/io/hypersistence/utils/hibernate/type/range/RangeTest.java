@@ -14,6 +14,7 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
 import java.time.LocalDate;
+import java.util.function.Function;
 
 /**
  * @author Edgar Asatryan
@@ -153,4 +154,19 @@ public class RangeTest {
         assertFalse(integerRange("(,5)").isEmpty());
         assertFalse(integerRange("(,)").isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void ofStringPassesRawBoundValues() {
+        Range<String> range = Range.ofString("[\"a,b\",c)", Function.identity(), String.class);
+        assertEquals("\"a,b\"", range.lower());
+        assertEquals("c", range.upper());
+
+        Range<LocalDate> dateRange = Range.ofString(
+            "[\"2014-04-28\",)",
+            value -> LocalDate.parse(value.substring(1, value.length() - 1)),
+            LocalDate.class
+        );
+        assertEquals(LocalDate.of(2014, 4, 28), dateRange.lower());
+        assertFalse(dateRange.hasUpperBound());
+    }
+}
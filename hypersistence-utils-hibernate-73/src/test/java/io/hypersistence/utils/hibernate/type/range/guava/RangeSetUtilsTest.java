@@ -0,0 +1,55 @@
+package io.hypersistence.utils.hibernate.type.range.guava;
+
+import com.google.common.collect.ImmutableRangeSet;
+import com.google.common.collect.Range;
+import com.google.common.collect.TreeRangeSet;
+import io.hypersistence.utils.hibernate.type.range.MultiRange;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class RangeSetUtilsTest {
+
+    @Test
+    public void testToRangeSet() {
+        ImmutableRangeSet<Integer> rangeSet = RangeSetUtils.toRangeSet(
+            MultiRange.integerMultiRange("{(,0),[1,3),(5,7],[10,)}")
+        );
+
+        assertEquals(
+            ImmutableRangeSet.<Integer>builder()
+                .add(Range.lessThan(0))
+                .add(Range.closedOpen(1, 3))
+                .add(Range.closedOpen(6, 8))
+                .add(Range.atLeast(10))
+                .build(),
+            rangeSet
+        );
+        assertTrue(RangeSetUtils.toRangeSet(MultiRange.empty(Integer.class)).isEmpty());
+    }
+
+    @Test
+    public void testToMultiRange() {
+        TreeRangeSet<Integer> rangeSet = TreeRangeSet.create();
+        rangeSet.add(Range.closedOpen(5, 7));
+        rangeSet.add(Range.closedOpen(1, 3));
+        rangeSet.add(Range.closed(2, 4));
+        rangeSet.add(Range.greaterThan(10));
+
+        MultiRange<Integer> multiRange = RangeSetUtils.toMultiRange(rangeSet, Integer.class);
+        assertEquals("{[1,7),[11,)}", multiRange.asString());
+        assertEquals(
+            ImmutableRangeSet.<Integer>builder()
+                .add(Range.closedOpen(1, 7))
+                .add(Range.atLeast(11))
+                .build(),
+            RangeSetUtils.toRangeSet(multiRange)
+        );
+
+        assertEquals("{(,)}", RangeSetUtils.toMultiRange(TreeRangeSet.create(ImmutableRangeSet.of(Range.<Integer>all())), Integer.class).asString());
+    }
+}
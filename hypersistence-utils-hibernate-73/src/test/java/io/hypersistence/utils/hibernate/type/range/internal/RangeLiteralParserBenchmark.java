@@ -0,0 +1,103 @@
+package io.hypersistence.utils.hibernate.type.range.internal;
+
+import io.hypersistence.utils.hibernate.type.range.Range;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares the previous substring and {@link Function} composition based range parsing,
+ * which tries a {@link DateTimeFormatter} and catches the {@link DateTimeParseException},
+ * with the single-pass {@link RangeLiteralParser}.
+ *
+ * @author Vlad Mihalcea
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RangeLiteralParserBenchmark {
+
+    private static final DateTimeFormatter ZONE_DATE_TIME = new DateTimeFormatterBuilder()
+        .appendPattern("yyyy-MM-dd HH:mm:ss")
+        .optionalStart()
+        .appendPattern(".")
+        .appendFraction(ChronoField.NANO_OF_SECOND, 1, 6, false)
+        .optionalEnd()
+        .appendOffset("+HH:mm:ss", "Z")
+        .toFormatter();
+
+    private final String tstzrange = "[\"2019-03-27 16:33:10.123456+02\",\"2019-03-28 16:33:10.123456+02\")";
+
+    private final String daterange = "[2019-03-27,2019-04-27)";
+
+    @Benchmark
+    public Object[] substringTstzrange() {
+        return ofString(tstzrange, parseZonedDateTime().compose(unquote()));
+    }
+
+    @Benchmark
+    public Range<ZonedDateTime> parserTstzrange() {
+        return Range.zonedDateTimeRange(tstzrange);
+    }
+
+    @Benchmark
+    public Object[] substringDaterange() {
+        Function<String, LocalDate> parseLocalDate = LocalDate::parse;
+        return ofString(daterange, parseLocalDate.compose(unquote()));
+    }
+
+    @Benchmark
+    public Range<LocalDate> parserDaterange() {
+        return Range.localDateRange(daterange);
+    }
+
+    private static Object[] ofString(String str, Function<String, ?> converter) {
+        int delim = str.indexOf(',');
+        String lowerStr = str.substring(1, delim);
+        String upperStr = str.substring(delim + 1, str.length() - 1);
+        return new Object[]{
+            lowerStr.isEmpty() || lowerStr.endsWith(Range.INFINITY) ? null : converter.apply(lowerStr),
+            upperStr.isEmpty() || upperStr.endsWith(Range.INFINITY) ? null : converter.apply(upperStr),
+        };
+    }
+
+    private static Function<String, ZonedDateTime> parseZonedDateTime() {
+        return s -> {
+            try {
+                return ZonedDateTime.parse(s, ZONE_DATE_TIME);
+            } catch (DateTimeParseException e) {
+                return ZonedDateTime.parse(s);
+            }
+        };
+    }
+
+    private static Function<String, String> unquote() {
+        return s -> {
+            if (s.charAt(0) == '"' && s.charAt(s.length() - 1) == '"') {
+                return s.substring(1, s.length() - 1);
+            }
+            return s;
+        };
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+            new OptionsBuilder()
+                .include(RangeLiteralParserBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
@@ -0,0 +1,107 @@
+package io.hypersistence.utils.hibernate.type.range.internal;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.time.*;
+import java.time.format.DateTimeParseException;
+
+import static io.hypersistence.utils.hibernate.type.range.internal.RangeLiteralParser.LOWER;
+import static io.hypersistence.utils.hibernate.type.range.internal.RangeLiteralParser.UPPER;
+import static org.junit.Assert.*;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class RangeLiteralParserTest {
+
+    @Test
+    public void testBounds() {
+        RangeLiteralParser parser = new RangeLiteralParser("[1,10)");
+        assertFalse(parser.isEmpty());
+        assertTrue(parser.isInclusive(LOWER));
+        assertFalse(parser.isInclusive(UPPER));
+        assertEquals(Integer.valueOf(1), parser.getInteger(LOWER));
+        assertEquals(Integer.valueOf(10), parser.getInteger(UPPER));
+
+        parser = new RangeLiteralParser("(,-9223372036854775808]");
+        assertFalse(parser.hasValue(LOWER));
+        assertTrue(parser.isInfinite(LOWER));
+        assertTrue(parser.isInclusive(UPPER));
+        assertEquals(Long.valueOf(Long.MIN_VALUE), parser.getLong(UPPER));
+
+        parser = new RangeLiteralParser("(-infinity,infinity)");
+        assertTrue(parser.hasValue(LOWER));
+        assertTrue(parser.isInfinite(LOWER));
+        assertTrue(parser.isInfinite(UPPER));
+
+        parser = new RangeLiteralParser("[0.5,1.25]");
+        assertEquals(new BigDecimal("0.5"), parser.getBigDecimal(LOWER));
+        assertEquals(new BigDecimal("1.25"), parser.getBigDecimal(UPPER));
+
+        assertTrue(new RangeLiteralParser("empty").isEmpty());
+        assertFalse(new RangeLiteralParser("empty").hasValue(LOWER));
+    }
+
+    @Test
+    public void testDates() {
+        RangeLiteralParser parser = new RangeLiteralParser("[2014-04-28,\"2015-04-28\")");
+        assertEquals(LocalDate.of(2014, 4, 28), parser.getLocalDate(LOWER));
+        assertEquals(LocalDate.of(2015, 4, 28), parser.getLocalDate(UPPER));
+
+        parser = new RangeLiteralParser("[\"2014-04-28 16:00:49\",\"2015-04-28T16:00:49.2358\"]");
+        assertEquals(LocalDateTime.of(2014, 4, 28, 16, 0, 49), parser.getLocalDateTime(LOWER));
+        assertEquals(LocalDateTime.of(2015, 4, 28, 16, 0, 49, 235800000), parser.getLocalDateTime(UPPER));
+
+        parser = new RangeLiteralParser("[\"2019-03-27 16:33:10.123456-06\",\"1900-01-01 00:00:00+05:21:10\")");
+        assertEquals(
+            ZonedDateTime.of(2019, 3, 27, 16, 33, 10, 123456000, ZoneOffset.ofHours(-6)),
+            parser.getZonedDateTime(LOWER)
+        );
+        assertEquals(
+            OffsetDateTime.of(1900, 1, 1, 0, 0, 0, 0, ZoneOffset.ofHoursMinutesSeconds(5, 21, 10)),
+            parser.getOffsetDateTime(UPPER)
+        );
+
+        parser = new RangeLiteralParser("[2011-12-03T10:15:30+01:00[Europe/Paris],2012-12-03T10:15:30Z]");
+        assertEquals(ZoneId.of("Europe/Paris"), parser.getZonedDateTime(LOWER).getZone());
+        assertEquals(ZoneOffset.UTC, parser.getZonedDateTime(UPPER).getZone());
+    }
+
+    @Test
+    public void testQuotedValues() {
+        RangeLiteralParser parser = new RangeLiteralParser("[\"a,\\\"b\",\"c\"\"d\"]");
+        assertEquals("a,\"b", parser.getString(LOWER));
+        assertEquals("c\"d", parser.getString(UPPER));
+        assertEquals("\"a,\\\"b\"", parser.getRawString(LOWER));
+        assertEquals("\"c\"\"d\"", parser.getRawString(UPPER));
+
+        parser = new RangeLiteralParser("[1,\"2\")");
+        assertEquals("1", parser.getRawString(LOWER));
+        assertEquals("\"2\"", parser.getRawString(UPPER));
+    }
+
+    @Test
+    public void testInvalidValues() {
+        try {
+            new RangeLiteralParser("[1;10)");
+            fail("Should throw IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            new RangeLiteralParser("[\"1,10)");
+            fail("Should throw IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+        }
+        try {
+            new RangeLiteralParser("[1a,10)").getInteger(LOWER);
+            fail("Should throw NumberFormatException");
+        } catch (NumberFormatException expected) {
+        }
+        try {
+            new RangeLiteralParser("[2014-04-28 16:00,)").getLocalDateTime(LOWER);
+            fail("Should throw DateTimeParseException");
+        } catch (DateTimeParseException expected) {
+        }
+    }
+}
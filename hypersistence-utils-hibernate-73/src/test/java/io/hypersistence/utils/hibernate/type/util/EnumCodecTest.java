@@ -0,0 +1,78 @@
+package io.hypersistence.utils.hibernate.type.util;
+
+import io.hypersistence.utils.hibernate.type.array.internal.ArrayUtil;
+import org.junit.Test;
+
+import java.time.DayOfWeek;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class EnumCodecTest {
+
+    public enum SensorState {
+        ONLINE, OFFLINE, UNKNOWN,
+        Aa, BB {
+            @Override
+            public String toString() {
+                return "bb";
+            }
+        }
+    }
+
+    @Test
+    public void testLookup() {
+        EnumCodec<SensorState> codec = EnumCodec.of(SensorState.class);
+        assertSame(codec, EnumCodec.of(SensorState.class));
+        assertSame(codec, EnumCodec.of((Class) SensorState.BB.getClass()));
+
+        for (SensorState state : SensorState.values()) {
+            assertSame(state, codec.fromOrdinal(state.ordinal()));
+            assertSame(state, codec.fromName(state.name()));
+            assertSame(state, codec.fromName("{" + state.name() + "}", 1, state.name().length() + 1));
+        }
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+
+        try {
+            codec.fromName("ON");
+            fail("Should not resolve an unknown name");
+        } catch (IllegalArgumentException expected) {
+            assertTrue(expected.getMessage().contains("ON"));
+        }
+    }
+
+    @Test
+    public void testToArray() {
+        SensorState[] states = ArrayUtil.unwrapArray(
+            new Object[]{"OFFLINE", 0, null, SensorState.BB},
+            SensorState[].class
+        );
+        assertArrayEquals(new SensorState[]{SensorState.OFFLINE, SensorState.ONLINE, null, SensorState.BB}, states);
+
+        assertArrayEquals(
+            new SensorState[]{SensorState.UNKNOWN, null, SensorState.BB, SensorState.ONLINE},
+            ArrayUtil.fromString("{UNKNOWN,NULL,\"BB\",0}", SensorState[].class)
+        );
+    }
+
+    @Test
+    public void testOrdinalIndex() {
+        EnumCodec.OrdinalIndex<DayOfWeek> dense = EnumCodec.of(DayOfWeek.class).indexBy(day -> day.getValue() * 10);
+        assertSame(DayOfWeek.MONDAY, dense.get(10));
+        assertSame(DayOfWeek.SUNDAY, dense.get(70));
+        assertNull(dense.get(15));
+        assertNull(dense.get(Integer.MIN_VALUE));
+
+        EnumCodec.OrdinalIndex<DayOfWeek> sparse = EnumCodec.of(DayOfWeek.class).indexBy(day -> day.getValue() * 1_000_000);
+        assertSame(DayOfWeek.WEDNESDAY, sparse.get(3_000_000));
+        assertNull(sparse.get(3));
+
+        EnumCodec.OrdinalIndex<DayOfWeek> partial = EnumCodec.of(DayOfWeek.class).indexBy(
+            day -> day == DayOfWeek.SUNDAY ? null : day.getValue()
+        );
+        assertSame(DayOfWeek.SATURDAY, partial.get(6));
+        assertNull(partial.get(7));
+    }
+}
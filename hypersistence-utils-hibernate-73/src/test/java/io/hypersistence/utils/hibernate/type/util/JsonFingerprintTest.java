@@ -0,0 +1,111 @@
+package io.hypersistence.utils.hibernate.type.util;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import io.hypersistence.utils.hibernate.type.json.internal.JsonJavaTypeDescriptor;
+import org.junit.Test;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class JsonFingerprintTest {
+
+    @Test
+    public void testMurmur3Compatibility() {
+        Random random = new Random(42);
+
+        for (int length = 0; length < 100; length++) {
+            byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+
+            JsonFingerprint.Murmur3OutputStream outputStream = new JsonFingerprint.Murmur3OutputStream();
+            int offset = 0;
+            while (offset < length) {
+                int chunk = Math.min(1 + random.nextInt(7), length - offset);
+                if (chunk == 1) {
+                    outputStream.write(bytes[offset]);
+                } else {
+                    outputStream.write(bytes, offset, chunk);
+                }
+                offset += chunk;
+            }
+            JsonFingerprint fingerprint = outputStream.fingerprint();
+
+            HashCode hashCode = Hashing.murmur3_128().hashBytes(bytes);
+            ByteBuffer expected = ByteBuffer.wrap(hashCode.asBytes()).order(ByteOrder.LITTLE_ENDIAN);
+
+            assertEquals(expected.getLong(0), fingerprint.getLow());
+            assertEquals(expected.getLong(8), fingerprint.getHigh());
+            assertEquals(length, fingerprint.getLength());
+        }
+    }
+
+    @Test
+    public void testDirtyChecking() {
+        ObjectMapperWrapper objectMapperWrapper = new ObjectMapperWrapper();
+        objectMapperWrapper.setFingerprintDirtyChecking(true);
+
+        JsonJavaTypeDescriptor descriptor = new JsonJavaTypeDescriptor(objectMapperWrapper, Venue.class);
+
+        Venue venue = new Venue();
+        venue.setName("Transylvania Hall");
+        venue.setCity("Cluj-Napoca");
+
+        Object snapshot = descriptor.getMutabilityPlan().deepCopy(venue);
+        assertNotSame(venue, snapshot);
+        assertTrue(descriptor.areEqual(snapshot, venue));
+
+        venue.setCity("Bucharest");
+        assertFalse(descriptor.areEqual(snapshot, venue));
+    }
+
+    @Test
+    public void testMapEntryOrder() {
+        ObjectMapperWrapper objectMapperWrapper = new ObjectMapperWrapper();
+
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("title", "High-Performance Java Persistence");
+        first.put("author", "Vlad Mihalcea");
+
+        Map<String, Object> second = new LinkedHashMap<>();
+        second.put("author", "Vlad Mihalcea");
+        second.put("title", "High-Performance Java Persistence");
+
+        assertEquals(objectMapperWrapper.fingerprint(first), objectMapperWrapper.fingerprint(second));
+
+        second.put("price", 44.99);
+        assertNotEquals(objectMapperWrapper.fingerprint(first), objectMapperWrapper.fingerprint(second));
+    }
+
+    public static class Venue implements Serializable {
+
+        private String name;
+
+        private String city;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getCity() {
+            return city;
+        }
+
+        public void setCity(String city) {
+            this.city = city;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.hypersistence.utils.hibernate.type.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-row cost of reading and writing a small JSON document through the generic
+ * {@link ObjectMapper} methods, which resolve the type and the root (de)serializer on every call,
+ * with the cached {@link ObjectReader} and {@link ObjectWriter} references.
+ *
+ * @author Vlad Mihalcea
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ObjectMapperWrapperBenchmark {
+
+    private static final String JSON = "{\"title\":\"High-Performance Java Persistence\",\"author\":\"Vlad Mihalcea\"}";
+
+    private Map<String, String> properties;
+
+    private ObjectMapper objectMapper;
+
+    private Type type;
+
+    private ObjectReader objectReader;
+
+    private ObjectWriter objectWriter;
+
+    @Setup
+    public void setup() throws NoSuchFieldException {
+        ObjectMapperWrapper objectMapperWrapper = new ObjectMapperWrapper();
+        objectMapper = objectMapperWrapper.getObjectMapper();
+        type = ObjectMapperWrapperBenchmark.class.getDeclaredField("properties").getGenericType();
+        objectReader = objectMapperWrapper.getObjectReader(type);
+        properties = objectReader.readValue(JSON);
+        objectWriter = objectMapperWrapper.getObjectWriter(properties.getClass());
+    }
+
+    @Benchmark
+    public Object readObjectMapper() {
+        return objectMapper.readValue(JSON, objectMapper.getTypeFactory().constructType(type));
+    }
+
+    @Benchmark
+    public Object readCachedObjectReader() {
+        return objectReader.readValue(JSON);
+    }
+
+    @Benchmark
+    public String writeObjectMapper() {
+        return objectMapper.writeValueAsString(properties);
+    }
+
+    @Benchmark
+    public String writeCachedObjectWriter() {
+        return objectWriter.writeValueAsString(properties);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+            new OptionsBuilder()
+                .include(ObjectMapperWrapperBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
@@ -1,8 +1,14 @@
 package io.hypersistence.utils.hibernate.type.util;
 
+import io.hypersistence.utils.hibernate.type.model.Location;
 import tools.jackson.databind.ObjectMapper;
 import org.junit.Test;
 
+import java.lang.reflect.Field;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class ObjectMapperWrapperTest {
@@ -16,4 +22,33 @@ public class ObjectMapperWrapperTest {
                         .anyMatch(m -> "tools.jackson.module.kotlin.KotlinModule".equals(m.getModuleName()))
         );
     }
+
+    @Test
+    public void testObjectReaderAndWriterCache() throws NoSuchFieldException {
+        ObjectMapperWrapper objectMapperWrapper = new ObjectMapperWrapper();
+
+        Field field = ObjectMapperWrapperTest.class.getDeclaredField("locations");
+
+        assertSame(
+            objectMapperWrapper.getObjectReader(field.getGenericType()),
+            objectMapperWrapper.getObjectReader(field.getGenericType())
+        );
+        assertSame(
+            objectMapperWrapper.getObjectWriter(Location.class),
+            objectMapperWrapper.getObjectWriter(Location.class)
+        );
+
+        List<Location> locations = objectMapperWrapper.fromString(
+            "[{\"country\":\"Romania\",\"city\":\"Cluj-Napoca\"}]",
+            field.getGenericType()
+        );
+        assertEquals("Cluj-Napoca", locations.get(0).getCity());
+
+        assertEquals(
+            objectMapperWrapper.getObjectMapper().writeValueAsString(locations.get(0)),
+            objectMapperWrapper.toString(locations.get(0))
+        );
+    }
+
+    private List<Location> locations;
 }
@@ -0,0 +1,86 @@
+package io.hypersistence.utils.hibernate.type.util;
+
+import io.hypersistence.utils.common.ReflectionUtils;
+import io.hypersistence.utils.hibernate.type.basic.Inet;
+import io.hypersistence.utils.hibernate.type.range.Range;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-bind and per-row cost of the previous {@link ReflectionUtils} based {@code PGobject} handling,
+ * which resolves the class and methods on every call, with the cached {@link PGobjectAccessor}
+ * for the {@code int4range} and {@code inet} column types.
+ *
+ * @author Vlad Mihalcea
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PGobjectAccessorBenchmark {
+
+    private final Range<Integer> range = Range.closedOpen(1, 10);
+
+    private final Inet inet = new Inet("192.168.0.123/24");
+
+    private Object rangeHolder;
+
+    @Setup
+    public void setup() {
+        rangeHolder = PGobjectAccessor.newPGobject("int4range", range.asString());
+    }
+
+    @Benchmark
+    public Object reflectionRangeBind() {
+        Object holder = ReflectionUtils.newInstance("org.postgresql.util.PGobject");
+        ReflectionUtils.invokeSetter(holder, "type", "int4range");
+        ReflectionUtils.invokeSetter(holder, "value", range.asString());
+        return holder;
+    }
+
+    @Benchmark
+    public Object accessorRangeBind() {
+        return PGobjectAccessor.newPGobject("int4range", range.asString());
+    }
+
+    @Benchmark
+    public Range<Integer> reflectionRangeGet() {
+        String type = ReflectionUtils.invokeGetter(rangeHolder, "type");
+        String value = ReflectionUtils.invokeGetter(rangeHolder, "value");
+        return "int4range".equals(type) ? Range.integerRange(value) : null;
+    }
+
+    @Benchmark
+    public Range<Integer> accessorRangeGet() {
+        String type = PGobjectAccessor.getType(rangeHolder);
+        String value = PGobjectAccessor.getValue(rangeHolder);
+        return "int4range".equals(type) ? Range.integerRange(value) : null;
+    }
+
+    @Benchmark
+    public Object reflectionInetBind() {
+        Object holder = ReflectionUtils.newInstance("org.postgresql.util.PGobject");
+        ReflectionUtils.invokeSetter(holder, "type", "inet");
+        ReflectionUtils.invokeSetter(holder, "value", inet.getAddress());
+        return holder;
+    }
+
+    @Benchmark
+    public Object accessorInetBind() {
+        return PGobjectAccessor.newPGobject("inet", inet.getAddress());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(
+            new OptionsBuilder()
+                .include(PGobjectAccessorBenchmark.class.getSimpleName())
+                .build()
+        ).run();
+    }
+}
@@ -0,0 +1,76 @@
+package io.hypersistence.utils.hibernate.type.util;
+
+import io.hypersistence.utils.hibernate.type.vector.internal.PostgreSQLVector;
+import org.hibernate.HibernateException;
+import org.junit.Test;
+import org.postgresql.util.PGobject;
+
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class PGobjectAccessorTest {
+
+    @Test
+    public void testNewPGobject() {
+        Object holder = PGobjectAccessor.newPGobject("int4range", "[1,10)");
+
+        assertSame(PGobject.class, holder.getClass());
+        assertEquals("int4range", ((PGobject) holder).getType());
+        assertEquals("[1,10)", ((PGobject) holder).getValue());
+        assertEquals("int4range", PGobjectAccessor.getType(holder));
+        assertEquals("[1,10)", PGobjectAccessor.getValue(holder));
+    }
+
+    @Test
+    public void testAccessorIsCached() {
+        assertSame(PGobjectAccessor.getInstance(), PGobjectAccessor.getInstance());
+        assertSame(PGobjectAccessor.getInstance(), PGobjectAccessor.of(PGobject.class));
+        assertSame(PGobjectAccessor.of(PGobject.class), PGobjectAccessor.of(PostgreSQLVector.class));
+    }
+
+    @Test
+    public void testContextClassLoaderIsNotRetained() throws InterruptedException {
+        Thread thread = Thread.currentThread();
+        ClassLoader originalClassLoader = thread.getContextClassLoader();
+        ClassLoader classLoader = new URLClassLoader(new URL[0], originalClassLoader);
+        WeakReference<ClassLoader> classLoaderReference = new WeakReference<>(classLoader);
+        try {
+            thread.setContextClassLoader(classLoader);
+            assertSame(PGobjectAccessor.of(PGobject.class), PGobjectAccessor.getInstance());
+        } finally {
+            thread.setContextClassLoader(originalClassLoader);
+        }
+
+        classLoader = null;
+        for (int i = 0; i < 50 && classLoaderReference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(classLoaderReference.get());
+        assertSame(PGobjectAccessor.of(PGobject.class), PGobjectAccessor.getInstance());
+    }
+
+    @Test
+    public void testSubclass() {
+        PostgreSQLVector vector = new PostgreSQLVector(new float[]{1, 2, 3});
+
+        assertEquals(PostgreSQLVector.TYPE, PGobjectAccessor.getType(vector));
+        assertEquals(vector.getValue(), PGobjectAccessor.getValue(vector));
+    }
+
+    @Test
+    public void testNotPGobject() {
+        try {
+            PGobjectAccessor.getValue("[1,10)");
+            fail("Should throw HibernateException");
+        } catch (HibernateException e) {
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+        }
+    }
+}
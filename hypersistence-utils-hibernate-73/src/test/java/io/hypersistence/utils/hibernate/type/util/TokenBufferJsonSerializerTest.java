@@ -0,0 +1,147 @@
+package io.hypersistence.utils.hibernate.type.util;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class TokenBufferJsonSerializerTest {
+
+    private TokenBufferJsonSerializer serializer = new TokenBufferJsonSerializer();
+
+    @Test
+    public void should_clone_non_serializable_object() {
+        NonSerializableObject original = new NonSerializableObject("value");
+        NonSerializableObject cloned = serializer.clone(original);
+        assertEquals(original, cloned);
+        assertNotSame(original, cloned);
+    }
+
+    @Test
+    public void should_clone_non_serializable_complex_object() {
+        Map<String, List<NonSerializableObject>> map = new LinkedHashMap<>();
+        map.put("key1", new ArrayList<>(List.of(new NonSerializableObject("name1"))));
+        map.put("key2", List.of(
+            new NonSerializableObject("name2"),
+            new NonSerializableObject("name3")
+        ));
+        NonSerializableComplexObject original = new NonSerializableComplexObject(map);
+        NonSerializableComplexObject cloned = serializer.clone(original);
+        assertEquals(original, cloned);
+        assertNotSame(original, cloned);
+        assertNotSame(original.getValue().get("key1").get(0), cloned.getValue().get("key1").get(0));
+    }
+
+    @Test
+    public void should_clone_collection_of_non_serializable_object() {
+        List<NonSerializableObject> original = new ArrayList<>();
+        original.add(new NonSerializableObject("value"));
+        List<NonSerializableObject> cloned = serializer.clone(original);
+        assertEquals(original, cloned);
+        assertNotSame(original, cloned);
+        assertNotSame(original.get(0), cloned.get(0));
+        assertEquals(ArrayList.class, cloned.getClass());
+    }
+
+    @Test
+    public void should_clone_map_of_non_serializable_value_with_null_value() {
+        Map<String, NonSerializableObject> original = new TreeMap<>();
+        original.put("null", null);
+        original.put("key", new NonSerializableObject("value"));
+        Map<String, NonSerializableObject> cloned = serializer.clone(original);
+        assertEquals(original, cloned);
+        assertNotSame(original.get("key"), cloned.get("key"));
+        assertEquals(TreeMap.class, cloned.getClass());
+    }
+
+    @Test
+    public void should_clone_immutable_list() {
+        List<String> original = List.of("a", "b");
+        List<String> cloned = serializer.clone(original);
+        assertEquals(original, cloned);
+        assertNotSame(original, cloned);
+    }
+
+    @Test
+    public void should_clone_array() {
+        BigDecimal[] original = {BigDecimal.ONE, BigDecimal.TEN};
+        BigDecimal[] cloned = serializer.clone(original);
+        assertArrayEquals(original, cloned);
+        assertNotSame(original, cloned);
+    }
+
+    @Test
+    public void should_clone_optional_of_non_serializable_object() {
+        Optional<NonSerializableObject> original = Optional.of(new NonSerializableObject("value"));
+        Optional<NonSerializableObject> cloned = serializer.clone(original);
+        assertEquals(original, cloned);
+        assertNotSame(original.get(), cloned.get());
+    }
+
+    @Test
+    public void should_be_configurable() {
+        JsonConfiguration configuration = new JsonConfiguration(
+            Collections.singletonMap(
+                Configuration.PropertyKey.JSON_SERIALIZER.getKey(),
+                TokenBufferJsonSerializer.class.getName()
+            )
+        );
+        NonSerializableObject original = new NonSerializableObject("value");
+        NonSerializableObject cloned = configuration.getObjectMapperWrapper().clone(original);
+        assertEquals(original, cloned);
+        assertNotSame(original, cloned);
+    }
+
+    public static class NonSerializableObject {
+        private final String value;
+
+        public NonSerializableObject(@JsonProperty("value") String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof NonSerializableObject)) return false;
+            NonSerializableObject that = (NonSerializableObject) o;
+            return Objects.equals(value, that.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(value);
+        }
+    }
+
+    public static class NonSerializableComplexObject {
+        private final Map<String, List<NonSerializableObject>> value;
+
+        public NonSerializableComplexObject(@JsonProperty("value") Map<String, List<NonSerializableObject>> value) {
+            this.value = value;
+        }
+
+        public Map<String, List<NonSerializableObject>> getValue() {
+            return value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof NonSerializableComplexObject)) return false;
+            NonSerializableComplexObject that = (NonSerializableComplexObject) o;
+            return Objects.equals(value, that.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(value);
+        }
+    }
+}
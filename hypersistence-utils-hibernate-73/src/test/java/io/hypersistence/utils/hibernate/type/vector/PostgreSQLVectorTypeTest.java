@@ -0,0 +1,120 @@
+package io.hypersistence.utils.hibernate.type.vector;
+
+import io.hypersistence.utils.hibernate.util.AbstractPostgreSQLIntegrationTest;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Type;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class PostgreSQLVectorTypeTest extends AbstractPostgreSQLIntegrationTest {
+
+    @Override
+    protected Class<?>[] entities() {
+        return new Class<?>[]{
+            Item.class
+        };
+    }
+
+    @Override
+    protected void beforeInit() {
+        executeStatement("CREATE EXTENSION IF NOT EXISTS vector");
+    }
+
+    @Override
+    protected void afterInit() {
+        executeStatement("CREATE INDEX ON item USING hnsw (embedding vector_l2_ops)");
+
+        doInJPA(entityManager -> {
+            entityManager.persist(new Item().setId(1L).setEmbedding(new float[]{1, 1, 1}));
+            entityManager.persist(new Item().setId(2L).setEmbedding(new float[]{2, 2, 2}));
+            entityManager.persist(new Item().setId(3L).setEmbedding(new float[]{1, 1, 2}));
+        });
+    }
+
+    @Test
+    public void testFindAndUpdate() {
+        doInJPA(entityManager -> {
+            Item item = entityManager.find(Item.class, 1L);
+            assertArrayEquals(new float[]{1, 1, 1}, item.getEmbedding(), 0);
+
+            item.getEmbedding()[2] = 3;
+        });
+
+        doInJPA(entityManager -> {
+            Item item = entityManager.find(Item.class, 1L);
+            assertArrayEquals(new float[]{1, 1, 3}, item.getEmbedding(), 0);
+        });
+    }
+
+    @Test
+    public void testNearestNeighbours() {
+        doInJPA(entityManager -> {
+            List<Item> items = entityManager.createQuery(
+                "select i " +
+                "from Item i " +
+                "order by l2_distance(i.embedding, :embedding)", Item.class)
+            .setParameter("embedding", new float[]{1, 1, 1.9f})
+            .setMaxResults(2)
+            .getResultList();
+
+            assertEquals(2, items.size());
+            assertEquals(3L, items.get(0).getId().longValue());
+            assertEquals(1L, items.get(1).getId().longValue());
+
+            Double cosineDistance = entityManager.createQuery(
+                "select cosine_distance(i.embedding, :embedding) " +
+                "from Item i " +
+                "where i.id = 2", Double.class)
+            .setParameter("embedding", new float[]{1, 1, 1})
+            .getSingleResult();
+
+            assertEquals(0, cosineDistance, 0.0001);
+
+            Double negativeInnerProduct = entityManager.createQuery(
+                "select negative_inner_product(i.embedding, :embedding) " +
+                "from Item i " +
+                "where i.id = 2", Double.class)
+            .setParameter("embedding", new float[]{1, 1, 1})
+            .getSingleResult();
+
+            assertEquals(-6, negativeInnerProduct, 0.0001);
+        });
+    }
+
+    @Entity(name = "Item")
+    @Table(name = "item")
+    public static class Item {
+
+        @Id
+        private Long id;
+
+        @Type(PostgreSQLVectorType.class)
+        @Column(columnDefinition = "vector(3)")
+        private float[] embedding;
+
+        public Long getId() {
+            return id;
+        }
+
+        public Item setId(Long id) {
+            this.id = id;
+            return this;
+        }
+
+        public float[] getEmbedding() {
+            return embedding;
+        }
+
+        public Item setEmbedding(float[] embedding) {
+            this.embedding = embedding;
+            return this;
+        }
+    }
+}
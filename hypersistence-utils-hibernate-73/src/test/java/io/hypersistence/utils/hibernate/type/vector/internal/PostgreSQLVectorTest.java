@@ -0,0 +1,48 @@
+package io.hypersistence.utils.hibernate.type.vector.internal;
+
+import org.junit.Test;
+
+import java.sql.SQLException;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Vlad Mihalcea
+ */
+public class PostgreSQLVectorTest {
+
+    @Test
+    public void testBinaryFormat() {
+        float[] values = {1.5f, -2f, Float.MIN_VALUE, 1e10f};
+        PostgreSQLVector vector = new PostgreSQLVector(values);
+
+        byte[] bytes = new byte[2 + vector.lengthInBytes()];
+        vector.toBytes(bytes, 2);
+        assertEquals(0, bytes[2]);
+        assertEquals(4, bytes[3]);
+        assertEquals(0, bytes[4]);
+        assertEquals(0, bytes[5]);
+
+        PostgreSQLVector decodedVector = new PostgreSQLVector();
+        decodedVector.setByteValue(bytes, 2);
+        assertArrayEquals(values, decodedVector.getValues(), 0);
+        assertEquals(vector, decodedVector);
+    }
+
+    @Test
+    public void testTextFormat() throws SQLException {
+        PostgreSQLVector vector = new PostgreSQLVector();
+        vector.setValue("[1,2.5, -3e-5]");
+        assertArrayEquals(new float[]{1f, 2.5f, -3e-5f}, vector.getValues(), 0);
+        assertEquals("[1.0,2.5,-3.0E-5]", vector.getValue());
+        assertEquals("vector", vector.getType());
+
+        assertArrayEquals(new float[0], PostgreSQLVector.parse("[]"), 0);
+        assertTrue(new PostgreSQLVector().isNull());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidTextFormat() {
+        PostgreSQLVector.parse("{1,2}");
+    }
+}